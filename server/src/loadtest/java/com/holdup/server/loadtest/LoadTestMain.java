@@ -0,0 +1,119 @@
+package com.holdup.server.loadtest;
+
+import com.holdup.server.HoldupApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.SimpleMessageConverter;
+import org.springframework.web.socket.client.WebSocketClient;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * WebSocket(STOMP) 부하 테스트 진입점.
+ *
+ * <p>--url 이 없으면 같은 JVM에서 서버를 랜덤 포트로 띄운 뒤, 세션 수만큼 STOMP 연결을 열어
+ * 테이블에 앉히고 생각 시간을 둔 채 핸드를 진행한다. 종료 시 지연 시간·처리량 히스토그램을 출력.</p>
+ *
+ * <pre>
+ * mvn -Ploadtest compile exec:java -Dexec.args="--sessions=2000 --table-size=6 --hands=20"
+ * mvn -Ploadtest compile exec:java -Dexec.args="--url=http://host:8080/ws --sessions=500"
+ * mvn -Ploadtest compile exec:java -Dexec.args="--transport=native --sessions=500"
+ * mvn -Ploadtest compile exec:java -Dexec.args="--transport=native --codec=binary --sessions=500"
+ * </pre>
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ConfigurableApplicationContext server = null;
+        String url = options.url();
+        if (url == null) {
+            server = startEmbeddedServer();
+            String port = server.getEnvironment().getProperty("local.server.port");
+            url = options.nativeTransport() ? "ws://localhost:" + port + "/ws-native" : "http://localhost:" + port + "/ws";
+        }
+
+        LoadTestMetrics metrics = new LoadTestMetrics();
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(
+                Math.max(4, Runtime.getRuntime().availableProcessors()));
+        WebSocketStompClient stompClient = createStompClient(options, metrics);
+
+        int playableTables = 0;
+        AtomicInteger finishedTables = new AtomicInteger();
+        List<SimulatedPlayer> players = new ArrayList<>(options.sessions());
+        SimulatedPlayer.TableProgress progress = null;
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        long connectIntervalNanos = TimeUnit.SECONDS.toNanos(1) / options.connectRate();
+        long startedAt = System.nanoTime();
+
+        System.out.printf("holdup load test: %d sessions -> %s (%s, %s)%n",
+                options.sessions(), url, options.transport(), options.codec());
+        for (int i = 0; i < options.sessions(); i++) {
+            int tableIndex = i / options.tableSize();
+            if (i % options.tableSize() == 0) {
+                int seats = Math.min(options.tableSize(), options.sessions() - i);
+                if (seats >= 2) playableTables++;
+                progress = new SimulatedPlayer.TableProgress(seats, finishedTables::incrementAndGet);
+            }
+            SimulatedPlayer player = new SimulatedPlayer(i, "lt-" + runId + "-" + tableIndex, progress,
+                    options, metrics, scheduler);
+            players.add(player);
+            player.connect(stompClient, url);
+            LockSupport.parkNanos(connectIntervalNanos);
+        }
+
+        long deadline = startedAt + TimeUnit.SECONDS.toNanos(options.durationSec());
+        long nextProgressLog = System.nanoTime();
+        while (finishedTables.get() < playableTables && System.nanoTime() < deadline) {
+            if (System.nanoTime() >= nextProgressLog) {
+                System.out.printf("  tables finished %d/%d, hands completed %d%n",
+                        finishedTables.get(), playableTables, metrics.handsCompleted());
+                nextProgressLog = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            }
+            Thread.sleep(200);
+        }
+        long elapsed = System.nanoTime() - startedAt;
+
+        players.forEach(SimulatedPlayer::finish);
+        metrics.printReport(System.out, options, elapsed);
+
+        stompClient.stop();
+        scheduler.shutdownNow();
+        if (server != null) server.close();
+        System.exit(0);
+    }
+
+    private static WebSocketStompClient createStompClient(LoadTestOptions options, LoadTestMetrics metrics) {
+        WebSocketClient webSocketClient = new WireCountingClient(new StandardWebSocketClient(), metrics);
+        WebSocketStompClient client = new WebSocketStompClient(options.nativeTransport()
+                ? webSocketClient
+                : new SockJsClient(List.of(new WebSocketTransport(webSocketClient))));
+        client.setMessageConverter(new SimpleMessageConverter());
+        client.setDefaultHeartbeat(new long[]{0, 0});
+        client.setInboundMessageSizeLimit(1024 * 1024);
+        return client;
+    }
+
+    private static ConfigurableApplicationContext startEmbeddedServer() {
+        SpringApplication app = new SpringApplication(HoldupApplication.class);
+        return app.run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:holdup-loadtest;DB_CLOSE_DELAY=-1",
+                "--logging.level.com.holdup=INFO",
+                "--logging.level.org.springframework.web.socket=WARN",
+                "--logging.level.org.springframework.messaging=WARN"
+        );
+    }
+}
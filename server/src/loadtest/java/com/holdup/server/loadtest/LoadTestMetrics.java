@@ -0,0 +1,158 @@
+package com.holdup.server.loadtest;
+
+import com.holdup.server.action.GameActionType;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트 측정값. 지연 시간은 마이크로초 단위 HDR 히스토그램으로 기록.
+ */
+public class LoadTestMetrics {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    /** 연결 시도 → STOMP CONNECTED 까지. */
+    private final Histogram connectLatency = newHistogram();
+    /** /app/action 송신 → /topic/table/{id} 로 해당 액션 결과 수신까지 (전체). */
+    private final Histogram actionLatency = newHistogram();
+    /** 위 지연 시간의 액션 타입별 분포. */
+    private final Map<GameActionType, Histogram> actionLatencyByType = new EnumMap<>(GameActionType.class);
+    /** 세션별 평균 수신 메시지 수 (msg/s). 종료 시 세션마다 한 번 기록. */
+    private final Histogram inboundMessagesPerSecond = new ConcurrentHistogram(1_000_000, SIGNIFICANT_DIGITS);
+    /** 세션별 평균 수신 바이트 수 (byte/s). */
+    private final Histogram inboundBytesPerSecond = new ConcurrentHistogram(1_000_000_000L, SIGNIFICANT_DIGITS);
+
+    private final LongAdder connected = new LongAdder();
+    private final LongAdder connectFailures = new LongAdder();
+    private final LongAdder actionsSent = new LongAdder();
+    private final LongAdder actionsRejected = new LongAdder();
+    private final LongAdder preActionsSent = new LongAdder();
+    private final LongAdder messagesReceived = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    /** 전송 계층 WebSocket 메시지 (SockJS 프레임·STOMP 헤더 포함, 병합된 STOMP 프레임은 한 건). */
+    private final LongAdder wireMessages = new LongAdder();
+    private final LongAdder wireBytes = new LongAdder();
+    private final LongAdder handsCompleted = new LongAdder();
+    private final LongAdder transportErrors = new LongAdder();
+
+    public LoadTestMetrics() {
+        for (GameActionType type : GameActionType.values()) {
+            actionLatencyByType.put(type, newHistogram());
+        }
+    }
+
+    public void recordConnect(long nanos) {
+        connected.increment();
+        connectLatency.recordValue(clamp(TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+
+    public void recordConnectFailure() {
+        connectFailures.increment();
+    }
+
+    public void recordActionSent() {
+        actionsSent.increment();
+    }
+
+    public void recordPreActionSent() {
+        preActionsSent.increment();
+    }
+
+    public void recordActionLatency(GameActionType type, long nanos, boolean success) {
+        long micros = clamp(TimeUnit.NANOSECONDS.toMicros(nanos));
+        actionLatency.recordValue(micros);
+        actionLatencyByType.get(type).recordValue(micros);
+        if (!success) actionsRejected.increment();
+    }
+
+    public void recordInbound(int bytes) {
+        messagesReceived.increment();
+        bytesReceived.add(bytes);
+    }
+
+    public void recordWire(int bytes) {
+        wireMessages.increment();
+        wireBytes.add(bytes);
+    }
+
+    public void recordSessionThroughput(long messages, long bytes, long elapsedNanos) {
+        double seconds = Math.max(elapsedNanos, 1) / 1_000_000_000.0;
+        inboundMessagesPerSecond.recordValue(Math.min(Math.round(messages / seconds), 1_000_000));
+        inboundBytesPerSecond.recordValue(Math.min(Math.round(bytes / seconds), 1_000_000_000L));
+    }
+
+    public void recordHandCompleted() {
+        handsCompleted.increment();
+    }
+
+    public void recordTransportError() {
+        transportErrors.increment();
+    }
+
+    public long handsCompleted() {
+        return handsCompleted.sum();
+    }
+
+    public void printReport(PrintStream out, LoadTestOptions options, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        out.println();
+        out.println("=== holdup load test ===");
+        out.printf("sessions=%d tables=%d tableSize=%d hands/table=%d elapsed=%.1fs%n",
+                options.sessions(), options.tableCount(), options.tableSize(), options.hands(), seconds);
+        out.printf("connected=%d connectFailures=%d transportErrors=%d%n",
+                connected.sum(), connectFailures.sum(), transportErrors.sum());
+        out.printf("actionsSent=%d rejected=%d preActionsSent=%d handsCompleted=%d (%.1f hands/s)%n",
+                actionsSent.sum(), actionsRejected.sum(), preActionsSent.sum(), handsCompleted.sum(),
+                handsCompleted.sum() / seconds);
+        out.printf("messagesReceived=%d (%.0f msg/s) bytesReceived=%d (%.0f B/s)%n",
+                messagesReceived.sum(), messagesReceived.sum() / seconds,
+                bytesReceived.sum(), bytesReceived.sum() / seconds);
+        long messages = Math.max(1, messagesReceived.sum());
+        out.printf("transport=%s codec=%s wireMessages=%d wireBytes=%d (%.1f frames/message, %.1f B/frame over STOMP body)%n",
+                options.transport(), options.codec(), wireMessages.sum(), wireBytes.sum(),
+                messagesReceived.sum() / (double) Math.max(1, wireMessages.sum()),
+                (wireBytes.sum() - bytesReceived.sum()) / (double) messages);
+        out.println();
+        out.println("latency (ms)                  count      p50      p90      p99    p99.9      max");
+        printLatencyRow(out, "connect", connectLatency);
+        printLatencyRow(out, "action->broadcast", actionLatency);
+        actionLatencyByType.forEach((type, histogram) -> {
+            if (histogram.getTotalCount() > 0) printLatencyRow(out, "  " + type, histogram);
+        });
+        out.println();
+        out.println("per-session throughput        count      p50      p90      p99      max");
+        printRateRow(out, "inbound msg/s", inboundMessagesPerSecond);
+        printRateRow(out, "inbound B/s", inboundBytesPerSecond);
+        out.println();
+        out.println("--- action->broadcast percentile distribution (ms) ---");
+        actionLatency.outputPercentileDistribution(out, 5, 1000.0);
+    }
+
+    private static void printLatencyRow(PrintStream out, String label, Histogram h) {
+        out.printf("%-26s %8d %8.2f %8.2f %8.2f %8.2f %8.2f%n", label, h.getTotalCount(),
+                h.getValueAtPercentile(50) / 1000.0, h.getValueAtPercentile(90) / 1000.0,
+                h.getValueAtPercentile(99) / 1000.0, h.getValueAtPercentile(99.9) / 1000.0,
+                h.getMaxValue() / 1000.0);
+    }
+
+    private static void printRateRow(PrintStream out, String label, Histogram h) {
+        out.printf("%-26s %8d %8d %8d %8d %8d%n", label, h.getTotalCount(),
+                h.getValueAtPercentile(50), h.getValueAtPercentile(90),
+                h.getValueAtPercentile(99), h.getMaxValue());
+    }
+
+    private static Histogram newHistogram() {
+        return new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    private static long clamp(long micros) {
+        return Math.max(0, Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+    }
+}
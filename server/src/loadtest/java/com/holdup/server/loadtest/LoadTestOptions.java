@@ -0,0 +1,107 @@
+package com.holdup.server.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 옵션. "--key=value" 형식 인자를 파싱.
+ *
+ * @param url          STOMP 엔드포인트 (SockJS 면 http://…/ws, 네이티브면 ws://…/ws-native). null이면 서버를 같은 JVM에서 랜덤 포트로 기동
+ * @param transport    sockjs(기본) 또는 native
+ * @param codec        json(기본) 또는 binary (CONNECT 에 x-holdup-codec: binary. native 에서만)
+ * @param sessions     동시 접속 세션 수 (= 시뮬레이션 플레이어 수)
+ * @param tableSize    테이블당 착석 인원
+ * @param hands        테이블당 진행할 핸드 수
+ * @param thinkMinMs   액션 전 최소 대기(생각) 시간
+ * @param thinkMaxMs   액션 전 최대 대기(생각) 시간
+ * @param connectRate  초당 새 연결 수 (연결 폭주 방지)
+ * @param durationSec  최대 실행 시간. 초과 시 진행 중이어도 리포트 후 종료
+ * @param preActionRate 자기 턴이 아닐 때 스트릿마다 선액션(CHECK_FOLD / CALL_ANY)을 걸 확률 (0~1)
+ */
+public record LoadTestOptions(
+        String url,
+        String transport,
+        String codec,
+        int sessions,
+        int tableSize,
+        int hands,
+        long thinkMinMs,
+        long thinkMaxMs,
+        int connectRate,
+        long durationSec,
+        double preActionRate
+) {
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) continue;
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        int tableSize = intValue(values, "table-size", 6);
+        if (tableSize < 2 || tableSize > 9) {
+            throw new IllegalArgumentException("table-size must be between 2 and 9");
+        }
+        long thinkMin = longValue(values, "think-min-ms", 200);
+        long thinkMax = Math.max(thinkMin, longValue(values, "think-max-ms", 1500));
+        String transport = values.getOrDefault("transport", "sockjs");
+        if (!transport.equals("sockjs") && !transport.equals("native")) {
+            throw new IllegalArgumentException("transport must be sockjs or native");
+        }
+        String codec = values.getOrDefault("codec", "json");
+        if (!codec.equals("json") && !codec.equals("binary")) {
+            throw new IllegalArgumentException("codec must be json or binary");
+        }
+        if (codec.equals("binary") && !transport.equals("native")) {
+            throw new IllegalArgumentException("codec=binary requires transport=native");
+        }
+        return new LoadTestOptions(
+                values.get("url"),
+                transport,
+                codec,
+                intValue(values, "sessions", 1000),
+                tableSize,
+                intValue(values, "hands", 20),
+                thinkMin,
+                thinkMax,
+                Math.max(1, intValue(values, "connect-rate", 200)),
+                longValue(values, "duration-sec", 300),
+                Math.min(1.0, Math.max(0.0, doubleValue(values, "pre-action-rate", 0.3)))
+        );
+    }
+
+    /** SockJS 없이 /ws-native 로 직접 연결. */
+    public boolean nativeTransport() {
+        return transport.equals("native");
+    }
+
+    /** 테이블 메시지를 바이너리(BinaryCodec)로 받음. */
+    public boolean binaryCodec() {
+        return codec.equals("binary");
+    }
+
+    /** 필요한 테이블 수 (마지막 테이블은 인원이 모자랄 수 있음). */
+    public int tableCount() {
+        return (sessions + tableSize - 1) / tableSize;
+    }
+
+    private static int intValue(Map<String, String> values, String key, int defaultValue) {
+        String v = values.get(key);
+        return v == null ? defaultValue : Integer.parseInt(v.trim());
+    }
+
+    private static double doubleValue(Map<String, String> values, String key, double defaultValue) {
+        String v = values.get(key);
+        return v == null ? defaultValue : Double.parseDouble(v.trim());
+    }
+
+    private static long longValue(Map<String, String> values, String key, long defaultValue) {
+        String v = values.get(key);
+        return v == null ? defaultValue : Long.parseLong(v.trim());
+    }
+}
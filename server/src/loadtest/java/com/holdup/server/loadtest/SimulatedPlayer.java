@@ -0,0 +1,377 @@
+package com.holdup.server.loadtest;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.holdup.server.action.GameActionType;
+import com.holdup.server.action.dto.ActionResult;
+import com.holdup.server.action.dto.LegalActions;
+import com.holdup.server.action.dto.PlayerActionRequest;
+import com.holdup.server.action.dto.TableSnapshot;
+import com.holdup.server.codec.BinaryCodec;
+import com.holdup.server.codec.WireCodecs;
+import com.holdup.server.gamestate.GamePhase;
+import com.holdup.server.gamestate.PreActionType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * STOMP 세션 하나 = 플레이어 한 명. 테이블 입장 후 자기 턴이 오면 생각 시간만큼 기다렸다가 액션.
+ *
+ * <ul>
+ *   <li>/user/queue/table-state: 본인 홀카드 포함 스냅샷·합법 액션(legalActions) → 턴 판단·액션 결정</li>
+ *   <li>/topic/table/{tableId}: 브로드캐스트 → 본인 액션 결과 수신 시점으로 지연 시간 측정</li>
+ * </ul>
+ * 대기 상태에서는 가장 앞 시트에 앉은 플레이어가 START_HAND 를 보내 핸드를 이어서 진행.
+ */
+public class SimulatedPlayer extends StompSessionHandlerAdapter {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final String nickname;
+    private final String tableId;
+    private final TableProgress progress;
+    private final LoadTestOptions options;
+    private final LoadTestMetrics metrics;
+    private final ScheduledExecutorService scheduler;
+
+    private final AtomicReference<PendingAction> pending = new AtomicReference<>();
+    private final AtomicLong messagesReceived = new AtomicLong();
+    private final AtomicLong bytesReceived = new AtomicLong();
+
+    private volatile StompSession session;
+    private volatile String myId;
+    private volatile long connectStartedAt;
+    private volatile long connectedAt;
+    private volatile String scheduledTurnKey;
+    private volatile String preActionStreetKey;
+    private volatile TableSnapshot lastSnapshot;
+    private volatile String lastPhase = GamePhase.WAITING.name();
+    private volatile int handsSeen;
+    private volatile boolean finished;
+
+    public SimulatedPlayer(int index, String tableId, TableProgress progress, LoadTestOptions options,
+                           LoadTestMetrics metrics, ScheduledExecutorService scheduler) {
+        this.nickname = "lt-" + index;
+        this.tableId = tableId;
+        this.progress = progress;
+        this.options = options;
+        this.metrics = metrics;
+        this.scheduler = scheduler;
+    }
+
+    public void connect(WebSocketStompClient client, String url) {
+        connectStartedAt = System.nanoTime();
+        StompHeaders connectHeaders = new StompHeaders();
+        if (options.binaryCodec()) connectHeaders.add(WireCodecs.CODEC_HEADER, WireCodecs.BINARY);
+        client.connectAsync(url, (WebSocketHttpHeaders) null, connectHeaders, this).exceptionally(ex -> {
+            metrics.recordConnectFailure();
+            return null;
+        });
+    }
+
+    @Override
+    public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+        this.session = session;
+        connectedAt = System.nanoTime();
+        metrics.recordConnect(connectedAt - connectStartedAt);
+        session.subscribe("/topic/table/" + tableId, this);
+        session.subscribe("/user/queue/table-state", this);
+        send(GameActionType.JOIN_TABLE, null);
+    }
+
+    @Override
+    public Type getPayloadType(StompHeaders headers) {
+        return byte[].class;
+    }
+
+    @Override
+    public void handleFrame(StompHeaders headers, Object payload) {
+        byte[] body = (byte[]) payload;
+        // 연결 해제 후 서버가 보내는 본문 없는 ERROR ("Session closed."). native 에서는 닫히기 전에 도착함
+        if (body == null) return;
+        messagesReceived.incrementAndGet();
+        bytesReceived.addAndGet(body.length);
+        metrics.recordInbound(body.length);
+        ActionResult result;
+        try {
+            // binary 코덱이어도 테이블 메시지가 아닌 것(선액션 응답 등)은 JSON
+            result = MimeTypeUtils.APPLICATION_OCTET_STREAM.equals(headers.getContentType())
+                    ? BinaryCodec.decode(body)
+                    : OBJECT_MAPPER.readValue(body, ActionResult.class);
+        } catch (Exception e) {
+            return;
+        }
+        String destination = headers.getDestination();
+        if (destination != null && destination.startsWith("/topic/table/")) {
+            onBroadcast(result);
+        } else {
+            onPrivateState(result);
+        }
+    }
+
+    @Override
+    public void handleException(StompSession session, StompCommand command, StompHeaders headers,
+                                byte[] payload, Throwable exception) {
+        metrics.recordTransportError();
+    }
+
+    @Override
+    public void handleTransportError(StompSession session, Throwable exception) {
+        metrics.recordTransportError();
+    }
+
+    /** 측정 종료: 세션 처리량 기록 후 연결 해제. */
+    public void finish() {
+        finished = true;
+        StompSession s = session;
+        if (s == null) return;
+        metrics.recordSessionThroughput(messagesReceived.get(), bytesReceived.get(), System.nanoTime() - connectedAt);
+        try {
+            s.disconnect();
+        } catch (Exception ignored) {
+            // 이미 끊긴 세션
+        }
+    }
+
+    private void onBroadcast(ActionResult result) {
+        PendingAction p = pending.get();
+        if (p == null || result.getActionType() != p.type()) return;
+        boolean mine;
+        if (p.type() == GameActionType.JOIN_TABLE) {
+            TableSnapshot snapshot = snapshotOf(result);
+            mine = snapshot != null && result.getSeatIndex() != null
+                    && nickname.equals(displayNameAt(snapshot, result.getSeatIndex()));
+            if (mine && result.getPlayerId() != null) myId = result.getPlayerId();
+        } else {
+            mine = myId != null && myId.equals(result.getPlayerId());
+        }
+        if (!mine || !pending.compareAndSet(p, null)) return;
+        metrics.recordActionLatency(p.type(), System.nanoTime() - p.sentAt(), result.isSuccess());
+        if (!result.isSuccess() && p.type() == GameActionType.START_HAND) {
+            progress.handsStarted.decrementAndGet();
+        } else if (!result.isSuccess()) {
+            // 거절되면 같은 턴에서 폴드로 정리 (상태가 바뀌지 않아 다시 턴 판단이 안 되므로)
+            scheduledTurnKey = null;
+            TableSnapshot snapshot = lastSnapshot;
+            if (snapshot != null && isMyTurn(snapshot)) send(GameActionType.FOLD, null);
+        }
+    }
+
+    private void onPrivateState(ActionResult result) {
+        TableSnapshot snapshot = snapshotOf(result);
+        if (snapshot == null || snapshot.getHandState() == null || finished) return;
+        lastSnapshot = snapshot;
+        if (myId == null) {
+            for (TableSnapshot.SeatSnapshot seat : snapshot.getSeats()) {
+                if (seat.getPlayer() != null && nickname.equals(seat.getPlayer().getDisplayName())) {
+                    myId = seat.getPlayer().getId();
+                }
+            }
+        }
+
+        String phase = snapshot.getHandState().getPhase();
+        boolean waiting = GamePhase.WAITING.name().equals(phase);
+        boolean wasWaiting = GamePhase.WAITING.name().equals(lastPhase);
+        if (waiting != wasWaiting) {
+            handsSeen++;
+        }
+        lastPhase = phase;
+
+        if (waiting && isStarter(snapshot)) {
+            maybeStartHand(snapshot, !wasWaiting);
+        } else if (isMyTurn(snapshot)) {
+            String turnKey = handsSeen + ":" + phase + ":" + snapshot.getHandState().getPot()
+                    + ":" + snapshot.getHandState().getCurrentBet();
+            if (turnKey.equals(scheduledTurnKey) || pending.get() != null) return;
+            scheduledTurnKey = turnKey;
+            LegalActions legal = legalActionsOf(result);
+            scheduler.schedule(() -> act(legal), thinkTimeMs(), TimeUnit.MILLISECONDS);
+        } else {
+            maybeRegisterPreAction(snapshot);
+        }
+    }
+
+    /** 턴이 아닐 때 스트릿마다 한 번, preActionRate 확률로 선액션 등록 (서버가 턴에 바로 실행). */
+    private void maybeRegisterPreAction(TableSnapshot snapshot) {
+        TableSnapshot.HandStateSnapshot hs = snapshot.getHandState();
+        String phase = hs.getPhase();
+        if (myId == null || GamePhase.WAITING.name().equals(phase) || GamePhase.SHOWDOWN.name().equals(phase)) return;
+        String streetKey = handsSeen + ":" + phase;
+        if (streetKey.equals(preActionStreetKey)) return;
+        preActionStreetKey = streetKey;
+        TableSnapshot.PlayerSnapshot me = null;
+        for (TableSnapshot.SeatSnapshot seat : snapshot.getSeats()) {
+            if (seat.getPlayer() != null && myId.equals(seat.getPlayer().getId())) me = seat.getPlayer();
+        }
+        if (me == null || me.isFolded() || me.isAllIn() || hs.getInHandPlayerIds() == null
+                || !hs.getInHandPlayerIds().contains(myId)) return;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() >= options.preActionRate()) return;
+        PreActionType type = random.nextBoolean() ? PreActionType.CHECK_FOLD : PreActionType.CALL_ANY;
+        sendPreAction(type);
+    }
+
+    private void maybeStartHand(TableSnapshot snapshot, boolean handJustEnded) {
+        if (handJustEnded) {
+            progress.handsCompleted.incrementAndGet();
+            metrics.recordHandCompleted();
+        }
+        int started = progress.handsStarted.get();
+        // 시작 요청을 보냈는데 아직 그 핸드가 끝나지 않았으면 대기
+        if (started > progress.handsCompleted.get()) return;
+        long occupied = snapshot.getSeats().stream().filter(s -> s.getPlayer() != null).count();
+        if (started >= options.hands() || (started > 0 && occupied < 2)) {
+            progress.finish();
+            return;
+        }
+        if (started == 0 && occupied < progress.expectedSeats) return;
+        if (!progress.handsStarted.compareAndSet(started, started + 1)) return;
+        scheduler.schedule(() -> send(GameActionType.START_HAND, null), thinkTimeMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /** 대기 상태에서 핸드 시작 담당: 착석자 중 시트 번호가 가장 앞인 플레이어. */
+    private boolean isStarter(TableSnapshot snapshot) {
+        if (myId == null) return false;
+        for (TableSnapshot.SeatSnapshot seat : snapshot.getSeats()) {
+            if (seat.getPlayer() != null) return myId.equals(seat.getPlayer().getId());
+        }
+        return false;
+    }
+
+    private void act(LegalActions legal) {
+        if (finished) return;
+        if (legal == null) {
+            send(GameActionType.FOLD, null);
+            return;
+        }
+        Set<GameActionType> actions = legal.getActions();
+        double r = ThreadLocalRandom.current().nextDouble();
+        if (actions.contains(GameActionType.CHECK)) {
+            if (r < 0.8 || !actions.contains(GameActionType.BET)) send(GameActionType.CHECK, null);
+            else send(GameActionType.BET, legal.getMinBet());
+        } else if (!actions.contains(GameActionType.RAISE)) {
+            send(r < 0.3 ? GameActionType.FOLD : GameActionType.CALL, null);
+        } else if (r < 0.15) {
+            send(GameActionType.FOLD, null);
+        } else if (r < 0.9) {
+            send(GameActionType.CALL, null);
+        } else {
+            send(GameActionType.RAISE, legal.getMinRaise());
+        }
+    }
+
+    private void send(GameActionType type, BigDecimal amount) {
+        StompSession s = session;
+        if (s == null || !s.isConnected() || finished) return;
+        PlayerActionRequest request = PlayerActionRequest.builder()
+                .actionType(type)
+                .tableId(tableId)
+                .amount(amount)
+                .playerId(nickname)
+                .build();
+        StompHeaders headers = new StompHeaders();
+        headers.setDestination("/app/action");
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        try {
+            byte[] body = OBJECT_MAPPER.writeValueAsBytes(request);
+            pending.set(new PendingAction(type, System.nanoTime()));
+            metrics.recordActionSent();
+            s.send(headers, body);
+        } catch (Exception e) {
+            pending.set(null);
+            metrics.recordTransportError();
+        }
+    }
+
+    private void sendPreAction(PreActionType type) {
+        StompSession s = session;
+        if (s == null || !s.isConnected() || finished) return;
+        PlayerActionRequest request = PlayerActionRequest.builder()
+                .actionType(GameActionType.PRE_ACTION)
+                .tableId(tableId)
+                .preAction(type)
+                .playerId(nickname)
+                .build();
+        StompHeaders headers = new StompHeaders();
+        headers.setDestination("/app/action");
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        try {
+            s.send(headers, OBJECT_MAPPER.writeValueAsBytes(request));
+            metrics.recordPreActionSent();
+        } catch (Exception e) {
+            metrics.recordTransportError();
+        }
+    }
+
+    private boolean isMyTurn(TableSnapshot snapshot) {
+        TableSnapshot.HandStateSnapshot hs = snapshot.getHandState();
+        if (myId == null || hs.getActingSeatIndex() == null) return false;
+        String phase = hs.getPhase();
+        if (GamePhase.WAITING.name().equals(phase) || GamePhase.SHOWDOWN.name().equals(phase)) return false;
+        int acting = hs.getActingSeatIndex();
+        if (acting < 0 || acting >= snapshot.getSeats().size()) return false;
+        TableSnapshot.PlayerSnapshot p = snapshot.getSeats().get(acting).getPlayer();
+        return p != null && myId.equals(p.getId()) && !p.isFolded() && !p.isAllIn();
+    }
+
+    private long thinkTimeMs() {
+        if (options.thinkMaxMs() <= options.thinkMinMs()) return options.thinkMinMs();
+        return ThreadLocalRandom.current().nextLong(options.thinkMinMs(), options.thinkMaxMs() + 1);
+    }
+
+    private static TableSnapshot snapshotOf(ActionResult result) {
+        Map<String, Object> payload = result.getPayload();
+        if (payload == null || payload.get("tableState") == null) return null;
+        return OBJECT_MAPPER.convertValue(payload.get("tableState"), TableSnapshot.class);
+    }
+
+    private static LegalActions legalActionsOf(ActionResult result) {
+        Object legal = result.getPayload().get("legalActions");
+        return legal != null ? OBJECT_MAPPER.convertValue(legal, LegalActions.class) : null;
+    }
+
+    private static String displayNameAt(TableSnapshot snapshot, int seatIndex) {
+        if (seatIndex < 0 || seatIndex >= snapshot.getSeats().size()) return null;
+        TableSnapshot.PlayerSnapshot p = snapshot.getSeats().get(seatIndex).getPlayer();
+        return p != null ? p.getDisplayName() : null;
+    }
+
+    private record PendingAction(GameActionType type, long sentAt) {}
+
+    /** 한 테이블의 진행 상황. 같은 테이블 플레이어끼리 공유. */
+    public static final class TableProgress {
+
+        private final int expectedSeats;
+        private final Runnable onFinished;
+        private final AtomicInteger handsStarted = new AtomicInteger();
+        private final AtomicInteger handsCompleted = new AtomicInteger();
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        public TableProgress(int expectedSeats, Runnable onFinished) {
+            this.expectedSeats = expectedSeats;
+            this.onFinished = onFinished;
+        }
+
+        private void finish() {
+            if (finished.compareAndSet(false, true)) onFinished.run();
+        }
+    }
+}
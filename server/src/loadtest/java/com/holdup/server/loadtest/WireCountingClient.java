@@ -0,0 +1,46 @@
+package com.holdup.server.loadtest;
+
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.WebSocketClient;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * WebSocket 클라이언트 래퍼. 전송 계층에서 받은 WebSocket 메시지 수·바이트(SockJS 프레이밍·STOMP 헤더 포함)를 기록.
+ * SockJS 든 네이티브든 같은 StandardWebSocketClient 를 감싸므로 두 전송의 프레임당 오버헤드를 같은 기준으로 비교.
+ */
+public final class WireCountingClient implements WebSocketClient {
+
+    private final WebSocketClient delegate;
+    private final LoadTestMetrics metrics;
+
+    public WireCountingClient(WebSocketClient delegate, LoadTestMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public CompletableFuture<WebSocketSession> execute(WebSocketHandler handler, String uriTemplate, Object... uriVariables) {
+        return delegate.execute(counting(handler), uriTemplate, uriVariables);
+    }
+
+    @Override
+    public CompletableFuture<WebSocketSession> execute(WebSocketHandler handler, WebSocketHttpHeaders headers, URI uri) {
+        return delegate.execute(counting(handler), headers, uri);
+    }
+
+    private WebSocketHandler counting(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+                metrics.recordWire(message.getPayloadLength());
+                super.handleMessage(session, message);
+            }
+        };
+    }
+}
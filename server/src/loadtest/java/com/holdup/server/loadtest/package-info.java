@@ -0,0 +1,13 @@
+/**
+ * WebSocket(STOMP) 부하 테스트 도구. loadtest 프로파일에서만 컴파일됨 (src/loadtest/java).
+ *
+ * <h2>디렉토리 구조</h2>
+ * <ul>
+ *   <li><b>LoadTestMain</b> - 진입점. 서버 기동(선택), 세션 연결, 종료 대기, 리포트 출력.</li>
+ *   <li><b>LoadTestOptions</b> - --sessions, --table-size, --hands, --think-min-ms, --transport, --codec 등 실행 옵션.</li>
+ *   <li><b>SimulatedPlayer</b> - STOMP 세션 하나. 입장·핸드 시작·턴 액션 및 지연 측정. binary 코덱이면 BinaryCodec 으로 디코딩.</li>
+ *   <li><b>LoadTestMetrics</b> - 연결·액션→브로드캐스트 지연, 세션별 처리량 HDR 히스토그램, 전송 계층 바이트.</li>
+ *   <li><b>WireCountingClient</b> - WebSocket 클라이언트 래퍼. 받은 WebSocket 메시지 수·바이트(SockJS 프레이밍 포함) 기록.</li>
+ * </ul>
+ */
+package com.holdup.server.loadtest;
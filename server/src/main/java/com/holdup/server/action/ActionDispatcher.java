@@ -2,6 +2,10 @@ package com.holdup.server.action;
 
 import com.holdup.server.action.dto.ActionResult;
 import com.holdup.server.action.dto.PlayerActionRequest;
+import com.holdup.server.metrics.ActionDispatchEvent;
+import com.holdup.server.metrics.GameMetrics;
+import com.holdup.server.service.TableManager;
+import com.holdup.server.table.Table;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -11,15 +15,21 @@ import java.util.stream.Collectors;
 
 /**
  * 클라이언트 액션 요청을 해당 타입의 ActionHandler로 라우팅.
+ * 이미 있는 테이블에 대한 요청은 그 Table 인스턴스를 모니터로 잡고 처리하므로, 사람(STOMP)·봇·자동 액션이
+ * 같은 테이블의 Table/HandState 를 동시에 바꾸지 않음. 테이블마다 잠금이 따로라 다른 테이블끼리는 병렬.
  */
 @Component
 public class ActionDispatcher {
 
     private final Map<GameActionType, ActionHandler> handlersByType;
+    private final GameMetrics gameMetrics;
+    private final TableManager tableManager;
 
-    public ActionDispatcher(List<ActionHandler> handlers) {
+    public ActionDispatcher(List<ActionHandler> handlers, GameMetrics gameMetrics, TableManager tableManager) {
         this.handlersByType = handlers.stream()
                 .collect(Collectors.toMap(ActionHandler::getActionType, Function.identity()));
+        this.gameMetrics = gameMetrics;
+        this.tableManager = tableManager;
     }
 
     /**
@@ -30,10 +40,40 @@ public class ActionDispatcher {
      * @return 처리 결과 (해당 타입 핸들러 없으면 success=false)
      */
     public ActionResult dispatch(PlayerActionRequest request, String playerId) {
+        ActionDispatchEvent event = new ActionDispatchEvent();
+        event.begin();
+        long start = System.nanoTime();
+        ActionResult result = route(request, playerId);
+        gameMetrics.recordDispatch(request != null ? request.getActionType() : null, result, System.nanoTime() - start);
+        if (event.shouldCommit()) {
+            commitEvent(event, request, result);
+        }
+        return result;
+    }
+
+    /** JFR 기록 중일 때만 호출 (테이블 조회 비용도 기록 중에만 발생). */
+    private void commitEvent(ActionDispatchEvent event, PlayerActionRequest request, ActionResult result) {
+        String tableId = result != null && result.getTableId() != null ? result.getTableId()
+                : (request != null ? request.getTableId() : null);
+        event.tableId = tableId;
+        event.actionType = request != null && request.getActionType() != null ? request.getActionType().name() : null;
+        event.accepted = result != null && result.isSuccess();
+        event.rejectReason = result != null && result.getRejectReason() != null ? result.getRejectReason().name() : null;
+        if (tableId != null) {
+            tableManager.getTable(tableId).map(Table::getHandState).ifPresent(state -> {
+                event.phase = state.getPhase().name();
+                event.participantCount = state.getPlayerIdsInHand().size();
+            });
+        }
+        event.commit();
+    }
+
+    private ActionResult route(PlayerActionRequest request, String playerId) {
         if (request == null || request.getActionType() == null) {
             return ActionResult.builder()
                     .success(false)
                     .message("Invalid request or missing actionType")
+                    .rejectReason(RejectReason.INVALID_REQUEST)
                     .build();
         }
         ActionHandler handler = handlersByType.get(request.getActionType());
@@ -41,9 +81,17 @@ public class ActionDispatcher {
             return ActionResult.builder()
                     .success(false)
                     .message("Unsupported action: " + request.getActionType())
+                    .rejectReason(RejectReason.UNSUPPORTED_ACTION)
                     .actionType(request.getActionType())
                     .build();
         }
-        return handler.handle(request, playerId);
+        Table table = request.getTableId() != null ? tableManager.getTable(request.getTableId()).orElse(null) : null;
+        if (table == null) {
+            return handler.handle(request, playerId);
+        }
+        // 선액션처럼 핸들러 안에서 같은 테이블로 다시 디스패치해도 같은 스레드라 재진입
+        synchronized (table) {
+            return handler.handle(request, playerId);
+        }
     }
 }
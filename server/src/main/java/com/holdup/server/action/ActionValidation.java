@@ -7,14 +7,36 @@ import com.holdup.server.table.Table;
 
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * 액션 핸들러 공통: 테이블 조회·턴 검증.
  */
 public final class ActionValidation {
 
+    /** 클라이언트가 정하는 테이블 ID 최대 길이 (원장 table_id 컬럼 안). */
+    public static final int MAX_TABLE_ID_LENGTH = 64;
+
+    private static final Pattern TABLE_ID = Pattern.compile("[A-Za-z0-9_-]{1," + MAX_TABLE_ID_LENGTH + "}");
+
     private ActionValidation() {}
 
+    /**
+     * 입장·착석 요청의 테이블 ID 형식 (영문·숫자·-·_, 최대 {@value #MAX_TABLE_ID_LENGTH}자).
+     * 새 테이블을 만들거나 원장에 남는 ID 라 길이·문자를 제한. 응답에는 받은 ID 를 되돌려 보내지 않음.
+     * @return 실패 시 ActionResult, 성공 시 empty
+     */
+    public static Optional<ActionResult> validateTableId(String tableId, String playerId, GameActionType actionType) {
+        if (tableId != null && TABLE_ID.matcher(tableId).matches()) return Optional.empty();
+        return Optional.of(ActionResult.builder()
+                .success(false)
+                .message("Invalid tableId: use up to " + MAX_TABLE_ID_LENGTH + " letters, digits, '-' or '_'")
+                .rejectReason(RejectReason.INVALID_TABLE_ID)
+                .actionType(actionType)
+                .playerId(playerId)
+                .build());
+    }
+
     /**
      * 테이블 존재·플레이어 착석·현재 턴 여부 검증.
      * @return 실패 시 ActionResult, 성공 시 empty
@@ -29,6 +51,7 @@ public final class ActionValidation {
             return Optional.of(ActionResult.builder()
                     .success(false)
                     .message("tableId required")
+                    .rejectReason(RejectReason.TABLE_REQUIRED)
                     .actionType(actionType)
                     .playerId(playerId)
                     .build());
@@ -38,6 +61,7 @@ public final class ActionValidation {
             return Optional.of(ActionResult.builder()
                     .success(false)
                     .message("Table not found: " + tableId)
+                    .rejectReason(RejectReason.TABLE_NOT_FOUND)
                     .actionType(actionType)
                     .playerId(playerId)
                     .tableId(tableId)
@@ -49,6 +73,7 @@ public final class ActionValidation {
             return Optional.of(ActionResult.builder()
                     .success(false)
                     .message("You are not at this table")
+                    .rejectReason(RejectReason.NOT_SEATED)
                     .actionType(actionType)
                     .playerId(playerId)
                     .tableId(tableId)
@@ -62,6 +87,7 @@ public final class ActionValidation {
                 return Optional.of(ActionResult.builder()
                         .success(false)
                         .message("이번 게임에는 참가하지 않습니다. 다음 게임까지 대기해 주세요.")
+                        .rejectReason(RejectReason.NOT_IN_HAND)
                         .actionType(actionType)
                         .playerId(playerId)
                         .tableId(tableId)
@@ -73,6 +99,7 @@ public final class ActionValidation {
             return Optional.of(ActionResult.builder()
                     .success(false)
                     .message("Not your turn")
+                    .rejectReason(RejectReason.NOT_YOUR_TURN)
                     .actionType(actionType)
                     .playerId(playerId)
                     .tableId(tableId)
@@ -19,6 +19,7 @@ public enum GameActionType {
     BET,          // 베팅 (첫 베팅 또는 액션)
     RAISE,        // 레이즈 (기존 베팅보다 더 베팅)
     ALL_IN,       // 올인
+    PRE_ACTION,   // 선액션 등록/해제 (턴이 오면 서버가 바로 실행)
 
     // 시스템
     START_HAND,   // 새 핸드 시작 (WAITING 상태에서만)
@@ -0,0 +1,69 @@
+package com.holdup.server.action;
+
+import com.holdup.server.action.dto.LegalActions;
+import com.holdup.server.gamestate.GamePhase;
+import com.holdup.server.gamestate.HandState;
+import com.holdup.server.player.Player;
+import com.holdup.server.table.Seat;
+import com.holdup.server.table.Table;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 현재 턴 플레이어의 합법 액션 계산.
+ * 각 베팅 핸들러(Check/Call/Bet/Raise/AllIn)의 검증 규칙과 같은 기준이라, 여기 포함된 액션·금액은 거절되지 않음.
+ */
+public final class LegalActionCalculator {
+
+    private LegalActionCalculator() {}
+
+    /**
+     * @return 베팅 라운드 진행 중이고 현재 턴 시트에 액션 가능한 플레이어가 있으면 합법 액션, 아니면 empty
+     */
+    public static Optional<LegalActions> forActingSeat(Table table) {
+        HandState state = table.getHandState();
+        GamePhase phase = state.getPhase();
+        if (phase == GamePhase.WAITING || phase == GamePhase.SHOWDOWN) return Optional.empty();
+
+        int seatIndex = state.getActingSeatIndex();
+        Seat seat = table.getSeat(seatIndex);
+        if (seat == null || seat.isEmpty()) return Optional.empty();
+        Player player = seat.getPlayer();
+        if (player.isFolded() || player.isAllIn()) return Optional.empty();
+        Set<String> playerIdsInHand = state.getPlayerIdsInHand();
+        if (!playerIdsInHand.isEmpty() && !playerIdsInHand.contains(player.getId())) return Optional.empty();
+
+        BigDecimal stack = player.getStack();
+        BigDecimal currentBet = state.getCurrentBet();
+        BigDecimal toCall = currentBet.subtract(player.getCurrentBetThisStreet()).max(BigDecimal.ZERO);
+        BigDecimal minRaiseStep = state.getMinRaise().signum() > 0 ? state.getMinRaise() : table.getBigBlindAmount();
+
+        Set<GameActionType> actions = EnumSet.of(GameActionType.FOLD);
+        LegalActions.LegalActionsBuilder builder = LegalActions.builder()
+                .tableId(table.getId())
+                .seatIndex(seatIndex);
+
+        if (toCall.signum() == 0) {
+            actions.add(GameActionType.CHECK);
+        } else {
+            actions.add(GameActionType.CALL);
+            builder.callAmount(toCall.min(stack));
+        }
+        if (stack.signum() > 0) {
+            if (currentBet.signum() == 0) {
+                actions.add(GameActionType.BET);
+                builder.minBet(minRaiseStep.min(stack)).maxBet(stack);
+            } else if (stack.compareTo(toCall) > 0) {
+                // 최소 레이즈에 못 미치는 스택이면 전액(숏 올인 레이즈)만 허용
+                actions.add(GameActionType.RAISE);
+                builder.minRaise(toCall.add(minRaiseStep).min(stack)).maxRaise(stack);
+            }
+            actions.add(GameActionType.ALL_IN);
+            builder.allInAmount(stack);
+        }
+        return Optional.of(builder.actions(actions).build());
+    }
+}
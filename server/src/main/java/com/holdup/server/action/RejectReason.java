@@ -0,0 +1,36 @@
+package com.holdup.server.action;
+
+/**
+ * 액션 거절 사유 코드. (메시지 문자열과 달리 값이 고정되어 메트릭 태그·클라이언트 분기용으로 사용)
+ */
+public enum RejectReason {
+
+    // 요청 자체
+    INVALID_REQUEST,     // 요청 없음 / actionType 누락
+    UNSUPPORTED_ACTION,  // 핸들러 없는 액션 타입
+    TABLE_REQUIRED,      // tableId 누락
+    TABLE_NOT_FOUND,     // 없는 테이블
+    INVALID_TABLE_ID,    // 테이블 ID 형식 오류 (영문·숫자·-·_ 외 문자 또는 너무 긺)
+
+    // 착석·턴
+    NOT_SEATED,          // 테이블에 앉아 있지 않음
+    NOT_IN_HAND,         // 이번 핸드 참가자가 아님 (도중 입장)
+    NOT_YOUR_TURN,       // 현재 턴이 아님
+    NO_EMPTY_SEAT,       // 빈 자리 없음
+    TABLE_NOT_JOINABLE,  // 직접 입장·퇴장·자리 이동할 수 없는 테이블 (패스트 폴드·토너먼트)
+    CANNOT_START,        // 핸드 시작 조건 불충족
+    NO_BETTING_ROUND,    // 베팅 진행 중이 아님 (대기·쇼다운)
+    CANNOT_ACT,          // 폴드·올인 상태라 액션 불가
+    INSUFFICIENT_BALANCE, // 계정 칩 잔액이 없어 입장 불가
+
+    // 베팅
+    INVALID_AMOUNT,      // 금액 누락 또는 0 이하
+    BELOW_MIN_BET,       // 최소 베팅 미만
+    BELOW_MIN_RAISE,     // 최소 레이즈 미만
+    BELOW_CALL,          // 콜 금액에도 못 미침
+    CANNOT_CHECK,        // 체크 불가 (콜/레이즈 필요)
+    NOTHING_TO_CALL,     // 콜할 금액 없음
+    NO_STACK,            // 남은 스택 없음
+    INVALID_PRE_ACTION,  // preAction 누락
+    ;
+}
@@ -1,6 +1,7 @@
 package com.holdup.server.action.dto;
 
 import com.holdup.server.action.GameActionType;
+import com.holdup.server.action.RejectReason;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -20,6 +21,8 @@ public class ActionResult {
 
     private boolean success;
     private String message;
+    /** 실패 시 사유 코드 (성공이면 null). */
+    private RejectReason rejectReason;
     private GameActionType actionType;
     private String playerId;
     private String tableId;
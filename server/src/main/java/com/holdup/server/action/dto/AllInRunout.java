@@ -0,0 +1,40 @@
+package com.holdup.server.action.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 올인 런아웃 결과. 남은 스트릿을 한 번에 딜링하고 정산한 내용을 한 메시지로 전달.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AllInRunout {
+
+    /** 런아웃 시작 시 이미 깔려 있던 커뮤니티 카드 수 (0, 3, 4). 이후 카드는 보드마다 다름. */
+    private int knownCardCount;
+    /** 보드별 결과 (run it twice 이상이면 2개 이상). */
+    private List<Board> boards;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Board {
+        /** 커뮤니티 5장. */
+        private List<String> communityCards;
+        /** 이 보드에 걸린 팟 (전체 팟을 보드 수로 나눈 몫). */
+        private BigDecimal pot;
+        /** 이 보드 승자 시트 인덱스 (스플릿이면 여러 명). */
+        private List<Integer> winnerSeatIndices;
+        /** 시트 인덱스 → 족보 (HandRank). */
+        private Map<Integer, String> handRanks;
+    }
+}
@@ -0,0 +1,37 @@
+package com.holdup.server.action.dto;
+
+import com.holdup.server.action.GameActionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * 서버 → 현재 턴 플레이어: 지금 보낼 수 있는 액션과 금액 범위.
+ * 금액은 모두 PlayerActionRequest.amount 에 그대로 넣을 값 (이번 액션으로 추가로 내는 칩).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LegalActions {
+
+    private String tableId;
+    private int seatIndex;
+    /** 허용 액션 (FOLD, CHECK, CALL, BET, RAISE, ALL_IN 중). */
+    private Set<GameActionType> actions;
+
+    /** CALL 시 낼 금액 (스택보다 많으면 스택까지). CALL 불가면 null. */
+    private BigDecimal callAmount;
+    /** BET 최소/최대. BET 불가면 null. */
+    private BigDecimal minBet;
+    private BigDecimal maxBet;
+    /** RAISE 최소/최대 (콜분 포함). RAISE 불가면 null. */
+    private BigDecimal minRaise;
+    private BigDecimal maxRaise;
+    /** ALL_IN 시 낼 금액 (= 남은 스택). */
+    private BigDecimal allInAmount;
+}
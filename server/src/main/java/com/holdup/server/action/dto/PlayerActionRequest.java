@@ -1,6 +1,7 @@
 package com.holdup.server.action.dto;
 
 import com.holdup.server.action.GameActionType;
+import com.holdup.server.gamestate.PreActionType;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -32,4 +33,7 @@ public class PlayerActionRequest {
 
     /** Principal 없을 때 클라이언트가 보내는 플레이어 식별자(닉네임). */
     private String playerId;
+
+    /** PRE_ACTION 시 등록할 선액션 (NONE 이면 해제). */
+    private PreActionType preAction;
 }
@@ -44,6 +44,8 @@ public class TableSnapshot {
         private BigDecimal stack;
         private boolean folded;
         private boolean allIn;
+        /** 자리 비움 (새 핸드에 딜되지 않음). */
+        private boolean sittingOut;
         private BigDecimal currentBetThisStreet;
         /** 본인만 볼 수 있음 (다른 플레이어는 null). */
         private List<String> holeCards;
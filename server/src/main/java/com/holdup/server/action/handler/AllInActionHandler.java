@@ -3,6 +3,7 @@ package com.holdup.server.action.handler;
 import com.holdup.server.action.ActionHandler;
 import com.holdup.server.action.ActionValidation;
 import com.holdup.server.action.GameActionType;
+import com.holdup.server.action.RejectReason;
 import com.holdup.server.action.dto.ActionResult;
 import com.holdup.server.action.dto.PlayerActionRequest;
 import com.holdup.server.player.Player;
@@ -46,6 +47,7 @@ public class AllInActionHandler implements ActionHandler {
             return ActionResult.builder()
                     .success(false)
                     .message("No stack to go all-in")
+                    .rejectReason(RejectReason.NO_STACK)
                     .actionType(GameActionType.ALL_IN)
                     .playerId(playerId)
                     .tableId(table.getId())
@@ -3,6 +3,7 @@ package com.holdup.server.action.handler;
 import com.holdup.server.action.ActionHandler;
 import com.holdup.server.action.ActionValidation;
 import com.holdup.server.action.GameActionType;
+import com.holdup.server.action.RejectReason;
 import com.holdup.server.action.dto.ActionResult;
 import com.holdup.server.action.dto.PlayerActionRequest;
 import com.holdup.server.player.Player;
@@ -41,6 +42,7 @@ public class BetActionHandler implements ActionHandler {
             return ActionResult.builder()
                     .success(false)
                     .message("Bet amount must be positive")
+                    .rejectReason(RejectReason.INVALID_AMOUNT)
                     .actionType(GameActionType.BET)
                     .playerId(playerId)
                     .tableId(request.getTableId())
@@ -57,6 +59,7 @@ public class BetActionHandler implements ActionHandler {
             return ActionResult.builder()
                     .success(false)
                     .message("Bet must be at least " + minRaise)
+                    .rejectReason(RejectReason.BELOW_MIN_BET)
                     .actionType(GameActionType.BET)
                     .playerId(playerId)
                     .tableId(table.getId())
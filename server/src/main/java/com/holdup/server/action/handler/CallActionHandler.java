@@ -3,6 +3,7 @@ package com.holdup.server.action.handler;
 import com.holdup.server.action.ActionHandler;
 import com.holdup.server.action.ActionValidation;
 import com.holdup.server.action.GameActionType;
+import com.holdup.server.action.RejectReason;
 import com.holdup.server.action.dto.ActionResult;
 import com.holdup.server.action.dto.PlayerActionRequest;
 import com.holdup.server.player.Player;
@@ -47,6 +48,7 @@ public class CallActionHandler implements ActionHandler {
             return ActionResult.builder()
                     .success(false)
                     .message("Nothing to call")
+                    .rejectReason(RejectReason.NOTHING_TO_CALL)
                     .actionType(GameActionType.CALL)
                     .playerId(playerId)
                     .tableId(table.getId())
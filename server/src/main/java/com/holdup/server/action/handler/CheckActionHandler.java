@@ -3,6 +3,7 @@ package com.holdup.server.action.handler;
 import com.holdup.server.action.ActionHandler;
 import com.holdup.server.action.ActionValidation;
 import com.holdup.server.action.GameActionType;
+import com.holdup.server.action.RejectReason;
 import com.holdup.server.action.dto.ActionResult;
 import com.holdup.server.action.dto.PlayerActionRequest;
 import com.holdup.server.service.GameFlowService;
@@ -41,6 +42,7 @@ public class CheckActionHandler implements ActionHandler {
             return ActionResult.builder()
                     .success(false)
                     .message("Cannot check: must call or raise")
+                    .rejectReason(RejectReason.CANNOT_CHECK)
                     .actionType(GameActionType.CHECK)
                     .playerId(playerId)
                     .tableId(table.getId())
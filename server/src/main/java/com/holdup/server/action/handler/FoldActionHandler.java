@@ -5,6 +5,7 @@ import com.holdup.server.action.ActionValidation;
 import com.holdup.server.action.GameActionType;
 import com.holdup.server.action.dto.ActionResult;
 import com.holdup.server.action.dto.PlayerActionRequest;
+import com.holdup.server.fastfold.FastFoldPool;
 import com.holdup.server.service.GameFlowService;
 import com.holdup.server.service.TableManager;
 import com.holdup.server.table.Table;
@@ -17,10 +18,12 @@ public class FoldActionHandler implements ActionHandler {
 
     private final TableManager tableManager;
     private final GameFlowService gameFlowService;
+    private final FastFoldPool fastFoldPool;
 
-    public FoldActionHandler(TableManager tableManager, GameFlowService gameFlowService) {
+    public FoldActionHandler(TableManager tableManager, GameFlowService gameFlowService, FastFoldPool fastFoldPool) {
         this.tableManager = tableManager;
         this.gameFlowService = gameFlowService;
+        this.fastFoldPool = fastFoldPool;
     }
 
     @Override
@@ -39,6 +42,8 @@ public class FoldActionHandler implements ActionHandler {
         table.getSeat(seatIndex).getPlayer().setFolded(true);
 
         gameFlowService.afterPlayerAction(table.getId(), seatIndex);
+        // 패스트 폴드: 남은 핸드를 기다리지 않고 바로 풀로
+        fastFoldPool.releaseFolded(table, seatIndex, playerId);
 
         return ActionResult.builder()
                 .success(true)
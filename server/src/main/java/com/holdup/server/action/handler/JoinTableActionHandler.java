@@ -1,21 +1,30 @@
 package com.holdup.server.action.handler;
 
 import com.holdup.server.action.ActionHandler;
+import com.holdup.server.action.ActionValidation;
 import com.holdup.server.action.GameActionType;
+import com.holdup.server.action.RejectReason;
 import com.holdup.server.action.dto.ActionResult;
 import com.holdup.server.action.dto.PlayerActionRequest;
+import com.holdup.server.bankroll.Bankroll;
 import com.holdup.server.player.Player;
 import com.holdup.server.service.TableManager;
 import com.holdup.server.table.Table;
+import com.holdup.server.table.TableFormat;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.util.Optional;
+
 @Component
 public class JoinTableActionHandler implements ActionHandler {
 
     private final TableManager tableManager;
+    private final Bankroll bankroll;
 
-    public JoinTableActionHandler(TableManager tableManager) {
+    public JoinTableActionHandler(TableManager tableManager, Bankroll bankroll) {
         this.tableManager = tableManager;
+        this.bankroll = bankroll;
     }
 
     @Override
@@ -30,11 +39,24 @@ public class JoinTableActionHandler implements ActionHandler {
             return ActionResult.builder()
                     .success(false)
                     .message("tableId required")
+                    .rejectReason(RejectReason.TABLE_REQUIRED)
                     .actionType(GameActionType.JOIN_TABLE)
                     .playerId(playerId)
                     .build();
         }
+        Optional<ActionResult> invalid = ActionValidation.validateTableId(tableId, playerId, GameActionType.JOIN_TABLE);
+        if (invalid.isPresent()) return invalid.get();
         Table table = tableManager.createTable(tableId, 9);
+        if (table.getFormat() != TableFormat.CASH) {
+            return ActionResult.builder()
+                    .success(false)
+                    .message("Table is not joinable")
+                    .rejectReason(RejectReason.TABLE_NOT_JOINABLE)
+                    .actionType(GameActionType.JOIN_TABLE)
+                    .playerId(playerId)
+                    .tableId(tableId)
+                    .build();
+        }
         if (table.getSeatIndexByPlayerId(playerId) >= 0) {
             return ActionResult.builder()
                     .success(true)
@@ -59,6 +81,7 @@ public class JoinTableActionHandler implements ActionHandler {
             return ActionResult.builder()
                     .success(false)
                     .message("No empty seat")
+                    .rejectReason(RejectReason.NO_EMPTY_SEAT)
                     .actionType(GameActionType.JOIN_TABLE)
                     .playerId(playerId)
                     .tableId(tableId)
@@ -68,7 +91,19 @@ public class JoinTableActionHandler implements ActionHandler {
         String displayName = request.getPlayerId() != null && !request.getPlayerId().isBlank()
                 ? request.getPlayerId()
                 : ("Player-" + seatIndex);
-        Player player = new Player(playerId, displayName, JoinTableConstants.DEFAULT_STACK);
+        // 로그인 계정이면 칩 잔액에서 가져옴 (손님·봇은 기본 스택)
+        BigDecimal stack = bankroll.buyIn(playerId, tableId, JoinTableConstants.DEFAULT_STACK);
+        if (stack.signum() <= 0) {
+            return ActionResult.builder()
+                    .success(false)
+                    .message("Insufficient balance")
+                    .rejectReason(RejectReason.INSUFFICIENT_BALANCE)
+                    .actionType(GameActionType.JOIN_TABLE)
+                    .playerId(playerId)
+                    .tableId(tableId)
+                    .build();
+        }
+        Player player = new Player(playerId, displayName, stack);
         table.getSeat(seatIndex).setPlayer(player);
         return ActionResult.builder()
                 .success(true)
@@ -2,10 +2,14 @@ package com.holdup.server.action.handler;
 
 import com.holdup.server.action.ActionHandler;
 import com.holdup.server.action.GameActionType;
+import com.holdup.server.action.RejectReason;
 import com.holdup.server.action.dto.ActionResult;
 import com.holdup.server.action.dto.PlayerActionRequest;
+import com.holdup.server.bankroll.Bankroll;
+import com.holdup.server.player.Player;
 import com.holdup.server.service.TableManager;
 import com.holdup.server.table.Table;
+import com.holdup.server.table.TableFormat;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
@@ -14,9 +18,11 @@ import java.util.Optional;
 public class LeaveTableActionHandler implements ActionHandler {
 
     private final TableManager tableManager;
+    private final Bankroll bankroll;
 
-    public LeaveTableActionHandler(TableManager tableManager) {
+    public LeaveTableActionHandler(TableManager tableManager, Bankroll bankroll) {
         this.tableManager = tableManager;
+        this.bankroll = bankroll;
     }
 
     @Override
@@ -31,6 +37,7 @@ public class LeaveTableActionHandler implements ActionHandler {
             return ActionResult.builder()
                     .success(false)
                     .message("tableId required")
+                    .rejectReason(RejectReason.TABLE_REQUIRED)
                     .actionType(GameActionType.LEAVE_TABLE)
                     .playerId(playerId)
                     .build();
@@ -40,12 +47,23 @@ public class LeaveTableActionHandler implements ActionHandler {
             return ActionResult.builder()
                     .success(false)
                     .message("Table not found")
+                    .rejectReason(RejectReason.TABLE_NOT_FOUND)
                     .actionType(GameActionType.LEAVE_TABLE)
                     .playerId(playerId)
                     .tableId(tableId)
                     .build();
         }
         Table table = opt.get();
+        if (table.getFormat() != TableFormat.CASH) {
+            return ActionResult.builder()
+                    .success(false)
+                    .message("Table is managed by its game mode")
+                    .rejectReason(RejectReason.TABLE_NOT_JOINABLE)
+                    .actionType(GameActionType.LEAVE_TABLE)
+                    .playerId(playerId)
+                    .tableId(tableId)
+                    .build();
+        }
         int seatIndex = table.getSeatIndexByPlayerId(playerId);
         if (seatIndex < 0) {
             return ActionResult.builder()
@@ -56,7 +74,10 @@ public class LeaveTableActionHandler implements ActionHandler {
                     .tableId(tableId)
                     .build();
         }
-        String displayName = table.getSeat(seatIndex).getPlayer().getDisplayName();
+        Player player = table.getSeat(seatIndex).getPlayer();
+        String displayName = player.getDisplayName();
+        // 남은 스택을 계정 잔액으로 (손님·봇은 기록 없음)
+        bankroll.cashOut(playerId, tableId, player.getStack());
         table.getSeat(seatIndex).setPlayer(null);
         return ActionResult.builder()
                 .success(true)
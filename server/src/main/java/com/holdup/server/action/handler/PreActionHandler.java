@@ -0,0 +1,115 @@
+package com.holdup.server.action.handler;
+
+import com.holdup.server.action.ActionHandler;
+import com.holdup.server.action.GameActionType;
+import com.holdup.server.action.RejectReason;
+import com.holdup.server.action.dto.ActionResult;
+import com.holdup.server.action.dto.PlayerActionRequest;
+import com.holdup.server.gamestate.GamePhase;
+import com.holdup.server.gamestate.HandState;
+import com.holdup.server.gamestate.PreAction;
+import com.holdup.server.gamestate.PreActionType;
+import com.holdup.server.player.Player;
+import com.holdup.server.service.PreActionService;
+import com.holdup.server.service.TableManager;
+import com.holdup.server.table.Table;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 선액션 등록/해제. 이미 본인 턴이면 (등록 요청이 턴 전환과 엇갈린 경우) 바로 실행.
+ */
+@Component
+public class PreActionHandler implements ActionHandler {
+
+    private final TableManager tableManager;
+    private final PreActionService preActionService;
+
+    public PreActionHandler(TableManager tableManager, PreActionService preActionService) {
+        this.tableManager = tableManager;
+        this.preActionService = preActionService;
+    }
+
+    @Override
+    public GameActionType getActionType() {
+        return GameActionType.PRE_ACTION;
+    }
+
+    @Override
+    public ActionResult handle(PlayerActionRequest request, String playerId) {
+        String tableId = request.getTableId();
+        if (tableId == null || tableId.isBlank()) {
+            return reject(request, playerId, null, "tableId required", RejectReason.TABLE_REQUIRED);
+        }
+        Table table = tableManager.getTable(tableId).orElse(null);
+        if (table == null) {
+            return reject(request, playerId, null, "Table not found: " + tableId, RejectReason.TABLE_NOT_FOUND);
+        }
+        PreActionType type = request.getPreAction();
+        if (type == null) {
+            return reject(request, playerId, null, "preAction required", RejectReason.INVALID_PRE_ACTION);
+        }
+        int seatIndex = table.getSeatIndexByPlayerId(playerId);
+        if (seatIndex < 0) {
+            return reject(request, playerId, null, "You are not at this table", RejectReason.NOT_SEATED);
+        }
+        HandState state = table.getHandState();
+        if (type == PreActionType.NONE) {
+            state.setPreAction(seatIndex, null);
+            return accepted(table, playerId, seatIndex, type);
+        }
+
+        if (state.getPhase() == GamePhase.WAITING || state.getPhase() == GamePhase.SHOWDOWN) {
+            return reject(request, playerId, seatIndex, "No betting round in progress", RejectReason.NO_BETTING_ROUND);
+        }
+        Set<String> playerIdsInHand = state.getPlayerIdsInHand();
+        if (!playerIdsInHand.isEmpty() && !playerIdsInHand.contains(playerId)) {
+            return reject(request, playerId, seatIndex, "이번 게임에는 참가하지 않습니다. 다음 게임까지 대기해 주세요.",
+                    RejectReason.NOT_IN_HAND);
+        }
+        Player player = table.getSeat(seatIndex).getPlayer();
+        if (player.isFolded() || player.isAllIn()) {
+            return reject(request, playerId, seatIndex, "Cannot act: folded or all-in", RejectReason.CANNOT_ACT);
+        }
+        BigDecimal toCall = state.getCurrentBet().subtract(player.getCurrentBetThisStreet());
+        if (type == PreActionType.CHECK && toCall.signum() > 0) {
+            return reject(request, playerId, seatIndex, "Cannot check: must call or raise", RejectReason.CANNOT_CHECK);
+        }
+        if (type == PreActionType.CALL && toCall.signum() <= 0) {
+            return reject(request, playerId, seatIndex, "Nothing to call", RejectReason.NOTHING_TO_CALL);
+        }
+
+        state.setPreAction(seatIndex, new PreAction(type, playerId, state.getCurrentBet()));
+        if (state.getActingSeatIndex() == seatIndex) {
+            preActionService.executeIfRegistered(table, seatIndex);
+        }
+        return accepted(table, playerId, seatIndex, type);
+    }
+
+    private static ActionResult accepted(Table table, String playerId, int seatIndex, PreActionType type) {
+        return ActionResult.builder()
+                .success(true)
+                .actionType(GameActionType.PRE_ACTION)
+                .playerId(playerId)
+                .tableId(table.getId())
+                .seatIndex(seatIndex)
+                .payload(Map.of("preAction", type))
+                .build();
+    }
+
+    private static ActionResult reject(PlayerActionRequest request, String playerId, Integer seatIndex,
+                                       String message, RejectReason reason) {
+        return ActionResult.builder()
+                .success(false)
+                .message(message)
+                .rejectReason(reason)
+                .actionType(GameActionType.PRE_ACTION)
+                .playerId(playerId)
+                .tableId(request.getTableId())
+                .seatIndex(seatIndex)
+                .build();
+    }
+}
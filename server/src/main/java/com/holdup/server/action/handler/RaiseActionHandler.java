@@ -3,6 +3,7 @@ package com.holdup.server.action.handler;
 import com.holdup.server.action.ActionHandler;
 import com.holdup.server.action.ActionValidation;
 import com.holdup.server.action.GameActionType;
+import com.holdup.server.action.RejectReason;
 import com.holdup.server.action.dto.ActionResult;
 import com.holdup.server.action.dto.PlayerActionRequest;
 import com.holdup.server.player.Player;
@@ -41,6 +42,7 @@ public class RaiseActionHandler implements ActionHandler {
             return ActionResult.builder()
                     .success(false)
                     .message("Raise amount must be positive")
+                    .rejectReason(RejectReason.INVALID_AMOUNT)
                     .actionType(GameActionType.RAISE)
                     .playerId(playerId)
                     .tableId(request.getTableId())
@@ -61,6 +63,7 @@ public class RaiseActionHandler implements ActionHandler {
             return ActionResult.builder()
                     .success(false)
                     .message("Raise must be at least " + minRaise + " more than current bet")
+                    .rejectReason(RejectReason.BELOW_MIN_RAISE)
                     .actionType(GameActionType.RAISE)
                     .playerId(playerId)
                     .tableId(table.getId())
@@ -71,6 +74,7 @@ public class RaiseActionHandler implements ActionHandler {
             return ActionResult.builder()
                     .success(false)
                     .message("Amount must at least call " + toCall)
+                    .rejectReason(RejectReason.BELOW_CALL)
                     .actionType(GameActionType.RAISE)
                     .playerId(playerId)
                     .tableId(table.getId())
@@ -4,11 +4,21 @@ import com.holdup.server.action.ActionHandler;
 import com.holdup.server.action.GameActionType;
 import com.holdup.server.action.dto.ActionResult;
 import com.holdup.server.action.dto.PlayerActionRequest;
+import com.holdup.server.service.TableManager;
 import org.springframework.stereotype.Component;
 
+/**
+ * 자리 비움 해제: 다음 핸드부터 다시 딜에 포함.
+ */
 @Component
 public class ReadyActionHandler implements ActionHandler {
 
+    private final TableManager tableManager;
+
+    public ReadyActionHandler(TableManager tableManager) {
+        this.tableManager = tableManager;
+    }
+
     @Override
     public GameActionType getActionType() {
         return GameActionType.READY;
@@ -16,13 +26,6 @@ public class ReadyActionHandler implements ActionHandler {
 
     @Override
     public ActionResult handle(PlayerActionRequest request, String playerId) {
-        // TODO: 준비 플래그 설정, 게임 시작 조건이면 시작
-        return ActionResult.builder()
-                .success(true)
-                .actionType(GameActionType.READY)
-                .playerId(playerId)
-                .tableId(request.getTableId())
-                .seatIndex(request.getSeatIndex())
-                .build();
+        return SitOutToggle.apply(tableManager, request, playerId, GameActionType.READY, false);
     }
 }
@@ -1,23 +1,30 @@
 package com.holdup.server.action.handler;
 
 import com.holdup.server.action.ActionHandler;
+import com.holdup.server.action.ActionValidation;
 import com.holdup.server.action.GameActionType;
+import com.holdup.server.action.RejectReason;
 import com.holdup.server.action.dto.ActionResult;
 import com.holdup.server.action.dto.PlayerActionRequest;
+import com.holdup.server.bankroll.Bankroll;
 import com.holdup.server.player.Player;
 import com.holdup.server.service.TableManager;
 import com.holdup.server.table.Table;
+import com.holdup.server.table.TableFormat;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 
 @Component
 public class SitActionHandler implements ActionHandler {
 
     private final TableManager tableManager;
+    private final Bankroll bankroll;
 
-    public SitActionHandler(TableManager tableManager) {
+    public SitActionHandler(TableManager tableManager, Bankroll bankroll) {
         this.tableManager = tableManager;
+        this.bankroll = bankroll;
     }
 
     @Override
@@ -36,6 +43,8 @@ public class SitActionHandler implements ActionHandler {
                     .playerId(playerId)
                     .build();
         }
+        Optional<ActionResult> invalid = ActionValidation.validateTableId(tableId, playerId, GameActionType.SIT);
+        if (invalid.isPresent()) return invalid.get();
         Optional<Table> opt = tableManager.getTable(tableId);
         if (opt.isEmpty()) {
             return ActionResult.builder()
@@ -47,6 +56,16 @@ public class SitActionHandler implements ActionHandler {
                     .build();
         }
         Table table = opt.get();
+        if (table.getFormat() != TableFormat.CASH) {
+            return ActionResult.builder()
+                    .success(false)
+                    .message("Table is not joinable")
+                    .rejectReason(RejectReason.TABLE_NOT_JOINABLE)
+                    .actionType(GameActionType.SIT)
+                    .playerId(playerId)
+                    .tableId(tableId)
+                    .build();
+        }
         int seatIndex = request.getSeatIndex();
         if (seatIndex < 0 || seatIndex >= table.getMaxSeats()) {
             return ActionResult.builder()
@@ -78,7 +97,20 @@ public class SitActionHandler implements ActionHandler {
             String displayName = request.getPlayerId() != null && !request.getPlayerId().isBlank()
                     ? request.getPlayerId()
                     : ("Player-" + seatIndex);
-            player = new Player(playerId, displayName, JoinTableConstants.DEFAULT_STACK);
+            // 로그인 계정이면 칩 잔액에서 가져옴 (손님·봇은 기본 스택)
+            BigDecimal stack = bankroll.buyIn(playerId, tableId, JoinTableConstants.DEFAULT_STACK);
+            if (stack.signum() <= 0) {
+                return ActionResult.builder()
+                        .success(false)
+                        .message("Insufficient balance")
+                        .rejectReason(RejectReason.INSUFFICIENT_BALANCE)
+                        .actionType(GameActionType.SIT)
+                        .playerId(playerId)
+                        .tableId(tableId)
+                        .seatIndex(seatIndex)
+                        .build();
+            }
+            player = new Player(playerId, displayName, stack);
         }
         table.getSeat(seatIndex).setPlayer(player);
         return ActionResult.builder()
@@ -4,11 +4,21 @@ import com.holdup.server.action.ActionHandler;
 import com.holdup.server.action.GameActionType;
 import com.holdup.server.action.dto.ActionResult;
 import com.holdup.server.action.dto.PlayerActionRequest;
+import com.holdup.server.service.TableManager;
 import org.springframework.stereotype.Component;
 
+/**
+ * 자리 비움: 자리는 유지하고 다음 핸드부터 딜에서 제외 (진행 중인 핸드는 그대로). READY 로 복귀.
+ */
 @Component
 public class SitOutActionHandler implements ActionHandler {
 
+    private final TableManager tableManager;
+
+    public SitOutActionHandler(TableManager tableManager) {
+        this.tableManager = tableManager;
+    }
+
     @Override
     public GameActionType getActionType() {
         return GameActionType.SIT_OUT;
@@ -16,13 +26,6 @@ public class SitOutActionHandler implements ActionHandler {
 
     @Override
     public ActionResult handle(PlayerActionRequest request, String playerId) {
-        // TODO: 현재 핸드 종료 후 다음부터 미참여 처리
-        return ActionResult.builder()
-                .success(true)
-                .actionType(GameActionType.SIT_OUT)
-                .playerId(playerId)
-                .tableId(request.getTableId())
-                .seatIndex(request.getSeatIndex())
-                .build();
+        return SitOutToggle.apply(tableManager, request, playerId, GameActionType.SIT_OUT, true);
     }
 }
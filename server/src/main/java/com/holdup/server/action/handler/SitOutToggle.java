@@ -0,0 +1,72 @@
+package com.holdup.server.action.handler;
+
+import com.holdup.server.action.GameActionType;
+import com.holdup.server.action.RejectReason;
+import com.holdup.server.action.dto.ActionResult;
+import com.holdup.server.action.dto.PlayerActionRequest;
+import com.holdup.server.service.TableManager;
+import com.holdup.server.table.Table;
+import com.holdup.server.table.TableFormat;
+
+import java.util.Optional;
+
+/** SIT_OUT / READY 공통: CASH 테이블 착석자의 자리 비움 플래그 변경. */
+final class SitOutToggle {
+
+    private SitOutToggle() {}
+
+    static ActionResult apply(TableManager tableManager, PlayerActionRequest request, String playerId,
+                              GameActionType actionType, boolean sittingOut) {
+        String tableId = request.getTableId();
+        if (tableId == null || tableId.isBlank()) {
+            return ActionResult.builder()
+                    .success(false)
+                    .message("tableId required")
+                    .rejectReason(RejectReason.TABLE_REQUIRED)
+                    .actionType(actionType)
+                    .playerId(playerId)
+                    .build();
+        }
+        Optional<Table> opt = tableManager.getTable(tableId);
+        if (opt.isEmpty()) {
+            return ActionResult.builder()
+                    .success(false)
+                    .message("Table not found")
+                    .rejectReason(RejectReason.TABLE_NOT_FOUND)
+                    .actionType(actionType)
+                    .playerId(playerId)
+                    .tableId(tableId)
+                    .build();
+        }
+        Table table = opt.get();
+        if (table.getFormat() != TableFormat.CASH) {
+            return ActionResult.builder()
+                    .success(false)
+                    .message("Table is managed by its game mode")
+                    .rejectReason(RejectReason.TABLE_NOT_JOINABLE)
+                    .actionType(actionType)
+                    .playerId(playerId)
+                    .tableId(tableId)
+                    .build();
+        }
+        int seatIndex = table.getSeatIndexByPlayerId(playerId);
+        if (seatIndex < 0) {
+            return ActionResult.builder()
+                    .success(false)
+                    .message("You are not at this table")
+                    .rejectReason(RejectReason.NOT_SEATED)
+                    .actionType(actionType)
+                    .playerId(playerId)
+                    .tableId(tableId)
+                    .build();
+        }
+        table.getSeat(seatIndex).getPlayer().setSittingOut(sittingOut);
+        return ActionResult.builder()
+                .success(true)
+                .actionType(actionType)
+                .playerId(playerId)
+                .tableId(tableId)
+                .seatIndex(seatIndex)
+                .build();
+    }
+}
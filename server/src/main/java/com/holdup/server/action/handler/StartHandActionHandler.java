@@ -2,12 +2,17 @@ package com.holdup.server.action.handler;
 
 import com.holdup.server.action.ActionHandler;
 import com.holdup.server.action.GameActionType;
+import com.holdup.server.action.RejectReason;
 import com.holdup.server.action.dto.ActionResult;
 import com.holdup.server.action.dto.PlayerActionRequest;
 import com.holdup.server.service.GameFlowService;
 import com.holdup.server.service.TableManager;
+import com.holdup.server.table.TableFormat;
 import org.springframework.stereotype.Component;
 
+/**
+ * 일반 테이블 착석자의 핸드 시작 요청. 토너먼트·패스트 폴드 테이블은 각 모드가 핸드를 시작하므로 거절.
+ */
 @Component
 public class StartHandActionHandler implements ActionHandler {
 
@@ -31,6 +36,7 @@ public class StartHandActionHandler implements ActionHandler {
             return ActionResult.builder()
                     .success(false)
                     .message("tableId required")
+                    .rejectReason(RejectReason.TABLE_REQUIRED)
                     .actionType(GameActionType.START_HAND)
                     .playerId(playerId)
                     .build();
@@ -40,12 +46,33 @@ public class StartHandActionHandler implements ActionHandler {
             return ActionResult.builder()
                     .success(false)
                     .message("테이블을 찾을 수 없습니다.")
+                    .rejectReason(RejectReason.TABLE_NOT_FOUND)
                     .actionType(GameActionType.START_HAND)
                     .playerId(playerId)
                     .tableId(tableId)
                     .build();
         }
         var table = tableOpt.get();
+        if (table.getFormat() != TableFormat.CASH) {
+            return ActionResult.builder()
+                    .success(false)
+                    .message("Table is managed by its game mode")
+                    .rejectReason(RejectReason.TABLE_NOT_JOINABLE)
+                    .actionType(GameActionType.START_HAND)
+                    .playerId(playerId)
+                    .tableId(tableId)
+                    .build();
+        }
+        if (table.getSeatIndexByPlayerId(playerId) < 0) {
+            return ActionResult.builder()
+                    .success(false)
+                    .message("You are not at this table")
+                    .rejectReason(RejectReason.NOT_SEATED)
+                    .actionType(GameActionType.START_HAND)
+                    .playerId(playerId)
+                    .tableId(tableId)
+                    .build();
+        }
         boolean started = gameFlowService.startNewHand(tableId);
         String message = null;
         if (!started) {
@@ -61,6 +88,7 @@ public class StartHandActionHandler implements ActionHandler {
         return ActionResult.builder()
                 .success(started)
                 .message(message)
+                .rejectReason(started ? null : RejectReason.CANNOT_START)
                 .actionType(GameActionType.START_HAND)
                 .playerId(playerId)
                 .tableId(tableId)
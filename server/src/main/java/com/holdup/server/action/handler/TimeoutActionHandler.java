@@ -1,17 +1,34 @@
 package com.holdup.server.action.handler;
 
 import com.holdup.server.action.ActionHandler;
+import com.holdup.server.action.ActionValidation;
 import com.holdup.server.action.GameActionType;
 import com.holdup.server.action.dto.ActionResult;
 import com.holdup.server.action.dto.PlayerActionRequest;
+import com.holdup.server.service.TableManager;
+import com.holdup.server.table.Table;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 /**
- * 타임아웃 시 자동 폴드 등 시스템에 의한 액션.
+ * 타임아웃 시 시스템에 의한 자동 액션: 체크할 수 있으면 체크, 아니면 폴드.
+ * 연결이 끊긴 플레이어의 차례에 PlayerSessions 가 보냄. 결과의 actionType 은 실제로 적용된 CHECK/FOLD.
  */
 @Component
 public class TimeoutActionHandler implements ActionHandler {
 
+    private final TableManager tableManager;
+    private final CheckActionHandler checkActionHandler;
+    private final FoldActionHandler foldActionHandler;
+
+    public TimeoutActionHandler(TableManager tableManager, CheckActionHandler checkActionHandler,
+                                FoldActionHandler foldActionHandler) {
+        this.tableManager = tableManager;
+        this.checkActionHandler = checkActionHandler;
+        this.foldActionHandler = foldActionHandler;
+    }
+
     @Override
     public GameActionType getActionType() {
         return GameActionType.TIMEOUT;
@@ -19,13 +36,18 @@ public class TimeoutActionHandler implements ActionHandler {
 
     @Override
     public ActionResult handle(PlayerActionRequest request, String playerId) {
-        // TODO: 타이머/스케줄러에서 호출 또는 클라이언트 타임아웃 신호 처리
-        return ActionResult.builder()
-                .success(true)
-                .actionType(GameActionType.TIMEOUT)
-                .playerId(playerId)
-                .tableId(request.getTableId())
-                .seatIndex(request.getSeatIndex())
+        Optional<ActionResult> invalid = ActionValidation.validateTableAndTurn(
+                tableManager, request.getTableId(), playerId, GameActionType.TIMEOUT);
+        if (invalid.isPresent()) return invalid.get();
+
+        Table table = tableManager.getTable(request.getTableId()).orElseThrow();
+        int seatIndex = table.getSeatIndexByPlayerId(playerId);
+        boolean free = table.getHandState().getCurrentBet().compareTo(
+                table.getSeat(seatIndex).getPlayer().getCurrentBetThisStreet()) <= 0;
+        PlayerActionRequest auto = PlayerActionRequest.builder()
+                .actionType(free ? GameActionType.CHECK : GameActionType.FOLD)
+                .tableId(table.getId())
                 .build();
+        return free ? checkActionHandler.handle(auto, playerId) : foldActionHandler.handle(auto, playerId);
     }
 }
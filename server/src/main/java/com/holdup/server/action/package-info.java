@@ -6,11 +6,13 @@
  *   <li><b>GameActionType</b> - 액션 타입 enum (FOLD, CHECK, CALL, BET, RAISE, ALL_IN, JOIN_TABLE 등)</li>
  *   <li><b>ActionHandler</b> - 액션별 처리 인터페이스</li>
  *   <li><b>ActionDispatcher</b> - 요청을 해당 타입의 핸들러로 라우팅</li>
- *   <li><b>dto/</b> - PlayerActionRequest(요청), ActionResult(응답)</li>
+ *   <li><b>LegalActionCalculator</b> - 현재 턴 플레이어의 합법 액션·금액 범위 계산 (핸들러 검증 규칙과 동일)</li>
+ *   <li><b>dto/</b> - PlayerActionRequest(요청), ActionResult(응답), LegalActions(합법 액션)</li>
  *   <li><b>handler/</b> - 각 GameActionType별 구현체 (FoldActionHandler, BetActionHandler 등)</li>
  * </ul>
  *
  * <p>클라이언트는 /app/action 으로 PlayerActionRequest를 보내고,
- * /topic/actions (또는 테이블별 /topic/table/{tableId}) 구독으로 ActionResult를 받습니다.</p>
+ * /topic/actions (또는 테이블별 /topic/table/{tableId}) 구독으로 ActionResult를 받습니다.
+ * 현재 턴 플레이어는 /user/queue/table-state 메시지의 payload.legalActions 로 보낼 수 있는 액션을 받습니다.</p>
  */
 package com.holdup.server.action;
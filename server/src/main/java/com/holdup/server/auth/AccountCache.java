@@ -0,0 +1,162 @@
+package com.holdup.server.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * UserAccountRepository 앞의 읽기 캐시. 아이디와 정규화한 이메일(trim + 소문자) 양쪽 키로 조회.
+ *
+ * <ul>
+ *   <li>없는 계정도 Optional.empty() 로 보관 (가입 전 아이디·이메일 중복 확인이 대부분 "없음")</li>
+ *   <li>키별 LRU, 크기는 holdup.security.account-cache-size</li>
+ *   <li>쓰기는 save(수정)·insert(가입)를 거쳐 DB 에 쓰고 두 키 모두 새 값으로 교체. 이메일이 바뀌면 예전 이메일 키는 제거</li>
+ *   <li>DB 를 읽는 동안 다른 스레드가 저장하면 읽은 값은 넣지 않음 (세대 번호 비교). 오래된 값이 캐시에 남지 않도록</li>
+ * </ul>
+ *
+ * <p>서버 한 대 기준. 다른 노드나 DB 직접 수정은 반영되지 않음.</p>
+ */
+@Component
+public class AccountCache {
+
+    private final UserAccountRepository repository;
+    private final int capacity;
+    private final Counter usernameHit;
+    private final Counter usernameMiss;
+    private final Counter emailHit;
+    private final Counter emailMiss;
+
+    private final Map<String, Optional<UserAccount>> byUsername;
+    private final Map<String, Optional<UserAccount>> byEmail;
+    /** 저장할 때마다 증가. 조회 시작 때 값과 다르면 조회 결과를 버림. */
+    private long generation;
+
+    public AccountCache(UserAccountRepository repository, MeterRegistry registry,
+                        @Value("${holdup.security.account-cache-size:10000}") int capacity) {
+        this.repository = repository;
+        this.capacity = Math.max(1, capacity);
+        this.byUsername = lru();
+        this.byEmail = lru();
+        this.usernameHit = lookupCounter(registry, "username", "hit");
+        this.usernameMiss = lookupCounter(registry, "username", "miss");
+        this.emailHit = lookupCounter(registry, "email", "hit");
+        this.emailMiss = lookupCounter(registry, "email", "miss");
+        Gauge.builder("holdup.auth.account.cache.size", this, c -> c.size())
+                .description("계정 캐시 항목 수 (아이디 키)")
+                .register(registry);
+    }
+
+    private Map<String, Optional<UserAccount>> lru() {
+        return new LinkedHashMap<>(capacity * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Optional<UserAccount>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    private static Counter lookupCounter(MeterRegistry registry, String key, String result) {
+        return Counter.builder("holdup.auth.account.cache")
+                .description("계정 캐시 조회 (hit / (hit + miss) 가 적중률)")
+                .tag("key", key)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    public Optional<UserAccount> findByUsername(String username) {
+        if (username == null) return Optional.empty();
+        return lookup(byUsername, username, usernameHit, usernameMiss,
+                () -> repository.findById(username).map(AccountCache::toDomain));
+    }
+
+    public Optional<UserAccount> findByEmail(String email) {
+        if (email == null || email.isBlank()) return Optional.empty();
+        String key = normalize(email);
+        return lookup(byEmail, key, emailHit, emailMiss,
+                () -> repository.findByEmail(key).map(AccountCache::toDomain));
+    }
+
+    private Optional<UserAccount> lookup(Map<String, Optional<UserAccount>> map, String key,
+                                         Counter hit, Counter miss, Supplier<Optional<UserAccount>> loader) {
+        long seen;
+        synchronized (this) {
+            Optional<UserAccount> cached = map.get(key);
+            if (cached != null) {
+                hit.increment();
+                return cached;
+            }
+            seen = generation;
+        }
+        miss.increment();
+        Optional<UserAccount> loaded = loader.get();
+        synchronized (this) {
+            if (generation == seen) {
+                map.put(key, loaded);
+                // 찾았으면 다른 쪽 키도 채워 둠
+                loaded.ifPresent(this::putBoth);
+            }
+        }
+        return loaded;
+    }
+
+    /** DB 에 저장하고 캐시를 새 값으로 교체. */
+    public UserAccount save(UserAccountEntity entity) {
+        return replace(toDomain(repository.save(entity)));
+    }
+
+    /**
+     * 새 계정을 DB 에 추가하고 캐시에 넣음. 같은 아이디가 이미 있으면 덮어쓰지 않고 실패.
+     *
+     * @throws org.springframework.dao.DataIntegrityViolationException 아이디 또는 이메일 중복
+     */
+    public UserAccount insert(UserAccountEntity entity) {
+        repository.insert(entity);
+        return replace(toDomain(entity));
+    }
+
+    private UserAccount replace(UserAccount saved) {
+        synchronized (this) {
+            generation++;
+            Optional<UserAccount> previous = byUsername.get(saved.username());
+            if (previous != null) {
+                previous.ifPresent(p -> byEmail.remove(normalize(p.email())));
+            }
+            putBoth(saved);
+        }
+        return saved;
+    }
+
+    /** 캐시 밖에서 계정이 바뀌었을 때. 다음 조회는 DB 에서 다시 읽음. */
+    public synchronized void invalidate(String username) {
+        generation++;
+        Optional<UserAccount> previous = byUsername.remove(username);
+        if (previous != null) {
+            previous.ifPresent(p -> byEmail.remove(normalize(p.email())));
+        }
+    }
+
+    private void putBoth(UserAccount account) {
+        byUsername.put(account.username(), Optional.of(account));
+        byEmail.put(normalize(account.email()), Optional.of(account));
+    }
+
+    private synchronized int size() {
+        return byUsername.size();
+    }
+
+    static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static UserAccount toDomain(UserAccountEntity e) {
+        return new UserAccount(e.getUsername(), e.getPasswordHash(), e.getDisplayName(), e.getEmail());
+    }
+}
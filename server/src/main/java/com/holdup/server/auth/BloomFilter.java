@@ -0,0 +1,80 @@
+package com.holdup.server.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom 필터. 없다고 하면 확실히 없고, 있다고 하면 오탐률 fpp 이하로 틀릴 수 있음.
+ *
+ * <p>비트 수 m = -n·ln(p) / (ln 2)², 해시 수 k = m/n·ln 2 (n=1e5, p=1% 면 약 117KB, k=7).
+ * 64비트 해시 하나를 두 조각으로 나눠 h1 + i·h2 로 k 개 위치를 만듦 (Kirsch–Mitzenmacher).
+ * 비트 배열이 AtomicLongArray 라 읽기는 락 없이 여러 스레드에서 해도 됨. 삭제는 불가하므로 새로 만들어 교체.</p>
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashes;
+
+    BloomFilter(int expectedEntries, double fpp) {
+        int n = Math.max(1, expectedEntries);
+        double p = Math.min(0.5, Math.max(1e-9, fpp));
+        long m = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (m + 63) >>> 6);
+        this.bits = new AtomicLongArray(Math.max(1, words));
+        this.bitCount = (long) bits.length() << 6;
+        this.hashes = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    void put(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashes; i++) {
+            long bit = index(h1 + i * h2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) break;
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashes; i++) {
+            long bit = index(h1 + i * h2);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    int getHashes() {
+        return hashes;
+    }
+
+    long getBitCount() {
+        return bitCount;
+    }
+
+    private long index(int combined) {
+        // 음수가 나오지 않도록 비트 반전 후 나머지
+        return (combined < 0 ? ~combined : combined) % bitCount;
+    }
+
+    /** UTF-8 바이트의 FNV-1a 64 에 splitmix 마무리 (상·하위 32비트가 고르게 섞이도록). */
+    private static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= 0x100000001b3L;
+        }
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return h ^ (h >>> 31);
+    }
+}
@@ -1,77 +1,200 @@
 package com.holdup.server.auth;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.Principal;
+import java.security.SecureRandom;
 import java.time.Instant;
 import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 
+/**
+ * HS256 JWT 발급·검증.
+ *
+ * <p>검증 경로 (HTTP 필터와 STOMP CONNECT 모두 authenticate 사용):</p>
+ * <ul>
+ *   <li>검증된 토큰은 만료 시각과 함께 LRU 에 보관. 같은 토큰의 반복 요청은 맵 조회 한 번으로 끝남</li>
+ *   <li>캐시 미스는 스레드별로 재사용하는 Mac 으로 헤더.페이로드 바이트를 서명하고 서명 바이트를 상수 시간 비교.
+ *       정규식 split 없이 점 위치만 찾고, 페이로드는 필요한 클레임만 담는 레코드로 읽음</li>
+ *   <li>서명이 틀린 토큰은 캐시에 넣지 않음</li>
+ *   <li>캐시 적중이어도 TokenRevocationList 확인 (대부분 Bloom 필터에서 끝남). 폐기된 토큰은 캐시에서도 뺌</li>
+ * </ul>
+ */
 @Service
 public class JwtTokenService {
 
+    private static final String ALGORITHM = "HmacSHA256";
+
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SecureRandom random = new SecureRandom();
+    private final TokenRevocationList revocations;
+    private final SecretKeySpec key;
+    private final long expSeconds;
+    private final int cacheSize;
+    private final Counter cacheHit;
+    private final Counter cacheMiss;
+
+    /** Mac 은 스레드 안전하지 않으므로 스레드마다 키를 넣은 인스턴스 하나를 계속 씀. */
+    private final ThreadLocal<Mac> mac = ThreadLocal.withInitial(this::newMac);
+
+    private final Map<String, TokenPrincipal> verified;
 
-    @Value("${holdup.security.jwt-secret:change-this-secret-in-production}")
-    private String secret;
+    public JwtTokenService(TokenRevocationList revocations, MeterRegistry registry,
+                           @Value("${holdup.security.jwt-secret:change-this-secret-in-production}") String secret,
+                           @Value("${holdup.security.jwt-exp-seconds:43200}") long expSeconds,
+                           @Value("${holdup.security.token-cache-size:4096}") int cacheSize) {
+        this.revocations = revocations;
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.expSeconds = expSeconds;
+        this.cacheSize = Math.max(1, cacheSize);
+        this.verified = new LinkedHashMap<>(this.cacheSize * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenPrincipal> eldest) {
+                return size() > JwtTokenService.this.cacheSize;
+            }
+        };
+        this.cacheHit = cacheCounter(registry, "hit");
+        this.cacheMiss = cacheCounter(registry, "miss");
+    }
+
+    private static Counter cacheCounter(MeterRegistry registry, String result) {
+        return Counter.builder("holdup.auth.token.cache")
+                .description("JWT 검증 캐시 조회")
+                .tag("result", result)
+                .register(registry);
+    }
 
-    @Value("${holdup.security.jwt-exp-seconds:43200}")
-    private long expSeconds;
+    private Mac newMac() {
+        try {
+            Mac m = Mac.getInstance(ALGORITHM);
+            m.init(key);
+            return m;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 초기화 실패", e);
+        }
+    }
 
     public String createToken(UserAccount account) {
         try {
-            long exp = Instant.now().getEpochSecond() + expSeconds;
+            long iat = Instant.now().getEpochSecond();
+            long exp = iat + expSeconds;
+            byte[] jti = new byte[12];
+            random.nextBytes(jti);
             String header = toBase64Url(objectMapper.writeValueAsBytes(Map.of("alg", "HS256", "typ", "JWT")));
             String payload = toBase64Url(objectMapper.writeValueAsBytes(Map.of(
                     "sub", account.username(),
                     "displayName", account.displayName(),
+                    "jti", toBase64Url(jti),
+                    "iat", iat,
                     "exp", exp
             )));
-            String signature = sign(header + "." + payload);
-            return header + "." + payload + "." + signature;
+            String signed = header + "." + payload;
+            return signed + "." + toBase64Url(sign(signed.getBytes(StandardCharsets.US_ASCII), signed.length()));
         } catch (Exception e) {
             throw new IllegalStateException("토큰 생성 실패", e);
         }
     }
 
+    /** 캐시를 거치는 검증. 캐시에 있고 만료 전이면 서명 검증을 건너뜀. */
+    public Optional<TokenPrincipal> authenticate(String token) {
+        if (token == null) return Optional.empty();
+        long now = Instant.now().getEpochSecond();
+        TokenPrincipal cached;
+        synchronized (verified) {
+            cached = verified.get(token);
+            if (cached != null) {
+                if (now > cached.expiresAt()) {
+                    verified.remove(token);
+                    cached = null;
+                }
+            }
+        }
+        if (cached != null) {
+            cacheHit.increment();
+            if (!isRevoked(cached)) return Optional.of(cached);
+            synchronized (verified) {
+                verified.remove(token);
+            }
+            return Optional.empty();
+        }
+        cacheMiss.increment();
+        Optional<TokenPrincipal> principal = parseToken(token);
+        principal.ifPresent(p -> {
+            synchronized (verified) {
+                verified.put(token, p);
+            }
+        });
+        return principal;
+    }
+
+    /** 캐시 없이 서명·만료·폐기 검증. */
     public Optional<TokenPrincipal> parseToken(String token) {
         try {
-            String[] parts = token.split("\\.");
-            if (parts.length != 3) return Optional.empty();
-            String signed = parts[0] + "." + parts[1];
-            String expected = sign(signed);
-            if (!expected.equals(parts[2])) return Optional.empty();
-
-            byte[] payloadBytes = Base64.getUrlDecoder().decode(parts[1]);
-            @SuppressWarnings("unchecked")
-            Map<String, Object> payload = objectMapper.readValue(payloadBytes, Map.class);
-
-            String username = String.valueOf(payload.get("sub"));
-            String displayName = String.valueOf(payload.get("displayName"));
-            long exp = Long.parseLong(String.valueOf(payload.get("exp")));
-            if (Instant.now().getEpochSecond() > exp) return Optional.empty();
-
-            return Optional.of(new TokenPrincipal(username, displayName));
+            int first = token.indexOf('.');
+            int second = first < 0 ? -1 : token.indexOf('.', first + 1);
+            if (second < 0 || token.indexOf('.', second + 1) >= 0) return Optional.empty();
+
+            byte[] ascii = token.getBytes(StandardCharsets.US_ASCII);
+            byte[] expected = sign(ascii, second);
+            byte[] actual = Base64.getUrlDecoder().decode(token.substring(second + 1));
+            if (!MessageDigest.isEqual(expected, actual)) return Optional.empty();
+
+            byte[] payloadBytes = Base64.getUrlDecoder().decode(token.substring(first + 1, second));
+            Claims claims = objectMapper.readValue(payloadBytes, Claims.class);
+            if (claims.sub() == null || claims.exp() == null) return Optional.empty();
+            if (Instant.now().getEpochSecond() > claims.exp()) return Optional.empty();
+
+            // jti·iat 가 없는 이전 형식 토큰은 계정 단위 폐기만 적용 (발급 시각은 exp 에서 역산)
+            long iat = claims.iat() != null ? claims.iat() : claims.exp() - expSeconds;
+            TokenPrincipal principal = new TokenPrincipal(
+                    claims.sub(), String.valueOf(claims.displayName()), claims.jti(), iat, claims.exp());
+            return isRevoked(principal) ? Optional.empty() : Optional.of(principal);
         } catch (Exception e) {
             return Optional.empty();
         }
     }
 
-    private String sign(String data) throws Exception {
-        Mac mac = Mac.getInstance("HmacSHA256");
-        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
-        byte[] raw = mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
-        return toBase64Url(raw);
+    private boolean isRevoked(TokenPrincipal principal) {
+        return revocations.isRevoked(principal.tokenId(), principal.username(), principal.issuedAt());
+    }
+
+    /** data[0, length) 의 HMAC-SHA256. doFinal 이 Mac 을 초기 상태로 되돌리므로 재초기화 불필요. */
+    private byte[] sign(byte[] data, int length) {
+        Mac m = mac.get();
+        m.update(data, 0, length);
+        return m.doFinal();
     }
 
     private static String toBase64Url(byte[] bytes) {
         return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
 
-    public record TokenPrincipal(String username, String displayName) {}
+    /** 검증에 필요한 클레임만. */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record Claims(String sub, String displayName, String jti, Long iat, Long exp) {
+    }
+
+    /**
+     * 검증된 토큰의 주체. 이름(getName)은 계정 아이디이며 STOMP 연결의 플레이어 ID 로도 쓰임.
+     * tokenId 는 jti (이전 형식 토큰이면 null), issuedAt·expiresAt 은 epoch 초.
+     */
+    public record TokenPrincipal(String username, String displayName, String tokenId, long issuedAt, long expiresAt)
+            implements Principal {
+        @Override
+        public String getName() {
+            return username;
+        }
+    }
 }
@@ -0,0 +1,102 @@
+package com.holdup.server.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그인·가입·비밀번호 재설정 시도 횟수 제한 (IP 별, 아이디 별).
+ *
+ * <p>슬라이딩 윈도 카운터: 키마다 직전 고정 구간과 현재 구간의 횟수만 두고, 직전 구간 횟수를 지금 겹치는 비율만큼
+ * 더해 최근 window-ms 동안의 시도 수를 추정. 키당 숫자 세 개라 요청이 많아도 메모리가 일정.
+ * 비밀번호 해시 전에 확인하므로 한도를 넘은 시도는 BCrypt 를 돌리지 않음.
+ * IP 는 요청의 원격 주소 (프록시 뒤라면 프록시 쪽에서 제한).</p>
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final class Window {
+        long start;
+        int current;
+        int previous;
+    }
+
+    private final long windowMillis;
+    private final int ipLimit;
+    private final int usernameLimit;
+    private final Counter ipThrottled;
+    private final Counter usernameThrottled;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public LoginRateLimiter(MeterRegistry registry,
+                            @Value("${holdup.security.login-window-ms:60000}") long windowMillis,
+                            @Value("${holdup.security.login-ip-limit:30}") int ipLimit,
+                            @Value("${holdup.security.login-username-limit:10}") int usernameLimit) {
+        this.windowMillis = Math.max(1000, windowMillis);
+        this.ipLimit = Math.max(1, ipLimit);
+        this.usernameLimit = Math.max(1, usernameLimit);
+        this.ipThrottled = throttledCounter(registry, "ip");
+        this.usernameThrottled = throttledCounter(registry, "username");
+    }
+
+    private static Counter throttledCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("holdup.auth.throttled")
+                .description("시도 횟수 한도로 거절한 인증 요청")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    /**
+     * 시도 한 번을 기록. 한도 안이면 0, 넘었으면 다시 시도할 때까지 기다릴 초 (Retry-After).
+     *
+     * @param username 아이디 단위 제한이 없는 요청(가입)이면 null
+     */
+    public long tryAcquire(String ip, String username) {
+        long now = System.currentTimeMillis();
+        long wait = acquire("ip:" + ip, ipLimit, now);
+        if (wait > 0) {
+            ipThrottled.increment();
+            return wait;
+        }
+        if (username == null) return 0;
+        wait = acquire("user:" + username.toLowerCase(), usernameLimit, now);
+        if (wait > 0) usernameThrottled.increment();
+        return wait;
+    }
+
+    private long acquire(String key, int limit, long now) {
+        Window w = windows.computeIfAbsent(key, k -> new Window());
+        synchronized (w) {
+            long start = now - now % windowMillis;
+            if (start != w.start) {
+                w.previous = start - w.start == windowMillis ? w.current : 0;
+                w.current = 0;
+                w.start = start;
+            }
+            double overlap = 1.0 - (double) (now - start) / windowMillis;
+            if (w.previous * overlap + w.current >= limit) {
+                // 현재 구간이 끝나면 직전 구간 몫이 사라지므로 그때까지 (최소 1초)
+                return Math.max(1, (start + windowMillis - now + 999) / 1000);
+            }
+            w.current++;
+            return 0;
+        }
+    }
+
+    /** 두 구간 넘게 시도가 없던 키 정리 (아이디를 바꿔 가며 시도해도 맵이 계속 커지지 않도록). */
+    @Scheduled(fixedDelayString = "${holdup.security.login-window-ms:60000}")
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - 2 * windowMillis;
+        windows.entrySet().removeIf(e -> {
+            synchronized (e.getValue()) {
+                return e.getValue().start < cutoff;
+            }
+        });
+    }
+}
@@ -0,0 +1,90 @@
+package com.holdup.server.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시·검증 전용 스레드 풀. BCrypt 한 번이 수십~100ms 라 웹 스레드에서 돌리면 로그인이 몰릴 때
+ * 다른 요청까지 막히므로 여기로 넘기고 결과는 CompletableFuture 로 받음.
+ *
+ * <p>스레드 수는 코어 수보다 적게(기본 절반) 잡아 게임 루프·브로커에 CPU 를 남기고, 대기열도 고정 크기.
+ * 대기열이 차면 바로 RejectedExecutionException 을 던지므로 호출 쪽은 429 로 돌려보냄 (CPU 포화 전에 부하 차단).</p>
+ */
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, MeterRegistry registry,
+                          @Value("${holdup.security.hash-threads:0}") int threads,
+                          @Value("${holdup.security.hash-queue-capacity:32}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        int size = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> {
+                    Thread t = new Thread(r, "password-hasher-" + sequence.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer = Timer.builder("holdup.auth.hash")
+                .description("비밀번호 해시·검증 시간 (대기 제외)")
+                .tag("op", "encode")
+                .register(registry);
+        this.matchesTimer = Timer.builder("holdup.auth.hash")
+                .description("비밀번호 해시·검증 시간 (대기 제외)")
+                .tag("op", "matches")
+                .register(registry);
+        this.rejected = Counter.builder("holdup.auth.hash.rejected")
+                .description("해시 대기열이 가득 차 거절한 요청")
+                .register(registry);
+        Gauge.builder("holdup.auth.hash.queue", executor, e -> e.getQueue().size())
+                .description("해시 대기열 길이")
+                .register(registry);
+    }
+
+    /** @throws RejectedExecutionException 대기열이 가득 참 */
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /** @throws RejectedExecutionException 대기열이 가득 참 */
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    private <T> CompletableFuture<T> submit(Timer timer, Supplier<T> work) {
+        try {
+            return CompletableFuture.supplyAsync(() -> timer.record(work), executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    /** 지금 대기열이 다 빠질 때까지 걸릴 대략의 시간 (초, 최소 1). Retry-After 값. */
+    public long retryAfterSeconds() {
+        double meanMillis = matchesTimer.count() > 0 ? matchesTimer.mean(TimeUnit.MILLISECONDS) : 100.0;
+        double waitMillis = (executor.getQueue().size() + executor.getActiveCount()) * meanMillis / executor.getMaximumPoolSize();
+        return Math.max(1, (long) Math.ceil(waitMillis / 1000.0));
+    }
+}
@@ -0,0 +1,32 @@
+package com.holdup.server.auth;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * 폐기 항목. revocationKey 는 "token:{jti}" (토큰 하나) 또는 "user:{아이디}" (그 시각 이전 발급 토큰 전부).
+ * revokedAt·expiresAt 은 epoch 초이며, expiresAt 이 지나면 해당 토큰이 어차피 만료되므로 항목도 삭제.
+ */
+@Entity
+@Table(name = "revoked_tokens")
+public class RevokedTokenEntity {
+
+    @Id
+    @Column(nullable = false, length = 80)
+    private String revocationKey;
+
+    @Column(nullable = false)
+    private long revokedAt;
+
+    @Column(nullable = false)
+    private long expiresAt;
+
+    public String getRevocationKey() { return revocationKey; }
+    public void setRevocationKey(String revocationKey) { this.revocationKey = revocationKey; }
+    public long getRevokedAt() { return revokedAt; }
+    public void setRevokedAt(long revokedAt) { this.revokedAt = revokedAt; }
+    public long getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(long expiresAt) { this.expiresAt = expiresAt; }
+}
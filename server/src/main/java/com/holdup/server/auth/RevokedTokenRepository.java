@@ -0,0 +1,6 @@
+package com.holdup.server.auth;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedTokenEntity, String> {
+}
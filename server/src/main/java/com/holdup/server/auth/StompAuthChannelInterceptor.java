@@ -0,0 +1,90 @@
+package com.holdup.server.auth;
+
+import com.holdup.server.session.ResumeTokens;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * STOMP CONNECT 프레임의 JWT 인증.
+ *
+ * <p>CONNECT 의 Authorization: Bearer {토큰} 네이티브 헤더가 유효하면 연결 Principal 을 계정 아이디로 바꿈
+ * (이후 /app 메시지·/user 구독·세션 이벤트 모두 같은 이름). 토큰이 없으면 핸드셰이크에서 받은 연결별 ID 로
+ * 손님 접속, holdup.security.stomp-auth-required 면 거부. 토큰이 틀리거나 만료되면 거부 (ERROR 프레임).
+ * 로그인 계정의 재접속 토큰으로 연결했으면 토큰 없는 CONNECT 도 거부 (재접속 토큰만으로 계정 행세를 못 하게).</p>
+ *
+ * <p>검증은 JwtTokenService.authenticate 의 캐시를 거치므로 재접속이 몰려도 같은 토큰의 HMAC·페이로드 파싱은 한 번.</p>
+ */
+@Component
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    public static final String AUTHORIZATION_HEADER = "Authorization";
+
+    private static final String BEARER = "Bearer ";
+
+    private final JwtTokenService jwtTokenService;
+    private final boolean authRequired;
+    private final Counter authenticated;
+    private final Counter anonymous;
+    private final Counter rejected;
+
+    public StompAuthChannelInterceptor(JwtTokenService jwtTokenService, MeterRegistry registry,
+                                       @Value("${holdup.security.stomp-auth-required:false}") boolean authRequired) {
+        this.jwtTokenService = jwtTokenService;
+        this.authRequired = authRequired;
+        this.authenticated = connectCounter(registry, "authenticated");
+        this.anonymous = connectCounter(registry, "anonymous");
+        this.rejected = connectCounter(registry, "rejected");
+    }
+
+    private static Counter connectCounter(MeterRegistry registry, String result) {
+        return Counter.builder("holdup.auth.stomp.connect")
+                .description("STOMP CONNECT 인증 결과")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.CONNECT) return message;
+
+        String header = accessor.getFirstNativeHeader(AUTHORIZATION_HEADER);
+        if (header == null || !header.startsWith(BEARER)) {
+            Map<String, Object> attributes = accessor.getSessionAttributes();
+            if (authRequired || attributes != null && attributes.containsKey(ResumeTokens.ACCOUNT_RESUME_ATTRIBUTE)) {
+                rejected.increment();
+                throw new MessageDeliveryException(message, "Authentication required");
+            }
+            anonymous.increment();
+            return message;
+        }
+        JwtTokenService.TokenPrincipal principal = jwtTokenService
+                .authenticate(header.substring(BEARER.length()).trim())
+                .orElse(null);
+        if (principal == null) {
+            rejected.increment();
+            throw new MessageDeliveryException(message, "Invalid or expired token");
+        }
+        accessor.setUser(new UsernamePasswordAuthenticationToken(
+                principal,
+                null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"))
+        ));
+        authenticated.increment();
+        return message;
+    }
+}
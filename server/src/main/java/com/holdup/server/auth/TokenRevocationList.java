@@ -0,0 +1,150 @@
+package com.holdup.server.auth;
+
+import com.holdup.server.session.ResumeTokens;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JWT 폐기 목록. 토큰 하나(로그아웃)나 계정 단위(비밀번호 재설정·정지: 그 시각 이전 발급 토큰 전부)로 폐기.
+ *
+ * <ul>
+ *   <li>검증마다 Bloom 필터부터 확인. 대부분의 토큰은 여기서 "없음"으로 끝나 해시 몇 번이면 됨</li>
+ *   <li>필터가 "있을 수 있음"이라고 할 때만 메모리의 정확한 맵으로 확인 (오탐 제거)</li>
+ *   <li>항목은 해당 토큰이 어차피 만료되는 시각(expiresAt)까지만 유지. purge 주기마다 지우고 필터를 새로 만들어 교체</li>
+ *   <li>폐기 시에만 DB(revoked_tokens)에 쓰고 시작 시 한 번 읽어 옴. 요청 경로에는 DB 조회 없음</li>
+ * </ul>
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final String TOKEN_PREFIX = "token:";
+    private static final String USER_PREFIX = "user:";
+
+    private record Entry(long revokedAt, long expiresAt) {
+    }
+
+    private final RevokedTokenRepository repository;
+    private final ResumeTokens resumeTokens;
+    private final long expSeconds;
+    private final int expectedEntries;
+    private final double falsePositiveRate;
+    private final Counter bloomNegative;
+    private final Counter confirmedClear;
+    private final Counter revokedHit;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+
+    public TokenRevocationList(RevokedTokenRepository repository, ResumeTokens resumeTokens, MeterRegistry registry,
+                               @Value("${holdup.security.jwt-exp-seconds:43200}") long expSeconds,
+                               @Value("${holdup.security.revocation.expected-entries:100000}") int expectedEntries,
+                               @Value("${holdup.security.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.repository = repository;
+        this.resumeTokens = resumeTokens;
+        this.expSeconds = expSeconds;
+        this.expectedEntries = Math.max(1, expectedEntries);
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomNegative = checkCounter(registry, "bloom_negative");
+        this.confirmedClear = checkCounter(registry, "confirmed_clear");
+        this.revokedHit = checkCounter(registry, "revoked");
+        Gauge.builder("holdup.auth.revocation.entries", entries, Map::size)
+                .description("만료 전 폐기 항목 수")
+                .register(registry);
+
+        long now = Instant.now().getEpochSecond();
+        for (RevokedTokenEntity e : repository.findAll()) {
+            if (e.getExpiresAt() >= now) entries.put(e.getRevocationKey(), new Entry(e.getRevokedAt(), e.getExpiresAt()));
+        }
+        this.filter = rebuild();
+    }
+
+    private static Counter checkCounter(MeterRegistry registry, String result) {
+        return Counter.builder("holdup.auth.revocation.check")
+                .description("토큰 폐기 여부 확인 결과")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * @param tokenId  토큰 jti (없으면 null, 계정 단위 폐기만 확인)
+     * @param issuedAt 발급 시각 (epoch 초)
+     */
+    public boolean isRevoked(String tokenId, String username, long issuedAt) {
+        BloomFilter f = filter;
+        String tokenKey = tokenId != null ? TOKEN_PREFIX + tokenId : null;
+        String userKey = USER_PREFIX + username;
+        boolean maybeToken = tokenKey != null && f.mightContain(tokenKey);
+        boolean maybeUser = f.mightContain(userKey);
+        if (!maybeToken && !maybeUser) {
+            bloomNegative.increment();
+            return false;
+        }
+        if (maybeToken && entries.containsKey(tokenKey)) {
+            revokedHit.increment();
+            return true;
+        }
+        Entry user = maybeUser ? entries.get(userKey) : null;
+        // 폐기 시각과 같은 초에 발급된 토큰은 재설정 직후 새로 로그인한 것으로 보고 통과
+        if (user != null && issuedAt < user.revokedAt()) {
+            revokedHit.increment();
+            return true;
+        }
+        // 필터 오탐이거나 폐기 시각 이후 발급된 토큰
+        confirmedClear.increment();
+        return false;
+    }
+
+    /** 토큰 하나 폐기 (로그아웃). expiresAt 은 토큰의 exp. */
+    public void revokeToken(String tokenId, long expiresAt) {
+        if (tokenId == null) return;
+        add(TOKEN_PREFIX + tokenId, Instant.now().getEpochSecond(), expiresAt);
+    }
+
+    /** 지금까지 이 계정으로 발급된 토큰 전부 폐기 (비밀번호 재설정·정지). 재접속 토큰도 함께. */
+    public void revokeUser(String username) {
+        long now = Instant.now().getEpochSecond();
+        add(USER_PREFIX + username, now, now + expSeconds);
+        resumeTokens.revoke(username);
+    }
+
+    private synchronized void add(String key, long revokedAt, long expiresAt) {
+        RevokedTokenEntity entity = new RevokedTokenEntity();
+        entity.setRevocationKey(key);
+        entity.setRevokedAt(revokedAt);
+        entity.setExpiresAt(expiresAt);
+        repository.save(entity);
+        // 맵을 먼저 채운 뒤 필터에 넣어야 필터가 "있음"이라고 할 때 맵에도 있음
+        entries.put(key, new Entry(revokedAt, expiresAt));
+        filter.put(key);
+    }
+
+    /** 만료된 항목을 지우고 필터를 남은 항목으로 새로 만듦 (Bloom 필터는 삭제가 안 되므로). */
+    @Scheduled(fixedDelayString = "${holdup.security.revocation.purge-interval-ms:60000}")
+    public synchronized void purgeExpired() {
+        long now = Instant.now().getEpochSecond();
+        List<String> expired = new ArrayList<>();
+        entries.forEach((key, entry) -> {
+            if (entry.expiresAt() < now) expired.add(key);
+        });
+        if (expired.isEmpty()) return;
+        repository.deleteAllById(expired);
+        expired.forEach(entries::remove);
+        filter = rebuild();
+    }
+
+    private BloomFilter rebuild() {
+        BloomFilter f = new BloomFilter(Math.max(expectedEntries, entries.size() * 2), falsePositiveRate);
+        entries.keySet().forEach(f::put);
+        return f;
+    }
+}
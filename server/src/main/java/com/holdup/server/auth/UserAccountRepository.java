@@ -1,9 +1,24 @@
 package com.holdup.server.auth;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface UserAccountRepository extends JpaRepository<UserAccountEntity, String> {
     Optional<UserAccountEntity> findByEmail(String email);
+
+    /**
+     * 새 계정만 추가. save 는 아이디(@Id)가 같은 계정이 있으면 덮어쓰므로 가입에는 이것을 씀.
+     *
+     * @throws org.springframework.dao.DataIntegrityViolationException 아이디 또는 이메일 중복
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO users (username, password_hash, display_name, email)"
+            + " VALUES (:#{#e.username}, :#{#e.passwordHash}, :#{#e.displayName}, :#{#e.email})", nativeQuery = true)
+    void insert(@Param("e") UserAccountEntity entity);
 }
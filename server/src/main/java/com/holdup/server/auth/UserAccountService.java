@@ -1,72 +1,100 @@
 package com.holdup.server.auth;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.holdup.server.bot.BotPlayers;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class UserAccountService {
 
     private final UserAccountRepository repository;
-    private final PasswordEncoder passwordEncoder;
+    private final AccountCache accounts;
+    private final PasswordHasher passwordHasher;
+    private final TokenRevocationList revocations;
 
-    public UserAccountService(UserAccountRepository repository, PasswordEncoder passwordEncoder) {
+    public UserAccountService(UserAccountRepository repository, AccountCache accounts, PasswordHasher passwordHasher,
+                              TokenRevocationList revocations) {
         this.repository = repository;
-        this.passwordEncoder = passwordEncoder;
+        this.accounts = accounts;
+        this.passwordHasher = passwordHasher;
+        this.revocations = revocations;
     }
 
     public Optional<UserAccount> findByUsername(String username) {
-        if (username == null) return Optional.empty();
-        return repository.findById(username).map(this::toDomain);
+        return accounts.findByUsername(username);
     }
 
-    public UserAccount register(String username, String rawPassword, String displayName, String email) {
-        if (repository.existsById(username)) {
+    /**
+     * 중복 확인은 호출 스레드에서, 해시와 저장은 PasswordHasher 스레드에서.
+     *
+     * @throws IllegalArgumentException 아이디·이메일 중복 (해시 중에 먼저 가입된 경우는 future 가 이 예외로 실패.
+     *                                  확인과 저장 사이에 동시에 가입된 경우는 DataIntegrityViolationException 으로 실패)
+     * @throws java.util.concurrent.RejectedExecutionException 해시 대기열이 가득 참
+     */
+    public CompletableFuture<UserAccount> register(String username, String rawPassword, String displayName, String email) {
+        // 계정 아이디가 곧 STOMP 플레이어 ID 이므로 봇 ID 와 겹치지 않게 함
+        if (BotPlayers.isBot(username)) {
+            throw new IllegalArgumentException("사용할 수 없는 아이디입니다.");
+        }
+        if (accounts.findByUsername(username).isPresent()) {
             throw new IllegalArgumentException("이미 존재하는 아이디입니다.");
         }
-        if (repository.findByEmail(email).isPresent()) {
+        if (accounts.findByEmail(email).isPresent()) {
             throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
         }
 
-        UserAccountEntity entity = new UserAccountEntity();
-        entity.setUsername(username);
-        entity.setDisplayName(displayName);
-        entity.setEmail(email);
-        entity.setPasswordHash(passwordEncoder.encode(rawPassword));
-
-        return toDomain(repository.save(entity));
+        return passwordHasher.encode(rawPassword).thenApply(hash -> {
+            // 해시하는 동안 같은 아이디로 먼저 가입했으면 바로 실패 (저장은 모두 캐시를 거치므로 캐시로 확인).
+            // 확인과 저장 사이의 경합은 INSERT 의 키 중복으로 막음 (save 는 같은 아이디를 덮어씀)
+            if (accounts.findByUsername(username).isPresent()) {
+                throw new IllegalArgumentException("이미 존재하는 아이디입니다.");
+            }
+            UserAccountEntity entity = new UserAccountEntity();
+            entity.setUsername(username);
+            entity.setDisplayName(displayName);
+            entity.setEmail(email);
+            entity.setPasswordHash(hash);
+            return accounts.insert(entity);
+        });
     }
 
-    public Optional<UserAccount> authenticate(String username, String rawPassword) {
-        Optional<UserAccountEntity> found = repository.findById(username);
-        if (found.isEmpty()) return Optional.empty();
-        UserAccountEntity user = found.get();
-        if (!passwordEncoder.matches(rawPassword, user.getPasswordHash())) return Optional.empty();
-        return Optional.of(toDomain(user));
+    /** @throws java.util.concurrent.RejectedExecutionException 해시 대기열이 가득 참 */
+    public CompletableFuture<Optional<UserAccount>> authenticate(String username, String rawPassword) {
+        Optional<UserAccount> found = accounts.findByUsername(username);
+        if (found.isEmpty()) return CompletableFuture.completedFuture(Optional.empty());
+        UserAccount user = found.get();
+        return passwordHasher.matches(rawPassword, user.passwordHash())
+                .thenApply(ok -> ok ? Optional.of(user) : Optional.empty());
     }
 
     /** 이메일 사용 여부 (중복 여부). null/blank면 false */
     public boolean isEmailTaken(String email) {
         if (email == null || email.isBlank()) return false;
-        return repository.findByEmail(email.trim().toLowerCase()).isPresent();
+        return accounts.findByEmail(email).isPresent();
     }
 
     public Optional<String> findIdByEmail(String email) {
-        return repository.findByEmail(email).map(UserAccountEntity::getUsername);
+        return accounts.findByEmail(email).map(UserAccount::username);
     }
 
-    public boolean resetPassword(String username, String email, String newPassword) {
-        Optional<UserAccountEntity> found = repository.findById(username);
-        if (found.isEmpty()) return false;
-        UserAccountEntity user = found.get();
-        if (!user.getEmail().equalsIgnoreCase(email)) return false;
-        user.setPasswordHash(passwordEncoder.encode(newPassword));
-        repository.save(user);
-        return true;
-    }
-
-    private UserAccount toDomain(UserAccountEntity e) {
-        return new UserAccount(e.getUsername(), e.getPasswordHash(), e.getDisplayName(), e.getEmail());
+    /** @throws java.util.concurrent.RejectedExecutionException 해시 대기열이 가득 참 */
+    public CompletableFuture<Boolean> resetPassword(String username, String email, String newPassword) {
+        Optional<UserAccount> found = accounts.findByUsername(username);
+        if (found.isEmpty() || !found.get().email().equalsIgnoreCase(email)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return passwordHasher.encode(newPassword).thenApply(hash -> {
+            // 쓰기는 드물어서 엔티티는 DB 에서 다시 읽음
+            Optional<UserAccountEntity> entity = repository.findById(username);
+            if (entity.isEmpty()) return false;
+            UserAccountEntity user = entity.get();
+            user.setPasswordHash(hash);
+            accounts.save(user);
+            // 재설정 전에 발급된 토큰은 더 이상 쓸 수 없게
+            revocations.revokeUser(username);
+            return true;
+        });
     }
 }
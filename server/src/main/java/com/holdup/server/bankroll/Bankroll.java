@@ -0,0 +1,204 @@
+package com.holdup.server.bankroll;
+
+import com.holdup.server.auth.AccountCache;
+import com.holdup.server.bot.BotPlayers;
+import com.holdup.server.player.Player;
+import com.holdup.server.service.HandCompletedEvent;
+import com.holdup.server.service.PlayerBustedEvent;
+import com.holdup.server.table.Seat;
+import com.holdup.server.table.Table;
+import com.holdup.server.table.TableFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 계정별 칩 잔액 (테이블 밖). 일반 테이블 입장 시 잔액에서 스택을 가져가고, 떠나거나 파산하면 남은 스택을 돌려줌.
+ *
+ * <ul>
+ *   <li>대상은 로그인한 계정 (플레이어 ID = 계정 아이디). 손님·봇은 예전처럼 기본 스택으로 앉고 원장에 남지 않음</li>
+ *   <li>잔액은 메모리가 기준이고, 모든 변화는 LedgerEntry 로 LedgerWriter 큐에 넣기만 함. 핸드 처리 중 DB 대기 없음</li>
+ *   <li>입장 한 번(세션)마다 마지막으로 기록한 스택을 들고 있다가 핸드가 끝날 때 차이만 HAND_RESULT 로 남김</li>
+ *   <li>계정을 처음 볼 때만 DB 에서 잔액을 읽고 (없으면 initial-balance 지급), 이후로는 메모리에서만 갱신</li>
+ *   <li>시작 시 CASH_OUT 없이 끝난 세션(서버 중단)은 입장 금액 + 핸드 결과만큼 잔액으로 돌려줌</li>
+ * </ul>
+ */
+@Component
+public class Bankroll {
+
+    private static final class Account {
+        BigDecimal balance;
+
+        Account(BigDecimal balance) {
+            this.balance = balance;
+        }
+    }
+
+    private static final class Session {
+        final String id;
+        final String username;
+        final String tableId;
+        /** 원장에 반영된 스택. */
+        BigDecimal recordedStack;
+        int seq;
+
+        Session(String id, String username, String tableId, BigDecimal recordedStack, int seq) {
+            this.id = id;
+            this.username = username;
+            this.tableId = tableId;
+            this.recordedStack = recordedStack;
+            this.seq = seq;
+        }
+
+        String nextKey() {
+            return id + ":" + seq++;
+        }
+    }
+
+    private record SeatKey(String tableId, String playerId) {
+    }
+
+    private final LedgerWriter writer;
+    private final AccountCache accounts;
+    private final boolean enabled;
+    private final BigDecimal initialBalance;
+
+    private final Map<String, Account> balances = new ConcurrentHashMap<>();
+    private final Map<SeatKey, Session> sessions = new ConcurrentHashMap<>();
+
+    public Bankroll(LedgerWriter writer, AccountCache accounts,
+                    @Value("${holdup.bankroll.enabled:true}") boolean enabled,
+                    @Value("${holdup.bankroll.initial-balance:10000}") long initialBalance) {
+        this.writer = writer;
+        this.accounts = accounts;
+        this.enabled = enabled;
+        this.initialBalance = BigDecimal.valueOf(Math.max(0, initialBalance));
+        if (enabled) recoverOpenSessions();
+    }
+
+    private void recoverOpenSessions() {
+        for (LedgerWriter.OpenSession open : writer.openSessions()) {
+            Account account = account(open.username());
+            synchronized (account) {
+                BigDecimal stack = open.stack().max(BigDecimal.ZERO);
+                account.balance = account.balance.add(stack);
+                writer.enqueue(new LedgerEntry(open.sessionId() + ":" + open.entries(), open.sessionId(), open.username(),
+                        LedgerEntryType.CASH_OUT, stack, account.balance, open.tableId(), System.currentTimeMillis()));
+            }
+        }
+    }
+
+    /** 원장 대상인지: 봇·손님(계정 없는 연결 ID)은 제외. */
+    public boolean tracks(String playerId) {
+        return enabled && playerId != null && !BotPlayers.isBot(playerId)
+                && accounts.findByUsername(playerId).isPresent();
+    }
+
+    /**
+     * 일반 테이블 입장. 계정이면 잔액에서 min(requested, 잔액) 을 가져가 세션을 열고, 아니면 requested 그대로.
+     *
+     * @return 앉을 때의 스택. 계정 잔액이 0 이면 0 (입장 거절)
+     */
+    public BigDecimal buyIn(String playerId, String tableId, BigDecimal requested) {
+        if (!tracks(playerId)) return requested;
+        Account account = account(playerId);
+        synchronized (account) {
+            BigDecimal amount = requested.min(account.balance);
+            if (amount.signum() <= 0) return BigDecimal.ZERO;
+            account.balance = account.balance.subtract(amount);
+            Session session = new Session(UUID.randomUUID().toString(), playerId, tableId, amount, 0);
+            sessions.put(new SeatKey(tableId, playerId), session);
+            writer.enqueue(entry(session, LedgerEntryType.BUY_IN, amount.negate(), account.balance));
+            return amount;
+        }
+    }
+
+    /** 자리를 떠날 때 남은 스택을 잔액으로. 세션이 없으면 (손님·봇·다른 모드) 아무것도 안 함. */
+    public void cashOut(String playerId, String tableId, BigDecimal stack) {
+        Session session = sessions.remove(new SeatKey(tableId, playerId));
+        if (session == null) return;
+        Account account = account(session.username);
+        synchronized (account) {
+            BigDecimal remaining = stack.max(BigDecimal.ZERO);
+            // 핸드 도중에 떠나면 이미 팟에 낸 칩만큼 차이가 남음
+            recordDelta(session, remaining, account.balance);
+            account.balance = account.balance.add(remaining);
+            writer.enqueue(entry(session, LedgerEntryType.CASH_OUT, remaining, account.balance));
+        }
+    }
+
+    /** 핸드가 끝날 때마다 세션별 스택 변화를 기록 (파산 플레이어 제거 전에 발행되므로 파산도 포함). */
+    @EventListener
+    public void onHandCompleted(HandCompletedEvent event) {
+        Table table = event.table();
+        if (table.getFormat() != TableFormat.CASH || sessions.isEmpty()) return;
+        for (Seat seat : table.getSeats()) {
+            Player player = seat.getPlayer();
+            if (player == null) continue;
+            Session session = sessions.get(new SeatKey(table.getId(), player.getId()));
+            if (session == null) continue;
+            Account account = account(session.username);
+            synchronized (account) {
+                recordDelta(session, player.getStack(), account.balance);
+            }
+        }
+    }
+
+    @EventListener
+    public void onPlayerBusted(PlayerBustedEvent event) {
+        cashOut(event.player().getId(), event.table().getId(), event.player().getStack());
+    }
+
+    /** 테이블 밖 잔액. 처음 보는 계정이면 시작 잔액을 지급한 뒤 값. */
+    public BigDecimal balance(String username) {
+        Account account = account(username);
+        synchronized (account) {
+            return account.balance;
+        }
+    }
+
+    /** 지금 칩을 가지고 앉아 있는 테이블. */
+    public List<String> openTables(String username) {
+        return sessions.values().stream()
+                .filter(s -> s.username.equals(username))
+                .map(s -> s.tableId)
+                .sorted()
+                .toList();
+    }
+
+    private void recordDelta(Session session, BigDecimal stack, BigDecimal balance) {
+        BigDecimal delta = stack.subtract(session.recordedStack);
+        if (delta.signum() == 0) return;
+        session.recordedStack = stack;
+        writer.enqueue(entry(session, LedgerEntryType.HAND_RESULT, delta, balance));
+    }
+
+    private LedgerEntry entry(Session session, LedgerEntryType type, BigDecimal amount, BigDecimal balanceAfter) {
+        return new LedgerEntry(session.nextKey(), session.id, session.username, type, amount, balanceAfter,
+                session.tableId, System.currentTimeMillis());
+    }
+
+    /** 메모리에 없으면 DB 에서 한 번 읽음. 동시에 읽어도 먼저 넣은 쪽만 쓰고, 시작 잔액 지급도 그쪽만 기록. */
+    private Account account(String username) {
+        Account account = balances.get(username);
+        if (account != null) return account;
+        BigDecimal stored = writer.loadBalance(username).orElse(null);
+        Account loaded = new Account(stored != null ? stored : initialBalance);
+        // 맵에 보이는 순간 다른 스레드가 입장할 수 있으므로 지급 기록을 넣을 때까지 잠가 둠 (원장 순서 유지)
+        synchronized (loaded) {
+            Account existing = balances.putIfAbsent(username, loaded);
+            if (existing != null) return existing;
+            if (stored == null) {
+                writer.enqueue(new LedgerEntry("grant:" + username, null, username, LedgerEntryType.GRANT,
+                        initialBalance, loaded.balance, null, System.currentTimeMillis()));
+            }
+        }
+        return loaded;
+    }
+}
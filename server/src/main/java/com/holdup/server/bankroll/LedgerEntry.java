@@ -0,0 +1,22 @@
+package com.holdup.server.bankroll;
+
+import java.math.BigDecimal;
+
+/**
+ * 원장 한 줄 (추가만 하고 고치지 않음).
+ *
+ * @param idempotencyKey 항목마다 고정된 키. 쓰기를 재시도해도 같은 키는 한 번만 남음
+ * @param sessionId      입장 한 번(BUY_IN ~ CASH_OUT)의 ID. GRANT 는 null
+ * @param amount         계정 기준 부호 있는 금액 (LedgerEntryType 참고)
+ * @param balanceAfter   이 항목 이후 테이블 밖 잔액
+ * @param createdAt      epoch 밀리초
+ */
+public record LedgerEntry(String idempotencyKey,
+                          String sessionId,
+                          String username,
+                          LedgerEntryType type,
+                          BigDecimal amount,
+                          BigDecimal balanceAfter,
+                          String tableId,
+                          long createdAt) {
+}
@@ -0,0 +1,15 @@
+package com.holdup.server.bankroll;
+
+/**
+ * 원장 항목 종류. amount 는 계정(테이블 밖 잔액) 기준 부호: 빠져나가면 음수.
+ */
+public enum LedgerEntryType {
+    /** 계정 첫 사용 시 지급하는 시작 잔액 (+). */
+    GRANT,
+    /** 테이블 입장 시 잔액에서 스택으로 (-). */
+    BUY_IN,
+    /** 핸드 한 번의 스택 변화 (±). 칩이 테이블 위에 있는 동안이라 잔액은 그대로이고, 서버가 죽었을 때 스택 복구에 씀. */
+    HAND_RESULT,
+    /** 테이블을 떠나며 남은 스택을 잔액으로 (+, 파산이면 0). */
+    CASH_OUT,
+}
@@ -0,0 +1,273 @@
+package com.holdup.server.bankroll;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 원장 write-behind. 게임 스레드는 enqueue 만 하고 (큐에 넣기 한 번), 백그라운드 스레드가 flush-interval-ms 마다
+ * 모인 항목을 트랜잭션 하나로 씀.
+ *
+ * <ul>
+ *   <li>원장은 JDBC 배치 MERGE (키 = idempotency_key) 라 같은 항목을 다시 써도 한 줄</li>
+ *   <li>같은 트랜잭션에서 계정별 마지막 balance_after 로 bankroll_balances 갱신 (원장과 잔액이 함께 커밋)</li>
+ *   <li>실패하면 그 묶음을 그대로 들고 있다가 다음 주기에 재시도 (키가 같으므로 중복 없음)</li>
+ *   <li>데이터 오류로 실패하거나 max-flush-attempts 번 연속 실패하면 묶음을 반씩 나눠 다시 씀.
+ *       혼자서도 실패하는 항목은 bankroll_ledger_dead_letter 로 옮겨 나머지 원장 쓰기를 막지 않음
+ *       (그 쓰기도 실패하면 DB 장애로 보고 남겨 둠)</li>
+ *   <li>큐는 max-pending-entries 까지. DB 장애가 길어 차면 새 항목은 버리고 holdup.bankroll.dropped 로 셈
+ *       (잔액은 메모리가 기준이고, 그 계정의 다음 항목이 써질 때 bankroll_balances 도 따라잡음)</li>
+ *   <li>종료 시 남은 항목을 모두 씀</li>
+ * </ul>
+ */
+@Component
+public class LedgerWriter {
+
+    private static final String INSERT_ENTRY = "MERGE INTO bankroll_ledger"
+            + " (idempotency_key, session_id, username, entry_type, amount, balance_after, table_id, created_at)"
+            + " KEY (idempotency_key) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPSERT_BALANCE = "MERGE INTO bankroll_balances (username, balance, updated_at)"
+            + " KEY (username) VALUES (?, ?, ?)";
+    private static final String INSERT_DEAD_LETTER = "INSERT INTO bankroll_ledger_dead_letter"
+            + " (idempotency_key, session_id, username, entry_type, amount, balance_after, table_id, created_at, error, failed_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    /** dead letter 문자열 컬럼 길이. 원장 컬럼에 안 들어가던 값도 잘라서 남김. */
+    private static final int DEAD_LETTER_TEXT = 1000;
+
+    /** 아직 CASH_OUT 이 없는 입장 (서버가 그 사이에 내려감). stack = 입장 금액 + 핸드 결과 합. */
+    record OpenSession(String sessionId, String username, String tableId, BigDecimal stack, int entries) {
+    }
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final long flushIntervalMillis;
+    private final int batchSize;
+    private final int maxFlushAttempts;
+    private final Timer flushTimer;
+    private final Counter written;
+    private final Counter failures;
+    private final Counter deadLettered;
+    private final Counter dropped;
+
+    private final BlockingQueue<LedgerEntry> queue;
+    /** 쓰기에 실패해 다시 쓸 묶음과 연속 실패 횟수. flush 안에서만 접근. */
+    private List<LedgerEntry> retry = List.of();
+    private int retryAttempts;
+
+    public LedgerWriter(JdbcTemplate jdbc, TransactionTemplate tx, MeterRegistry registry,
+                        @Value("${holdup.bankroll.flush-interval-ms:200}") long flushIntervalMillis,
+                        @Value("${holdup.bankroll.batch-size:500}") int batchSize,
+                        @Value("${holdup.bankroll.max-pending-entries:100000}") int maxPendingEntries,
+                        @Value("${holdup.bankroll.max-flush-attempts:5}") int maxFlushAttempts) {
+        this.jdbc = jdbc;
+        this.tx = tx;
+        this.flushIntervalMillis = Math.max(10, flushIntervalMillis);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxFlushAttempts = Math.max(1, maxFlushAttempts);
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, maxPendingEntries));
+        this.flushTimer = Timer.builder("holdup.bankroll.flush")
+                .description("원장 묶음 쓰기 시간 (트랜잭션 하나)")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.written = Counter.builder("holdup.bankroll.entries")
+                .description("DB 에 쓴 원장 항목 수")
+                .register(registry);
+        this.failures = Counter.builder("holdup.bankroll.flush.failures")
+                .description("원장 쓰기 실패 (다음 주기에 재시도)")
+                .register(registry);
+        this.deadLettered = Counter.builder("holdup.bankroll.dead_letter")
+                .description("혼자서도 쓸 수 없어 bankroll_ledger_dead_letter 로 옮긴 원장 항목 수")
+                .register(registry);
+        this.dropped = Counter.builder("holdup.bankroll.dropped")
+                .description("큐가 가득 차 버린 원장 항목 수")
+                .register(registry);
+        Gauge.builder("holdup.bankroll.pending", queue, BlockingQueue::size)
+                .description("아직 쓰지 않은 원장 항목 수")
+                .register(registry);
+
+        createSchema();
+        Thread writer = new Thread(this::run, "bankroll-ledger-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    private void createSchema() {
+        jdbc.execute("CREATE TABLE IF NOT EXISTS bankroll_ledger ("
+                + "idempotency_key VARCHAR(120) PRIMARY KEY, "
+                + "session_id VARCHAR(40), "
+                + "username VARCHAR(50) NOT NULL, "
+                + "entry_type VARCHAR(16) NOT NULL, "
+                + "amount DECIMAL(19, 2) NOT NULL, "
+                + "balance_after DECIMAL(19, 2) NOT NULL, "
+                + "table_id VARCHAR(100), "
+                + "created_at BIGINT NOT NULL)");
+        jdbc.execute("CREATE INDEX IF NOT EXISTS bankroll_ledger_user ON bankroll_ledger (username, created_at)");
+        jdbc.execute("CREATE INDEX IF NOT EXISTS bankroll_ledger_session ON bankroll_ledger (session_id)");
+        jdbc.execute("CREATE TABLE IF NOT EXISTS bankroll_balances ("
+                + "username VARCHAR(50) PRIMARY KEY, "
+                + "balance DECIMAL(19, 2) NOT NULL, "
+                + "updated_at BIGINT NOT NULL)");
+        jdbc.execute("CREATE TABLE IF NOT EXISTS bankroll_ledger_dead_letter ("
+                + "idempotency_key VARCHAR(" + DEAD_LETTER_TEXT + "), "
+                + "session_id VARCHAR(" + DEAD_LETTER_TEXT + "), "
+                + "username VARCHAR(" + DEAD_LETTER_TEXT + "), "
+                + "entry_type VARCHAR(16), "
+                + "amount VARCHAR(64), "
+                + "balance_after VARCHAR(64), "
+                + "table_id VARCHAR(" + DEAD_LETTER_TEXT + "), "
+                + "created_at BIGINT, "
+                + "error VARCHAR(" + DEAD_LETTER_TEXT + "), "
+                + "failed_at BIGINT NOT NULL)");
+    }
+
+    /** 게임 스레드에서 호출. DB 를 기다리지 않음. 큐가 가득 차면 버림. */
+    public void enqueue(LedgerEntry entry) {
+        if (!queue.offer(entry)) dropped.increment();
+    }
+
+    /** 마지막으로 커밋된 잔액. 처음 보는 계정이면 empty. */
+    Optional<BigDecimal> loadBalance(String username) {
+        List<BigDecimal> rows = jdbc.queryForList(
+                "SELECT balance FROM bankroll_balances WHERE username = ?", BigDecimal.class, username);
+        // DECIMAL(19, 2) 로 읽힌 10000.00 을 메모리 값과 같은 모양(10000)으로
+        return rows.isEmpty() ? Optional.empty()
+                : Optional.of(new BigDecimal(rows.get(0).stripTrailingZeros().toPlainString()));
+    }
+
+    List<OpenSession> openSessions() {
+        return jdbc.query("SELECT session_id, username, MAX(table_id) AS table_id,"
+                        + " SUM(CASE WHEN entry_type = 'BUY_IN' THEN -amount ELSE amount END) AS stack,"
+                        + " COUNT(*) AS entries"
+                        + " FROM bankroll_ledger WHERE session_id IS NOT NULL"
+                        + " GROUP BY session_id, username"
+                        + " HAVING SUM(CASE WHEN entry_type = 'CASH_OUT' THEN 1 ELSE 0 END) = 0",
+                (rs, i) -> new OpenSession(rs.getString("session_id"), rs.getString("username"),
+                        rs.getString("table_id"), rs.getBigDecimal("stack"), rs.getInt("entries")));
+    }
+
+    private void run() {
+        while (true) {
+            try {
+                Thread.sleep(flushIntervalMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+            flush();
+        }
+    }
+
+    /** 큐가 빌 때까지 batch-size 씩 씀. 실패하면 그 묶음을 남기고 중단. */
+    synchronized void flush() {
+        while (true) {
+            List<LedgerEntry> batch = new ArrayList<>(retry);
+            if (batch.size() < batchSize) queue.drainTo(batch, batchSize - batch.size());
+            if (batch.isEmpty()) return;
+            try {
+                flushTimer.record(() -> write(batch));
+                written.increment(batch.size());
+                retry = List.of();
+                retryAttempts = 0;
+            } catch (RuntimeException e) {
+                failures.increment();
+                // 연결 장애 등은 묶음째 다시 시도. 데이터 오류이거나 계속 실패하면 나눠서 문제 항목만 뺌
+                if (!(e instanceof DataIntegrityViolationException) && ++retryAttempts < maxFlushAttempts) {
+                    retry = batch;
+                    return;
+                }
+                retryAttempts = 0;
+                retry = writeSplit(batch);
+                if (!retry.isEmpty()) return;
+            }
+        }
+    }
+
+    /**
+     * 반씩 나눠 순서대로 씀 (계정별 마지막 잔액이 뒤에 써지도록). 혼자서도 실패하는 항목은 dead letter 로.
+     *
+     * @return 쓰지 못한 항목 (dead letter 쓰기도 실패하면 DB 장애로 보고 거기서부터 전부)
+     */
+    private List<LedgerEntry> writeSplit(List<LedgerEntry> batch) {
+        try {
+            write(batch);
+            written.increment(batch.size());
+            return List.of();
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                return deadLetter(batch.get(0), e) ? List.of() : batch;
+            }
+            int mid = batch.size() / 2;
+            List<LedgerEntry> left = writeSplit(batch.subList(0, mid));
+            if (!left.isEmpty()) {
+                List<LedgerEntry> rest = new ArrayList<>(left);
+                rest.addAll(batch.subList(mid, batch.size()));
+                return rest;
+            }
+            return writeSplit(batch.subList(mid, batch.size()));
+        }
+    }
+
+    private boolean deadLetter(LedgerEntry e, RuntimeException cause) {
+        try {
+            jdbc.update(INSERT_DEAD_LETTER,
+                    clip(e.idempotencyKey()), clip(e.sessionId()), clip(e.username()),
+                    e.type() != null ? e.type().name() : null,
+                    e.amount() != null ? e.amount().toPlainString() : null,
+                    e.balanceAfter() != null ? e.balanceAfter().toPlainString() : null,
+                    clip(e.tableId()), e.createdAt(), clip(String.valueOf(cause.getMessage())),
+                    System.currentTimeMillis());
+            deadLettered.increment();
+            return true;
+        } catch (RuntimeException deadLetterFailure) {
+            return false;
+        }
+    }
+
+    private static String clip(String value) {
+        return value == null || value.length() <= DEAD_LETTER_TEXT ? value : value.substring(0, DEAD_LETTER_TEXT);
+    }
+
+    private void write(List<LedgerEntry> batch) {
+        Map<String, LedgerEntry> latest = new LinkedHashMap<>();
+        for (LedgerEntry e : batch) latest.put(e.username(), e);
+        List<LedgerEntry> balances = new ArrayList<>(latest.values());
+        tx.executeWithoutResult(status -> {
+            jdbc.batchUpdate(INSERT_ENTRY, batch, batch.size(), (ps, e) -> {
+                ps.setString(1, e.idempotencyKey());
+                ps.setString(2, e.sessionId());
+                ps.setString(3, e.username());
+                ps.setString(4, e.type().name());
+                ps.setBigDecimal(5, e.amount());
+                ps.setBigDecimal(6, e.balanceAfter());
+                ps.setString(7, e.tableId());
+                ps.setLong(8, e.createdAt());
+            });
+            jdbc.batchUpdate(UPSERT_BALANCE, balances, balances.size(), (ps, e) -> {
+                ps.setString(1, e.username());
+                ps.setBigDecimal(2, e.balanceAfter());
+                ps.setLong(3, e.createdAt());
+            });
+        });
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void flushOnShutdown() {
+        flush();
+    }
+}
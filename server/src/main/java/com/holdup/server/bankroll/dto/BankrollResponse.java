@@ -0,0 +1,16 @@
+package com.holdup.server.bankroll.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/** GET /api/bankroll/me 응답. balance 는 테이블 밖 잔액, tableIds 는 칩을 가지고 앉아 있는 테이블. */
+@Value
+@Builder
+public class BankrollResponse {
+    String username;
+    BigDecimal balance;
+    List<String> tableIds;
+}
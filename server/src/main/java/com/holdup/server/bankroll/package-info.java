@@ -0,0 +1,15 @@
+/**
+ * 계정 칩 잔액과 원장.
+ *
+ * <h2>디렉토리 구조</h2>
+ * <ul>
+ *   <li><b>Bankroll</b> - 계정별 테이블 밖 잔액 (메모리 기준). 일반 테이블 입장·퇴장·파산과 핸드 결과를 원장 항목으로 만듦.
+ *       로그인 계정만 대상, 손님·봇은 기본 스택.</li>
+ *   <li><b>LedgerWriter</b> - 원장 write-behind. 큐에 모인 항목을 백그라운드 스레드가 JDBC 배치 MERGE 로 씀
+ *       (bankroll_ledger, bankroll_balances). 멱등 키로 재시도해도 중복 없음.
+ *       계속 실패하는 항목은 bankroll_ledger_dead_letter 로 빼고, 큐는 상한이 있음.</li>
+ *   <li><b>LedgerEntry</b> / <b>LedgerEntryType</b> - 원장 한 줄 (GRANT, BUY_IN, HAND_RESULT, CASH_OUT)</li>
+ *   <li><b>dto/</b> - BankrollResponse (GET /api/bankroll/me)</li>
+ * </ul>
+ */
+package com.holdup.server.bankroll;
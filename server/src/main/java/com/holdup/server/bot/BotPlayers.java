@@ -0,0 +1,276 @@
+package com.holdup.server.bot;
+
+import com.holdup.server.action.ActionDispatcher;
+import com.holdup.server.action.GameActionType;
+import com.holdup.server.action.LegalActionCalculator;
+import com.holdup.server.action.dto.ActionResult;
+import com.holdup.server.action.dto.LegalActions;
+import com.holdup.server.action.dto.PlayerActionRequest;
+import com.holdup.server.equity.CardMask;
+import com.holdup.server.gamestate.GamePhase;
+import com.holdup.server.gamestate.HandState;
+import com.holdup.server.player.Player;
+import com.holdup.server.service.HandCompletedEvent;
+import com.holdup.server.service.TableBroadcastService;
+import com.holdup.server.service.TableManager;
+import com.holdup.server.table.Seat;
+import com.holdup.server.table.Table;
+import com.holdup.server.table.TableFormat;
+import com.holdup.server.table.TableListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 서버 봇 플레이어. 사람 한 명만 앉아 시작 인원을 못 채운 CASH 테이블에 봇을 앉히고, 사람과 똑같이
+ * ActionDispatcher 로 착석·핸드 시작·베팅을 보낸 뒤 결과를 브로드캐스트.
+ *
+ * <ul>
+ *   <li>대상 테이블은 TableListener 로 착석 수가 바뀔 때만 갱신하고, 주기 작업은 그 테이블과 봇이 앉은 테이블만 봄</li>
+ *   <li>결정은 BotStrategyTable 의 버킷·정책 표 조회 (탐색 없음). holdup.bot.decision 타이머로 확인</li>
+ *   <li>상태를 읽고 액션을 보내는 동안 Table 인스턴스를 잡아 (ActionDispatcher 와 같은 모니터) 사람의 액션과
+ *       섞이지 않게 함. 브로드캐스트는 잠금을 놓은 뒤</li>
+ *   <li>사람이 시작 인원만큼 모이거나 모두 떠나면 핸드 사이에 봇이 자리를 비움.
+ *       남은 사람이 모두 자리 비움이면 핸드를 시작하지 않음</li>
+ * </ul>
+ */
+@Component
+public class BotPlayers implements TableListener {
+
+    private static final String ID_PREFIX = "bot-";
+
+    private final TableManager tableManager;
+    private final ActionDispatcher actionDispatcher;
+    private final TableBroadcastService tableBroadcastService;
+    private final BotStrategyTable strategy;
+    private final boolean enabled;
+    private final long fillDelayNanos;
+    private final long handIntervalNanos;
+    private final int minPlayersToStart;
+    private final Timer decisionTimer;
+
+    /** 테이블 ID → 앉아 있는 봇 ID. */
+    private final Map<String, Set<String>> botsByTable = new ConcurrentHashMap<>();
+    /** 사람 한 명만 앉은 CASH 테이블 → 그 상태가 된 시각 (nanoTime). */
+    private final Map<String, Long> lonelySince = new ConcurrentHashMap<>();
+    /** 봇이 앉은 테이블의 마지막 핸드 종료 시각 (nanoTime). */
+    private final Map<String, Long> handEndedAt = new ConcurrentHashMap<>();
+    private final AtomicInteger nameSeq = new AtomicInteger();
+
+    public BotPlayers(TableManager tableManager, ActionDispatcher actionDispatcher,
+                      TableBroadcastService tableBroadcastService, BotStrategyTable strategy, MeterRegistry registry,
+                      @Value("${holdup.bot.enabled:true}") boolean enabled,
+                      @Value("${holdup.bot.fill-delay-ms:5000}") long fillDelayMs,
+                      @Value("${holdup.bot.hand-interval-ms:2000}") long handIntervalMs,
+                      @Value("${holdup.game.min-players-to-start:2}") int minPlayersToStart) {
+        this.tableManager = tableManager;
+        this.actionDispatcher = actionDispatcher;
+        this.tableBroadcastService = tableBroadcastService;
+        this.strategy = strategy;
+        this.enabled = enabled;
+        this.fillDelayNanos = TimeUnit.MILLISECONDS.toNanos(fillDelayMs);
+        this.handIntervalNanos = TimeUnit.MILLISECONDS.toNanos(handIntervalMs);
+        this.minPlayersToStart = minPlayersToStart;
+        this.decisionTimer = Timer.builder("holdup.bot.decision")
+                .description("봇 액션 결정 시간 (버킷 계산 + 전략 표 조회)")
+                .publishPercentileHistogram()
+                .register(registry);
+        Gauge.builder("holdup.bot.seated", botsByTable, m -> m.values().stream().mapToInt(Set::size).sum())
+                .description("착석 중인 봇 수")
+                .register(registry);
+        tableManager.addTableListener(this);
+    }
+
+    public static boolean isBot(String playerId) {
+        return playerId != null && playerId.startsWith(ID_PREFIX);
+    }
+
+    @Override
+    public void onTableChanged(Table table) {
+        if (table.getFormat() != TableFormat.CASH) return;
+        if (table.countOccupiedSeats() == 1 && !botsByTable.containsKey(table.getId())) {
+            lonelySince.putIfAbsent(table.getId(), System.nanoTime());
+        } else {
+            lonelySince.remove(table.getId());
+        }
+    }
+
+    @Override
+    public void onTableRemoved(Table table) {
+        lonelySince.remove(table.getId());
+        botsByTable.remove(table.getId());
+        handEndedAt.remove(table.getId());
+    }
+
+    @EventListener
+    public void onHandCompleted(HandCompletedEvent event) {
+        String tableId = event.table().getId();
+        if (botsByTable.containsKey(tableId)) handEndedAt.put(tableId, System.nanoTime());
+    }
+
+    @Scheduled(fixedDelayString = "${holdup.bot.tick-ms:100}")
+    public void tick() {
+        if (!enabled) return;
+        long now = System.nanoTime();
+        if (strategy.isReady()) {
+            lonelySince.forEach((tableId, since) -> {
+                if (now - since >= fillDelayNanos) seatBot(tableId, now);
+            });
+        }
+        for (String tableId : botsByTable.keySet()) {
+            tableManager.getTable(tableId).ifPresent(table -> drive(table, now));
+        }
+    }
+
+    private void seatBot(String tableId, long now) {
+        Table table = tableManager.getTable(tableId).orElse(null);
+        if (table == null || table.countOccupiedSeats() != 1) {
+            lonelySince.remove(tableId);
+            return;
+        }
+        String botId = ID_PREFIX + UUID.randomUUID();
+        Set<String> bots = ConcurrentHashMap.newKeySet();
+        bots.add(botId);
+        // 착석으로 발생하는 onTableChanged 가 이 테이블을 다시 대상으로 잡지 않도록 먼저 등록
+        botsByTable.put(tableId, bots);
+        handEndedAt.put(tableId, now);
+        ActionResult result = act(tableId, botId, PlayerActionRequest.builder()
+                .actionType(GameActionType.JOIN_TABLE)
+                .tableId(tableId)
+                .playerId("Bot-" + nameSeq.incrementAndGet())
+                .build());
+        if (!result.isSuccess()) {
+            botsByTable.remove(tableId);
+            handEndedAt.remove(tableId);
+        }
+        lonelySince.remove(tableId);
+    }
+
+    /** 봇이 앉은 테이블 한 곳: 대기 중이면 퇴장 또는 핸드 시작, 진행 중이면 봇 차례일 때 액션. */
+    private void drive(Table table, long now) {
+        Set<String> bots = botsByTable.get(table.getId());
+        if (bots == null) return;
+        List<ActionResult> results = new ArrayList<>();
+        synchronized (table) {
+            drive(table, bots, now, results);
+        }
+        results.forEach(tableBroadcastService::broadcast);
+    }
+
+    private void drive(Table table, Set<String> bots, long now, List<ActionResult> results) {
+        // 파산 등으로 이미 자리에서 빠진 봇 정리
+        bots.removeIf(id -> table.getSeatIndexByPlayerId(id) < 0);
+        if (bots.isEmpty()) {
+            release(table);
+            return;
+        }
+        HandState state = table.getHandState();
+        if (state.getPhase() == GamePhase.WAITING) {
+            long humans = table.countOccupiedSeats() - bots.size();
+            if (humans == 0 || humans >= minPlayersToStart) {
+                for (String botId : bots) {
+                    results.add(actionDispatcher.dispatch(PlayerActionRequest.builder()
+                            .actionType(GameActionType.LEAVE_TABLE)
+                            .tableId(table.getId())
+                            .build(), botId));
+                }
+                release(table);
+            } else if (now - handEndedAt.getOrDefault(table.getId(), now) >= handIntervalNanos
+                    && hasActiveHuman(table, bots)) {
+                results.add(actionDispatcher.dispatch(PlayerActionRequest.builder()
+                        .actionType(GameActionType.START_HAND)
+                        .tableId(table.getId())
+                        .build(), bots.iterator().next()));
+                handEndedAt.put(table.getId(), now);
+            }
+            return;
+        }
+        LegalActions legal = LegalActionCalculator.forActingSeat(table).orElse(null);
+        if (legal == null) return;
+        Player acting = table.getSeat(legal.getSeatIndex()).getPlayer();
+        if (!bots.contains(acting.getId())) return;
+        PlayerActionRequest request = decisionTimer.record(() -> decide(table, acting, legal));
+        results.add(actionDispatcher.dispatch(request, acting.getId()));
+    }
+
+    /** 자리 비움이 아닌 사람이 있는지. 없으면 핸드를 시작해도 거절되므로 보내지 않음. */
+    private static boolean hasActiveHuman(Table table, Set<String> bots) {
+        for (Seat seat : table.getSeats()) {
+            if (!seat.isEmpty() && !bots.contains(seat.getPlayer().getId()) && !seat.getPlayer().isSittingOut()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void release(Table table) {
+        botsByTable.remove(table.getId());
+        handEndedAt.remove(table.getId());
+        onTableChanged(table);
+    }
+
+    private ActionResult act(String tableId, String botId, PlayerActionRequest request) {
+        ActionResult result = actionDispatcher.dispatch(request, botId);
+        tableBroadcastService.broadcast(result);
+        return result;
+    }
+
+    /** 전략 표에서 고른 행동을 지금 합법인 액션·금액으로 바꿈. */
+    PlayerActionRequest decide(Table table, Player bot, LegalActions legal) {
+        HandState state = table.getHandState();
+        int street = switch (state.getPhase()) {
+            case PREFLOP -> 0;
+            case FLOP -> 1;
+            case TURN -> 2;
+            default -> 3;
+        };
+        int bucket = strategy.bucket(CardMask.of(bot.getHoleCards()), CardMask.of(state.getCommunityCards()));
+        BigDecimal pot = state.getPot();
+        BigDecimal toCall = legal.getCallAmount() != null ? legal.getCallAmount() : BigDecimal.ZERO;
+        BigDecimal smallBet = pot.divide(BigDecimal.valueOf(3), 0, RoundingMode.DOWN).max(table.getBigBlindAmount());
+        int facing = toCall.signum() == 0 ? 0 : toCall.compareTo(smallBet) <= 0 ? 1 : 2;
+
+        BotStrategyTable.Choice choice = strategy.choose(street, bucket, facing, ThreadLocalRandom.current().nextDouble());
+        Set<GameActionType> actions = legal.getActions();
+        PlayerActionRequest.PlayerActionRequestBuilder request = PlayerActionRequest.builder().tableId(table.getId());
+        if (choice == BotStrategyTable.Choice.AGGRESSIVE) {
+            BigDecimal size = pot.add(toCall).multiply(BigDecimal.valueOf(strategy.sizePercent(street, bucket, facing)))
+                    .divide(BigDecimal.valueOf(100), 0, RoundingMode.DOWN);
+            if (actions.contains(GameActionType.BET)) {
+                return request.actionType(GameActionType.BET)
+                        .amount(size.max(legal.getMinBet()).min(legal.getMaxBet()))
+                        .build();
+            }
+            if (actions.contains(GameActionType.RAISE)) {
+                return request.actionType(GameActionType.RAISE)
+                        .amount(toCall.add(size).max(legal.getMinRaise()).min(legal.getMaxRaise()))
+                        .build();
+            }
+            // 레이즈할 스택이 없으면 강한 패만 올인, 나머지는 콜
+            if (bucket >= BotStrategyGenerator.BUCKETS - 2 && actions.contains(GameActionType.ALL_IN)) {
+                return request.actionType(GameActionType.ALL_IN).amount(legal.getAllInAmount()).build();
+            }
+        }
+        if (choice == BotStrategyTable.Choice.FOLD && !actions.contains(GameActionType.CHECK)) {
+            return request.actionType(GameActionType.FOLD).build();
+        }
+        if (actions.contains(GameActionType.CHECK)) return request.actionType(GameActionType.CHECK).build();
+        return request.actionType(GameActionType.CALL).amount(legal.getCallAmount()).build();
+    }
+}
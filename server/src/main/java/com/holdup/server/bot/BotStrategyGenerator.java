@@ -0,0 +1,159 @@
+package com.holdup.server.bot;
+
+import com.holdup.server.equity.CardMask;
+import com.holdup.server.equity.HandRanker;
+import com.holdup.server.equity.StartingHands;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * 봇 전략 표 생성.
+ *
+ * <ul>
+ *   <li>프리플랍 버킷: 169개 시작 패 클래스마다 무작위 패 한 장을 상대로 한 올인 에퀴티를 몬테카를로로 구해
+ *       0.06 간격으로 8개 버킷에 나눔 (0.35 미만 → 0, 0.77 이상 → 7)</li>
+ *   <li>정책: [스트릿 4][버킷 8][상대 베팅 3 (없음·작음·큼)] 마다 폴드·패시브(체크/콜)·공격(벳/레이즈) 확률과
+ *       공격 시 팟 대비 크기(%). 버킷 강도에 따라 공격 비율을 올리고 큰 베팅에는 더 자주 폴드하는 단순 규칙으로 채움.
+ *       파일 형식만 맞으면 솔버 결과 등 다른 표로 바꿔 넣어도 런타임 코드는 그대로</li>
+ * </ul>
+ *
+ * <p>파일 형식 (빅 엔디언): magic "HBOT", version, 버킷 수, 표본 수, 프리플랍 버킷 u8 × 169 (176바이트로 패딩),
+ * 이어서 정책 항목마다 u16 3개 — 폴드 누적 확률, 폴드+패시브 누적 확률 (값/65535), 공격 크기 %.</p>
+ *
+ * <pre>
+ * mvn -B -q compile exec:java -Dexec.mainClass=com.holdup.server.bot.BotStrategyGenerator \
+ *     -Dexec.args="--out=data/bot-strategy.bin --samples=50000"
+ * </pre>
+ */
+public final class BotStrategyGenerator {
+
+    static final int MAGIC = 0x48424F54;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int SCALE = 0xFFFF;
+
+    static final int BUCKETS = 8;
+    static final int STREETS = 4;
+    /** 상대 베팅: 0 없음, 1 작음 (팟의 1/3 이하, 프리플랍은 빅 블라인드까지), 2 큼. */
+    static final int FACINGS = 3;
+    static final int ENTRY_BYTES = 6;
+
+    static final int PREFLOP_OFFSET = HEADER_BYTES;
+    static final int POLICY_OFFSET = PREFLOP_OFFSET + 176;
+    static final int FILE_BYTES = POLICY_OFFSET + STREETS * BUCKETS * FACINGS * ENTRY_BYTES;
+
+    private static final double BUCKET_FLOOR = 0.35;
+    private static final double BUCKET_WIDTH = 0.06;
+    private static final long SEED = 0x5EED_B07L;
+
+    private BotStrategyGenerator() {
+    }
+
+    /** 파일 전체 내용. */
+    public static byte[] generate(int samples) {
+        ByteBuffer buffer = ByteBuffer.allocate(FILE_BYTES);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(BUCKETS).putInt(samples);
+
+        double[] strength = new double[StartingHands.COUNT];
+        IntStream.range(0, StartingHands.COUNT).parallel().forEach(c -> strength[c] = versusRandom(c, samples));
+        for (int c = 0; c < StartingHands.COUNT; c++) {
+            int bucket = (int) Math.floor((strength[c] - BUCKET_FLOOR) / BUCKET_WIDTH) + 1;
+            buffer.put(PREFLOP_OFFSET + c, (byte) Math.max(0, Math.min(BUCKETS - 1, bucket)));
+        }
+
+        buffer.position(POLICY_OFFSET);
+        for (int street = 0; street < STREETS; street++) {
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                for (int facing = 0; facing < FACINGS; facing++) {
+                    double s = bucket / (BUCKETS - 1.0);
+                    double fold;
+                    double aggressive;
+                    switch (facing) {
+                        case 0 -> {
+                            fold = 0;
+                            aggressive = 0.1 + 0.8 * s * s;
+                        }
+                        case 1 -> {
+                            fold = clamp(0.6 - s);
+                            aggressive = clamp((s - 0.55) * 1.6);
+                        }
+                        default -> {
+                            fold = clamp(0.9 - 1.1 * s);
+                            aggressive = clamp((s - 0.75) * 2.5);
+                        }
+                    }
+                    aggressive = Math.min(aggressive, 1 - fold);
+                    buffer.putChar((char) Math.round(fold * SCALE));
+                    buffer.putChar((char) Math.round((1 - aggressive) * SCALE));
+                    buffer.putChar((char) Math.round(50 + 30 * s));
+                }
+            }
+        }
+        return buffer.array();
+    }
+
+    /** 클래스 c 가 무작위 패 하나를 상대로 프리플랍 올인했을 때 에퀴티. */
+    static double versusRandom(int c, int samples) {
+        long[] combos = StartingHands.combos(c);
+        SplittableRandom random = new SplittableRandom(SEED ^ c);
+        long wins = 0;
+        long ties = 0;
+        for (int i = 0; i < samples; i++) {
+            long hero = combos[i % combos.length];
+            long used = hero;
+            long villain = 0;
+            long board = 0;
+            for (int dealt = 0; dealt < 7; ) {
+                long card = 1L << random.nextInt(CardMask.CARDS);
+                if ((used & card) != 0) continue;
+                used |= card;
+                if (dealt < 2) villain |= card;
+                else board |= card;
+                dealt++;
+            }
+            int rh = HandRanker.rank(hero | board);
+            int rv = HandRanker.rank(villain | board);
+            if (rh > rv) wins++;
+            else if (rh == rv) ties++;
+        }
+        return (wins + ties / 2.0) / samples;
+    }
+
+    private static double clamp(double p) {
+        return Math.max(0, Math.min(1, p));
+    }
+
+    /** 임시 파일에 쓴 뒤 원자적으로 교체. */
+    public static void write(Path path, byte[] content) throws IOException {
+        Path dir = path.toAbsolutePath().getParent();
+        if (dir != null) Files.createDirectories(dir);
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) channel.write(buffer);
+            channel.force(true);
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path out = Path.of("data/bot-strategy.bin");
+        int samples = 20_000;
+        for (String arg : args) {
+            if (arg.startsWith("--out=")) out = Path.of(arg.substring("--out=".length()));
+            else if (arg.startsWith("--samples=")) samples = Integer.parseInt(arg.substring("--samples=".length()).trim());
+        }
+        long start = System.nanoTime();
+        write(out, generate(samples));
+        System.out.printf("%s: %d buckets, %d samples/class, %.1fs%n", out, BUCKETS, samples, (System.nanoTime() - start) / 1e9);
+    }
+}
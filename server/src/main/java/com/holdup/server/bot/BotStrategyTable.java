@@ -0,0 +1,174 @@
+package com.holdup.server.bot;
+
+import com.holdup.server.equity.HandRanker;
+import com.holdup.server.equity.StartingHands;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 봇 전략 표 조회. 결정 시점에는 탐색 없이 버킷 계산 + 표 읽기만 하므로 봇 하나의 결정이 수 µs 이내.
+ *
+ * <p>시작 시 holdup.bot.strategy-table 파일을 읽기 전용으로 메모리 매핑 (봇 수와 관계없이 한 벌을 공유).
+ * 파일이 없거나 형식이 다르면 백그라운드에서 BotStrategyGenerator 로 생성해 쓴 뒤 매핑.</p>
+ */
+@Component
+public class BotStrategyTable {
+
+    public enum Choice {
+        FOLD,
+        /** 체크 또는 콜. */
+        PASSIVE,
+        /** 벳 또는 레이즈. */
+        AGGRESSIVE,
+    }
+
+    private static final int SUIT_RANKS = 0x1FFF;
+
+    private final Path path;
+    private final int samples;
+
+    /** 절대 위치 읽기만 하므로 여러 스레드가 공유해도 됨. */
+    private volatile MappedByteBuffer table;
+
+    public BotStrategyTable(MeterRegistry registry,
+                            @Value("${holdup.bot.strategy-table:data/bot-strategy.bin}") String path,
+                            @Value("${holdup.bot.strategy-samples:20000}") int samples) {
+        this.path = Path.of(path);
+        this.samples = Math.max(1, samples);
+        Gauge.builder("holdup.bot.strategy.ready", this, t -> t.isReady() ? 1 : 0)
+                .description("봇 전략 표 매핑 여부")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (tryMap()) return;
+        Thread generator = new Thread(() -> {
+            try {
+                BotStrategyGenerator.write(path, BotStrategyGenerator.generate(samples));
+                tryMap();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, "bot-strategy-generator");
+        generator.setDaemon(true);
+        generator.setPriority(Thread.MIN_PRIORITY);
+        generator.start();
+    }
+
+    /** 헤더가 맞으면 매핑. 파일이 없거나 다른 형식이면 false. */
+    private boolean tryMap() {
+        if (!Files.isRegularFile(path)) return false;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() != BotStrategyGenerator.FILE_BYTES) return false;
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, BotStrategyGenerator.FILE_BYTES);
+            if (mapped.getInt(0) != BotStrategyGenerator.MAGIC
+                    || mapped.getInt(4) != BotStrategyGenerator.VERSION
+                    || mapped.getInt(8) != BotStrategyGenerator.BUCKETS) {
+                return false;
+            }
+            table = mapped;
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public boolean isReady() {
+        return table != null;
+    }
+
+    /**
+     * 홀카드(+보드)의 강도 버킷 0~7. 보드가 없으면 프리플랍 표, 있으면 완성된 패 등급 기준.
+     *
+     * @throws IllegalStateException 표가 아직 준비되지 않음
+     */
+    public int bucket(long hole, long board) {
+        if (board == 0) {
+            int c1 = Long.numberOfTrailingZeros(hole);
+            int c2 = Long.numberOfTrailingZeros(hole & (hole - 1));
+            return buffer().get(BotStrategyGenerator.PREFLOP_OFFSET + StartingHands.classOf(c1, c2));
+        }
+        return postflopBucket(hole, board);
+    }
+
+    /**
+     * 보드 위 완성 패 버킷. 보드에 이미 깔린 페어는 내 패로 치지 않고, 탑 페어·오버 페어는 그 아래 페어보다 한 단계 위.
+     * 하이카드라도 플러시 드로우면 1.
+     */
+    static int postflopBucket(long hole, long board) {
+        int rank = HandRanker.rank(hole | board);
+        int boardRanks = ranks(board);
+        boolean boardPaired = Integer.bitCount(boardRanks) < Long.bitCount(board);
+        return switch (HandRanker.category(rank)) {
+            case HandRanker.HIGH_CARD -> flushDraw(hole, board) ? 1 : 0;
+            case HandRanker.ONE_PAIR -> {
+                if (boardPaired) yield flushDraw(hole, board) ? 1 : 0;
+                int pair = rank >>> 13 & SUIT_RANKS;
+                yield pair >= Integer.highestOneBit(boardRanks) ? 3 : 2;
+            }
+            case HandRanker.TWO_PAIR -> boardPaired ? 3 : 4;
+            case HandRanker.TRIPS -> 5;
+            case HandRanker.STRAIGHT -> 6;
+            default -> 7;
+        };
+    }
+
+    /** 보드가 5장 미만이고 홀카드를 포함해 같은 문양 4장. */
+    private static boolean flushDraw(long hole, long board) {
+        if (Long.bitCount(board) >= 5) return false;
+        long cards = hole | board;
+        for (int suit = 0; suit < 4; suit++) {
+            int shift = suit * 13;
+            if (Long.bitCount(cards >>> shift & SUIT_RANKS) == 4 && (hole >>> shift & SUIT_RANKS) != 0) return true;
+        }
+        return false;
+    }
+
+    private static int ranks(long cards) {
+        return (int) ((cards | cards >>> 13 | cards >>> 26 | cards >>> 39) & SUIT_RANKS);
+    }
+
+    /**
+     * @param street 0 프리플랍, 1 플랍, 2 턴, 3 리버
+     * @param facing 0 베팅 없음, 1 작은 베팅, 2 큰 베팅
+     * @param roll   [0, 1) 난수
+     */
+    public Choice choose(int street, int bucket, int facing, double roll) {
+        ByteBuffer t = buffer();
+        int offset = entryOffset(street, bucket, facing);
+        int r = (int) (roll * BotStrategyGenerator.SCALE);
+        if (r < t.getChar(offset)) return Choice.FOLD;
+        if (r < t.getChar(offset + 2)) return Choice.PASSIVE;
+        return Choice.AGGRESSIVE;
+    }
+
+    /** 공격 시 팟 대비 크기 (%). */
+    public int sizePercent(int street, int bucket, int facing) {
+        return buffer().getChar(entryOffset(street, bucket, facing) + 4);
+    }
+
+    private static int entryOffset(int street, int bucket, int facing) {
+        int entry = (street * BotStrategyGenerator.BUCKETS + bucket) * BotStrategyGenerator.FACINGS + facing;
+        return BotStrategyGenerator.POLICY_OFFSET + entry * BotStrategyGenerator.ENTRY_BYTES;
+    }
+
+    private ByteBuffer buffer() {
+        ByteBuffer t = table;
+        if (t == null) throw new IllegalStateException("Bot strategy table is not ready");
+        return t;
+    }
+}
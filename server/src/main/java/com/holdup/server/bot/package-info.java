@@ -0,0 +1,15 @@
+/**
+ * 서버 봇 플레이어 (사람 한 명만 앉은 테이블 채우기).
+ *
+ * <h2>디렉토리 구조</h2>
+ * <ul>
+ *   <li><b>BotPlayers</b> - 사람 한 명만 앉아 fill-delay-ms 넘게 기다린 CASH 테이블에 봇을 앉히고,
+ *       ActionDispatcher 로 핸드 시작·베팅. 사람이 시작 인원만큼 모이거나 모두 떠나면 핸드 사이에 퇴장.</li>
+ *   <li><b>BotStrategyTable</b> - 전략 표 파일을 메모리 매핑해 (강도 버킷, 상대 베팅) → 행동 확률·크기 조회.</li>
+ *   <li><b>BotStrategyGenerator</b> - 프리플랍 버킷(무작위 패 상대 에퀴티)과 정책 표 생성·파일 쓰기.</li>
+ * </ul>
+ *
+ * <p>결정 시점에는 탐색·시뮬레이션 없이 버킷 계산(HandRanker 한 번)과 표 읽기만 하므로
+ * 노드 하나에 봇 수백 개가 있어도 결정 비용은 무시할 수준입니다. 봇 ID 는 "bot-" 로 시작합니다.</p>
+ */
+package com.holdup.server.bot;
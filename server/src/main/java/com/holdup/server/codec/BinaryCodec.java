@@ -0,0 +1,593 @@
+package com.holdup.server.codec;
+
+import com.holdup.server.action.GameActionType;
+import com.holdup.server.action.RejectReason;
+import com.holdup.server.action.dto.ActionResult;
+import com.holdup.server.action.dto.AllInRunout;
+import com.holdup.server.action.dto.LegalActions;
+import com.holdup.server.action.dto.TableSnapshot;
+import com.holdup.server.card.HandRank;
+import com.holdup.server.card.Rank;
+import com.holdup.server.card.Suit;
+import com.holdup.server.gamestate.GamePhase;
+import com.holdup.server.gamestate.PreActionType;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 테이블 메시지(ActionResult + payload) 바이너리 형식. JSON 과 같은 내용을 필드 이름 없이 정해진 순서로 씀.
+ *
+ * <ul>
+ *   <li>정수: varint (7비트씩 하위부터, 최상위 비트 = 다음 바이트 있음). null 이 될 수 있는 값은 +1 해서 쓰고 0 이 null</li>
+ *   <li>칩: 정수면 v×2, 소수 둘째 자리까지면 (v×100)×2+1. 음수·셋째 자리 이하는 인코딩 불가</li>
+ *   <li>카드: 한 바이트 = 끗 순서(2..A → 0..12)×4 + 문양 순서(s, h, d, c → 0..3)</li>
+ *   <li>문자열: 0 = null, 홀수 v = 이 메시지에서 (v-1)/2 번째로 나온 문자열, 짝수 v = 새 문자열 (UTF-8 길이 v/2-1 바이트가 뒤따름).
+ *       테이블 ID·플레이어 ID 가 여러 번 나와도 본문은 한 번</li>
+ *   <li>열거형: ordinal (+1). 순서가 형식의 일부라 새 값은 끝에만 추가</li>
+ *   <li>시트: 시트 번호 순서대로 전부 (빈 자리 포함, 번호는 위치). 자리마다 플래그 한 바이트 뒤 플레이어 필드</li>
+ * </ul>
+ *
+ * <pre>
+ * message   = version(1) result
+ * result    = flags(success, payload) actionType rejectReason str(message) str(playerId) str(tableId) seatIndex chips(amount)
+ *             [payload: (tag section)* 0]
+ * tag       = 1 tableState | 2 legalActions | 3 preAction | 4 preActions (개수, result…) | 5 runout
+ * snapshot  = str(tableId) str(tableName) chips(sb) chips(bb) handState seats [inHandPlayerIds 중 앉아 있지 않은 ID]
+ * handState = flags(있음, inHandSeatIndices, inHandPlayerIds) phase cards(community) chips(pot) chips(currentBet)
+ *             chips(minRaise) actingSeatIndex
+ * seats     = 개수 (flags(앉음, 폴드, 올인, 자리 비움, 이번 핸드 시트, 이번 핸드 플레이어)
+ *             [str(id) str(displayName) chips(stack) chips(currentBetThisStreet) cards(holeCards)])*
+ * </pre>
+ *
+ * <p>표현할 수 없는 메시지(모르는 payload 키, 음수 칩 등)는 IllegalArgumentException. 보내는 쪽은 JSON 으로 대신 보냄.</p>
+ */
+public final class BinaryCodec {
+
+    public static final int VERSION = 1;
+
+    private static final int RESULT_SUCCESS = 1;
+    private static final int RESULT_PAYLOAD = 1 << 1;
+
+    private static final int HAND_PRESENT = 1;
+    private static final int HAND_SEAT_SET = 1 << 1;
+    private static final int HAND_PLAYER_SET = 1 << 2;
+
+    private static final int SEAT_OCCUPIED = 1;
+    private static final int SEAT_FOLDED = 1 << 1;
+    private static final int SEAT_ALL_IN = 1 << 2;
+    private static final int SEAT_SITTING_OUT = 1 << 3;
+    private static final int SEAT_IN_HAND = 1 << 4;
+    private static final int PLAYER_IN_HAND = 1 << 5;
+
+    private static final int END = 0;
+    private static final int TABLE_STATE = 1;
+    private static final int LEGAL_ACTIONS = 2;
+    private static final int PRE_ACTION = 3;
+    private static final int PRE_ACTIONS = 4;
+    private static final int RUNOUT = 5;
+
+    private static final Set<String> PAYLOAD_KEYS = Set.of("tableState", "legalActions", "preAction", "preActions", "runout");
+
+    /** v×100×2+1+1 이 long 에 들어가는 한도. */
+    private static final BigDecimal MAX_CHIPS = BigDecimal.valueOf(Long.MAX_VALUE / 1000);
+
+    private static final String[] CARD_CODES = new String[52];
+    private static final Map<String, Integer> CARD_INDEX = new HashMap<>();
+
+    static {
+        for (Rank rank : Rank.values()) {
+            for (Suit suit : Suit.values()) {
+                int index = rank.ordinal() * 4 + suit.ordinal();
+                CARD_CODES[index] = rank.getCode() + suit.getCode();
+                CARD_INDEX.put(CARD_CODES[index], index);
+            }
+        }
+    }
+
+    private static final GameActionType[] ACTION_TYPES = GameActionType.values();
+    private static final RejectReason[] REJECT_REASONS = RejectReason.values();
+    private static final GamePhase[] PHASES = GamePhase.values();
+    private static final PreActionType[] PRE_ACTION_TYPES = PreActionType.values();
+    private static final HandRank[] HAND_RANKS = HandRank.values();
+
+    private BinaryCodec() {}
+
+    public static byte[] encode(ActionResult result) {
+        Out out = new Out();
+        out.writeByte(VERSION);
+        writeResult(out, result);
+        return out.toByteArray();
+    }
+
+    public static ActionResult decode(byte[] bytes) {
+        In in = new In(bytes);
+        int version = in.readByte();
+        if (version != VERSION) throw new IllegalArgumentException("지원하지 않는 형식 버전: " + version);
+        return readResult(in);
+    }
+
+    // ---- 쓰기 ----
+
+    private static void writeResult(Out out, ActionResult r) {
+        Map<String, Object> payload = r.getPayload();
+        out.writeByte((r.isSuccess() ? RESULT_SUCCESS : 0) | (payload != null ? RESULT_PAYLOAD : 0));
+        out.writeEnum(r.getActionType());
+        out.writeEnum(r.getRejectReason());
+        out.writeString(r.getMessage());
+        out.writeString(r.getPlayerId());
+        out.writeString(r.getTableId());
+        out.writeNullable(r.getSeatIndex());
+        out.writeChips(r.getAmount());
+        if (payload == null) return;
+        for (String key : payload.keySet()) {
+            if (!PAYLOAD_KEYS.contains(key)) throw new IllegalArgumentException("payload 키 " + key);
+        }
+        Object value;
+        if ((value = payload.get("tableState")) != null) {
+            out.writeByte(TABLE_STATE);
+            writeSnapshot(out, cast(value, TableSnapshot.class));
+        }
+        if ((value = payload.get("legalActions")) != null) {
+            out.writeByte(LEGAL_ACTIONS);
+            writeLegalActions(out, cast(value, LegalActions.class));
+        }
+        if ((value = payload.get("preAction")) != null) {
+            out.writeByte(PRE_ACTION);
+            out.writeEnum(cast(value, PreActionType.class));
+        }
+        if ((value = payload.get("preActions")) != null) {
+            List<?> preActions = cast(value, List.class);
+            out.writeByte(PRE_ACTIONS);
+            out.writeVarint(preActions.size());
+            for (Object preAction : preActions) writeResult(out, cast(preAction, ActionResult.class));
+        }
+        if ((value = payload.get("runout")) != null) {
+            out.writeByte(RUNOUT);
+            writeRunout(out, cast(value, AllInRunout.class));
+        }
+        out.writeByte(END);
+    }
+
+    private static void writeSnapshot(Out out, TableSnapshot s) {
+        out.writeString(s.getTableId());
+        out.writeString(s.getTableName());
+        out.writeChips(s.getSmallBlindAmount());
+        out.writeChips(s.getBigBlindAmount());
+
+        TableSnapshot.HandStateSnapshot hs = s.getHandState();
+        Set<Integer> inHandSeats = hs != null ? hs.getInHandSeatIndices() : null;
+        Set<String> inHandPlayers = hs != null ? hs.getInHandPlayerIds() : null;
+        if (hs == null) {
+            out.writeByte(0);
+        } else {
+            out.writeByte(HAND_PRESENT
+                    | (inHandSeats != null ? HAND_SEAT_SET : 0)
+                    | (inHandPlayers != null ? HAND_PLAYER_SET : 0));
+            out.writeEnum(hs.getPhase() != null ? GamePhase.valueOf(hs.getPhase()) : null);
+            out.writeCards(hs.getCommunityCards());
+            out.writeChips(hs.getPot());
+            out.writeChips(hs.getCurrentBet());
+            out.writeChips(hs.getMinRaise());
+            out.writeNullable(hs.getActingSeatIndex());
+        }
+
+        List<TableSnapshot.SeatSnapshot> seats = s.getSeats();
+        out.writeNullable(seats != null ? seats.size() : null);
+        int seatedInHand = 0;
+        if (seats != null) {
+            for (int i = 0; i < seats.size(); i++) {
+                TableSnapshot.SeatSnapshot seat = seats.get(i);
+                if (seat.getSeatIndex() != i) throw new IllegalArgumentException("시트 순서 " + seat.getSeatIndex() + " != " + i);
+                TableSnapshot.PlayerSnapshot p = seat.getPlayer();
+                boolean playerInHand = p != null && inHandPlayers != null && inHandPlayers.contains(p.getId());
+                if (playerInHand) seatedInHand++;
+                int flags = (inHandSeats != null && inHandSeats.contains(i) ? SEAT_IN_HAND : 0)
+                        | (playerInHand ? PLAYER_IN_HAND : 0);
+                if (p == null) {
+                    out.writeByte(flags);
+                    continue;
+                }
+                out.writeByte(flags | SEAT_OCCUPIED
+                        | (p.isFolded() ? SEAT_FOLDED : 0)
+                        | (p.isAllIn() ? SEAT_ALL_IN : 0)
+                        | (p.isSittingOut() ? SEAT_SITTING_OUT : 0));
+                out.writeString(p.getId());
+                out.writeString(p.getDisplayName());
+                out.writeChips(p.getStack());
+                out.writeChips(p.getCurrentBetThisStreet());
+                out.writeCards(p.getHoleCards());
+            }
+        }
+        if (inHandSeats != null) {
+            for (Integer index : inHandSeats) {
+                if (index == null || index < 0 || seats == null || index >= seats.size()) {
+                    throw new IllegalArgumentException("시트 밖 inHandSeatIndex " + index);
+                }
+            }
+        }
+        if (inHandPlayers != null) {
+            // 핸드 도중 자리를 떠난 플레이어 (시트 플래그로 표현 못 함)
+            out.writeVarint(inHandPlayers.size() - seatedInHand);
+            if (inHandPlayers.size() > seatedInHand) {
+                Set<String> seated = new LinkedHashSet<>();
+                if (seats != null) {
+                    for (TableSnapshot.SeatSnapshot seat : seats) {
+                        if (seat.getPlayer() != null) seated.add(seat.getPlayer().getId());
+                    }
+                }
+                for (String id : inHandPlayers) {
+                    if (!seated.contains(id)) out.writeString(id);
+                }
+            }
+        }
+    }
+
+    private static void writeLegalActions(Out out, LegalActions legal) {
+        out.writeString(legal.getTableId());
+        out.writeVarint(legal.getSeatIndex());
+        long actions = 0;
+        if (legal.getActions() != null) {
+            for (GameActionType type : legal.getActions()) actions |= 1L << type.ordinal();
+        }
+        out.writeNullable(legal.getActions() != null ? actions : null);
+        out.writeChips(legal.getCallAmount());
+        out.writeChips(legal.getMinBet());
+        out.writeChips(legal.getMaxBet());
+        out.writeChips(legal.getMinRaise());
+        out.writeChips(legal.getMaxRaise());
+        out.writeChips(legal.getAllInAmount());
+    }
+
+    private static void writeRunout(Out out, AllInRunout runout) {
+        out.writeVarint(runout.getKnownCardCount());
+        List<AllInRunout.Board> boards = runout.getBoards();
+        out.writeNullable(boards != null ? boards.size() : null);
+        if (boards == null) return;
+        for (AllInRunout.Board board : boards) {
+            out.writeCards(board.getCommunityCards());
+            out.writeChips(board.getPot());
+            List<Integer> winners = board.getWinnerSeatIndices();
+            out.writeNullable(winners != null ? winners.size() : null);
+            if (winners != null) {
+                for (Integer seat : winners) out.writeVarint(seat);
+            }
+            Map<Integer, String> ranks = board.getHandRanks();
+            out.writeNullable(ranks != null ? ranks.size() : null);
+            if (ranks != null) {
+                for (Map.Entry<Integer, String> e : ranks.entrySet()) {
+                    out.writeVarint(e.getKey());
+                    out.writeEnum(e.getValue() != null ? HandRank.valueOf(e.getValue()) : null);
+                }
+            }
+        }
+    }
+
+    private static <T> T cast(Object value, Class<T> type) {
+        if (!type.isInstance(value)) {
+            throw new IllegalArgumentException(type.getSimpleName() + " 가 아님: " + value.getClass().getName());
+        }
+        return type.cast(value);
+    }
+
+    // ---- 읽기 ----
+
+    private static ActionResult readResult(In in) {
+        int flags = in.readByte();
+        ActionResult result = ActionResult.builder()
+                .success((flags & RESULT_SUCCESS) != 0)
+                .actionType(in.readEnum(ACTION_TYPES))
+                .rejectReason(in.readEnum(REJECT_REASONS))
+                .message(in.readString())
+                .playerId(in.readString())
+                .tableId(in.readString())
+                .seatIndex(in.readNullable())
+                .amount(in.readChips())
+                .build();
+        if ((flags & RESULT_PAYLOAD) == 0) return result;
+        Map<String, Object> payload = new LinkedHashMap<>();
+        int tag;
+        while ((tag = in.readByte()) != END) {
+            switch (tag) {
+                case TABLE_STATE -> payload.put("tableState", readSnapshot(in));
+                case LEGAL_ACTIONS -> payload.put("legalActions", readLegalActions(in));
+                case PRE_ACTION -> payload.put("preAction", in.readEnum(PRE_ACTION_TYPES));
+                case PRE_ACTIONS -> {
+                    int count = in.readInt();
+                    List<ActionResult> preActions = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) preActions.add(readResult(in));
+                    payload.put("preActions", preActions);
+                }
+                case RUNOUT -> payload.put("runout", readRunout(in));
+                default -> throw new IllegalArgumentException("payload 태그 " + tag);
+            }
+        }
+        result.setPayload(payload);
+        return result;
+    }
+
+    private static TableSnapshot readSnapshot(In in) {
+        TableSnapshot s = TableSnapshot.builder()
+                .tableId(in.readString())
+                .tableName(in.readString())
+                .smallBlindAmount(in.readChips())
+                .bigBlindAmount(in.readChips())
+                .build();
+
+        int handFlags = in.readByte();
+        TableSnapshot.HandStateSnapshot hs = null;
+        Set<Integer> inHandSeats = null;
+        Set<String> inHandPlayers = null;
+        if ((handFlags & HAND_PRESENT) != 0) {
+            GamePhase phase = in.readEnum(PHASES);
+            inHandSeats = (handFlags & HAND_SEAT_SET) != 0 ? new LinkedHashSet<>() : null;
+            inHandPlayers = (handFlags & HAND_PLAYER_SET) != 0 ? new LinkedHashSet<>() : null;
+            hs = TableSnapshot.HandStateSnapshot.builder()
+                    .phase(phase != null ? phase.name() : null)
+                    .communityCards(in.readCards())
+                    .pot(in.readChips())
+                    .currentBet(in.readChips())
+                    .minRaise(in.readChips())
+                    .actingSeatIndex(in.readNullable())
+                    .inHandSeatIndices(inHandSeats)
+                    .inHandPlayerIds(inHandPlayers)
+                    .build();
+        }
+        s.setHandState(hs);
+
+        Integer seatCount = in.readNullable();
+        if (seatCount != null) {
+            List<TableSnapshot.SeatSnapshot> seats = new ArrayList<>(seatCount);
+            for (int i = 0; i < seatCount; i++) {
+                int flags = in.readByte();
+                if (inHandSeats != null && (flags & SEAT_IN_HAND) != 0) inHandSeats.add(i);
+                TableSnapshot.PlayerSnapshot p = null;
+                if ((flags & SEAT_OCCUPIED) != 0) {
+                    p = TableSnapshot.PlayerSnapshot.builder()
+                            .id(in.readString())
+                            .displayName(in.readString())
+                            .stack(in.readChips())
+                            .currentBetThisStreet(in.readChips())
+                            .holeCards(in.readCards())
+                            .folded((flags & SEAT_FOLDED) != 0)
+                            .allIn((flags & SEAT_ALL_IN) != 0)
+                            .sittingOut((flags & SEAT_SITTING_OUT) != 0)
+                            .build();
+                    if (inHandPlayers != null && (flags & PLAYER_IN_HAND) != 0) inHandPlayers.add(p.getId());
+                }
+                seats.add(TableSnapshot.SeatSnapshot.builder().seatIndex(i).player(p).build());
+            }
+            s.setSeats(seats);
+        }
+        if (inHandPlayers != null) {
+            int departed = in.readInt();
+            for (int i = 0; i < departed; i++) inHandPlayers.add(in.readString());
+        }
+        return s;
+    }
+
+    private static LegalActions readLegalActions(In in) {
+        LegalActions legal = LegalActions.builder()
+                .tableId(in.readString())
+                .seatIndex(in.readInt())
+                .build();
+        Long actions = in.readNullableLong();
+        if (actions != null) {
+            Set<GameActionType> types = EnumSet.noneOf(GameActionType.class);
+            for (GameActionType type : ACTION_TYPES) {
+                if ((actions & (1L << type.ordinal())) != 0) types.add(type);
+            }
+            legal.setActions(types);
+        }
+        legal.setCallAmount(in.readChips());
+        legal.setMinBet(in.readChips());
+        legal.setMaxBet(in.readChips());
+        legal.setMinRaise(in.readChips());
+        legal.setMaxRaise(in.readChips());
+        legal.setAllInAmount(in.readChips());
+        return legal;
+    }
+
+    private static AllInRunout readRunout(In in) {
+        AllInRunout runout = AllInRunout.builder().knownCardCount(in.readInt()).build();
+        Integer boardCount = in.readNullable();
+        if (boardCount == null) return runout;
+        List<AllInRunout.Board> boards = new ArrayList<>(boardCount);
+        for (int b = 0; b < boardCount; b++) {
+            AllInRunout.Board board = AllInRunout.Board.builder()
+                    .communityCards(in.readCards())
+                    .pot(in.readChips())
+                    .build();
+            Integer winnerCount = in.readNullable();
+            if (winnerCount != null) {
+                List<Integer> winners = new ArrayList<>(winnerCount);
+                for (int i = 0; i < winnerCount; i++) winners.add(in.readInt());
+                board.setWinnerSeatIndices(winners);
+            }
+            Integer rankCount = in.readNullable();
+            if (rankCount != null) {
+                Map<Integer, String> ranks = new LinkedHashMap<>();
+                for (int i = 0; i < rankCount; i++) {
+                    int seat = in.readInt();
+                    HandRank rank = in.readEnum(HAND_RANKS);
+                    ranks.put(seat, rank != null ? rank.name() : null);
+                }
+                board.setHandRanks(ranks);
+            }
+            boards.add(board);
+        }
+        runout.setBoards(boards);
+        return runout;
+    }
+
+    /** 쓰기 버퍼. 문자열은 처음 나온 순서대로 번호를 매겨 두 번째부터는 번호만. */
+    private static final class Out {
+        private byte[] buf = new byte[512];
+        private int size;
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        void writeByte(int b) {
+            if (size == buf.length) buf = Arrays.copyOf(buf, size * 2);
+            buf[size++] = (byte) b;
+        }
+
+        void writeVarint(long v) {
+            if (v < 0) throw new IllegalArgumentException("음수: " + v);
+            while ((v & ~0x7FL) != 0) {
+                writeByte((int) ((v & 0x7F) | 0x80));
+                v >>>= 7;
+            }
+            writeByte((int) v);
+        }
+
+        void writeNullable(Number v) {
+            if (v != null && v.longValue() < 0) throw new IllegalArgumentException("음수: " + v);
+            writeVarint(v == null ? 0 : v.longValue() + 1);
+        }
+
+        void writeEnum(Enum<?> v) {
+            writeVarint(v == null ? 0 : v.ordinal() + 1);
+        }
+
+        void writeString(String s) {
+            if (s == null) {
+                writeVarint(0);
+                return;
+            }
+            Integer ref = strings.get(s);
+            if (ref != null) {
+                writeVarint(((long) ref << 1) | 1);
+                return;
+            }
+            strings.put(s, strings.size());
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            writeVarint(((long) bytes.length + 1) << 1);
+            if (size + bytes.length > buf.length) buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + bytes.length));
+            System.arraycopy(bytes, 0, buf, size, bytes.length);
+            size += bytes.length;
+        }
+
+        void writeChips(BigDecimal v) {
+            if (v == null) {
+                writeVarint(0);
+                return;
+            }
+            if (v.signum() < 0 || v.compareTo(MAX_CHIPS) > 0) throw new IllegalArgumentException("칩 범위 밖: " + v);
+            long code;
+            try {
+                code = v.stripTrailingZeros().scale() <= 0
+                        ? v.longValueExact() << 1
+                        : (v.movePointRight(2).longValueExact() << 1) | 1;
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("소수 셋째 자리 이하 칩: " + v, e);
+            }
+            writeVarint(code + 1);
+        }
+
+        void writeCards(List<String> cards) {
+            writeNullable(cards != null ? cards.size() : null);
+            if (cards == null) return;
+            for (String code : cards) {
+                Integer index = CARD_INDEX.get(code);
+                if (index == null) throw new IllegalArgumentException("카드 " + code);
+                writeByte(index);
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, size);
+        }
+    }
+
+    private static final class In {
+        private final byte[] buf;
+        private int pos;
+        private final List<String> strings = new ArrayList<>();
+
+        In(byte[] buf) {
+            this.buf = buf;
+        }
+
+        int readByte() {
+            if (pos >= buf.length) throw new IllegalArgumentException("메시지가 중간에 끊김");
+            return buf[pos++] & 0xFF;
+        }
+
+        long readVarint() {
+            long v = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                v |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return v;
+            }
+            throw new IllegalArgumentException("varint 가 너무 김");
+        }
+
+        int readInt() {
+            long v = readVarint();
+            if (v > Integer.MAX_VALUE) throw new IllegalArgumentException("int 범위 밖: " + v);
+            return (int) v;
+        }
+
+        Integer readNullable() {
+            int v = readInt();
+            return v == 0 ? null : v - 1;
+        }
+
+        Long readNullableLong() {
+            long v = readVarint();
+            return v == 0 ? null : v - 1;
+        }
+
+        <E extends Enum<E>> E readEnum(E[] values) {
+            int v = readInt();
+            if (v == 0) return null;
+            if (v > values.length) throw new IllegalArgumentException("열거형 범위 밖: " + (v - 1));
+            return values[v - 1];
+        }
+
+        String readString() {
+            long v = readVarint();
+            if (v == 0) return null;
+            if ((v & 1) != 0) {
+                long ref = v >>> 1;
+                if (ref >= strings.size()) throw new IllegalArgumentException("문자열 참조 범위 밖: " + ref);
+                return strings.get((int) ref);
+            }
+            long length = (v >>> 1) - 1;
+            if (length > buf.length - pos) throw new IllegalArgumentException("메시지가 중간에 끊김");
+            String s = new String(buf, pos, (int) length, StandardCharsets.UTF_8);
+            pos += (int) length;
+            strings.add(s);
+            return s;
+        }
+
+        BigDecimal readChips() {
+            long v = readVarint();
+            if (v == 0) return null;
+            long code = v - 1;
+            return (code & 1) == 0 ? BigDecimal.valueOf(code >>> 1) : BigDecimal.valueOf(code >>> 1, 2);
+        }
+
+        List<String> readCards() {
+            Integer count = readNullable();
+            if (count == null) return null;
+            List<String> cards = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int index = readByte();
+                if (index >= CARD_CODES.length) throw new IllegalArgumentException("카드 번호 " + index);
+                cards.add(CARD_CODES[index]);
+            }
+            return cards;
+        }
+    }
+}
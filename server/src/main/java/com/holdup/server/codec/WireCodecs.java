@@ -0,0 +1,205 @@
+package com.holdup.server.codec;
+
+import com.holdup.server.action.dto.ActionResult;
+import com.holdup.server.outbound.OutboundBuffers;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.MultiValueMap;
+
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 연결별 메시지 코덱 협상과 적용. WebSocketConfig 가 clientInboundChannel·clientOutboundChannel 양쪽에 등록.
+ *
+ * <ul>
+ *   <li>CONNECT 에 {@value #CODEC_HEADER}:{@value #BINARY} 가 있고 /ws-native 연결이면 그 세션은 binary, 그 외(헤더 없음·SockJS)는 JSON.
+ *       SockJS 는 바이너리 WebSocket 메시지를 보낼 수 없음</li>
+ *   <li>테이블 메시지를 보내는 쪽은 {@link #headers} 로 만든 헤더를 붙여 보냄. 받을 binary 연결이 있을 때만 BinaryCodec 으로
+ *       한 번 인코딩해 내부 헤더에 실어 둠 (STOMP 프레임에는 안 나감)</li>
+ *   <li>브로커가 연결별로 나눈 메시지가 clientOutboundChannel 을 지날 때, binary 세션이면 본문을 그 바이트로 바꾸고
+ *       content-type 을 application/octet-stream 으로. STOMP 핸들러가 WebSocket 바이너리 메시지로 보냄</li>
+ *   <li>한 사용자의 연결이 모두 binary 면 {@link #binaryMessage} 로 JSON 변환 없이 바로 보냄</li>
+ *   <li>인코딩할 수 없는 메시지는 JSON 그대로</li>
+ * </ul>
+ */
+@Component
+public class WireCodecs implements ChannelInterceptor {
+
+    /** CONNECT 에서 코덱을 고르는 STOMP 헤더. */
+    public static final String CODEC_HEADER = "x-holdup-codec";
+    public static final String BINARY = "binary";
+    /** /ws-native 핸드셰이크에서 세션 속성으로 표시. */
+    public static final String NATIVE_TRANSPORT_ATTRIBUTE = "holdup.nativeTransport";
+
+    /** 미리 인코딩한 바이너리 본문. 브로커가 연결별 메시지에 헤더를 복사하므로 끝까지 따라감. */
+    private static final String BINARY_BODY_HEADER = "holdup.binaryBody";
+
+    private record Connection(String user, boolean binary) {
+    }
+
+    private record UserConnections(int json, int binary) {
+    }
+
+    private final boolean enabled;
+    private final Counter binarySessions;
+    private final Counter jsonSessions;
+    private final Counter fallbacks;
+    private final DistributionSummary binaryBytes;
+
+    private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+    private final Map<String, UserConnections> users = new ConcurrentHashMap<>();
+    private final AtomicInteger binaryConnections = new AtomicInteger();
+
+    public WireCodecs(MeterRegistry registry,
+                      @Value("${holdup.codec.binary-enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+        this.binarySessions = sessionCounter(registry, "binary");
+        this.jsonSessions = sessionCounter(registry, "json");
+        this.fallbacks = Counter.builder("holdup.codec.binary.fallback")
+                .description("바이너리로 표현할 수 없어 JSON 으로 보낸 메시지")
+                .register(registry);
+        this.binaryBytes = DistributionSummary.builder("holdup.codec.binary.bytes")
+                .description("바이너리 인코딩한 메시지 본문 크기")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("holdup.codec.binary.connections", binaryConnections, AtomicInteger::get)
+                .description("binary 코덱으로 연결된 세션 수")
+                .register(registry);
+    }
+
+    private static Counter sessionCounter(MeterRegistry registry, String codec) {
+        return Counter.builder("holdup.codec.sessions")
+                .description("CONNECT 에서 정해진 코덱")
+                .tag("codec", codec)
+                .register(registry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(headers);
+        if (type == SimpMessageType.MESSAGE) return toSessionCodec(message);
+        if (type == SimpMessageType.CONNECT) {
+            onConnect(message);
+        } else if (type == SimpMessageType.DISCONNECT) {
+            onDisconnect(SimpMessageHeaderAccessor.getSessionId(headers));
+        }
+        return message;
+    }
+
+    private void onConnect(Message<?> message) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String sessionId = accessor.getSessionId();
+        Principal user = accessor.getUser();
+        if (sessionId == null || user == null) return;
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        boolean binary = enabled
+                && BINARY.equalsIgnoreCase(accessor.getFirstNativeHeader(CODEC_HEADER))
+                && attributes != null && Boolean.TRUE.equals(attributes.get(NATIVE_TRANSPORT_ATTRIBUTE));
+        if (connections.put(sessionId, new Connection(user.getName(), binary)) != null) return;
+        users.merge(user.getName(), binary ? new UserConnections(0, 1) : new UserConnections(1, 0),
+                (a, b) -> new UserConnections(a.json() + b.json(), a.binary() + b.binary()));
+        if (binary) binaryConnections.incrementAndGet();
+        (binary ? binarySessions : jsonSessions).increment();
+    }
+
+    /** 클라이언트 DISCONNECT 와 연결 종료 양쪽에서 오므로 한 번만 반영. */
+    private void onDisconnect(String sessionId) {
+        Connection connection = sessionId != null ? connections.remove(sessionId) : null;
+        if (connection == null) return;
+        users.computeIfPresent(connection.user(), (name, c) -> {
+            UserConnections left = connection.binary()
+                    ? new UserConnections(c.json(), c.binary() - 1)
+                    : new UserConnections(c.json() - 1, c.binary());
+            return left.json() + left.binary() > 0 ? left : null;
+        });
+        if (connection.binary()) binaryConnections.decrementAndGet();
+    }
+
+    /** 연결별 메시지: binary 세션이면 미리 만든 바이트로, JSON 세션에 온 바이너리 전용 메시지는 버림. */
+    private Message<?> toSessionCodec(Message<?> message) {
+        Object body = message.getHeaders().get(BINARY_BODY_HEADER);
+        if (!(body instanceof byte[] bytes)) return message;
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        Connection connection = sessionId != null ? connections.get(sessionId) : null;
+        boolean binary = connection != null && connection.binary();
+        if (message.getPayload() == bytes) {
+            // binaryMessage 로 보낸 뒤 같은 사용자가 JSON 으로 새로 연결한 경우. 다음 상태 메시지부터는 JSON 으로 받음
+            return binary ? message : null;
+        }
+        if (!binary) return message;
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        accessor.removeHeader(BINARY_BODY_HEADER);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        return MessageBuilder.createMessage(bytes, accessor.getMessageHeaders());
+    }
+
+    /**
+     * 테이블 메시지용 SimpMessagingTemplate 헤더. 받을 binary 연결이 있으면 바이너리 본문을 실어 둠.
+     *
+     * @param user        convertAndSendToUser 대상. 토픽이면 null (binary 연결이 하나라도 있으면 인코딩)
+     * @param conflateKey OutboundBuffers 상태 키. 없으면 null
+     */
+    public Map<String, Object> headers(String user, ActionResult result, String conflateKey) {
+        byte[] body = wantsBinary(user) ? encode(result) : null;
+        if (body == null) return conflateKey != null ? OutboundBuffers.conflate(conflateKey) : null;
+        MultiValueMap<String, String> nativeHeaders = new LinkedMultiValueMap<>();
+        if (conflateKey != null) nativeHeaders.add(OutboundBuffers.CONFLATE_HEADER, conflateKey);
+        Map<String, Object> headers = new HashMap<>();
+        headers.put(NativeMessageHeaderAccessor.NATIVE_HEADERS, nativeHeaders);
+        headers.put(BINARY_BODY_HEADER, body);
+        return headers;
+    }
+
+    /**
+     * user 의 연결이 모두 binary 면 JSON 변환 없이 보낼 메시지 (SimpMessagingTemplate.send). 아니면 null.
+     */
+    public Message<byte[]> binaryMessage(String user, ActionResult result, String conflateKey) {
+        UserConnections c = enabled && user != null ? users.get(user) : null;
+        if (c == null || c.binary() == 0 || c.json() > 0) return null;
+        byte[] body = encode(result);
+        if (body == null) return null;
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        if (conflateKey != null) accessor.setNativeHeader(OutboundBuffers.CONFLATE_HEADER, conflateKey);
+        accessor.setHeader(BINARY_BODY_HEADER, body);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(body, accessor.getMessageHeaders());
+    }
+
+    private boolean wantsBinary(String user) {
+        if (!enabled || binaryConnections.get() == 0) return false;
+        if (user == null) return true;
+        UserConnections c = users.get(user);
+        return c != null && c.binary() > 0;
+    }
+
+    private byte[] encode(ActionResult result) {
+        try {
+            byte[] body = BinaryCodec.encode(result);
+            binaryBytes.record(body.length);
+            return body;
+        } catch (RuntimeException e) {
+            fallbacks.increment();
+            return null;
+        }
+    }
+}
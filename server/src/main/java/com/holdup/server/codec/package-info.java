@@ -0,0 +1,12 @@
+/**
+ * 테이블 메시지 바이너리 코덱 (연결별 JSON·binary 선택).
+ *
+ * <h2>디렉토리 구조</h2>
+ * <ul>
+ *   <li><b>BinaryCodec</b> - ActionResult ↔ 바이트 배열. varint 정수, 센트 단위 칩, 1바이트 카드, 좌석 플래그, 문자열 재참조. 형식은 클래스 주석.</li>
+ *   <li><b>WireCodecs</b> - CONNECT 의 x-holdup-codec 헤더로 세션 코덱 결정 (/ws-native 만 binary).
+ *       송신 헤더에 바이너리 본문을 실어 두고, 연결별 메시지가 clientOutboundChannel 을 지날 때 binary 세션 본문을 바꿈.
+ *       /ws-native 핸드셰이크 표시는 config.NativeTransportInterceptor.</li>
+ * </ul>
+ */
+package com.holdup.server.codec;
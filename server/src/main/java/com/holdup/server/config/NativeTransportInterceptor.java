@@ -0,0 +1,28 @@
+package com.holdup.server.config;
+
+import com.holdup.server.codec.WireCodecs;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+
+/**
+ * /ws-native 핸드셰이크에서 세션 속성에 순수 WebSocket 연결임을 표시.
+ * WireCodecs 가 CONNECT 때 보고 binary 코덱을 허용 (SockJS 연결은 바이너리 메시지를 못 보내므로 제외).
+ */
+public class NativeTransportInterceptor implements HandshakeInterceptor {
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        attributes.put(WireCodecs.NATIVE_TRANSPORT_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+}
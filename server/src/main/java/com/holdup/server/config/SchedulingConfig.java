@@ -0,0 +1,12 @@
+package com.holdup.server.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화 (로비 delta 전송 등).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,8 +1,10 @@
 package com.holdup.server.config;
 
+import com.holdup.server.session.ResumeTokens;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.security.Principal;
 import java.util.Map;
@@ -11,12 +13,27 @@ import java.util.UUID;
 /**
  * WebSocket 연결 시 연결마다 고유한 Principal을 부여.
  * 같은 닉네임/다른 브라우저여도 서로 다른 플레이어로 인식되도록 함.
+ * 단, ?resume={재접속 토큰} 이 유효하면 이전 연결의 플레이어 ID 를 그대로 부여 (끊긴 자리로 복귀).
+ * 로그인 계정의 토큰이면 세션 속성에 표시해, CONNECT 에 JWT 가 없으면 StompAuthChannelInterceptor 가 거부.
+ * STOMP CONNECT 에 JWT 가 있으면 StompAuthChannelInterceptor 가 계정 아이디로 다시 바꿈.
  */
 public class UniqueUserHandshakeHandler extends DefaultHandshakeHandler {
 
+    public static final String RESUME_PARAM = "resume";
+
+    private final ResumeTokens resumeTokens;
+
+    public UniqueUserHandshakeHandler(ResumeTokens resumeTokens) {
+        this.resumeTokens = resumeTokens;
+    }
+
     @Override
     protected Principal determineUser(ServerHttpRequest request, WebSocketHandler wsHandler, Map<String, Object> attributes) {
-        return new StompPrincipal(UUID.randomUUID().toString());
+        String token = UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams().getFirst(RESUME_PARAM);
+        ResumeTokens.Resume resumed = resumeTokens.resolve(token);
+        if (resumed == null) return new StompPrincipal(UUID.randomUUID().toString());
+        if (resumed.account()) attributes.put(ResumeTokens.ACCOUNT_RESUME_ATTRIBUTE, Boolean.TRUE);
+        return new StompPrincipal(resumed.playerId());
     }
 
     public static final class StompPrincipal implements Principal {
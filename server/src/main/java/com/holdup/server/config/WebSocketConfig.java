@@ -1,15 +1,48 @@
 package com.holdup.server.config;
 
+import com.holdup.server.auth.StompAuthChannelInterceptor;
+import com.holdup.server.codec.WireCodecs;
+import com.holdup.server.outbound.OutboundBuffers;
+import com.holdup.server.session.ResumeTokens;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
 
+/**
+ * STOMP 엔드포인트와 브로커 설정.
+ * /ws-native 는 순수 WebSocket, /ws 는 WebSocket 이 막힌 환경을 위한 SockJS 폴백 (둘 다 같은 브로커·인증·재접속 토큰).
+ * /ws-native 연결만 CONNECT 에서 바이너리 코덱을 고를 수 있음 (WireCodecs).
+ */
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final ResumeTokens resumeTokens;
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final OutboundBuffers outboundBuffers;
+    private final WireCodecs wireCodecs;
+    private final int messageSizeLimit;
+    private final int bufferSize;
+
+    public WebSocketConfig(ResumeTokens resumeTokens, StompAuthChannelInterceptor stompAuthChannelInterceptor,
+                           OutboundBuffers outboundBuffers, WireCodecs wireCodecs,
+                           @Value("${holdup.websocket.message-size-limit:16384}") int messageSizeLimit,
+                           @Value("${holdup.websocket.buffer-size:4096}") int bufferSize) {
+        this.resumeTokens = resumeTokens;
+        this.stompAuthChannelInterceptor = stompAuthChannelInterceptor;
+        this.outboundBuffers = outboundBuffers;
+        this.wireCodecs = wireCodecs;
+        this.messageSizeLimit = messageSizeLimit;
+        this.bufferSize = bufferSize;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.enableSimpleBroker("/topic", "/queue");
@@ -18,9 +51,47 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
+        // SockJS 프레이밍(a["..."] 배열·JSON 이스케이프)과 SockJS 세션 관리 없이 STOMP 프레임을 그대로 주고받음
+        registry.addEndpoint("/ws-native")
+                .setHandshakeHandler(new UniqueUserHandshakeHandler(resumeTokens))
+                .addInterceptors(new NativeTransportInterceptor())
+                .setAllowedOriginPatterns("*");
         registry.addEndpoint("/ws")
-                .setHandshakeHandler(new UniqueUserHandshakeHandler())
+                .setHandshakeHandler(new UniqueUserHandshakeHandler(resumeTokens))
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
     }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // CONNECT 의 JWT 로 연결 Principal 을 계정 아이디로 교체, 그다음 그 사용자의 코덱(x-holdup-codec) 기록
+        registration.interceptors(stompAuthChannelInterceptor, wireCodecs);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // binary 코덱 세션에는 미리 인코딩한 본문으로 교체
+        registration.interceptors(wireCodecs);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 연결별 송신 버퍼 (상태 스냅샷 병합, 느린 연결 차단)
+        registration.addDecoratorFactory(outboundBuffers);
+        // 클라이언트 → 서버 STOMP 메시지는 CONNECT·SUBSCRIBE·액션뿐이라 작음. 여러 WebSocket 메시지에 나뉘어 와도 이 크기까지만 모음
+        registration.setMessageSizeLimit(messageSizeLimit);
+    }
+
+    /**
+     * 컨테이너(Tomcat) WebSocket 수신 버퍼. 연결마다 텍스트·바이너리 버퍼를 하나씩 잡으므로
+     * 수신 메시지가 작은 만큼 줄여 연결당 메모리를 아낌 (기본 8KB). 이보다 큰 수신 메시지는 연결 종료(1009).
+     * 송신 크기와는 무관.
+     */
+    @Bean
+    public ServletServerContainerFactoryBean webSocketContainer() {
+        ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+        container.setMaxTextMessageBufferSize(bufferSize);
+        container.setMaxBinaryMessageBufferSize(bufferSize);
+        return container;
+    }
 }
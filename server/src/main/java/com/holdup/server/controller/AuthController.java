@@ -1,13 +1,21 @@
 package com.holdup.server.controller;
 
 import com.holdup.server.auth.JwtTokenService;
+import com.holdup.server.auth.LoginRateLimiter;
+import com.holdup.server.auth.PasswordHasher;
+import com.holdup.server.auth.TokenRevocationList;
 import com.holdup.server.auth.UserAccountService;
 import com.holdup.server.auth.dto.AuthRequest;
 import com.holdup.server.auth.dto.AuthResponse;
 import com.holdup.server.auth.dto.FindIdRequest;
 import com.holdup.server.auth.dto.LoginRequest;
 import com.holdup.server.auth.dto.ResetPasswordRequest;
+import com.holdup.server.session.ResumeTokens;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,6 +26,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -25,60 +36,91 @@ public class AuthController {
 
     private final UserAccountService accountService;
     private final JwtTokenService jwtTokenService;
+    private final TokenRevocationList tokenRevocationList;
+    private final PasswordHasher passwordHasher;
+    private final LoginRateLimiter loginRateLimiter;
+    private final ResumeTokens resumeTokens;
 
-    public AuthController(UserAccountService accountService, JwtTokenService jwtTokenService) {
+    public AuthController(UserAccountService accountService, JwtTokenService jwtTokenService,
+                          TokenRevocationList tokenRevocationList, PasswordHasher passwordHasher,
+                          LoginRateLimiter loginRateLimiter, ResumeTokens resumeTokens) {
         this.accountService = accountService;
         this.jwtTokenService = jwtTokenService;
+        this.tokenRevocationList = tokenRevocationList;
+        this.passwordHasher = passwordHasher;
+        this.loginRateLimiter = loginRateLimiter;
+        this.resumeTokens = resumeTokens;
     }
 
     @PostMapping("/signup")
-    public ResponseEntity<AuthResponse> signup(@Valid @RequestBody AuthRequest request) {
+    public CompletableFuture<ResponseEntity<AuthResponse>> signup(@Valid @RequestBody AuthRequest request,
+                                                                  HttpServletRequest http) {
         String displayName = (request.getDisplayName() == null || request.getDisplayName().isBlank())
                 ? request.getUsername()
                 : request.getDisplayName().trim();
         if (request.getEmail() == null || request.getEmail().isBlank()) {
-            return ResponseEntity.badRequest().body(AuthResponse.builder().success(false).message("이메일은 필수입니다.").build());
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.badRequest().body(AuthResponse.builder().success(false).message("이메일은 필수입니다.").build()));
         }
+        long retryAfter = loginRateLimiter.tryAcquire(http.getRemoteAddr(), null);
+        if (retryAfter > 0) return CompletableFuture.completedFuture(tooManyRequests(retryAfter));
 
         try {
-            var account = accountService.register(
-                    request.getUsername().trim(),
-                    request.getPassword(),
-                    displayName,
-                    request.getEmail().trim().toLowerCase()
-            );
-            String token = jwtTokenService.createToken(account);
-            return ResponseEntity.ok(AuthResponse.builder()
-                    .success(true)
-                    .message("회원가입 완료")
-                    .token(token)
-                    .username(account.username())
-                    .displayName(account.displayName())
-                    .email(account.email())
-                    .build());
+            return accountService.register(
+                            request.getUsername().trim(),
+                            request.getPassword(),
+                            displayName,
+                            request.getEmail().trim().toLowerCase()
+                    )
+                    .thenApply(account -> ResponseEntity.ok(AuthResponse.builder()
+                            .success(true)
+                            .message("회원가입 완료")
+                            .token(jwtTokenService.createToken(account))
+                            .username(account.username())
+                            .displayName(account.displayName())
+                            .email(account.email())
+                            .build()))
+                    .exceptionally(e -> {
+                        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                        // 동시에 같은 아이디·이메일로 가입하면 중복 확인을 둘 다 통과하고 INSERT 에서 실패
+                        if (cause instanceof DataIntegrityViolationException) {
+                            return badRequest("이미 사용 중인 아이디 또는 이메일입니다.");
+                        }
+                        if (!(cause instanceof IllegalArgumentException)) throw new CompletionException(cause);
+                        return badRequest(cause.getMessage());
+                    });
         } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body(AuthResponse.builder()
-                    .success(false)
-                    .message(e.getMessage())
-                    .build());
+            return CompletableFuture.completedFuture(badRequest(e.getMessage()));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(tooManyRequests(passwordHasher.retryAfterSeconds()));
         }
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
-        return accountService.authenticate(request.getUsername().trim(), request.getPassword())
-                .map(account -> ResponseEntity.ok(AuthResponse.builder()
-                        .success(true)
-                        .message("로그인 성공")
-                        .token(jwtTokenService.createToken(account))
-                        .username(account.username())
-                        .displayName(account.displayName())
-                        .email(account.email())
-                        .build()))
-                .orElseGet(() -> ResponseEntity.status(401).body(AuthResponse.builder()
-                        .success(false)
-                        .message("아이디 또는 비밀번호가 올바르지 않습니다.")
-                        .build()));
+    public CompletableFuture<ResponseEntity<AuthResponse>> login(@Valid @RequestBody LoginRequest request,
+                                                                 HttpServletRequest http) {
+        String username = request.getUsername().trim();
+        long retryAfter = loginRateLimiter.tryAcquire(http.getRemoteAddr(), username);
+        if (retryAfter > 0) return CompletableFuture.completedFuture(tooManyRequests(retryAfter));
+
+        try {
+            return accountService.authenticate(username, request.getPassword())
+                    .thenApply(found -> found
+                            .map(account -> ResponseEntity.ok(AuthResponse.builder()
+                                    .success(true)
+                                    .message("로그인 성공")
+                                    .token(jwtTokenService.createToken(account))
+                                    .username(account.username())
+                                    .displayName(account.displayName())
+                                    .email(account.email())
+                                    .build()))
+                            .orElseGet(() -> ResponseEntity.status(401).body(AuthResponse.builder()
+                                    .success(false)
+                                    .message("아이디 또는 비밀번호가 올바르지 않습니다.")
+                                    .build())));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(tooManyRequests(passwordHasher.retryAfterSeconds()));
+        }
     }
 
     @GetMapping("/check-email")
@@ -102,19 +144,41 @@ public class AuthController {
     }
 
     @PostMapping("/reset-password")
-    public ResponseEntity<AuthResponse> resetPassword(@Valid @RequestBody ResetPasswordRequest request) {
-        boolean ok = accountService.resetPassword(
-                request.getUsername().trim(),
-                request.getEmail().trim().toLowerCase(),
-                request.getNewPassword()
-        );
-        if (!ok) {
+    public CompletableFuture<ResponseEntity<AuthResponse>> resetPassword(@Valid @RequestBody ResetPasswordRequest request,
+                                                                         HttpServletRequest http) {
+        String username = request.getUsername().trim();
+        long retryAfter = loginRateLimiter.tryAcquire(http.getRemoteAddr(), username);
+        if (retryAfter > 0) return CompletableFuture.completedFuture(tooManyRequests(retryAfter));
+
+        try {
+            return accountService.resetPassword(
+                            username,
+                            request.getEmail().trim().toLowerCase(),
+                            request.getNewPassword()
+                    )
+                    .thenApply(ok -> ok
+                            ? ResponseEntity.ok(AuthResponse.builder().success(true).message("비밀번호가 재설정되었습니다.").build())
+                            : badRequest("아이디/이메일 정보가 일치하지 않습니다."));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(tooManyRequests(passwordHasher.retryAfterSeconds()));
+        }
+    }
+
+    /** 지금 쓰는 토큰 폐기. 다른 기기의 토큰은 유지. 계정의 재접속 토큰은 폐기 (다음 연결에서 새로 발급). */
+    @PostMapping("/logout")
+    public ResponseEntity<AuthResponse> logout(Authentication authentication) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof JwtTokenService.TokenPrincipal principal)) {
+            return ResponseEntity.status(401).body(AuthResponse.builder().success(false).message("인증 필요").build());
+        }
+        resumeTokens.revoke(principal.username());
+        if (principal.tokenId() == null) {
             return ResponseEntity.badRequest().body(AuthResponse.builder()
                     .success(false)
-                    .message("아이디/이메일 정보가 일치하지 않습니다.")
+                    .message("이전 형식 토큰은 개별 폐기할 수 없습니다. 만료되거나 비밀번호를 재설정하면 무효가 됩니다.")
                     .build());
         }
-        return ResponseEntity.ok(AuthResponse.builder().success(true).message("비밀번호가 재설정되었습니다.").build());
+        tokenRevocationList.revokeToken(principal.tokenId(), principal.expiresAt());
+        return ResponseEntity.ok(AuthResponse.builder().success(true).message("로그아웃 완료").build());
     }
 
     @GetMapping("/me")
@@ -131,4 +195,18 @@ public class AuthController {
                         .build()))
                 .orElseGet(() -> ResponseEntity.status(404).body(AuthResponse.builder().success(false).message("사용자 없음").build()));
     }
+
+    private static ResponseEntity<AuthResponse> badRequest(String message) {
+        return ResponseEntity.badRequest().body(AuthResponse.builder().success(false).message(message).build());
+    }
+
+    /** 시도 횟수 한도 초과 또는 해시 대기열 포화. */
+    private static ResponseEntity<AuthResponse> tooManyRequests(long retryAfterSeconds) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(AuthResponse.builder()
+                        .success(false)
+                        .message("요청이 많습니다. 잠시 후 다시 시도하세요.")
+                        .build());
+    }
 }
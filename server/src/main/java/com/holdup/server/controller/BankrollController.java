@@ -0,0 +1,38 @@
+package com.holdup.server.controller;
+
+import com.holdup.server.auth.JwtTokenService;
+import com.holdup.server.bankroll.Bankroll;
+import com.holdup.server.bankroll.dto.BankrollResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 내 칩 잔액 조회. 로그인 필요.
+ */
+@RestController
+@RequestMapping("/api/bankroll")
+public class BankrollController {
+
+    private final Bankroll bankroll;
+
+    public BankrollController(Bankroll bankroll) {
+        this.bankroll = bankroll;
+    }
+
+    @GetMapping("/me")
+    public ResponseEntity<?> me(Authentication authentication) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof JwtTokenService.TokenPrincipal principal)) {
+            return ResponseEntity.status(401).body(Map.of("message", "인증 필요"));
+        }
+        return ResponseEntity.ok(BankrollResponse.builder()
+                .username(principal.username())
+                .balance(bankroll.balance(principal.username()))
+                .tableIds(bankroll.openTables(principal.username()))
+                .build());
+    }
+}
@@ -0,0 +1,88 @@
+package com.holdup.server.controller;
+
+import com.holdup.server.equity.CardMask;
+import com.holdup.server.equity.HandRange;
+import com.holdup.server.equity.PreflopEquityTable;
+import com.holdup.server.equity.RangeEquityCalculator;
+import com.holdup.server.equity.StartingHands;
+import com.holdup.server.equity.dto.RangeEquityRequest;
+import com.holdup.server.equity.dto.RangeEquityResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 에퀴티 조회. 프리플랍은 미리 계산한 169×169 표에서 바로 읽고, 레인지 대 레인지는 요청마다 계산 (결과 캐시).
+ */
+@RestController
+@RequestMapping("/api/equity")
+public class EquityController {
+
+    private final PreflopEquityTable preflopEquityTable;
+    private final RangeEquityCalculator rangeEquityCalculator;
+
+    public EquityController(PreflopEquityTable preflopEquityTable, RangeEquityCalculator rangeEquityCalculator) {
+        this.preflopEquityTable = preflopEquityTable;
+        this.rangeEquityCalculator = rangeEquityCalculator;
+    }
+
+    /**
+     * 프리플랍 헤즈업 올인 에퀴티. vs 가 없으면 169개 클래스 전체 상대 에퀴티.
+     *
+     * @param hand 시작 패 클래스 (예: AKs, QQ, 72o)
+     * @param vs   상대 클래스
+     */
+    @GetMapping("/preflop")
+    public ResponseEntity<?> preflop(@RequestParam String hand, @RequestParam(required = false) String vs) {
+        int handIndex = StartingHands.parse(hand);
+        int vsIndex = vs != null ? StartingHands.parse(vs) : -1;
+        if (handIndex < 0 || (vs != null && vsIndex < 0)) {
+            return ResponseEntity.badRequest().body(Map.of("message", "Unknown starting hand"));
+        }
+        if (!preflopEquityTable.isReady()) {
+            return ResponseEntity.status(503).body(Map.of("message", "Preflop equity table is being generated"));
+        }
+        if (vsIndex >= 0) {
+            return ResponseEntity.ok(Map.of(
+                    "hand", StartingHands.name(handIndex),
+                    "vs", StartingHands.name(vsIndex),
+                    "equity", preflopEquityTable.equity(handIndex, vsIndex)));
+        }
+        Map<String, Double> row = new LinkedHashMap<>();
+        for (int i = StartingHands.COUNT - 1; i >= 0; i--) {
+            row.put(StartingHands.name(i), preflopEquityTable.equity(handIndex, i));
+        }
+        return ResponseEntity.ok(Map.of("hand", StartingHands.name(handIndex), "equities", row));
+    }
+
+    /**
+     * 레인지 대 레인지 올인 에퀴티 (보드 0·3·4·5장). 인증 필요.
+     */
+    @PostMapping("/range")
+    public ResponseEntity<?> range(@RequestBody RangeEquityRequest request) {
+        RangeEquityCalculator.Result result;
+        try {
+            long board = CardMask.parseCards(request.getBoard());
+            result = rangeEquityCalculator.compute(
+                    HandRange.parse(request.getHero()), HandRange.parse(request.getVillain()), board);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+        return ResponseEntity.ok(RangeEquityResponse.builder()
+                .heroEquity(result.heroEquity())
+                .villainEquity(result.villainEquity())
+                .tie(result.tie())
+                .heroCombos(result.heroCombos())
+                .villainCombos(result.villainCombos())
+                .runouts(result.runouts())
+                .method(result.method())
+                .build());
+    }
+}
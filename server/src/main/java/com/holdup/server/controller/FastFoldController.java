@@ -0,0 +1,34 @@
+package com.holdup.server.controller;
+
+import com.holdup.server.fastfold.FastFoldPool;
+import com.holdup.server.fastfold.dto.FastFoldJoinRequest;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+
+/**
+ * 패스트 폴드 풀. /app/fastfold/join 으로 입장, /app/fastfold/leave 로 퇴장.
+ * 상태는 /user/queue/fastfold, 핸드 진행은 기존과 같이 /user/queue/table-state 로 수신하고 액션은 /app/action 으로 보냄.
+ */
+@Controller
+public class FastFoldController {
+
+    private final FastFoldPool fastFoldPool;
+
+    public FastFoldController(FastFoldPool fastFoldPool) {
+        this.fastFoldPool = fastFoldPool;
+    }
+
+    @MessageMapping("/fastfold/join")
+    public void join(FastFoldJoinRequest request, Principal principal) {
+        if (principal == null) return;
+        fastFoldPool.join(principal.getName(), request);
+    }
+
+    @MessageMapping("/fastfold/leave")
+    public void leave(Principal principal) {
+        if (principal == null) return;
+        fastFoldPool.leave(principal.getName());
+    }
+}
@@ -3,17 +3,14 @@ package com.holdup.server.controller;
 import com.holdup.server.action.ActionDispatcher;
 import com.holdup.server.action.dto.ActionResult;
 import com.holdup.server.action.dto.PlayerActionRequest;
-import com.holdup.server.action.dto.TableSnapshot;
-import com.holdup.server.service.TableManager;
-import com.holdup.server.service.TableSnapshotService;
+import com.holdup.server.metrics.GameMetrics;
+import com.holdup.server.service.TableBroadcastService;
 import jakarta.validation.Valid;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.SendTo;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
 import java.security.Principal;
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -25,16 +22,14 @@ import java.util.Map;
 public class GameController {
 
     private final ActionDispatcher actionDispatcher;
-    private final SimpMessagingTemplate messagingTemplate;
-    private final TableManager tableManager;
-    private final TableSnapshotService tableSnapshotService;
+    private final TableBroadcastService tableBroadcastService;
+    private final GameMetrics gameMetrics;
 
-    public GameController(ActionDispatcher actionDispatcher, SimpMessagingTemplate messagingTemplate,
-                         TableManager tableManager, TableSnapshotService tableSnapshotService) {
+    public GameController(ActionDispatcher actionDispatcher, TableBroadcastService tableBroadcastService,
+                          GameMetrics gameMetrics) {
         this.actionDispatcher = actionDispatcher;
-        this.messagingTemplate = messagingTemplate;
-        this.tableManager = tableManager;
-        this.tableSnapshotService = tableSnapshotService;
+        this.tableBroadcastService = tableBroadcastService;
+        this.gameMetrics = gameMetrics;
     }
 
     @MessageMapping("/hello")
@@ -51,43 +46,13 @@ public class GameController {
      */
     @MessageMapping("/action")
     public void action(@Valid PlayerActionRequest request, Principal principal) {
-        // 핸드셰이크 시 부여된 연결별 고유 ID (UniqueUserHandshakeHandler)
-        String playerId = principal != null && principal.getName() != null
-                ? principal.getName()
-                : (request.getPlayerId() != null ? request.getPlayerId() : "anonymous");
+        long receivedAt = System.nanoTime();
+        // 연결 Principal 만 플레이어 ID 로 인정: CONNECT 의 JWT 계정 아이디, 없으면 핸드셰이크 시 부여된 연결별 고유 ID.
+        // 요청의 playerId 는 입장 시 표시명으로만 쓰임
+        if (principal == null || principal.getName() == null) return;
+        String playerId = principal.getName();
         ActionResult result = actionDispatcher.dispatch(request, playerId);
-        String tableId = result.getTableId();
-        if (tableId != null && !tableId.isBlank()) {
-            tableManager.getTable(tableId).ifPresent(table -> {
-                TableSnapshot snapshot = tableSnapshotService.toSnapshot(table, null);
-                Map<String, Object> payload = result.getPayload() != null ? new HashMap<>(result.getPayload()) : new HashMap<>();
-                payload.put("tableState", snapshot);
-                result.setPayload(payload);
-                messagingTemplate.convertAndSend("/topic/table/" + tableId, result);
-
-                // 각 플레이어에게 본인 홀카드가 포함된 스냅샷 전송 (/user/queue/table-state)
-                for (var seat : table.getSeats()) {
-                    if (!seat.isEmpty()) {
-                        String pid = seat.getPlayer().getId();
-                        TableSnapshot mySnapshot = tableSnapshotService.toSnapshot(table, pid);
-                        Map<String, Object> myPayload = new HashMap<>(payload);
-                        myPayload.put("tableState", mySnapshot);
-                        ActionResult myResult = ActionResult.builder()
-                                .success(result.isSuccess())
-                                .message(result.getMessage())
-                                .actionType(result.getActionType())
-                                .playerId(result.getPlayerId())
-                                .tableId(result.getTableId())
-                                .seatIndex(result.getSeatIndex())
-                                .amount(result.getAmount())
-                                .payload(myPayload)
-                                .build();
-                        messagingTemplate.convertAndSendToUser(pid, "/queue/table-state", myResult);
-                    }
-                }
-            });
-        } else {
-            messagingTemplate.convertAndSend("/topic/actions", result);
-        }
+        tableBroadcastService.broadcast(result);
+        gameMetrics.recordStage(GameMetrics.Stage.INBOUND, System.nanoTime() - receivedAt);
     }
 }
@@ -0,0 +1,44 @@
+package com.holdup.server.controller;
+
+import com.holdup.server.lobby.LobbyIndex;
+import com.holdup.server.lobby.LobbyQuery;
+import com.holdup.server.lobby.dto.LobbyPage;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+
+/**
+ * 로비 테이블 목록. 이후 변경분은 /topic/lobby 구독으로 수신.
+ */
+@RestController
+@RequestMapping("/api/lobby")
+public class LobbyController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final LobbyIndex lobbyIndex;
+
+    public LobbyController(LobbyIndex lobbyIndex) {
+        this.lobbyIndex = lobbyIndex;
+    }
+
+    /**
+     * @param bb      빅 블라인드 (스테이크)
+     * @param seats   테이블 정원
+     * @param minFree 최소 빈 자리 수
+     * @param q       테이블 이름 접두어
+     */
+    @GetMapping("/tables")
+    public LobbyPage tables(@RequestParam(required = false) BigDecimal bb,
+                            @RequestParam(required = false) Integer seats,
+                            @RequestParam(defaultValue = "0") int minFree,
+                            @RequestParam(required = false) String q,
+                            @RequestParam(defaultValue = "0") int page,
+                            @RequestParam(defaultValue = "20") int size) {
+        return lobbyIndex.query(new LobbyQuery(bb, seats, minFree, q,
+                Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE)));
+    }
+}
@@ -0,0 +1,34 @@
+package com.holdup.server.controller;
+
+import com.holdup.server.matchmaking.QuickSeatMatchmaker;
+import com.holdup.server.matchmaking.dto.QuickSeatRequest;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+
+/**
+ * 빠른 입장 대기열. /app/matchmaking/join 으로 등록, /app/matchmaking/cancel 로 취소.
+ * 등록·배정 결과는 /user/queue/matchmaking 으로 수신.
+ */
+@Controller
+public class MatchmakingController {
+
+    private final QuickSeatMatchmaker matchmaker;
+
+    public MatchmakingController(QuickSeatMatchmaker matchmaker) {
+        this.matchmaker = matchmaker;
+    }
+
+    @MessageMapping("/matchmaking/join")
+    public void join(QuickSeatRequest request, Principal principal) {
+        if (principal == null) return;
+        matchmaker.enqueue(principal.getName(), request);
+    }
+
+    @MessageMapping("/matchmaking/cancel")
+    public void cancel(Principal principal) {
+        if (principal == null) return;
+        matchmaker.cancel(principal.getName());
+    }
+}
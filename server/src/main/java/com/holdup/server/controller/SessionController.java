@@ -0,0 +1,30 @@
+package com.holdup.server.controller;
+
+import com.holdup.server.auth.JwtTokenService;
+import com.holdup.server.session.PlayerSessions;
+import com.holdup.server.session.dto.SessionInfo;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+
+/**
+ * 연결 정보. 클라이언트는 연결 직후 /app/session 을 구독해 플레이어 ID·재접속 토큰을 한 번 받음.
+ */
+@Controller
+public class SessionController {
+
+    private final PlayerSessions playerSessions;
+
+    public SessionController(PlayerSessions playerSessions) {
+        this.playerSessions = playerSessions;
+    }
+
+    @SubscribeMapping("/session")
+    public SessionInfo session(Principal principal) {
+        boolean account = principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof JwtTokenService.TokenPrincipal;
+        return playerSessions.describe(principal.getName(), account);
+    }
+}
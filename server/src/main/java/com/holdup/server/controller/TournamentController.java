@@ -0,0 +1,118 @@
+package com.holdup.server.controller;
+
+import com.holdup.server.auth.JwtTokenService;
+import com.holdup.server.tournament.Tournament;
+import com.holdup.server.tournament.TournamentDirector;
+import com.holdup.server.tournament.dto.CreateTournamentRequest;
+import com.holdup.server.tournament.dto.IcmRequest;
+import com.holdup.server.tournament.dto.TournamentRegisterRequest;
+import com.holdup.server.tournament.dto.TournamentSummary;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.security.Principal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 토너먼트. 생성·시작·조회는 REST (생성·시작은 로그인 필요, 시작은 만든 사용자만), 등록은 STOMP (/app/tournament/register, /app/tournament/unregister).
+ * 등록·좌석 배정·이동·탈락 알림은 /user/queue/tournament, 핸드 진행은 /user/queue/table-state 로 수신.
+ */
+@RestController
+@RequestMapping("/api/tournaments")
+public class TournamentController {
+
+    private final TournamentDirector tournamentDirector;
+
+    public TournamentController(TournamentDirector tournamentDirector) {
+        this.tournamentDirector = tournamentDirector;
+    }
+
+    @GetMapping
+    public List<TournamentSummary> list() {
+        return tournamentDirector.list().stream()
+                .map(t -> tournamentDirector.summarize(t, false))
+                .sorted(Comparator.comparing(TournamentSummary::getName))
+                .toList();
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<TournamentSummary> get(@PathVariable String id) {
+        return tournamentDirector.get(id)
+                .map(t -> ResponseEntity.ok(tournamentDirector.summarize(t, true)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PostMapping
+    public ResponseEntity<?> create(@RequestBody CreateTournamentRequest request, Authentication authentication) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof JwtTokenService.TokenPrincipal principal)) {
+            return ResponseEntity.status(401).body(Map.of("message", "인증 필요"));
+        }
+        try {
+            Tournament t = tournamentDirector.create(request, principal.username());
+            return ResponseEntity.ok(tournamentDirector.summarize(t, false));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /** 만든 사용자만 시작할 수 있음. */
+    @PostMapping("/{id}/start")
+    public ResponseEntity<?> start(@PathVariable String id, Authentication authentication) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof JwtTokenService.TokenPrincipal principal)) {
+            return ResponseEntity.status(401).body(Map.of("message", "인증 필요"));
+        }
+        try {
+            Tournament t = tournamentDirector.start(id, principal.username());
+            return ResponseEntity.ok(tournamentDirector.summarize(t, false));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(404).body(Map.of("message", e.getMessage()));
+        } catch (SecurityException e) {
+            return ResponseEntity.status(403).body(Map.of("message", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409).body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /** 임의 스택·상금 구조의 ICM (딜 제안용). */
+    @PostMapping("/icm")
+    public ResponseEntity<?> icm(@RequestBody IcmRequest request) {
+        try {
+            return ResponseEntity.ok(tournamentDirector.icm(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    /** 진행 중인 토너먼트 생존자의 ICM. 스택이 바뀔 때마다 다시 조회해도 됨 (같은 스택이면 캐시). */
+    @GetMapping("/{id}/icm")
+    public ResponseEntity<?> tournamentIcm(@PathVariable String id) {
+        Tournament t = tournamentDirector.get(id).orElse(null);
+        if (t == null) return ResponseEntity.notFound().build();
+        try {
+            return ResponseEntity.ok(tournamentDirector.icm(t));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409).body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    @MessageMapping("/tournament/register")
+    public void register(TournamentRegisterRequest request, Principal principal) {
+        if (principal == null || request.getTournamentId() == null) return;
+        tournamentDirector.register(request.getTournamentId(), principal.getName(), request.getNickname());
+    }
+
+    @MessageMapping("/tournament/unregister")
+    public void unregister(TournamentRegisterRequest request, Principal principal) {
+        if (principal == null || request.getTournamentId() == null) return;
+        tournamentDirector.unregister(request.getTournamentId(), principal.getName());
+    }
+}
@@ -0,0 +1,94 @@
+package com.holdup.server.equity;
+
+import com.holdup.server.card.Card;
+import com.holdup.server.card.Rank;
+
+import java.util.Collection;
+
+/**
+ * 카드 ↔ 비트 인덱스 변환. 한 장은 suit * 13 + rank (rank 0=2 … 12=A), 여러 장은 52비트 long 마스크.
+ * 문양별 13비트 끗 마스크를 시프트 한 번으로 꺼낼 수 있어 HandRanker 가 그대로 사용.
+ */
+public final class CardMask {
+
+    public static final int CARDS = 52;
+    public static final long FULL_DECK = (1L << CARDS) - 1;
+
+    private static final String RANK_CODES = "23456789TJQKA";
+    private static final String SUIT_CODES = "shdc";
+
+    private CardMask() {
+    }
+
+    public static int index(int rank, int suit) {
+        return suit * 13 + rank;
+    }
+
+    public static int rankOf(int index) {
+        return index % 13;
+    }
+
+    public static int suitOf(int index) {
+        return index / 13;
+    }
+
+    public static int index(Card card) {
+        return index(card.getRank().getStrength() - Rank.TWO.getStrength(), card.getSuit().ordinal());
+    }
+
+    public static long of(Collection<Card> cards) {
+        long mask = 0;
+        for (Card card : cards) mask |= 1L << index(card);
+        return mask;
+    }
+
+    /** 끗 문자 (2~9, T, J, Q, K, A) → 0~12. 모르면 -1. */
+    public static int rankOf(char code) {
+        return RANK_CODES.indexOf(Character.toUpperCase(code));
+    }
+
+    /** 문양 문자 (s, h, d, c) → 0~3. 모르면 -1. Suit enum 순서와 같음. */
+    public static int suitOf(char code) {
+        return SUIT_CODES.indexOf(Character.toLowerCase(code));
+    }
+
+    /** "As" → 인덱스. 형식이 틀리면 -1. */
+    public static int parseCard(String code) {
+        if (code == null || code.length() != 2) return -1;
+        int rank = rankOf(code.charAt(0));
+        int suit = suitOf(code.charAt(1));
+        return rank < 0 || suit < 0 ? -1 : index(rank, suit);
+    }
+
+    /**
+     * "AsKhQd" 또는 "As Kh Qd" 형식 보드 → 마스크.
+     *
+     * @throws IllegalArgumentException 형식 오류·중복 카드
+     */
+    public static long parseCards(String codes) {
+        if (codes == null) return 0;
+        String compact = codes.replaceAll("[\\s,]", "");
+        if (compact.length() % 2 != 0) throw new IllegalArgumentException("Invalid cards: " + codes);
+        long mask = 0;
+        for (int i = 0; i < compact.length(); i += 2) {
+            int card = parseCard(compact.substring(i, i + 2));
+            if (card < 0) throw new IllegalArgumentException("Invalid card: " + compact.substring(i, i + 2));
+            if ((mask & (1L << card)) != 0) throw new IllegalArgumentException("Duplicate card: " + compact.substring(i, i + 2));
+            mask |= 1L << card;
+        }
+        return mask;
+    }
+
+    public static String toString(int index) {
+        return "" + RANK_CODES.charAt(rankOf(index)) + SUIT_CODES.charAt(suitOf(index));
+    }
+
+    /** 마스크 → "AsKh" (인덱스 순). */
+    public static String toString(long mask) {
+        StringBuilder sb = new StringBuilder();
+        for (long m = mask; m != 0; m &= m - 1) {
+            sb.append(toString(Long.numberOfTrailingZeros(m)));
+        }
+        return sb.toString();
+    }
+}
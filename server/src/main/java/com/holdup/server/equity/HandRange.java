@@ -0,0 +1,138 @@
+package com.holdup.server.equity;
+
+import java.util.BitSet;
+
+/**
+ * 핸드 레인지 = 1326개 구체 조합의 비트셋. 조합 ID 는 카드 인덱스 c1 &lt; c2 에 대해 c2 * (c2 - 1) / 2 + c1.
+ *
+ * <p>문법 (쉼표·공백 구분):</p>
+ * <ul>
+ *   <li>QQ, QQ+ (QQ 이상), QQ-99 — 페어</li>
+ *   <li>AK (수딧+오프수트), AKs, AKo, ATs+ (ATs~AKs), KTo-K7o — 높은 끗 고정, 키커 범위</li>
+ *   <li>AhKh — 구체 조합</li>
+ * </ul>
+ */
+public final class HandRange {
+
+    public static final int COMBOS = 1326;
+
+    private static final long[] COMBO_MASKS = new long[COMBOS];
+    private static final int[] FIRST = new int[COMBOS];
+    private static final int[] SECOND = new int[COMBOS];
+
+    static {
+        for (int c2 = 1; c2 < CardMask.CARDS; c2++) {
+            for (int c1 = 0; c1 < c2; c1++) {
+                int id = comboId(c1, c2);
+                COMBO_MASKS[id] = 1L << c1 | 1L << c2;
+                FIRST[id] = c1;
+                SECOND[id] = c2;
+            }
+        }
+    }
+
+    private HandRange() {
+    }
+
+    public static int comboId(int card1, int card2) {
+        int lo = Math.min(card1, card2);
+        int hi = Math.max(card1, card2);
+        return hi * (hi - 1) / 2 + lo;
+    }
+
+    public static long mask(int comboId) {
+        return COMBO_MASKS[comboId];
+    }
+
+    public static int firstCard(int comboId) {
+        return FIRST[comboId];
+    }
+
+    public static int secondCard(int comboId) {
+        return SECOND[comboId];
+    }
+
+    /**
+     * @throws IllegalArgumentException 알 수 없는 토큰
+     */
+    public static BitSet parse(String text) {
+        BitSet range = new BitSet(COMBOS);
+        if (text == null) return range;
+        for (String token : text.split("[,\\s]+")) {
+            if (token.isEmpty()) continue;
+            if (!parseToken(token, range)) throw new IllegalArgumentException("Invalid range token: " + token);
+        }
+        return range;
+    }
+
+    private static boolean parseToken(String token, BitSet range) {
+        if (token.length() == 4 && CardMask.parseCard(token.substring(0, 2)) >= 0) {
+            int c1 = CardMask.parseCard(token.substring(0, 2));
+            int c2 = CardMask.parseCard(token.substring(2, 4));
+            if (c2 < 0 || c1 == c2) return false;
+            range.set(comboId(c1, c2));
+            return true;
+        }
+        int dash = token.indexOf('-');
+        boolean plus = token.endsWith("+");
+        String head = dash >= 0 ? token.substring(0, dash) : plus ? token.substring(0, token.length() - 1) : token;
+        HandClass from = HandClass.parse(head);
+        if (from == null) return false;
+        if (dash >= 0) {
+            HandClass to = HandClass.parse(token.substring(dash + 1));
+            if (to == null || to.pair() != from.pair() || to.kind() != from.kind()) return false;
+            if (from.pair()) {
+                addPairs(range, Math.min(from.hi(), to.hi()), Math.max(from.hi(), to.hi()));
+            } else {
+                if (to.hi() != from.hi()) return false;
+                addKickers(range, from.hi(), Math.min(from.lo(), to.lo()), Math.max(from.lo(), to.lo()), from.kind());
+            }
+        } else if (plus) {
+            if (from.pair()) addPairs(range, from.hi(), 12);
+            else addKickers(range, from.hi(), from.lo(), from.hi() - 1, from.kind());
+        } else if (from.pair()) {
+            addPairs(range, from.hi(), from.hi());
+        } else {
+            addKickers(range, from.hi(), from.lo(), from.lo(), from.kind());
+        }
+        return true;
+    }
+
+    private static void addPairs(BitSet range, int fromRank, int toRank) {
+        for (int r = fromRank; r <= toRank; r++) addCombos(range, r, r, 'o');
+    }
+
+    private static void addKickers(BitSet range, int hi, int fromLo, int toLo, char kind) {
+        for (int lo = fromLo; lo <= toLo; lo++) {
+            if (kind != 'o') addCombos(range, hi, lo, 's');
+            if (kind != 's') addCombos(range, hi, lo, 'o');
+        }
+    }
+
+    private static void addCombos(BitSet range, int r1, int r2, char kind) {
+        for (long combo : StartingHands.combos(StartingHands.index(r1, r2, kind == 's'))) {
+            int c1 = Long.numberOfTrailingZeros(combo);
+            int c2 = 63 - Long.numberOfLeadingZeros(combo);
+            range.set(comboId(c1, c2));
+        }
+    }
+
+    /** 토큰 앞부분 "QQ", "AK", "AKs", "AKo". kind 는 's', 'o', 또는 둘 다면 'x'. */
+    private record HandClass(int hi, int lo, char kind) {
+
+        boolean pair() {
+            return hi == lo;
+        }
+
+        static HandClass parse(String s) {
+            if (s.length() < 2 || s.length() > 3) return null;
+            int r1 = CardMask.rankOf(s.charAt(0));
+            int r2 = CardMask.rankOf(s.charAt(1));
+            if (r1 < 0 || r2 < 0) return null;
+            char kind = s.length() == 3 ? Character.toLowerCase(s.charAt(2)) : 'x';
+            if (kind != 's' && kind != 'o' && kind != 'x') return null;
+            if (r1 == r2 && kind != 'x') return null;
+            return new HandClass(Math.max(r1, r2), Math.min(r1, r2), kind);
+        }
+    }
+}
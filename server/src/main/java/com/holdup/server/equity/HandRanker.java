@@ -0,0 +1,95 @@
+package com.holdup.server.equity;
+
+/**
+ * 52비트 카드 마스크(5~7장)의 패 강도를 int 하나로 계산. 값이 클수록 강함, 같으면 무승부.
+ * 게임 판정(DefaultHandEvaluator)과 같은 규칙이지만 객체·정렬 없이 문양별 13비트 끗 마스크의 비트 연산만 사용해
+ * 에퀴티 계산처럼 수백만 번 평가하는 경로에서 사용.
+ *
+ * <p>값 구성: 등급(0 하이카드 … 8 스트레이트 플러시) &lt;&lt; 26 | 주 끗 마스크 &lt;&lt; 13 | 보조 끗 마스크.
+ * 같은 개수의 끗 집합끼리는 마스크 정수 비교가 높은 끗부터의 사전순 비교와 같음.</p>
+ */
+public final class HandRanker {
+
+    public static final int HIGH_CARD = 0;
+    public static final int ONE_PAIR = 1;
+    public static final int TWO_PAIR = 2;
+    public static final int TRIPS = 3;
+    public static final int STRAIGHT = 4;
+    public static final int FLUSH = 5;
+    public static final int FULL_HOUSE = 6;
+    public static final int QUADS = 7;
+    public static final int STRAIGHT_FLUSH = 8;
+
+    private static final int RANKS = 0x1FFF;
+
+    private HandRanker() {
+    }
+
+    public static int rank(long cards) {
+        int s0 = (int) (cards & RANKS);
+        int s1 = (int) (cards >>> 13 & RANKS);
+        int s2 = (int) (cards >>> 26 & RANKS);
+        int s3 = (int) (cards >>> 39 & RANKS);
+
+        int flushSuit = Integer.bitCount(s0) >= 5 ? s0
+                : Integer.bitCount(s1) >= 5 ? s1
+                : Integer.bitCount(s2) >= 5 ? s2
+                : Integer.bitCount(s3) >= 5 ? s3 : 0;
+        if (flushSuit != 0) {
+            int straightHigh = straightHigh(flushSuit);
+            if (straightHigh >= 0) return score(STRAIGHT_FLUSH, 1 << straightHigh, 0);
+        }
+
+        int all = s0 | s1 | s2 | s3;
+        int quads = s0 & s1 & s2 & s3;
+        if (quads != 0) {
+            return score(QUADS, quads, highest(all & ~quads));
+        }
+        int tripsOrMore = (s0 & s1 & s2) | (s0 & s1 & s3) | (s0 & s2 & s3) | (s1 & s2 & s3);
+        int pairsOrMore = (s0 & s1) | (s0 & s2) | (s0 & s3) | (s1 & s2) | (s1 & s3) | (s2 & s3);
+        int pairs = pairsOrMore & ~tripsOrMore;
+        if (tripsOrMore != 0) {
+            int trip = highest(tripsOrMore);
+            int pairPart = (tripsOrMore & ~trip) | pairs;
+            if (pairPart != 0) return score(FULL_HOUSE, trip, highest(pairPart));
+        }
+        if (flushSuit != 0) return score(FLUSH, top(flushSuit, 5), 0);
+        int straightHigh = straightHigh(all);
+        if (straightHigh >= 0) return score(STRAIGHT, 1 << straightHigh, 0);
+        if (tripsOrMore != 0) {
+            return score(TRIPS, tripsOrMore, top(all & ~tripsOrMore, 2));
+        }
+        if (Integer.bitCount(pairs) >= 2) {
+            int twoPairs = top(pairs, 2);
+            return score(TWO_PAIR, twoPairs, highest(all & ~twoPairs));
+        }
+        if (pairs != 0) return score(ONE_PAIR, pairs, top(all & ~pairs, 3));
+        return score(HIGH_CARD, top(all, 5), 0);
+    }
+
+    public static int category(int rank) {
+        return rank >>> 26;
+    }
+
+    private static int score(int category, int major, int minor) {
+        return category << 26 | major << 13 | minor;
+    }
+
+    /** 스트레이트 최고 끗 (0=2 … 12=A, 휠은 3=5). 없으면 -1. */
+    private static int straightHigh(int ranks) {
+        // bit0 = A(로우), bit1.. = 2..A
+        int m = ranks << 1 | (ranks >>> 12 & 1);
+        int runs = m & m << 1 & m << 2 & m << 3 & m << 4;
+        return runs == 0 ? -1 : 31 - Integer.numberOfLeadingZeros(runs) - 1;
+    }
+
+    private static int highest(int ranks) {
+        return Integer.highestOneBit(ranks);
+    }
+
+    /** 높은 끗부터 n 개만 남김. */
+    private static int top(int ranks, int n) {
+        while (Integer.bitCount(ranks) > n) ranks &= ranks - 1;
+        return ranks;
+    }
+}
@@ -0,0 +1,121 @@
+package com.holdup.server.equity;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * 169×169 프리플랍 헤즈업 올인 에퀴티 표 생성.
+ *
+ * <p>매치업마다 서로 겹치지 않는 구체 조합 쌍을 돌아가며 쓰고(층화), 남은 48장에서 보드 5장을 뽑아
+ * HandRanker 로 승·무를 셈. 전 보드 열거(매치업당 약 1.7M 보드 × 조합 쌍)는 169×169 전체에 너무 오래 걸려
+ * 표본 수로 정밀도를 조절 (표본 n 이면 표준오차 약 0.5/√n). 시드가 고정이라 같은 표본 수면 같은 파일이 나옴.
+ * 행 단위로 병렬 계산하고 대칭(a 대 b = 1 - b 대 a)이라 절반만 계산.</p>
+ *
+ * <p>파일 형식 (빅 엔디언): magic "HPEQ", version, 클래스 수(169), 표본 수, 이어서 [a][b] 순 u16 에퀴티 (값/65535).</p>
+ *
+ * <pre>
+ * mvn -B -q compile exec:java -Dexec.mainClass=com.holdup.server.equity.PreflopEquityGenerator \
+ *     -Dexec.args="--out=data/preflop-equity.bin --samples=200000"
+ * </pre>
+ */
+public final class PreflopEquityGenerator {
+
+    static final int MAGIC = 0x48504551;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int SCALE = 0xFFFF;
+
+    private static final long SEED = 0x5EED_169L;
+
+    private PreflopEquityGenerator() {
+    }
+
+    /** [a * 169 + b] = a 가 b 를 상대로 가진 에퀴티 × 65535. */
+    public static char[] generate(int samples) {
+        int n = StartingHands.COUNT;
+        char[] table = new char[n * n];
+        IntStream.range(0, n).parallel().forEach(a -> {
+            for (int b = a; b < n; b++) {
+                double equity = a == b ? 0.5 : matchup(a, b, samples);
+                char value = (char) Math.round(equity * SCALE);
+                table[a * n + b] = value;
+                table[b * n + a] = (char) (SCALE - value);
+            }
+        });
+        return table;
+    }
+
+    /** a 클래스 대 b 클래스 에퀴티 (승 + 무/2). */
+    static double matchup(int a, int b, int samples) {
+        long[] combosA = StartingHands.combos(a);
+        long[] combosB = StartingHands.combos(b);
+        long[] pairA = new long[combosA.length * combosB.length];
+        long[] pairB = new long[pairA.length];
+        int pairs = 0;
+        for (long ca : combosA) {
+            for (long cb : combosB) {
+                if ((ca & cb) != 0) continue;
+                pairA[pairs] = ca;
+                pairB[pairs] = cb;
+                pairs++;
+            }
+        }
+        SplittableRandom random = new SplittableRandom(SEED ^ (a * 1_000_003L + b));
+        long wins = 0;
+        long ties = 0;
+        for (int i = 0; i < samples; i++) {
+            int p = i % pairs;
+            long used = pairA[p] | pairB[p];
+            long board = 0;
+            for (int dealt = 0; dealt < 5; ) {
+                long card = 1L << random.nextInt(CardMask.CARDS);
+                if ((used & card) != 0) continue;
+                used |= card;
+                board |= card;
+                dealt++;
+            }
+            int ra = HandRanker.rank(pairA[p] | board);
+            int rb = HandRanker.rank(pairB[p] | board);
+            if (ra > rb) wins++;
+            else if (ra == rb) ties++;
+        }
+        return (wins + ties / 2.0) / samples;
+    }
+
+    /** 임시 파일에 쓴 뒤 원자적으로 교체 (읽는 쪽이 반쯤 쓴 파일을 보지 않도록). */
+    public static void write(Path path, char[] table, int samples) throws IOException {
+        Path dir = path.toAbsolutePath().getParent();
+        if (dir != null) Files.createDirectories(dir);
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + table.length * 2);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(StartingHands.COUNT).putInt(samples);
+        buffer.asCharBuffer().put(table);
+        buffer.rewind();
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) channel.write(buffer);
+            channel.force(true);
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path out = Path.of("data/preflop-equity.bin");
+        int samples = 20_000;
+        for (String arg : args) {
+            if (arg.startsWith("--out=")) out = Path.of(arg.substring("--out=".length()));
+            else if (arg.startsWith("--samples=")) samples = Integer.parseInt(arg.substring("--samples=".length()).trim());
+        }
+        long start = System.nanoTime();
+        char[] table = generate(samples);
+        write(out, table, samples);
+        System.out.printf("%s: 169x169, %d samples/matchup, %.1fs%n", out, samples, (System.nanoTime() - start) / 1e9);
+    }
+}
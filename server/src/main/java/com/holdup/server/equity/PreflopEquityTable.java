@@ -0,0 +1,107 @@
+package com.holdup.server.equity;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 169×169 프리플랍 헤즈업 올인 에퀴티 조회.
+ *
+ * <p>시작 시 holdup.equity.preflop-table 파일을 읽기 전용으로 메모리 매핑(힙 밖, 페이지 캐시 공유)하고,
+ * 조회는 오프셋 계산 후 2바이트 읽기 한 번. 파일이 없거나 형식이 다르면 백그라운드에서 생성해 쓴 뒤 매핑
+ * (생성 전 조회는 isReady() 로 확인). 빌드 시 미리 만들려면 PreflopEquityGenerator 실행.</p>
+ */
+@Component
+public class PreflopEquityTable {
+
+    private final Path path;
+    private final int samples;
+    private final boolean generateIfMissing;
+
+    /** 절대 위치 읽기만 하므로 여러 스레드가 공유해도 됨. */
+    private volatile MappedByteBuffer table;
+    private volatile int tableSamples;
+
+    public PreflopEquityTable(MeterRegistry registry,
+                              @Value("${holdup.equity.preflop-table:data/preflop-equity.bin}") String path,
+                              @Value("${holdup.equity.preflop-samples:20000}") int samples,
+                              @Value("${holdup.equity.generate-if-missing:true}") boolean generateIfMissing) {
+        this.path = Path.of(path);
+        this.samples = Math.max(1, samples);
+        this.generateIfMissing = generateIfMissing;
+        Gauge.builder("holdup.equity.preflop.ready", this, t -> t.isReady() ? 1 : 0)
+                .description("프리플랍 에퀴티 표 매핑 여부")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (tryMap()) return;
+        if (!generateIfMissing) return;
+        Thread generator = new Thread(() -> {
+            try {
+                PreflopEquityGenerator.write(path, PreflopEquityGenerator.generate(samples), samples);
+                tryMap();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, "preflop-equity-generator");
+        generator.setDaemon(true);
+        generator.setPriority(Thread.MIN_PRIORITY);
+        generator.start();
+    }
+
+    /** 헤더가 맞으면 매핑. 파일이 없거나 다른 형식이면 false. */
+    private boolean tryMap() {
+        if (!Files.isRegularFile(path)) return false;
+        int expected = PreflopEquityGenerator.HEADER_BYTES + StartingHands.COUNT * StartingHands.COUNT * 2;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() != expected) return false;
+            // 채널을 닫아도 매핑은 유지됨
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, expected);
+            if (mapped.getInt(0) != PreflopEquityGenerator.MAGIC
+                    || mapped.getInt(4) != PreflopEquityGenerator.VERSION
+                    || mapped.getInt(8) != StartingHands.COUNT) {
+                return false;
+            }
+            tableSamples = mapped.getInt(12);
+            table = mapped;
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public boolean isReady() {
+        return table != null;
+    }
+
+    /** 표를 만든 매치업당 표본 수. 준비 전이면 0. */
+    public int getSamples() {
+        return tableSamples;
+    }
+
+    /**
+     * hand 클래스가 vs 클래스를 상대로 프리플랍 올인했을 때 에퀴티 (승 + 무/2, 0~1).
+     *
+     * @throws IllegalStateException 표가 아직 준비되지 않음
+     */
+    public double equity(int hand, int vs) {
+        ByteBuffer t = table;
+        if (t == null) throw new IllegalStateException("Preflop equity table is not ready");
+        int offset = PreflopEquityGenerator.HEADER_BYTES + (hand * StartingHands.COUNT + vs) * 2;
+        return t.getChar(offset) / (double) PreflopEquityGenerator.SCALE;
+    }
+}
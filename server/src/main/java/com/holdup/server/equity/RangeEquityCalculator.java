@@ -0,0 +1,293 @@
+package com.holdup.server.equity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 레인지 대 레인지 에퀴티. 보드에 남은 카드를 모두 깔아 보는(런아웃) 단위로 포크-조인 병렬 처리.
+ *
+ * <ul>
+ *   <li>런아웃 하나마다 양쪽 조합을 한 번씩만 평가한 뒤 강도순 정렬하고, 카드별 누적 개수로 블로커(겹치는 조합)를 빼서
+ *       조합 쌍 |A|×|B| 비교 없이 O(n log n) 으로 승·무·유효 쌍 수를 셈</li>
+ *   <li>전 런아웃 평가량(런아웃 수 × 조합 수)이 max-evaluations 이하면 정확 열거, 넘으면 무작위 런아웃 표본</li>
+ *   <li>(히어로 레인지, 빌런 레인지, 보드) 결과는 LRU 캐시. 보드와 겹치는 조합을 뺀 비트셋을 키로 써서
+ *       표기가 달라도 같은 레인지면 캐시 적중</li>
+ * </ul>
+ */
+@Component
+public class RangeEquityCalculator {
+
+    public enum Method {
+        EXACT,
+        MONTE_CARLO,
+    }
+
+    /** heroEquity + villainEquity = 1, tie 는 무승부 비율 (에퀴티에는 절반씩 포함). */
+    public record Result(double heroEquity, double villainEquity, double tie,
+                         int heroCombos, int villainCombos, int runouts, Method method) {
+    }
+
+    private record Key(BitSet hero, BitSet villain, long board) {
+    }
+
+    /** 런아웃 배열 상한 (메모리). */
+    private static final int MAX_RUNOUTS = 1_000_000;
+    private static final int MIN_SAMPLES = 1000;
+    /** 포크-조인 리프 하나가 맡는 평가 수. */
+    private static final int LEAF_EVALUATIONS = 100_000;
+
+    private final long maxEvaluations;
+    private final int cacheSize;
+    private final Timer computeTimer;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+
+    private final Map<Key, Result> cache;
+
+    public RangeEquityCalculator(MeterRegistry registry,
+                                 @Value("${holdup.equity.range-max-evaluations:20000000}") long maxEvaluations,
+                                 @Value("${holdup.equity.range-cache-size:1024}") int cacheSize) {
+        this.maxEvaluations = Math.max(100_000, maxEvaluations);
+        this.cacheSize = Math.max(1, cacheSize);
+        this.cache = new LinkedHashMap<>(this.cacheSize * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Result> eldest) {
+                return size() > RangeEquityCalculator.this.cacheSize;
+            }
+        };
+        this.computeTimer = Timer.builder("holdup.equity.range.compute")
+                .description("레인지 에퀴티 계산 시간 (캐시 미스만)")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.cacheHits = Counter.builder("holdup.equity.range.cache")
+                .tag("result", "hit")
+                .register(registry);
+        this.cacheMisses = Counter.builder("holdup.equity.range.cache")
+                .tag("result", "miss")
+                .register(registry);
+    }
+
+    /**
+     * @param hero    히어로 레인지 (HandRange 조합 비트셋)
+     * @param villain 빌런 레인지
+     * @param board   보드 카드 마스크 (0, 3, 4, 5장)
+     * @throws IllegalArgumentException 보드 장수가 틀렸거나, 보드를 빼면 레인지가 비거나, 겹치지 않는 조합 쌍이 없음
+     */
+    public Result compute(BitSet hero, BitSet villain, long board) {
+        int boardCards = Long.bitCount(board);
+        if (boardCards != 0 && (boardCards < 3 || boardCards > 5)) {
+            throw new IllegalArgumentException("Board must have 0, 3, 4 or 5 cards");
+        }
+        BitSet liveHero = withoutBoard(hero, board);
+        BitSet liveVillain = withoutBoard(villain, board);
+        if (liveHero.isEmpty() || liveVillain.isEmpty()) {
+            throw new IllegalArgumentException("Range is empty after removing board cards");
+        }
+
+        Key key = new Key(liveHero, liveVillain, board);
+        synchronized (cache) {
+            Result cached = cache.get(key);
+            if (cached != null) {
+                cacheHits.increment();
+                return cached;
+            }
+        }
+        cacheMisses.increment();
+        Result result = computeTimer.record(() -> enumerate(liveHero, liveVillain, board));
+        synchronized (cache) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    private Result enumerate(BitSet hero, BitSet villain, long board) {
+        int[] heroIds = hero.stream().toArray();
+        int[] villainIds = villain.stream().toArray();
+        int combos = heroIds.length + villainIds.length;
+
+        int[] available = new int[CardMask.CARDS - Long.bitCount(board)];
+        for (int c = 0, n = 0; c < CardMask.CARDS; c++) {
+            if ((board & (1L << c)) == 0) available[n++] = c;
+        }
+        int missing = 5 - Long.bitCount(board);
+        long total = binomial(available.length, missing);
+        long budget = Math.min(MAX_RUNOUTS, maxEvaluations / combos);
+
+        long[] runouts;
+        Method method;
+        if (total <= budget) {
+            runouts = new long[(int) total];
+            fill(runouts, new int[]{0}, available, 0, missing, board);
+            method = Method.EXACT;
+        } else {
+            runouts = sample(available, missing, board, (int) Math.max(MIN_SAMPLES, budget));
+            method = Method.MONTE_CARLO;
+        }
+
+        boolean[] villainHas = new boolean[HandRange.COMBOS];
+        for (int id : villainIds) villainHas[id] = true;
+        int leaf = Math.max(1, LEAF_EVALUATIONS / combos);
+        long[] totals = ForkJoinPool.commonPool()
+                .invoke(new ShowdownTask(runouts, 0, runouts.length, leaf, heroIds, villainIds, villainHas));
+        long wins = totals[0];
+        long ties = totals[1];
+        long valid = totals[2];
+        if (valid == 0) throw new IllegalArgumentException("No non-overlapping combinations between ranges");
+        double heroEquity = (wins + ties / 2.0) / valid;
+        return new Result(heroEquity, 1 - heroEquity, (double) ties / valid,
+                heroIds.length, villainIds.length, runouts.length, method);
+    }
+
+    private static BitSet withoutBoard(BitSet range, long board) {
+        BitSet live = (BitSet) range.clone();
+        for (int id = live.nextSetBit(0); id >= 0; id = live.nextSetBit(id + 1)) {
+            if ((HandRange.mask(id) & board) != 0) live.clear(id);
+        }
+        return live;
+    }
+
+    /** 남은 카드에서 missing 장을 고르는 모든 조합을 보드에 더해 채움. */
+    private static void fill(long[] out, int[] next, int[] available, int from, int missing, long board) {
+        if (missing == 0) {
+            out[next[0]++] = board;
+            return;
+        }
+        for (int i = from; i <= available.length - missing; i++) {
+            fill(out, next, available, i + 1, missing - 1, board | 1L << available[i]);
+        }
+    }
+
+    private static long[] sample(int[] available, int missing, long board, int samples) {
+        SplittableRandom random = new SplittableRandom(ThreadLocalRandom.current().nextLong());
+        long[] out = new long[samples];
+        for (int s = 0; s < samples; s++) {
+            long runout = board;
+            for (int dealt = 0; dealt < missing; ) {
+                long card = 1L << available[random.nextInt(available.length)];
+                if ((runout & card) != 0) continue;
+                runout |= card;
+                dealt++;
+            }
+            out[s] = runout;
+        }
+        return out;
+    }
+
+    private static long binomial(int n, int k) {
+        long r = 1;
+        for (int i = 1; i <= k; i++) r = r * (n - k + i) / i;
+        return r;
+    }
+
+    /** 런아웃 구간별 [승, 무, 유효 쌍] 합계. */
+    private static final class ShowdownTask extends RecursiveTask<long[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long[] runouts;
+        private final int from;
+        private final int to;
+        private final int leaf;
+        private final int[] heroIds;
+        private final int[] villainIds;
+        private final boolean[] villainHas;
+
+        ShowdownTask(long[] runouts, int from, int to, int leaf, int[] heroIds, int[] villainIds, boolean[] villainHas) {
+            this.runouts = runouts;
+            this.from = from;
+            this.to = to;
+            this.leaf = leaf;
+            this.heroIds = heroIds;
+            this.villainIds = villainIds;
+            this.villainHas = villainHas;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= leaf) return evaluate();
+            int mid = (from + to) >>> 1;
+            ShowdownTask left = new ShowdownTask(runouts, from, mid, leaf, heroIds, villainIds, villainHas);
+            left.fork();
+            long[] right = new ShowdownTask(runouts, mid, to, leaf, heroIds, villainIds, villainHas).compute();
+            long[] l = left.join();
+            return new long[]{l[0] + right[0], l[1] + right[1], l[2] + right[2]};
+        }
+
+        /**
+         * 빌런 조합을 강도순 정렬해 두고 히어로 조합을 강도 오름차순으로 훑으며 "더 약한" / "같거나 약한" 빌런 수를 누적.
+         * 히어로 카드와 겹치는 빌런 조합은 카드별 누적값으로 뺌 (두 장 다 겹치는 같은 조합은 두 번 빠지므로 한 번 더함).
+         */
+        private long[] evaluate() {
+            long[] villainKeys = new long[villainIds.length];
+            long[] heroKeys = new long[heroIds.length];
+            int[] liveCard = new int[CardMask.CARDS];
+            int[] belowCard = new int[CardMask.CARDS];
+            int[] atOrBelowCard = new int[CardMask.CARDS];
+            long wins = 0;
+            long ties = 0;
+            long valid = 0;
+            for (int r = from; r < to; r++) {
+                long board = runouts[r];
+                Arrays.fill(liveCard, 0);
+                Arrays.fill(belowCard, 0);
+                Arrays.fill(atOrBelowCard, 0);
+
+                int v = 0;
+                for (int id : villainIds) {
+                    long mask = HandRange.mask(id);
+                    if ((mask & board) != 0) continue;
+                    villainKeys[v++] = (long) HandRanker.rank(mask | board) << 11 | id;
+                    liveCard[HandRange.firstCard(id)]++;
+                    liveCard[HandRange.secondCard(id)]++;
+                }
+                int h = 0;
+                for (int id : heroIds) {
+                    long mask = HandRange.mask(id);
+                    if ((mask & board) != 0) continue;
+                    heroKeys[h++] = (long) HandRanker.rank(mask | board) << 11 | id;
+                }
+                if (v == 0 || h == 0) continue;
+                Arrays.sort(villainKeys, 0, v);
+                Arrays.sort(heroKeys, 0, h);
+
+                int below = 0;
+                int atOrBelow = 0;
+                for (int i = 0; i < h; i++) {
+                    long heroRank = heroKeys[i] >>> 11;
+                    int id = (int) (heroKeys[i] & 0x7FF);
+                    while (below < v && villainKeys[below] >>> 11 < heroRank) {
+                        int vid = (int) (villainKeys[below++] & 0x7FF);
+                        belowCard[HandRange.firstCard(vid)]++;
+                        belowCard[HandRange.secondCard(vid)]++;
+                    }
+                    while (atOrBelow < v && villainKeys[atOrBelow] >>> 11 <= heroRank) {
+                        int vid = (int) (villainKeys[atOrBelow++] & 0x7FF);
+                        atOrBelowCard[HandRange.firstCard(vid)]++;
+                        atOrBelowCard[HandRange.secondCard(vid)]++;
+                    }
+                    int c1 = HandRange.firstCard(id);
+                    int c2 = HandRange.secondCard(id);
+                    int same = villainHas[id] ? 1 : 0;
+                    long win = below - belowCard[c1] - belowCard[c2];
+                    long notLose = atOrBelow - atOrBelowCard[c1] - atOrBelowCard[c2] + same;
+                    wins += win;
+                    ties += notLose - win;
+                    valid += v - liveCard[c1] - liveCard[c2] + same;
+                }
+            }
+            return new long[]{wins, ties, valid};
+        }
+    }
+}
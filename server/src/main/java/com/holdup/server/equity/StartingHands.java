@@ -0,0 +1,82 @@
+package com.holdup.server.equity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 169개 시작 패 클래스 (페어 13, 수딧 78, 오프수트 78).
+ * 인덱스는 13×13 격자: 페어는 [r][r], 수딧은 [높은 끗][낮은 끗], 오프수트는 [낮은 끗][높은 끗] (끗 0=2 … 12=A).
+ */
+public final class StartingHands {
+
+    public static final int COUNT = 169;
+
+    private static final String RANK_CODES = "23456789TJQKA";
+    private static final String[] NAMES = new String[COUNT];
+    /** 클래스별 구체 조합 (2장 마스크). 페어 6, 수딧 4, 오프수트 12. */
+    private static final long[][] COMBOS = new long[COUNT][];
+
+    static {
+        for (int hi = 0; hi < 13; hi++) {
+            for (int lo = 0; lo <= hi; lo++) {
+                if (hi == lo) {
+                    register(index(hi, lo, false), "" + RANK_CODES.charAt(hi) + RANK_CODES.charAt(lo), hi, lo, false);
+                } else {
+                    register(index(hi, lo, true), "" + RANK_CODES.charAt(hi) + RANK_CODES.charAt(lo) + "s", hi, lo, true);
+                    register(index(hi, lo, false), "" + RANK_CODES.charAt(hi) + RANK_CODES.charAt(lo) + "o", hi, lo, false);
+                }
+            }
+        }
+    }
+
+    private StartingHands() {
+    }
+
+    private static void register(int index, String name, int hi, int lo, boolean suited) {
+        NAMES[index] = name;
+        List<Long> combos = new ArrayList<>();
+        for (int s1 = 0; s1 < 4; s1++) {
+            for (int s2 = 0; s2 < 4; s2++) {
+                if (suited != (s1 == s2)) continue;
+                if (hi == lo && s2 <= s1) continue;
+                combos.add(1L << CardMask.index(hi, s1) | 1L << CardMask.index(lo, s2));
+            }
+        }
+        COMBOS[index] = combos.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /** 끗 두 개(순서 무관)와 수딧 여부 → 클래스 인덱스. */
+    public static int index(int rank1, int rank2, boolean suited) {
+        int hi = Math.max(rank1, rank2);
+        int lo = Math.min(rank1, rank2);
+        if (hi == lo) return hi * 13 + hi;
+        return suited ? hi * 13 + lo : lo * 13 + hi;
+    }
+
+    /** 구체 카드 두 장 (CardMask 인덱스) → 클래스 인덱스. */
+    public static int classOf(int card1, int card2) {
+        return index(CardMask.rankOf(card1), CardMask.rankOf(card2), CardMask.suitOf(card1) == CardMask.suitOf(card2));
+    }
+
+    /** "AKs", "AKo", "QQ" (대소문자 무시, 끗 순서 무관) → 인덱스. 형식이 틀리면 -1. */
+    public static int parse(String name) {
+        if (name == null) return -1;
+        String n = name.trim();
+        if (n.length() < 2 || n.length() > 3) return -1;
+        int r1 = CardMask.rankOf(n.charAt(0));
+        int r2 = CardMask.rankOf(n.charAt(1));
+        if (r1 < 0 || r2 < 0) return -1;
+        if (n.length() == 2) return r1 == r2 ? index(r1, r2, false) : -1;
+        char kind = Character.toLowerCase(n.charAt(2));
+        if (r1 == r2 || (kind != 's' && kind != 'o')) return -1;
+        return index(r1, r2, kind == 's');
+    }
+
+    public static String name(int index) {
+        return NAMES[index];
+    }
+
+    public static long[] combos(int index) {
+        return COMBOS[index];
+    }
+}
@@ -0,0 +1,24 @@
+package com.holdup.server.equity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 레인지 대 레인지 에퀴티 요청 (POST /api/equity/range).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RangeEquityRequest {
+
+    /** 예: "AKs, QQ+, 76s" */
+    private String hero;
+
+    private String villain;
+
+    /** 보드 카드 0·3·4·5장. 예: "AhKd2c" 또는 "Ah Kd 2c" */
+    private String board;
+}
@@ -0,0 +1,23 @@
+package com.holdup.server.equity.dto;
+
+import com.holdup.server.equity.RangeEquityCalculator;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 레인지 대 레인지 에퀴티 결과. heroEquity + villainEquity = 1 (무승부는 절반씩).
+ */
+@Value
+@Builder
+public class RangeEquityResponse {
+
+    double heroEquity;
+    double villainEquity;
+    double tie;
+    /** 보드와 겹치는 조합을 뺀 조합 수. */
+    int heroCombos;
+    int villainCombos;
+    /** 평가한 런아웃 수 (정확 열거면 전체, 아니면 표본 수). */
+    int runouts;
+    RangeEquityCalculator.Method method;
+}
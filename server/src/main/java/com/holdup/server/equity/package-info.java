@@ -0,0 +1,16 @@
+/**
+ * 에퀴티 계산 (힌트·봇·분석용). 게임 진행에는 card 패키지의 HandEvaluator 를 그대로 사용합니다.
+ *
+ * <h2>디렉토리 구조</h2>
+ * <ul>
+ *   <li><b>CardMask</b> - 카드 ↔ 0~51 인덱스, 여러 장은 52비트 long 마스크. "As" 형식 파싱.</li>
+ *   <li><b>HandRanker</b> - 5~7장 마스크 → 비교 가능한 int 강도. 비트 연산만 사용 (표본당 수십 ns).</li>
+ *   <li><b>StartingHands</b> - 169개 시작 패 클래스 (AA, AKs, AKo …) 인덱스·이름·구체 조합.</li>
+ *   <li><b>PreflopEquityGenerator</b> - 169×169 헤즈업 에퀴티 표 생성·파일 쓰기. 빌드 시 main 으로도 실행.</li>
+ *   <li><b>PreflopEquityTable</b> - 표 파일을 메모리 매핑해 O(1) 조회. 없으면 첫 실행 때 백그라운드 생성.</li>
+ *   <li><b>HandRange</b> - "QQ+, AKs, KTo-K7o" 같은 레인지 표기 → 1326개 구체 조합 BitSet.</li>
+ *   <li><b>RangeEquityCalculator</b> - 레인지 대 레인지 에퀴티. 런아웃별 포크-조인 병렬, 정확 열거 또는 몬테카를로, LRU 캐시.</li>
+ *   <li><b>dto</b> - 레인지 에퀴티 요청·응답.</li>
+ * </ul>
+ */
+package com.holdup.server.equity;
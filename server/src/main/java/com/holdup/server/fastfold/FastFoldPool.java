@@ -0,0 +1,392 @@
+package com.holdup.server.fastfold;
+
+import com.holdup.server.action.GameActionType;
+import com.holdup.server.action.dto.ActionResult;
+import com.holdup.server.fastfold.dto.FastFoldJoinRequest;
+import com.holdup.server.fastfold.dto.FastFoldUpdate;
+import com.holdup.server.player.Player;
+import com.holdup.server.service.GameFlowService;
+import com.holdup.server.service.HandCompletedEvent;
+import com.holdup.server.service.TableBroadcastService;
+import com.holdup.server.service.TableManager;
+import com.holdup.server.table.Seat;
+import com.holdup.server.table.Table;
+import com.holdup.server.table.TableFormat;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 패스트 폴드 풀. 폴드한 플레이어를 바로 풀로 돌려보내고, 풀에 모인 플레이어로 새 핸드를 계속 만듦.
+ *
+ * <ul>
+ *   <li>핸드마다 새 FAST_FOLD 테이블을 만들고 핸드가 끝나면 삭제. 테이블·HandState·덱은 핸드 하나에만 속함</li>
+ *   <li>폴드 즉시 시트를 비우고 Player 를 풀로 옮김. Player 는 항상 풀 또는 테이블 한 곳에만 있으므로
+ *       동시에 만들어지는 핸드끼리 공유하는 가변 상태가 없음 (풀은 deque 에서 서로 다른 플레이어를 꺼내 씀)</li>
+ *   <li>정원이 차면 폴드·핸드 종료를 처리한 스레드에서 바로 핸드를 만들고, 인원이 모자란 풀은
+ *       form-interval-ms 마다 확인해 max-wait-ms 넘게 기다린 플레이어가 있으면 2명 이상으로 시작</li>
+ *   <li>스테이크는 holdup.fastfold.stakes 에 설정한 빅 블라인드만 허용하므로 풀 수는 설정 값 × 인원으로 한정</li>
+ *   <li>처리량은 holdup.fastfold.hands.formed (초당 새 핸드 수) 로 확인</li>
+ * </ul>
+ */
+@Component
+public class FastFoldPool {
+
+    public static final String USER_DESTINATION = "/queue/fastfold";
+
+    private static final BigDecimal DEFAULT_BIG_BLIND = BigDecimal.valueOf(2);
+    private static final int DEFAULT_TABLE_SIZE = 6;
+    private static final int MIN_TABLE_SIZE = 2;
+    private static final int MAX_TABLE_SIZE = 9;
+    /** 핸드를 끝낸 액션의 브로드캐스트가 이 시간 안에 없으면 정리 작업이 직접 테이블을 정리. */
+    private static final long COMPLETED_HAND_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /** 풀 키. 같은 스테이크·인원끼리만 섞임. bigBlind 는 허용 스테이크 (서버가 만든 값) 만 들어옴. */
+    private record PoolKey(BigDecimal bigBlind, int tableSize) {
+        static PoolKey of(BigDecimal bigBlind, int tableSize) {
+            return new PoolKey(new BigDecimal(bigBlind.stripTrailingZeros().toPlainString()), tableSize);
+        }
+    }
+
+    private record Entry(Player player, long enqueuedAt) {
+    }
+
+    /** 끝났지만 아직 정리 전인 핸드. players 는 핸드 종료 시 앉아 있던 플레이어. */
+    private record CompletedHand(Table table, List<Player> players, long completedAt) {
+    }
+
+    private final TableManager tableManager;
+    private final GameFlowService gameFlowService;
+    private final TableBroadcastService tableBroadcastService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final int buyInBigBlinds;
+    private final long maxWaitNanos;
+    /** 허용 빅 블라인드 (스케일 정규화). */
+    private final List<BigDecimal> stakes;
+
+    private final Map<PoolKey, ConcurrentLinkedDeque<Entry>> pools = new ConcurrentHashMap<>();
+    /** 플레이어 ID → 풀에서 대기 중인 항목. deque 에서 꺼낼 때 여기서도 빠져야 유효. */
+    private final Map<String, Entry> waiting = new ConcurrentHashMap<>();
+    /** 패스트 폴드 참여 중인 플레이어 (대기 또는 착석). */
+    private final Set<String> members = ConcurrentHashMap.newKeySet();
+    /** 착석 중에 나가기를 요청한 플레이어. 핸드에서 풀려날 때 풀로 돌아가지 않고 빠짐. */
+    private final Set<String> leaving = ConcurrentHashMap.newKeySet();
+    /** 테이블 ID → 끝났지만 아직 정리 전인 핸드. */
+    private final Map<String, CompletedHand> completed = new ConcurrentHashMap<>();
+
+    private final Counter handsFormedCounter;
+    private final Timer reseatTimer;
+
+    public FastFoldPool(TableManager tableManager, GameFlowService gameFlowService,
+                        TableBroadcastService tableBroadcastService, SimpMessagingTemplate messagingTemplate,
+                        MeterRegistry registry,
+                        @Value("${holdup.fastfold.buy-in-big-blinds:100}") int buyInBigBlinds,
+                        @Value("${holdup.fastfold.max-wait-ms:2000}") long maxWaitMs,
+                        @Value("${holdup.fastfold.stakes:1,2,5,10}") List<BigDecimal> stakes) {
+        this.tableManager = tableManager;
+        this.gameFlowService = gameFlowService;
+        this.tableBroadcastService = tableBroadcastService;
+        this.messagingTemplate = messagingTemplate;
+        this.buyInBigBlinds = Math.max(1, buyInBigBlinds);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.stakes = stakes.stream()
+                .filter(bb -> bb.signum() > 0)
+                .map(bb -> PoolKey.of(bb, MIN_TABLE_SIZE).bigBlind())
+                .distinct()
+                .toList();
+        this.handsFormedCounter = Counter.builder("holdup.fastfold.hands.formed")
+                .description("패스트 폴드 풀에서 새로 만든 핸드 수")
+                .register(registry);
+        this.reseatTimer = Timer.builder("holdup.fastfold.reseat")
+                .description("풀 대기 시작(입장·폴드)부터 새 핸드 착석까지 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+        Gauge.builder("holdup.fastfold.waiting", waiting, Map::size)
+                .description("패스트 폴드 풀 대기 인원")
+                .register(registry);
+    }
+
+    /** 풀 입장. 스테이크의 buy-in-big-blinds 배 칩으로 시작. 허용 목록에 없는 스테이크는 FAILED. */
+    public void join(String playerId, FastFoldJoinRequest request) {
+        BigDecimal bigBlind = request != null && request.getBigBlind() != null ? request.getBigBlind() : DEFAULT_BIG_BLIND;
+        int tableSize = request != null && request.getTableSize() != null ? request.getTableSize() : DEFAULT_TABLE_SIZE;
+        Optional<BigDecimal> allowed = allowedStake(bigBlind);
+        if (allowed.isEmpty() || tableSize < MIN_TABLE_SIZE || tableSize > MAX_TABLE_SIZE) {
+            // 요청 값은 되돌려 보내지 않음 (지수가 큰 값은 직렬화 비용이 큼)
+            notify(playerId, FastFoldUpdate.builder()
+                    .status(FastFoldUpdate.Status.FAILED)
+                    .tableSize(tableSize)
+                    .message("Invalid stake or table size")
+                    .build());
+            return;
+        }
+        PoolKey key = new PoolKey(allowed.get(), tableSize);
+        if (!members.add(playerId)) {
+            notify(playerId, FastFoldUpdate.builder()
+                    .status(FastFoldUpdate.Status.FAILED)
+                    .bigBlind(key.bigBlind())
+                    .tableSize(tableSize)
+                    .message("Already in fast-fold pool")
+                    .build());
+            return;
+        }
+        String nickname = request != null && request.getNickname() != null && !request.getNickname().isBlank()
+                ? request.getNickname() : null;
+        Player player = new Player(playerId, nickname, key.bigBlind().multiply(BigDecimal.valueOf(buyInBigBlinds)));
+        enqueue(key, player);
+    }
+
+    /**
+     * 풀에서 나감. 대기 중이면 바로, 핸드 진행 중이면 폴드하거나 핸드가 끝날 때 LEFT 알림.
+     */
+    public void leave(String playerId) {
+        if (!members.contains(playerId)) return;
+        Entry entry = waiting.remove(playerId);
+        if (entry != null) {
+            members.remove(playerId);
+            notifyLeft(entry.player());
+        } else {
+            leaving.add(playerId);
+        }
+    }
+
+    /** 연결이 끊긴 플레이어는 더 이상 새 핸드에 넣지 않음. */
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        if (event.getUser() != null) {
+            leave(event.getUser().getName());
+        }
+    }
+
+    /**
+     * 폴드 직후 호출 (FoldActionHandler). 시트를 비우고 플레이어를 풀로 돌려보냄.
+     * 이미 핸드 종료로 풀려났으면 아무것도 안 함.
+     */
+    public void releaseFolded(Table table, int seatIndex, String playerId) {
+        if (table.getFormat() != TableFormat.FAST_FOLD) return;
+        Seat seat = table.getSeat(seatIndex);
+        if (seat == null || seat.isEmpty() || !seat.getPlayer().getId().equals(playerId)) return;
+        Player player = seat.getPlayer();
+        seat.setPlayer(null);
+        requeue(PoolKey.of(table.getBigBlindAmount(), table.getMaxSeats()), player);
+    }
+
+    /**
+     * 패스트 폴드 핸드 종료. 핸드를 끝낸 액션(폴드·콜 등)의 결과가 아직 브로드캐스트 전이므로
+     * 테이블 정리는 그 브로드캐스트 뒤로 미룸 (먼저 지우면 테이블이 없어 그 결과가 안 나감).
+     * 이때 앉아 있던 플레이어를 기억해 둠: 파산한 플레이어는 이 이벤트 직후 자리에서 빠짐.
+     */
+    @EventListener
+    public void onHandCompleted(HandCompletedEvent event) {
+        Table table = event.table();
+        if (table.getFormat() != TableFormat.FAST_FOLD) return;
+        List<Player> players = new ArrayList<>();
+        for (Seat seat : table.getSeats()) {
+            if (!seat.isEmpty()) players.add(seat.getPlayer());
+        }
+        completed.put(table.getId(), new CompletedHand(table, players, System.nanoTime()));
+        tableBroadcastService.afterBroadcast(table.getId(), () -> finishHand(table.getId()));
+    }
+
+    /** 최종 상태를 보내고 남은 플레이어를 풀로 돌려보낸 뒤 테이블 삭제. */
+    private void finishHand(String tableId) {
+        CompletedHand hand = completed.remove(tableId);
+        if (hand == null) return;
+        Table table = hand.table();
+        tableBroadcastService.broadcast(ActionResult.builder()
+                .success(true)
+                .tableId(tableId)
+                .message("Hand complete")
+                .build());
+        PoolKey key = PoolKey.of(table.getBigBlindAmount(), table.getMaxSeats());
+        List<Player> released = new ArrayList<>();
+        for (Player player : hand.players()) {
+            int seatIndex = table.getSeatIndexByPlayerId(player.getId());
+            if (seatIndex >= 0) {
+                table.getSeat(seatIndex).setPlayer(null);
+                released.add(player);
+            } else if (player.getStack().signum() <= 0) {
+                // 파산으로 자리에서 빠짐 (GameFlowService). 그 외 빈 자리는 폴드로 이미 풀에 돌아간 플레이어
+                released.add(player);
+            }
+        }
+        tableManager.removeTable(tableId);
+        for (Player player : released) {
+            requeue(key, player);
+        }
+    }
+
+    /** 인원이 모자라 오래 기다린 풀을 2명 이상으로 시작. 브로드캐스트 없이 끝난 핸드의 테이블도 정리. */
+    @Scheduled(fixedDelayString = "${holdup.fastfold.form-interval-ms:50}")
+    public void formWaitingHands() {
+        if (!completed.isEmpty()) {
+            long now = System.nanoTime();
+            completed.forEach((tableId, hand) -> {
+                if (now - hand.completedAt() > COMPLETED_HAND_TIMEOUT_NANOS) finishHand(tableId);
+            });
+        }
+        if (waiting.isEmpty()) return;
+        pools.forEach((key, pool) -> formHands(key, pool, true));
+    }
+
+    private void requeue(PoolKey key, Player player) {
+        if (leaving.remove(player.getId())) {
+            members.remove(player.getId());
+            notifyLeft(player);
+            return;
+        }
+        if (player.getStack().signum() <= 0) {
+            members.remove(player.getId());
+            notify(player.getId(), FastFoldUpdate.builder()
+                    .status(FastFoldUpdate.Status.BUSTED)
+                    .bigBlind(key.bigBlind())
+                    .tableSize(key.tableSize())
+                    .stack(player.getStack())
+                    .build());
+            return;
+        }
+        enqueue(key, player);
+    }
+
+    private void enqueue(PoolKey key, Player player) {
+        Entry entry = new Entry(player, System.nanoTime());
+        waiting.put(player.getId(), entry);
+        ConcurrentLinkedDeque<Entry> pool = pools.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>());
+        pool.offerLast(entry);
+        notify(player.getId(), FastFoldUpdate.builder()
+                .status(FastFoldUpdate.Status.WAITING)
+                .bigBlind(key.bigBlind())
+                .tableSize(key.tableSize())
+                .stack(player.getStack())
+                .build());
+        // 정원이 찼으면 기다리지 않고 이 스레드에서 바로 핸드 생성
+        formHands(key, pool, false);
+    }
+
+    /**
+     * 풀에서 정원만큼 꺼내 핸드를 만듦. 여러 스레드가 동시에 호출해도 각자 꺼낸 플레이어만 다루므로 안전.
+     * 정원이 안 되면 꺼낸 순서 그대로 앞에 되돌림 (allowShort 이고 가장 오래 기다린 플레이어가 max-wait 를 넘었으면 그대로 시작).
+     */
+    private void formHands(PoolKey key, ConcurrentLinkedDeque<Entry> pool, boolean allowShort) {
+        while (true) {
+            List<Entry> batch = new ArrayList<>(key.tableSize());
+            Entry entry;
+            while (batch.size() < key.tableSize() && (entry = pool.pollFirst()) != null) {
+                if (waiting.remove(entry.player().getId(), entry)) {
+                    batch.add(entry);
+                }
+            }
+            boolean full = batch.size() == key.tableSize();
+            boolean waitedTooLong = allowShort && batch.size() >= MIN_TABLE_SIZE
+                    && System.nanoTime() - batch.get(0).enqueuedAt() >= maxWaitNanos;
+            if (!full && !waitedTooLong) {
+                for (int i = batch.size() - 1; i >= 0; i--) {
+                    Entry e = batch.get(i);
+                    // 꺼내 둔 사이에 나가기를 요청했으면 되돌리지 않음
+                    if (leaving.remove(e.player().getId())) {
+                        members.remove(e.player().getId());
+                        notifyLeft(e.player());
+                        continue;
+                    }
+                    waiting.put(e.player().getId(), e);
+                    pool.offerFirst(e);
+                }
+                return;
+            }
+            if (!formHand(key, batch)) return;
+        }
+    }
+
+    /**
+     * 꺼낸 플레이어만으로 새 테이블을 만들어 핸드 시작. 이 테이블은 다른 핸드와 아무것도 공유하지 않음.
+     *
+     * @return 핸드를 시작했으면 true
+     */
+    private boolean formHand(PoolKey key, List<Entry> batch) {
+        String tableId = "ff-" + UUID.randomUUID().toString().substring(0, 8);
+        BigDecimal smallBlind = key.bigBlind().divide(BigDecimal.valueOf(2));
+        Table table = tableManager.createTable(tableId,
+                "Fast-fold " + smallBlind.toPlainString() + "/" + key.bigBlind().toPlainString(),
+                key.tableSize(), TableFormat.FAST_FOLD);
+        table.setSmallBlindAmount(smallBlind);
+        table.setBigBlindAmount(key.bigBlind());
+        // 자리(= 포지션)는 매 핸드 무작위
+        Collections.shuffle(batch, ThreadLocalRandom.current());
+        for (int i = 0; i < batch.size(); i++) {
+            table.getSeat(i).setPlayer(batch.get(i).player());
+        }
+        if (!gameFlowService.startNewHand(tableId)) {
+            for (Seat seat : table.getSeats()) {
+                seat.setPlayer(null);
+            }
+            tableManager.removeTable(tableId);
+            // 시작 조건 불충족(min-players-to-start 등): 다시 만들려 하지 않고 대기열 뒤로만 돌려 둠
+            ConcurrentLinkedDeque<Entry> pool = pools.get(key);
+            for (Entry e : batch) {
+                waiting.put(e.player().getId(), e);
+                pool.offerLast(e);
+            }
+            return false;
+        }
+        handsFormedCounter.increment();
+        long now = System.nanoTime();
+        for (int i = 0; i < batch.size(); i++) {
+            Entry e = batch.get(i);
+            reseatTimer.record(now - e.enqueuedAt(), TimeUnit.NANOSECONDS);
+            notify(e.player().getId(), FastFoldUpdate.builder()
+                    .status(FastFoldUpdate.Status.SEATED)
+                    .bigBlind(key.bigBlind())
+                    .tableSize(key.tableSize())
+                    .tableId(tableId)
+                    .seatIndex(i)
+                    .stack(e.player().getStack())
+                    .build());
+        }
+        tableBroadcastService.broadcast(ActionResult.builder()
+                .success(true)
+                .actionType(GameActionType.START_HAND)
+                .tableId(tableId)
+                .build());
+        return true;
+    }
+
+    /** 허용 목록에서 같은 값을 찾음. 목록 쪽 값으로 비교하므로 요청 값의 지수가 커도 비용이 일정. */
+    private Optional<BigDecimal> allowedStake(BigDecimal bigBlind) {
+        if (bigBlind.signum() <= 0) return Optional.empty();
+        for (BigDecimal stake : stakes) {
+            if (stake.compareTo(bigBlind) == 0) return Optional.of(stake);
+        }
+        return Optional.empty();
+    }
+
+    private void notifyLeft(Player player) {
+        notify(player.getId(), FastFoldUpdate.builder()
+                .status(FastFoldUpdate.Status.LEFT)
+                .stack(player.getStack())
+                .build());
+    }
+
+    private void notify(String playerId, FastFoldUpdate update) {
+        messagingTemplate.convertAndSendToUser(playerId, USER_DESTINATION, update);
+    }
+}
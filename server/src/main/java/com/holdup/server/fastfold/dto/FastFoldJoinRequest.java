@@ -0,0 +1,27 @@
+package com.holdup.server.fastfold.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 클라이언트 → 서버: 패스트 폴드 풀 입장 (/app/fastfold/join).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FastFoldJoinRequest {
+
+    /** 스테이크 (빅 블라인드). null이면 기본 2. */
+    private BigDecimal bigBlind;
+
+    /** 핸드당 인원 (2~9). null이면 6. */
+    private Integer tableSize;
+
+    /** 표시할 닉네임. */
+    private String nickname;
+}
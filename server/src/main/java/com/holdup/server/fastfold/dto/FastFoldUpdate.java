@@ -0,0 +1,35 @@
+package com.holdup.server.fastfold.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * 서버 → 플레이어: 패스트 폴드 상태 (/user/queue/fastfold).
+ */
+@Value
+@Builder
+public class FastFoldUpdate {
+
+    public enum Status {
+        /** 풀에서 다음 핸드 대기 중. */
+        WAITING,
+        /** 새 핸드에 착석 (tableId, seatIndex). 이 테이블은 이번 핸드에만 쓰임. */
+        SEATED,
+        /** 풀에서 나감 (stack = 가지고 나간 칩). */
+        LEFT,
+        /** 칩을 모두 잃어 풀에서 제외. */
+        BUSTED,
+        /** 입장 거절. */
+        FAILED,
+    }
+
+    Status status;
+    BigDecimal bigBlind;
+    int tableSize;
+    String tableId;
+    Integer seatIndex;
+    BigDecimal stack;
+    String message;
+}
@@ -0,0 +1,15 @@
+/**
+ * 패스트 폴드 게임 방식.
+ *
+ * <h2>디렉토리 구조</h2>
+ * <ul>
+ *   <li><b>FastFoldPool</b> - 스테이크·인원별 대기 풀. 폴드하면 시트를 비우고 바로 풀로 돌아가며,
+ *       풀에 정원이 모이면 그 자리에서 새 FAST_FOLD 테이블을 만들어 핸드를 시작. 핸드가 끝나면 테이블 삭제.</li>
+ *   <li><b>dto/</b> - FastFoldJoinRequest(입장 요청), FastFoldUpdate(/user/queue/fastfold 알림)</li>
+ * </ul>
+ *
+ * <p>핸드마다 테이블·HandState·덱을 새로 만들고 Player 는 한 번에 한 테이블(또는 풀)에만 있으므로,
+ * 동시에 만들어지는 핸드끼리 공유하는 가변 상태가 없습니다.
+ * 처리량 목표는 초당 새 핸드 수(holdup_fastfold_hands_formed_total 증가율)로 봅니다.</p>
+ */
+package com.holdup.server.fastfold;
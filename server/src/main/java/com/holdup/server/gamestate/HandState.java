@@ -36,6 +36,8 @@ public class HandState {
     private Set<Integer> seatIndicesInHand;
     /** 이번 핸드에 참여한 플레이어 ID (핸드 시작 시점 착석자만). 도중 입장/같은 자리 새 플레이어는 제외. */
     private Set<String> playerIdsInHand;
+    /** 이번 스트릿 선액션 (시트 인덱스 → 선액션). 턴이 오면 실행, 스트릿이 바뀌면 초기화. */
+    private final Map<Integer, PreAction> preActionsBySeat;
 
     public HandState() {
         this.phase = GamePhase.WAITING;
@@ -49,6 +51,7 @@ public class HandState {
         this.firstActingSeatIndexThisStreet = 0;
         this.seatIndicesInHand = new HashSet<>();
         this.playerIdsInHand = new HashSet<>();
+        this.preActionsBySeat = new ConcurrentHashMap<>();
     }
 
     public Set<Integer> getSeatIndicesInHand() {
@@ -106,8 +109,13 @@ public class HandState {
         return currentBet;
     }
 
+    /** 베팅액이 바뀌면 금액에 의존하는 선액션(CHECK, CALL)은 무효. */
     public void setCurrentBet(BigDecimal currentBet) {
-        this.currentBet = currentBet != null ? currentBet : BigDecimal.ZERO;
+        BigDecimal next = currentBet != null ? currentBet : BigDecimal.ZERO;
+        if (!preActionsBySeat.isEmpty() && next.compareTo(this.currentBet) != 0) {
+            preActionsBySeat.values().removeIf(p -> p.type().isBetSensitive());
+        }
+        this.currentBet = next;
     }
 
     public Map<Integer, BigDecimal> getBetPerSeatThisStreet() {
@@ -155,4 +163,26 @@ public class HandState {
     public void setFirstActingSeatIndexThisStreet(int firstActingSeatIndexThisStreet) {
         this.firstActingSeatIndexThisStreet = firstActingSeatIndexThisStreet;
     }
+
+    public PreAction getPreAction(int seatIndex) {
+        return preActionsBySeat.get(seatIndex);
+    }
+
+    public void setPreAction(int seatIndex, PreAction preAction) {
+        if (preAction == null || preAction.type() == PreActionType.NONE) {
+            preActionsBySeat.remove(seatIndex);
+        } else {
+            preActionsBySeat.put(seatIndex, preAction);
+        }
+    }
+
+    /** 등록된 선액션을 꺼내고 제거. 없으면 null. */
+    public PreAction takePreAction(int seatIndex) {
+        return preActionsBySeat.remove(seatIndex);
+    }
+
+    /** 새 스트릿·새 핸드 시작 시 선액션 초기화. */
+    public void clearPreActions() {
+        preActionsBySeat.clear();
+    }
 }
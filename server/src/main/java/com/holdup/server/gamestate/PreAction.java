@@ -0,0 +1,13 @@
+package com.holdup.server.gamestate;
+
+import java.math.BigDecimal;
+
+/**
+ * 시트에 등록된 선액션.
+ *
+ * @param type          선액션 종류
+ * @param playerId      등록한 플레이어 (실행 시 같은 플레이어가 앉아 있을 때만 유효)
+ * @param betAtRegister 등록 시점 현재 베팅액 (CALL 금액 기준)
+ */
+public record PreAction(PreActionType type, String playerId, BigDecimal betAtRegister) {
+}
@@ -0,0 +1,31 @@
+package com.holdup.server.gamestate;
+
+/**
+ * 턴이 오기 전에 미리 등록하는 조건부 액션 (현재 스트릿에만 유효).
+ */
+public enum PreActionType {
+
+    /** 체크 가능하면 체크, 아니면 폴드. */
+    CHECK_FOLD,
+
+    /** 체크. 베팅이 바뀌면 취소. */
+    CHECK,
+
+    /** 등록 시점 금액만큼 콜. 베팅이 바뀌면 취소. */
+    CALL,
+
+    /** 금액에 상관없이 콜 (낼 금액이 없으면 체크). */
+    CALL_ANY,
+
+    /** 폴드. */
+    FOLD,
+
+    /** 등록 해제. */
+    NONE,
+    ;
+
+    /** 현재 베팅액이 바뀌면 무효가 되는지. */
+    public boolean isBetSensitive() {
+        return this == CHECK || this == CALL;
+    }
+}
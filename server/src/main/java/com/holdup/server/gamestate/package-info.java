@@ -6,6 +6,7 @@
  *   <li><b>GamePhase</b> - WAITING, PREFLOP, FLOP, TURN, RIVER, SHOWDOWN</li>
  *   <li><b>HandState</b> - phase, communityCards, pot, currentBet, betPerSeatThisStreet,
  *       dealerSeatIndex, actingSeatIndex, minRaise. 테이블에서 한 핸드 진행 시 사용.</li>
+ *   <li><b>PreActionType / PreAction</b> - 턴 전에 등록하는 선액션 (체크/폴드, 콜 애니 등). 스트릿 단위로 유효.</li>
  * </ul>
  */
 package com.holdup.server.gamestate;
@@ -0,0 +1,192 @@
+package com.holdup.server.lobby;
+
+import com.holdup.server.lobby.dto.LobbyDelta;
+import com.holdup.server.lobby.dto.LobbyPage;
+import com.holdup.server.lobby.dto.LobbyTable;
+import com.holdup.server.service.TableManager;
+import com.holdup.server.table.Table;
+import com.holdup.server.table.TableFormat;
+import com.holdup.server.table.TableListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 로비 테이블 인덱스. 착석 수·블라인드가 바뀔 때마다 (TableListener) 해당 테이블 항목만 갱신하므로
+ * 목록 조회가 전체 테이블을 훑거나 countOccupiedSeats 를 다시 세지 않음.
+ *
+ * <ul>
+ *   <li>정렬 인덱스: (빅 블라인드, 정원, 빈 자리, ID) 순. 스테이크·정원·최소 빈 자리 조건은 범위 조회</li>
+ *   <li>이름 인덱스: 소문자 이름 → 항목. 접두어 검색은 범위 조회</li>
+ *   <li>변경분은 모아 두었다가 delta-interval-ms 마다 /topic/lobby 로 한 번에 전송</li>
+ * </ul>
+ */
+@Component
+public class LobbyIndex implements TableListener {
+
+    public static final String LOBBY_TOPIC = "/topic/lobby";
+
+    private static final Comparator<LobbyTable> ORDER = Comparator
+            .comparing(LobbyTable::getBigBlind)
+            .thenComparingInt(LobbyTable::getMaxSeats)
+            .thenComparingInt(LobbyTable::getFreeSeats)
+            .thenComparing(LobbyTable::getTableId);
+    /** 범위 조회 경계용 ID (실제 ID 보다 항상 작음/큼). */
+    private static final String LOWEST_ID = "";
+    private static final String HIGHEST_ID = "\uFFFF";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final Map<String, LobbyTable> byId = new ConcurrentHashMap<>();
+    private final NavigableSet<LobbyTable> ordered = new ConcurrentSkipListSet<>(ORDER);
+    /** "소문자 이름\0ID" → 항목. */
+    private final ConcurrentSkipListMap<String, LobbyTable> byName = new ConcurrentSkipListMap<>();
+    /** 아직 전송하지 않은 변경분 (ID → 최신 항목, 삭제면 empty). */
+    private final Map<String, Optional<LobbyTable>> pending = new ConcurrentHashMap<>();
+    private volatile long version;
+
+    public LobbyIndex(TableManager tableManager, SimpMessagingTemplate messagingTemplate) {
+        this.messagingTemplate = messagingTemplate;
+        tableManager.addTableListener(this);
+        for (Table table : tableManager.getTables()) {
+            onTableChanged(table);
+        }
+    }
+
+    @Override
+    public void onTableChanged(Table table) {
+        // 패스트 폴드 등 한 핸드용 테이블은 로비에 노출하지 않음
+        if (table.getFormat() != TableFormat.CASH) return;
+        // 스냅샷과 전송 대기 변경분을 같은 잠금 안에서 만들어, 동시에 바뀐 두 변경 중 오래된 것이 마지막에 남지 않게 함
+        synchronized (this) {
+            LobbyTable next = LobbyTable.of(table);
+            LobbyTable prev = byId.put(next.getTableId(), next);
+            if (next.equals(prev)) return;
+            if (prev != null) unindex(prev);
+            ordered.add(next);
+            byName.put(nameKey(next), next);
+            pending.put(next.getTableId(), Optional.of(next));
+        }
+    }
+
+    @Override
+    public void onTableRemoved(Table table) {
+        if (table.getFormat() != TableFormat.CASH) return;
+        synchronized (this) {
+            LobbyTable prev = byId.remove(table.getId());
+            if (prev == null) return;
+            unindex(prev);
+            pending.put(table.getId(), Optional.empty());
+        }
+    }
+
+    /**
+     * 조건에 맞는 테이블 한 페이지. 정렬 인덱스(또는 이름 인덱스)의 해당 범위만 순회하고,
+     * 페이지가 차면 바로 중단.
+     */
+    public LobbyPage query(LobbyQuery query) {
+        long currentVersion = version;
+        Iterable<LobbyTable> candidates = candidates(query);
+        int skip = query.page() * query.size();
+        List<LobbyTable> tables = new ArrayList<>(query.size());
+        boolean hasNext = false;
+        for (LobbyTable t : candidates) {
+            if (!matches(t, query)) continue;
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            if (tables.size() == query.size()) {
+                hasNext = true;
+                break;
+            }
+            tables.add(t);
+        }
+        return LobbyPage.builder()
+                .version(currentVersion)
+                .page(query.page())
+                .size(query.size())
+                .hasNext(hasNext)
+                .tables(tables)
+                .build();
+    }
+
+    /** 모아 둔 변경분을 /topic/lobby 로 전송. */
+    @Scheduled(fixedDelayString = "${holdup.lobby.delta-interval-ms:250}")
+    public void flushDeltas() {
+        if (pending.isEmpty()) return;
+        List<LobbyTable> upserted = new ArrayList<>();
+        List<String> removedIds = new ArrayList<>();
+        for (String tableId : List.copyOf(pending.keySet())) {
+            Optional<LobbyTable> change = pending.remove(tableId);
+            if (change == null) continue;
+            if (change.isPresent()) {
+                upserted.add(change.get());
+            } else {
+                removedIds.add(tableId);
+            }
+        }
+        if (upserted.isEmpty() && removedIds.isEmpty()) return;
+        long next = ++version;
+        messagingTemplate.convertAndSend(LOBBY_TOPIC, LobbyDelta.builder()
+                .version(next)
+                .upserted(upserted)
+                .removed(removedIds)
+                .build());
+    }
+
+    private Iterable<LobbyTable> candidates(LobbyQuery query) {
+        String prefix = query.namePrefix();
+        if (prefix != null && !prefix.isBlank()) {
+            String from = prefix.toLowerCase(Locale.ROOT);
+            return byName.subMap(from, true, from + HIGHEST_ID, false).values();
+        }
+        if (query.bigBlind() == null) return ordered;
+        BigDecimal bb = query.bigBlind();
+        if (query.maxSeats() == null) {
+            return ordered.subSet(bound(bb, 0, 0, LOWEST_ID), true,
+                    bound(bb, Integer.MAX_VALUE, 0, HIGHEST_ID), true);
+        }
+        int seats = query.maxSeats();
+        return ordered.subSet(bound(bb, seats, Math.max(query.minFree(), 0), LOWEST_ID), true,
+                bound(bb, seats, seats, HIGHEST_ID), true);
+    }
+
+    private static boolean matches(LobbyTable t, LobbyQuery query) {
+        if (query.bigBlind() != null && t.getBigBlind().compareTo(query.bigBlind()) != 0) return false;
+        if (query.maxSeats() != null && t.getMaxSeats() != query.maxSeats()) return false;
+        return t.getFreeSeats() >= query.minFree();
+    }
+
+    /** 정렬 인덱스 범위 경계. freeSeats = maxSeats - occupiedSeats 이므로 occupied 로 역산. */
+    private static LobbyTable bound(BigDecimal bb, int maxSeats, int freeSeats, String tableId) {
+        return LobbyTable.builder()
+                .tableId(tableId)
+                .bigBlind(bb)
+                .maxSeats(maxSeats)
+                .occupiedSeats(maxSeats - freeSeats)
+                .build();
+    }
+
+    private void unindex(LobbyTable entry) {
+        ordered.remove(entry);
+        byName.remove(nameKey(entry));
+    }
+
+    private static String nameKey(LobbyTable entry) {
+        String name = entry.getName() != null ? entry.getName() : "";
+        return name.toLowerCase(Locale.ROOT) + '\0' + entry.getTableId();
+    }
+}
@@ -0,0 +1,16 @@
+package com.holdup.server.lobby;
+
+import java.math.BigDecimal;
+
+/**
+ * 로비 목록 조회 조건. null 필드는 조건 없음.
+ *
+ * @param bigBlind 스테이크 (빅 블라인드)
+ * @param maxSeats 테이블 정원
+ * @param minFree  최소 빈 자리 수
+ * @param namePrefix 이름 접두어 (대소문자 무시)
+ * @param page     0부터
+ * @param size     페이지 크기
+ */
+public record LobbyQuery(BigDecimal bigBlind, Integer maxSeats, int minFree, String namePrefix, int page, int size) {
+}
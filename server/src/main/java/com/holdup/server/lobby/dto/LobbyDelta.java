@@ -0,0 +1,20 @@
+package com.holdup.server.lobby.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * /topic/lobby 로 보내는 변경분. 짧은 주기로 모아서 한 번에 전송.
+ * 클라이언트는 REST 목록의 version 보다 큰 delta 만 적용 (upsert 는 전체 값이라 중복 적용해도 안전).
+ */
+@Value
+@Builder
+public class LobbyDelta {
+    long version;
+    /** 생성·변경된 테이블 (최신 값). */
+    List<LobbyTable> upserted;
+    /** 삭제된 테이블 ID. */
+    List<String> removed;
+}
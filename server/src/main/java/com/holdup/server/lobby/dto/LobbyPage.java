@@ -0,0 +1,20 @@
+package com.holdup.server.lobby.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * GET /api/lobby/tables 응답.
+ */
+@Value
+@Builder
+public class LobbyPage {
+    /** 조회 시점 인덱스 버전. 이후 /topic/lobby delta 는 이보다 큰 version 만 적용. */
+    long version;
+    int page;
+    int size;
+    boolean hasNext;
+    List<LobbyTable> tables;
+}
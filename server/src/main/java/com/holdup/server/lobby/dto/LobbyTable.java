@@ -0,0 +1,36 @@
+package com.holdup.server.lobby.dto;
+
+import com.holdup.server.table.Table;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * 로비 목록의 테이블 한 줄. 인덱스 키로도 쓰이므로 불변.
+ */
+@Value
+@Builder
+public class LobbyTable {
+    String tableId;
+    String name;
+    BigDecimal smallBlind;
+    BigDecimal bigBlind;
+    int maxSeats;
+    int occupiedSeats;
+
+    public int getFreeSeats() {
+        return maxSeats - occupiedSeats;
+    }
+
+    public static LobbyTable of(Table table) {
+        return LobbyTable.builder()
+                .tableId(table.getId())
+                .name(table.getName())
+                .smallBlind(table.getSmallBlindAmount())
+                .bigBlind(table.getBigBlindAmount())
+                .maxSeats(table.getMaxSeats())
+                .occupiedSeats((int) table.countOccupiedSeats())
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+/**
+ * 로비 (테이블 목록).
+ *
+ * <h2>디렉토리 구조</h2>
+ * <ul>
+ *   <li><b>LobbyIndex</b> - TableListener 로 착석 수·블라인드 변경을 받아 항목 단위로 갱신하는 인덱스.
+ *       스테이크·정원·빈 자리 범위 조회, 이름 접두어 검색. 변경분은 /topic/lobby 로 주기적으로 전송.</li>
+ *   <li><b>LobbyQuery</b> - 조회 조건</li>
+ *   <li><b>dto/</b> - LobbyTable(목록 한 줄), LobbyPage(REST 응답), LobbyDelta(변경분)</li>
+ * </ul>
+ *
+ * <p>클라이언트는 GET /api/lobby/tables 로 목록과 version 을 받고, /topic/lobby 를 구독해
+ * version 이 더 큰 delta 만 적용합니다.</p>
+ */
+package com.holdup.server.lobby;
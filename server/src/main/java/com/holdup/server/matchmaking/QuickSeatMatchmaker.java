@@ -0,0 +1,299 @@
+package com.holdup.server.matchmaking;
+
+import com.holdup.server.action.ActionDispatcher;
+import com.holdup.server.action.GameActionType;
+import com.holdup.server.action.dto.ActionResult;
+import com.holdup.server.action.dto.PlayerActionRequest;
+import com.holdup.server.lobby.LobbyIndex;
+import com.holdup.server.lobby.LobbyQuery;
+import com.holdup.server.lobby.dto.LobbyTable;
+import com.holdup.server.matchmaking.dto.MatchmakingUpdate;
+import com.holdup.server.matchmaking.dto.QuickSeatRequest;
+import com.holdup.server.service.TableBroadcastService;
+import com.holdup.server.service.TableManager;
+import com.holdup.server.table.Table;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 빠른 입장 매칭. 스테이크(빅 블라인드·정원)별 lock-free 대기열에 등록만 해 두고,
+ * batch-interval-ms 마다 모인 플레이어를 한 번에 배정.
+ *
+ * <ul>
+ *   <li>등록·취소: ConcurrentHashMap + ConcurrentLinkedQueue 만 사용 (락 없음). 취소는 대기열에서 지우지 않고
+ *       waiting 에서만 빼 두면 배정 시 건너뜀</li>
+ *   <li>배정: 로비 인덱스에서 빈 자리가 있는 테이블을 빈 자리 적은 순(= 가장 많이 찬 순)으로 채우고,
+ *       모자랄 때만 새 테이블 생성. 착석은 JOIN_TABLE 디스패치로 처리하고 테이블당 한 번만 브로드캐스트</li>
+ *   <li>스테이크는 holdup.matchmaking.stakes 에 설정한 빅 블라인드만 허용. 대기열 키가 설정 값 × 정원으로 한정되고
+ *       빈 대기열은 배정 후 지움</li>
+ *   <li>결과는 각 플레이어에게 /user/queue/matchmaking 으로 전송</li>
+ * </ul>
+ */
+@Component
+public class QuickSeatMatchmaker {
+
+    public static final String USER_DESTINATION = "/queue/matchmaking";
+
+    private static final BigDecimal DEFAULT_BIG_BLIND = BigDecimal.valueOf(2);
+    private static final int DEFAULT_MAX_SEATS = 9;
+    private static final int MIN_SEATS = 2;
+    /** 착석 실패(동시 입장으로 자리 선점 등) 시 재시도 횟수. */
+    private static final int MAX_ATTEMPTS = 3;
+
+    /** 대기열 키. bigBlind 는 허용 스테이크 목록의 값 (2 와 2.00 이 같은 키). */
+    private record Stake(BigDecimal bigBlind, int maxSeats) {
+    }
+
+    private record Ticket(String playerId, String nickname, Stake stake, long enqueuedAt, int attempts) {
+        Ticket retry() {
+            return new Ticket(playerId, nickname, stake, enqueuedAt, attempts + 1);
+        }
+    }
+
+    private final TableManager tableManager;
+    private final LobbyIndex lobbyIndex;
+    private final ActionDispatcher actionDispatcher;
+    private final TableBroadcastService tableBroadcastService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final int maxBatch;
+    /** 허용 빅 블라인드 (스케일 정규화). */
+    private final List<BigDecimal> stakes;
+
+    private final Map<Stake, Queue<Ticket>> queues = new ConcurrentHashMap<>();
+    /** 플레이어 ID → 현재 유효한 대기 티켓. 여기 없는 티켓은 취소·재등록된 것. */
+    private final Map<String, Ticket> waiting = new ConcurrentHashMap<>();
+
+    private final Timer waitTimer;
+    private final Counter seatedCounter;
+    private final Counter tablesCreatedCounter;
+
+    public QuickSeatMatchmaker(TableManager tableManager, LobbyIndex lobbyIndex, ActionDispatcher actionDispatcher,
+                               TableBroadcastService tableBroadcastService, SimpMessagingTemplate messagingTemplate,
+                               MeterRegistry registry,
+                               @Value("${holdup.matchmaking.max-batch:2000}") int maxBatch,
+                               @Value("${holdup.matchmaking.stakes:1,2,5,10,20,50,100}") List<BigDecimal> stakes) {
+        this.tableManager = tableManager;
+        this.lobbyIndex = lobbyIndex;
+        this.actionDispatcher = actionDispatcher;
+        this.tableBroadcastService = tableBroadcastService;
+        this.messagingTemplate = messagingTemplate;
+        this.maxBatch = Math.max(1, maxBatch);
+        this.stakes = stakes.stream()
+                .filter(bb -> bb.signum() > 0)
+                .map(bb -> new BigDecimal(bb.stripTrailingZeros().toPlainString()))
+                .distinct()
+                .toList();
+        this.waitTimer = Timer.builder("holdup.matchmaking.wait")
+                .description("빠른 입장 등록부터 착석까지 대기 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.seatedCounter = Counter.builder("holdup.matchmaking.seated")
+                .description("빠른 입장으로 착석한 플레이어 수")
+                .register(registry);
+        this.tablesCreatedCounter = Counter.builder("holdup.matchmaking.tables.created")
+                .description("빠른 입장 배정 중 새로 만든 테이블 수")
+                .register(registry);
+        Gauge.builder("holdup.matchmaking.waiting", waiting, Map::size)
+                .description("빠른 입장 대기 인원")
+                .register(registry);
+    }
+
+    /**
+     * 대기열 등록. 이미 대기 중이면 새 조건으로 교체. 허용 목록에 없는 스테이크는 FAILED.
+     */
+    public void enqueue(String playerId, QuickSeatRequest request) {
+        BigDecimal bigBlind = request != null && request.getBigBlind() != null ? request.getBigBlind() : DEFAULT_BIG_BLIND;
+        int maxSeats = request != null && request.getMaxSeats() != null ? request.getMaxSeats() : DEFAULT_MAX_SEATS;
+        Optional<BigDecimal> allowed = allowedStake(bigBlind);
+        if (allowed.isEmpty() || maxSeats < MIN_SEATS || maxSeats > DEFAULT_MAX_SEATS) {
+            // 요청 값은 되돌려 보내지 않음 (지수가 큰 값은 직렬화 비용이 큼)
+            notify(playerId, MatchmakingUpdate.builder()
+                    .status(MatchmakingUpdate.Status.FAILED)
+                    .maxSeats(maxSeats)
+                    .message("Invalid stake or table size")
+                    .build());
+            return;
+        }
+        String nickname = request != null && request.getNickname() != null && !request.getNickname().isBlank()
+                ? request.getNickname() : null;
+        Stake stake = new Stake(allowed.get(), maxSeats);
+        Ticket ticket = new Ticket(playerId, nickname, stake, System.nanoTime(), 0);
+        waiting.put(playerId, ticket);
+        offer(ticket);
+        notify(playerId, MatchmakingUpdate.builder()
+                .status(MatchmakingUpdate.Status.QUEUED)
+                .bigBlind(stake.bigBlind())
+                .maxSeats(maxSeats)
+                .build());
+    }
+
+    /**
+     * 대기 취소. 대기열 항목은 배정 시점에 건너뜀.
+     *
+     * @return 대기 중이었으면 true
+     */
+    public boolean cancel(String playerId) {
+        Ticket ticket = waiting.remove(playerId);
+        if (ticket == null) return false;
+        notify(playerId, MatchmakingUpdate.builder()
+                .status(MatchmakingUpdate.Status.CANCELLED)
+                .bigBlind(ticket.stake().bigBlind())
+                .maxSeats(ticket.stake().maxSeats())
+                .build());
+        return true;
+    }
+
+    /** 연결이 끊긴 플레이어는 대기열에서 제외 (알림 없이). */
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        if (event.getUser() != null) {
+            waiting.remove(event.getUser().getName());
+        }
+    }
+
+    /** 스테이크별로 모인 대기자를 한 번에 배정. */
+    @Scheduled(fixedDelayString = "${holdup.matchmaking.batch-interval-ms:100}")
+    public void assignBatches() {
+        if (waiting.isEmpty()) return;
+        queues.forEach(this::assign);
+        // 빈 대기열 정리. offer 도 compute 안에서 하므로 지우는 사이에 들어온 티켓을 잃지 않음
+        for (Stake stake : List.copyOf(queues.keySet())) {
+            queues.computeIfPresent(stake, (s, queue) -> queue.isEmpty() ? null : queue);
+        }
+    }
+
+    private void assign(Stake stake, Queue<Ticket> queue) {
+        List<Ticket> batch = drain(queue);
+        if (batch.isEmpty()) return;
+        int next = 0;
+        // 로비 인덱스는 빈 자리 오름차순이므로 앞에서부터 채우면 가장 많이 찬 테이블부터 채워짐
+        List<LobbyTable> open = lobbyIndex.query(new LobbyQuery(stake.bigBlind(), stake.maxSeats(), 1, null,
+                0, batch.size())).getTables();
+        for (LobbyTable entry : open) {
+            if (next == batch.size()) break;
+            Optional<Table> table = tableManager.getTable(entry.getTableId());
+            if (table.isEmpty()) continue;
+            next = seat(table.get(), batch, next, Math.min(batch.size(), next + entry.getFreeSeats()));
+        }
+        while (next < batch.size()) {
+            next = seat(createTable(stake), batch, next, Math.min(batch.size(), next + stake.maxSeats()));
+        }
+    }
+
+    /** 유효한 티켓만 최대 maxBatch 개 꺼냄. 꺼낸 티켓은 waiting 에서 빠져 이후 취소와 경합하지 않음. */
+    private List<Ticket> drain(Queue<Ticket> queue) {
+        List<Ticket> batch = new ArrayList<>();
+        Ticket ticket;
+        while (batch.size() < maxBatch && (ticket = queue.poll()) != null) {
+            if (waiting.remove(ticket.playerId(), ticket)) {
+                batch.add(ticket);
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * batch[from, to) 를 테이블에 착석. 실패한 티켓은 재등록.
+     *
+     * @return to
+     */
+    private int seat(Table table, List<Ticket> batch, int from, int to) {
+        ActionResult lastJoin = null;
+        for (int i = from; i < to; i++) {
+            Ticket ticket = batch.get(i);
+            ActionResult result = actionDispatcher.dispatch(PlayerActionRequest.builder()
+                    .actionType(GameActionType.JOIN_TABLE)
+                    .tableId(table.getId())
+                    .playerId(ticket.nickname())
+                    .build(), ticket.playerId());
+            if (!result.isSuccess()) {
+                retry(ticket, result.getMessage());
+                continue;
+            }
+            long waitedNanos = System.nanoTime() - ticket.enqueuedAt();
+            waitTimer.record(waitedNanos, TimeUnit.NANOSECONDS);
+            seatedCounter.increment();
+            lastJoin = result;
+            notify(ticket.playerId(), MatchmakingUpdate.builder()
+                    .status(MatchmakingUpdate.Status.SEATED)
+                    .bigBlind(ticket.stake().bigBlind())
+                    .maxSeats(ticket.stake().maxSeats())
+                    .tableId(table.getId())
+                    .seatIndex(result.getSeatIndex())
+                    .waitedMs(TimeUnit.NANOSECONDS.toMillis(waitedNanos))
+                    .build());
+        }
+        // 테이블 상태에 이번 착석이 모두 반영되므로 테이블당 한 번만 브로드캐스트
+        if (lastJoin != null) {
+            tableBroadcastService.broadcast(lastJoin);
+        }
+        return to;
+    }
+
+    private void retry(Ticket ticket, String reason) {
+        Ticket next = ticket.retry();
+        if (next.attempts() < MAX_ATTEMPTS && waiting.putIfAbsent(ticket.playerId(), next) == null) {
+            offer(next);
+            return;
+        }
+        if (next.attempts() >= MAX_ATTEMPTS) {
+            notify(ticket.playerId(), MatchmakingUpdate.builder()
+                    .status(MatchmakingUpdate.Status.FAILED)
+                    .bigBlind(ticket.stake().bigBlind())
+                    .maxSeats(ticket.stake().maxSeats())
+                    .message(reason)
+                    .build());
+        }
+    }
+
+    private void offer(Ticket ticket) {
+        queues.compute(ticket.stake(), (s, queue) -> {
+            Queue<Ticket> target = queue != null ? queue : new ConcurrentLinkedQueue<>();
+            target.offer(ticket);
+            return target;
+        });
+    }
+
+    /** 허용 목록에서 같은 값을 찾음. 목록 쪽 값으로 비교하므로 요청 값의 지수가 커도 비용이 일정. */
+    private Optional<BigDecimal> allowedStake(BigDecimal bigBlind) {
+        if (bigBlind.signum() <= 0) return Optional.empty();
+        for (BigDecimal stake : stakes) {
+            if (stake.compareTo(bigBlind) == 0) return Optional.of(stake);
+        }
+        return Optional.empty();
+    }
+
+    private Table createTable(Stake stake) {
+        String tableId = "qs-" + UUID.randomUUID().toString().substring(0, 8);
+        BigDecimal smallBlind = stake.bigBlind().divide(BigDecimal.valueOf(2));
+        Table table = tableManager.createTable(tableId,
+                "Quick " + smallBlind.toPlainString() + "/" + stake.bigBlind().toPlainString(), stake.maxSeats());
+        table.setSmallBlindAmount(smallBlind);
+        table.setBigBlindAmount(stake.bigBlind());
+        tablesCreatedCounter.increment();
+        return table;
+    }
+
+    private void notify(String playerId, MatchmakingUpdate update) {
+        messagingTemplate.convertAndSendToUser(playerId, USER_DESTINATION, update);
+    }
+}
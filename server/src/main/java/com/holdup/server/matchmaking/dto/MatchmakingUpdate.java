@@ -0,0 +1,34 @@
+package com.holdup.server.matchmaking.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * 서버 → 플레이어: 빠른 입장 상태 (/user/queue/matchmaking).
+ */
+@Value
+@Builder
+public class MatchmakingUpdate {
+
+    public enum Status {
+        /** 대기열 등록됨. */
+        QUEUED,
+        /** 테이블 배정·착석 완료 (tableId, seatIndex). */
+        SEATED,
+        /** 대기 취소됨. */
+        CANCELLED,
+        /** 등록 거절 또는 착석 재시도 초과. */
+        FAILED,
+    }
+
+    Status status;
+    BigDecimal bigBlind;
+    int maxSeats;
+    String tableId;
+    Integer seatIndex;
+    /** 등록부터 착석까지 걸린 시간 (SEATED 일 때). */
+    Long waitedMs;
+    String message;
+}
@@ -0,0 +1,27 @@
+package com.holdup.server.matchmaking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 클라이언트 → 서버: 빠른 입장 대기열 등록 (/app/matchmaking/join).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuickSeatRequest {
+
+    /** 원하는 스테이크 (빅 블라인드). null이면 기본 2. */
+    private BigDecimal bigBlind;
+
+    /** 원하는 테이블 정원 (2~9). null이면 9. */
+    private Integer maxSeats;
+
+    /** 표시할 닉네임. */
+    private String nickname;
+}
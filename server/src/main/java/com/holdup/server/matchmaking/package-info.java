@@ -0,0 +1,13 @@
+/**
+ * 빠른 입장 매칭 (테이블 코드 없이 스테이크만 골라 입장).
+ *
+ * <h2>디렉토리 구조</h2>
+ * <ul>
+ *   <li><b>QuickSeatMatchmaker</b> - 스테이크(빅 블라인드·정원)별 lock-free 대기열. 주기적으로 모인 대기자를
+ *       빈 자리가 있는 테이블 중 가장 많이 찬 테이블부터 채우고, 모자라면 새 테이블을 만듦.</li>
+ *   <li><b>dto/</b> - QuickSeatRequest(등록 요청), MatchmakingUpdate(/user/queue/matchmaking 알림)</li>
+ * </ul>
+ *
+ * <p>클라이언트는 /app/matchmaking/join 으로 등록하고 SEATED 알림의 tableId 로 /topic/table/{tableId} 를 구독합니다.</p>
+ */
+package com.holdup.server.matchmaking;
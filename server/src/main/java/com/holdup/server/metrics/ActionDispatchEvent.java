@@ -0,0 +1,38 @@
+package com.holdup.server.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR 이벤트: ActionDispatcher.dispatch (검증 + 핸들러 + 턴 진행).
+ */
+@Name("com.holdup.ActionDispatch")
+@Label("Action Dispatch")
+@Category({"Holdup", "Action"})
+@Description("플레이어 액션 한 건 처리")
+@StackTrace(false)
+public class ActionDispatchEvent extends jdk.jfr.Event {
+
+    @Label("Table ID")
+    public String tableId;
+
+    @Label("Action")
+    public String actionType;
+
+    @Label("Phase")
+    @Description("처리 후 단계")
+    public String phase;
+
+    @Label("Participants")
+    @Description("이번 핸드 참가자 수")
+    public int participantCount;
+
+    @Label("Accepted")
+    public boolean accepted;
+
+    @Label("Reject Reason")
+    public String rejectReason;
+}
@@ -0,0 +1,32 @@
+package com.holdup.server.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR 이벤트: TableBroadcastService 의 스냅샷 생성 + 토픽/플레이어별 전송.
+ */
+@Name("com.holdup.BroadcastFanOut")
+@Label("Broadcast Fan-out")
+@Category({"Holdup", "Broadcast"})
+@Description("테이블 상태 스냅샷 생성 및 전송")
+@StackTrace(false)
+public class BroadcastFanOutEvent extends jdk.jfr.Event {
+
+    @Label("Table ID")
+    public String tableId;
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Participants")
+    @Description("이번 핸드 참가자 수")
+    public int participantCount;
+
+    @Label("Recipients")
+    @Description("개인 스냅샷을 받은 착석자 수 (쇼다운 공개는 0)")
+    public int recipientCount;
+}
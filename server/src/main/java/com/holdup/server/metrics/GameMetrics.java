@@ -0,0 +1,111 @@
+package com.holdup.server.metrics;
+
+import com.holdup.server.action.GameActionType;
+import com.holdup.server.action.RejectReason;
+import com.holdup.server.action.dto.ActionResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액션 처리 경로 계측. 구간별·액션 타입별 지연 히스토그램과 거절 사유별 카운터.
+ * /actuator/prometheus 로 노출 (holdup_action_stage_seconds_bucket 등).
+ *
+ * <p>핫패스에서 레지스트리 조회가 없도록 Timer 는 생성 시점에 미리 만들어 둠.</p>
+ */
+@Component
+public class GameMetrics {
+
+    /** 액션 한 건이 지나가는 구간. */
+    public enum Stage {
+        /** GameController.action 수신 ~ 브로드캐스트 완료 (전체). */
+        INBOUND,
+        /** ActionDispatcher.dispatch (검증 + 핸들러). */
+        DISPATCH,
+        /** GameFlowService.afterPlayerAction (턴 이동·스트릿 전환·쇼다운). */
+        FLOW,
+        /** TableSnapshot 생성 (브로드캐스트용 + 플레이어별). */
+        SNAPSHOT,
+        /** messagingTemplate 전송 (토픽 + 플레이어별 큐). */
+        SEND,
+        ;
+    }
+
+    private static final Duration MIN_EXPECTED = Duration.ofNanos(10_000);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(5);
+
+    private final MeterRegistry registry;
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Map<GameActionType, Timer> acceptedTimers = new EnumMap<>(GameActionType.class);
+    private final Map<GameActionType, Timer> rejectedTimers = new EnumMap<>(GameActionType.class);
+    private final Map<String, Counter> rejectionCounters = new ConcurrentHashMap<>();
+
+    public GameMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, timer("holdup.action.stage", "구간별 액션 처리 시간")
+                    .tag("stage", stage.name().toLowerCase())
+                    .register(registry));
+        }
+        for (GameActionType type : GameActionType.values()) {
+            acceptedTimers.put(type, dispatchTimer(type.name(), "accepted"));
+            rejectedTimers.put(type, dispatchTimer(type.name(), "rejected"));
+        }
+    }
+
+    public void recordStage(Stage stage, long nanos) {
+        stageTimers.get(stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 디스패치 결과 기록 (DISPATCH 구간 + 액션 타입별). 실패면 거절 사유 카운터도 증가.
+     *
+     * @param type   요청 액션 타입 (null이면 잘못된 요청)
+     * @param result 처리 결과
+     * @param nanos  디스패치 소요 시간
+     */
+    public void recordDispatch(GameActionType type, ActionResult result, long nanos) {
+        boolean accepted = result != null && result.isSuccess();
+        recordStage(Stage.DISPATCH, nanos);
+        if (type != null) {
+            (accepted ? acceptedTimers : rejectedTimers).get(type).record(nanos, TimeUnit.NANOSECONDS);
+        }
+        if (!accepted) {
+            RejectReason reason = result != null ? result.getRejectReason() : null;
+            rejectionCounter(type, reason).increment();
+        }
+    }
+
+    private Counter rejectionCounter(GameActionType type, RejectReason reason) {
+        String action = type != null ? type.name() : "NONE";
+        String reasonTag = reason != null ? reason.name() : "OTHER";
+        return rejectionCounters.computeIfAbsent(action + ':' + reasonTag, key -> Counter
+                .builder("holdup.action.rejected")
+                .description("거절된 액션 수 (액션 타입·사유별)")
+                .tag("action", action)
+                .tag("reason", reasonTag)
+                .register(registry));
+    }
+
+    private Timer dispatchTimer(String action, String outcome) {
+        return timer("holdup.action.dispatch", "액션 타입별 디스패치 시간")
+                .tag("action", action)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private static Timer.Builder timer(String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED);
+    }
+}
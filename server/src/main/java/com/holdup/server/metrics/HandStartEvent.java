@@ -0,0 +1,32 @@
+package com.holdup.server.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR 이벤트: GameFlowService.startNewHand (버스트 정리·셔플·딜링·블라인드).
+ */
+@Name("com.holdup.HandStart")
+@Label("Hand Start")
+@Category({"Holdup", "Game Flow"})
+@Description("새 핸드 시작 처리")
+@StackTrace(false)
+public class HandStartEvent extends jdk.jfr.Event {
+
+    @Label("Table ID")
+    public String tableId;
+
+    @Label("Phase")
+    @Description("처리 후 단계 (시작 실패 시 WAITING)")
+    public String phase;
+
+    @Label("Participants")
+    @Description("이번 핸드 참가자 수")
+    public int participantCount;
+
+    @Label("Started")
+    public boolean started;
+}
@@ -0,0 +1,29 @@
+package com.holdup.server.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR 이벤트: GameFlowService.runShowdown (패 공개 브로드캐스트·승자 판정·팟 분배).
+ */
+@Name("com.holdup.Showdown")
+@Label("Showdown")
+@Category({"Holdup", "Game Flow"})
+@Description("쇼다운 처리")
+@StackTrace(false)
+public class ShowdownEvent extends jdk.jfr.Event {
+
+    @Label("Table ID")
+    public String tableId;
+
+    @Label("Phase")
+    @Description("쇼다운 진입 시 단계 (보통 RIVER)")
+    public String phase;
+
+    @Label("Participants")
+    @Description("쇼다운 참가자 수 (폴드 제외)")
+    public int participantCount;
+}
@@ -0,0 +1,31 @@
+package com.holdup.server.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR 이벤트: 스트릿 전환 (PREFLOP → FLOP → TURN → RIVER).
+ */
+@Name("com.holdup.StreetAdvance")
+@Label("Street Advance")
+@Category({"Holdup", "Game Flow"})
+@Description("스트릿 전환 (커뮤니티 카드 딜링·베팅 초기화)")
+@StackTrace(false)
+public class StreetAdvanceEvent extends jdk.jfr.Event {
+
+    @Label("Table ID")
+    public String tableId;
+
+    @Label("From Phase")
+    public String fromPhase;
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Participants")
+    @Description("폴드하지 않은 참가자 수")
+    public int participantCount;
+}
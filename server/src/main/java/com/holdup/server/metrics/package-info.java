@@ -0,0 +1,13 @@
+/**
+ * 게임 서버 계측.
+ *
+ * <h2>디렉토리 구조</h2>
+ * <ul>
+ *   <li><b>GameMetrics</b> - 구간별(inbound/dispatch/flow/snapshot/send)·액션 타입별 지연 히스토그램,
+ *       거절 사유별 카운터. Micrometer 로 기록하고 /actuator/prometheus 로 노출.</li>
+ *   <li><b>*Event</b> - JFR 커스텀 이벤트 (카테고리 Holdup). 핸드 시작·스트릿 전환·쇼다운·액션 디스패치·
+ *       브로드캐스트 팬아웃을 tableId/phase/참가자 수와 함께 기록. 필드는 shouldCommit() 안에서만 채우므로
+ *       JFR 녹화가 꺼져 있으면 begin/shouldCommit 호출만 남고 JIT 가 이벤트 객체 할당을 제거함.</li>
+ * </ul>
+ */
+package com.holdup.server.metrics;
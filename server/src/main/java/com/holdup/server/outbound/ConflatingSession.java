@@ -0,0 +1,169 @@
+package com.holdup.server.outbound;
+
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 연결 하나의 송신 버퍼. sendMessage 는 버퍼에 넣고 바로 돌아가며, OutboundBuffers 의 쓰기 스레드가 순서대로 비움.
+ * 비울 때 대기 중인 텍스트 프레임을 이어 붙여 WebSocket 메시지 하나로 보냄 (병합 창 동안 모인 것 + 쓰는 동안 밀린 것).
+ *
+ * <p>쓰기가 진행 중일 때 들어온 키가 있는 메시지는 같은 키의 대기 메시지를 대체 (예전 것 제거 후 맨 뒤에 추가). 앞자리를 덮어쓰지 않는 이유:
+ * 그 사이에 나간 액션 이벤트의 스냅샷이 더 새 상태보다 늦게 도착하면 클라이언트 상태가 뒤로 감.</p>
+ *
+ * <p>한도를 넘으면 SessionLimitExceededException 을 던지고, STOMP 핸들러가 그 상태로 연결을 닫음.</p>
+ */
+final class ConflatingSession extends WebSocketSessionDecorator {
+
+    private record Pending(WebSocketMessage<?> message, String key) {
+    }
+
+    private final OutboundBuffers owner;
+    private final ArrayDeque<Pending> pending = new ArrayDeque<>();
+    /** 쓰기 작업이 예약·실행 중. */
+    private boolean draining;
+    /** 진행 중인 쓰기 시작 시각 (nanoTime), 없으면 0. */
+    private long writeStartedAt;
+    /** 버퍼를 다 보낸 뒤 닫을 상태 (ERROR 프레임 뒤 close 등). */
+    private CloseStatus closeAfterDrain;
+    private boolean evicted;
+
+    ConflatingSession(WebSocketSession delegate, OutboundBuffers owner) {
+        super(delegate);
+        this.owner = owner;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        String key = OutboundBuffers.conflationKey(message);
+        synchronized (this) {
+            if (evicted) return;
+            // 소켓 쓰기가 진행 중일 때(연결이 밀릴 때)만 대체. 병합 창에서 기다리는 중이면 둘 다 한 메시지로 나감
+            if (key != null && writeStartedAt != 0 && removePending(key)) owner.onConflated();
+            if (pending.size() >= owner.maxPending()) {
+                evict(false);
+                throw new SessionLimitExceededException(
+                        "송신 버퍼 한도 초과 (" + owner.maxPending() + ")", CloseStatus.SESSION_NOT_RELIABLE);
+            }
+            if (writeStartedAt != 0 && System.nanoTime() - writeStartedAt > owner.sendTimeLimitNanos()) {
+                evict(true);
+                throw new SessionLimitExceededException("송신 시간 한도 초과", CloseStatus.SESSION_NOT_RELIABLE);
+            }
+            pending.addLast(new Pending(message, key));
+            owner.onQueued(1);
+            if (draining) return;
+            draining = true;
+        }
+        owner.schedule(this::drain);
+    }
+
+    private boolean removePending(String key) {
+        for (Iterator<Pending> it = pending.iterator(); it.hasNext(); ) {
+            if (key.equals(it.next().key())) {
+                it.remove();
+                owner.onQueued(-1);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void evict(boolean timeout) {
+        evicted = true;
+        owner.onQueued(-pending.size());
+        pending.clear();
+        owner.onEvicted(timeout);
+    }
+
+    private void drain() {
+        while (true) {
+            List<WebSocketMessage<?>> batch;
+            CloseStatus close = null;
+            synchronized (this) {
+                batch = takeBatch();
+                if (!batch.isEmpty()) {
+                    owner.onQueued(-batch.size());
+                    writeStartedAt = System.nanoTime();
+                } else {
+                    draining = false;
+                    writeStartedAt = 0;
+                    close = closeAfterDrain;
+                    closeAfterDrain = null;
+                }
+            }
+            if (batch.isEmpty()) {
+                if (close != null) closeQuietly(close);
+                return;
+            }
+            try {
+                getDelegate().sendMessage(batch.size() == 1 ? batch.get(0) : join(batch));
+                owner.onSent(batch.size());
+            } catch (IOException | RuntimeException e) {
+                synchronized (this) {
+                    owner.onQueued(-pending.size());
+                    pending.clear();
+                }
+                closeQuietly(CloseStatus.SESSION_NOT_RELIABLE);
+            }
+        }
+    }
+
+    /** 앞에서부터 이어 보낼 수 있는 만큼. 텍스트가 아닌 메시지는 따로 한 건. */
+    private List<WebSocketMessage<?>> takeBatch() {
+        List<WebSocketMessage<?>> batch = new ArrayList<>();
+        int bytes = 0;
+        Pending next;
+        while ((next = pending.peekFirst()) != null) {
+            WebSocketMessage<?> message = next.message();
+            boolean text = message instanceof TextMessage;
+            if (!batch.isEmpty() && (!text || bytes + message.getPayloadLength() > owner.coalesceMaxBytes())) break;
+            pending.pollFirst();
+            batch.add(message);
+            if (!text) break;
+            bytes += message.getPayloadLength();
+        }
+        return batch;
+    }
+
+    private static TextMessage join(List<WebSocketMessage<?>> batch) {
+        StringBuilder frames = new StringBuilder();
+        for (WebSocketMessage<?> message : batch) {
+            frames.append(((TextMessage) message).getPayload());
+        }
+        return new TextMessage(frames);
+    }
+
+    @Override
+    public void close() throws IOException {
+        close(CloseStatus.NORMAL);
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        synchronized (this) {
+            // 밀려서 끊는 경우는 바로, 아니면 남은 프레임을 보낸 뒤
+            if (draining && !evicted) {
+                closeAfterDrain = status;
+                return;
+            }
+        }
+        getDelegate().close(status);
+    }
+
+    private void closeQuietly(CloseStatus status) {
+        try {
+            getDelegate().close(status);
+        } catch (IOException | RuntimeException ignored) {
+            // 이미 닫힌 연결
+        }
+    }
+}
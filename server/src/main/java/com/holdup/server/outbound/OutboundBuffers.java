@@ -0,0 +1,187 @@
+package com.holdup.server.outbound;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 연결별 송신 버퍼. WebSocketConfig 가 전송 계층 데코레이터로 등록해 모든 연결(/ws)을 ConflatingSession 으로 감쌈.
+ *
+ * <ul>
+ *   <li>브로커 스레드는 연결 버퍼에 넣기만 하고, 실제 소켓 쓰기는 전용 스레드(outbound-writer-N)가 연결별로 순서대로 함.
+ *       느린 연결 하나가 브로커 스레드를 붙잡지 않음</li>
+ *   <li>보내는 쪽이 {@value #CONFLATE_HEADER} 헤더로 키를 붙인 메시지는 상태 스냅샷: 소켓 쓰기가 밀려 있는 동안 같은 키의
+ *       메시지가 아직 안 나갔으면 예전 것을 버리고 새 것을 뒤에 넣음 (최신 상태만 전달). 헤더가 없는 메시지(액션 이벤트 등)는 버리지 않음</li>
+ *   <li>버퍼가 max-pending-messages 에 닿거나 쓰기 하나가 send-time-limit-ms 넘게 걸리면 느린 연결로 보고 끊음
+ *       (재접속 토큰으로 복귀 가능)</li>
+ *   <li>비어 있던 버퍼에 메시지가 들어오면 coalesce-window-ms 만큼 기다렸다가 그동안 모인 STOMP 프레임을 WebSocket 메시지
+ *       하나로 이어 보냄 (액션 하나의 토픽·플레이어별 스냅샷·쇼다운 등). STOMP 프레임은 NUL 로 끝나므로 클라이언트 파서가
+ *       그대로 나눔. 한 메시지는 coalesce-max-bytes 까지</li>
+ * </ul>
+ */
+@Component
+public class OutboundBuffers implements WebSocketHandlerDecoratorFactory {
+
+    /** 상태 메시지 표시 STOMP 헤더. 값이 같은 메시지끼리 최신 것만 남음. */
+    public static final String CONFLATE_HEADER = "x-holdup-conflate";
+
+    private static final String HEADER_LINE = CONFLATE_HEADER + ":";
+
+    private final boolean enabled;
+    private final int maxPending;
+    private final long sendTimeLimitNanos;
+    private final long coalesceWindowNanos;
+    private final int coalesceMaxBytes;
+    private final ScheduledThreadPoolExecutor writers;
+    private final Counter conflated;
+    private final Counter evictedBuffer;
+    private final Counter evictedTimeout;
+    private final DistributionSummary framesPerMessage;
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public OutboundBuffers(MeterRegistry registry,
+                           @Value("${holdup.outbound.enabled:true}") boolean enabled,
+                           @Value("${holdup.outbound.max-pending-messages:256}") int maxPending,
+                           @Value("${holdup.outbound.send-time-limit-ms:10000}") long sendTimeLimitMs,
+                           @Value("${holdup.outbound.writer-threads:0}") int writerThreads,
+                           @Value("${holdup.outbound.coalesce-window-ms:2}") double coalesceWindowMs,
+                           @Value("${holdup.outbound.coalesce-max-bytes:4096}") int coalesceMaxBytes) {
+        this.enabled = enabled;
+        this.maxPending = Math.max(1, maxPending);
+        this.sendTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, sendTimeLimitMs));
+        this.coalesceWindowNanos = (long) (Math.max(0, coalesceWindowMs) * 1_000_000);
+        this.coalesceMaxBytes = Math.max(0, coalesceMaxBytes);
+        int size = writerThreads > 0 ? writerThreads : Runtime.getRuntime().availableProcessors() * 2;
+        AtomicInteger sequence = new AtomicInteger();
+        // 작업은 연결당 최대 하나라 대기열 길이는 연결 수를 넘지 않음
+        this.writers = new ScheduledThreadPoolExecutor(size, r -> {
+            Thread t = new Thread(r, "outbound-writer-" + sequence.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.conflated = Counter.builder("holdup.outbound.conflated")
+                .description("더 새 상태가 와서 보내지 않고 버린 메시지")
+                .register(registry);
+        this.evictedBuffer = evictedCounter(registry, "buffer");
+        this.evictedTimeout = evictedCounter(registry, "timeout");
+        this.framesPerMessage = DistributionSummary.builder("holdup.outbound.coalesced")
+                .description("WebSocket 메시지 하나에 담아 보낸 STOMP 프레임 수")
+                .register(registry);
+        Gauge.builder("holdup.outbound.pending", pending, AtomicInteger::get)
+                .description("연결 버퍼에서 전송을 기다리는 메시지 수 (전체)")
+                .register(registry);
+    }
+
+    private static Counter evictedCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("holdup.outbound.evicted")
+                .description("송신이 밀려 끊은 연결")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    /** 보내는 쪽에서 SimpMessagingTemplate 헤더로 넘길 값. */
+    public static Map<String, Object> conflate(String key) {
+        return Map.of(CONFLATE_HEADER, key);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        if (!enabled) return handler;
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                // 이후 STOMP 핸들러가 이 연결로 보내는 프레임은 모두 ConflatingSession 을 거침
+                super.afterConnectionEstablished(new ConflatingSession(session, OutboundBuffers.this));
+            }
+        };
+    }
+
+    /**
+     * STOMP MESSAGE 프레임의 {@value #CONFLATE_HEADER} 값. 없으면 null.
+     * 헤더 영역(첫 빈 줄 전)만 훑으므로 본문 크기와 무관. 바이너리 본문 프레임(binary 코덱)도 헤더는 텍스트.
+     */
+    static String conflationKey(WebSocketMessage<?> message) {
+        String frame;
+        if (message instanceof TextMessage text) {
+            frame = text.getPayload();
+        } else if (message instanceof BinaryMessage binary) {
+            frame = headerSection(binary.getPayload());
+        } else {
+            return null;
+        }
+        if (!frame.startsWith("MESSAGE\n")) return null;
+        int line = "MESSAGE\n".length();
+        while (line < frame.length() && frame.charAt(line) != '\n') {
+            int eol = frame.indexOf('\n', line);
+            if (eol < 0) return null;
+            if (frame.startsWith(HEADER_LINE, line)) return frame.substring(line + HEADER_LINE.length(), eol);
+            line = eol + 1;
+        }
+        return null;
+    }
+
+    /** 바이너리 STOMP 프레임에서 빈 줄까지 (본문은 디코딩하지 않음). */
+    private static String headerSection(ByteBuffer payload) {
+        int start = payload.position();
+        for (int i = start; i + 1 < payload.limit(); i++) {
+            if (payload.get(i) == '\n' && payload.get(i + 1) == '\n') {
+                return StandardCharsets.UTF_8.decode(payload.slice(start, i + 2 - start)).toString();
+            }
+        }
+        return "";
+    }
+
+    int maxPending() {
+        return maxPending;
+    }
+
+    long sendTimeLimitNanos() {
+        return sendTimeLimitNanos;
+    }
+
+    int coalesceMaxBytes() {
+        return coalesceMaxBytes;
+    }
+
+    /** 연결 버퍼 비우기 예약. 창이 0 이면 바로. */
+    void schedule(Runnable drain) {
+        if (coalesceWindowNanos > 0) {
+            writers.schedule(drain, coalesceWindowNanos, TimeUnit.NANOSECONDS);
+        } else {
+            writers.execute(drain);
+        }
+    }
+
+    void onSent(int frames) {
+        framesPerMessage.record(frames);
+    }
+
+    void onQueued(int delta) {
+        pending.addAndGet(delta);
+    }
+
+    void onConflated() {
+        conflated.increment();
+    }
+
+    void onEvicted(boolean timeout) {
+        (timeout ? evictedTimeout : evictedBuffer).increment();
+    }
+}
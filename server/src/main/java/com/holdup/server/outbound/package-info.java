@@ -0,0 +1,13 @@
+/**
+ * WebSocket 송신 단계 (브로커 → 연결).
+ *
+ * <h2>디렉토리 구조</h2>
+ * <ul>
+ *   <li><b>OutboundBuffers</b> - 전송 계층 데코레이터 팩토리. 연결마다 ConflatingSession 을 씌우고 쓰기 스레드 풀·설정·메트릭 보유.
+ *       x-holdup-conflate 헤더 키로 상태 메시지를 표시하는 헬퍼(conflate). 병합 창(coalesce-window-ms)만큼 늦춰 버퍼 비우기 예약.</li>
+ *   <li><b>ConflatingSession</b> - 연결별 송신 버퍼. 같은 키의 대기 중인 상태 메시지는 최신 것만 남기고, 키 없는 메시지는 그대로.
+ *       버퍼·쓰기 시간 한도를 넘으면 연결 종료.
+ *       비울 때 모인 텍스트 프레임을 WebSocket 메시지 하나로 이어 보냄.</li>
+ * </ul>
+ */
+package com.holdup.server.outbound;
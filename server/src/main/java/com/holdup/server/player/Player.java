@@ -19,6 +19,8 @@ public class Player {
     private final List<Card> holeCards;
     private boolean folded;
     private boolean allIn;
+    /** 자리 비움: 자리는 유지하고 새 핸드 딜에서만 제외 (핸드가 바뀌어도 유지). */
+    private boolean sittingOut;
     /** 이번 스트릿에서 이미 건 금액 (콜/레이즈 계산용). */
     private BigDecimal currentBetThisStreet;
 
@@ -109,6 +111,14 @@ public class Player {
         this.allIn = allIn;
     }
 
+    public boolean isSittingOut() {
+        return sittingOut;
+    }
+
+    public void setSittingOut(boolean sittingOut) {
+        this.sittingOut = sittingOut;
+    }
+
     public BigDecimal getCurrentBetThisStreet() {
         return currentBetThisStreet;
     }
@@ -122,7 +132,7 @@ public class Player {
         this.currentBetThisStreet = BigDecimal.ZERO;
     }
 
-    /** 다음 핸드용 상태 초기화 (폴드/올인/스트릿 베팅만, 스택·자리는 유지). */
+    /** 다음 핸드용 상태 초기화 (폴드/올인/스트릿 베팅만, 스택·자리·자리 비움은 유지). */
     public void resetForNewHand() {
         holeCards.clear();
         folded = false;
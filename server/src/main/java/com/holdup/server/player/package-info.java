@@ -3,7 +3,7 @@
  *
  * <h2>디렉토리 구조</h2>
  * <ul>
- *   <li><b>Player</b> - id, displayName, stack, seatIndex, holeCards, folded, allIn,
+ *   <li><b>Player</b> - id, displayName, stack, seatIndex, holeCards, folded, allIn, sittingOut,
  *       currentBetThisStreet. 한 테이블에서의 플레이어 상태.</li>
  * </ul>
  */
@@ -1,19 +1,23 @@
 package com.holdup.server.service;
 
-import com.holdup.server.action.dto.ActionResult;
-import com.holdup.server.action.dto.TableSnapshot;
+import com.holdup.server.action.dto.AllInRunout;
+import com.holdup.server.card.Card;
 import com.holdup.server.deck.DeckFactory;
 import com.holdup.server.gamestate.GamePhase;
 import com.holdup.server.gamestate.HandState;
 import com.holdup.server.handevaluator.ParticipantHand;
 import com.holdup.server.handevaluator.SeatHandResult;
 import com.holdup.server.handevaluator.WinnerResolver;
+import com.holdup.server.metrics.GameMetrics;
+import com.holdup.server.metrics.HandStartEvent;
+import com.holdup.server.metrics.ShowdownEvent;
+import com.holdup.server.metrics.StreetAdvanceEvent;
 import com.holdup.server.player.Player;
 import com.holdup.server.table.Seat;
 import com.holdup.server.table.Table;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -21,7 +25,6 @@ import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -34,33 +37,61 @@ public class GameFlowService {
 
     private final TableManager tableManager;
     private final WinnerResolver winnerResolver;
-    private final TableSnapshotService tableSnapshotService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final TableBroadcastService tableBroadcastService;
+    private final GameMetrics gameMetrics;
+    private final PreActionService preActionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${holdup.game.min-players-to-start:2}")
     private int minPlayersToStart;
 
+    /** 올인 런아웃 시 보드를 몇 번 깔지 (1=일반, 2=run it twice). 최대 4. */
+    @Value("${holdup.game.run-it-times:1}")
+    private int runItTimes;
+
     public GameFlowService(TableManager tableManager, WinnerResolver winnerResolver,
-                           TableSnapshotService tableSnapshotService, SimpMessagingTemplate messagingTemplate) {
+                           TableBroadcastService tableBroadcastService, GameMetrics gameMetrics,
+                           PreActionService preActionService, ApplicationEventPublisher eventPublisher) {
         this.tableManager = tableManager;
         this.winnerResolver = winnerResolver;
-        this.tableSnapshotService = tableSnapshotService;
-        this.messagingTemplate = messagingTemplate;
+        this.tableBroadcastService = tableBroadcastService;
+        this.gameMetrics = gameMetrics;
+        this.preActionService = preActionService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
-     * 새 핸드 시작. WAITING 상태이고 착석 수가 min-players-to-start 이상일 때만 성공.
+     * 새 핸드 시작. WAITING 상태이고 자리 비움이 아닌 착석자가 min-players-to-start 이상일 때만 성공.
      */
     public boolean startNewHand(String tableId) {
         Optional<Table> opt = tableManager.getTable(tableId);
         if (opt.isEmpty()) return false;
         Table table = opt.get();
+
+        HandStartEvent event = new HandStartEvent();
+        event.begin();
+        boolean started = dealNewHand(table);
+        if (event.shouldCommit()) {
+            event.tableId = tableId;
+            event.phase = table.getHandState().getPhase().name();
+            event.participantCount = table.getHandState().getPlayerIdsInHand().size();
+            event.started = started;
+            event.commit();
+        }
+        return started;
+    }
+
+    private boolean dealNewHand(Table table) {
         HandState state = table.getHandState();
 
         removeBustedPlayers(table);
 
         if (state.getPhase() != GamePhase.WAITING) return false;
-        if (table.countOccupiedSeats() < minPlayersToStart) return false;
+
+        // 딜러/SB/BB 결정: 기존 딜러 다음 착석자부터 순서 [SB, BB, UTG, ...]. 자리 비움 플레이어는 자리만 유지
+        List<Integer> order = table.getOccupiedSeatIndicesInOrder(state.getDealerSeatIndex() + 1);
+        order.removeIf(idx -> table.getSeat(idx).getPlayer().isSittingOut());
+        if (order.size() < Math.max(2, minPlayersToStart)) return false;
 
         // 플레이어·시트 핸드 초기화
         for (Seat seat : table.getSeats()) {
@@ -73,14 +104,11 @@ public class GameFlowService {
         state.clearCommunityCards();
         state.setPot(BigDecimal.ZERO);
         state.clearBetsThisStreet();
+        state.clearPreActions();
 
         // 덱 셔플
         table.setDeck(DeckFactory.createShuffled());
 
-        // 딜러/SB/BB 결정: 기존 딜러 다음 착석자부터 순서 [SB, BB, UTG, ...]
-        List<Integer> order = table.getOccupiedSeatIndicesInOrder(state.getDealerSeatIndex() + 1);
-        if (order.size() < 2) return false;
-
         // 이번 핸드 참가자 고정 (도중 입장·같은 자리 새 플레이어는 다음 핸드까지 제외)
         state.setSeatIndicesInHand(new HashSet<>(order));
         Set<String> playerIdsInHand = order.stream()
@@ -128,6 +156,12 @@ public class GameFlowService {
         state.setFirstActingSeatIndexThisStreet(firstActing);
         state.setActingSeatIndex(firstActing);
 
+        // 블라인드로 올인된 플레이어는 액션할 수 없으므로 액션한 것으로 보고 진행 (전원 올인이면 바로 런아웃)
+        Player first = table.getSeat(firstActing).getPlayer();
+        if (first != null && first.isAllIn()) {
+            advanceAfterAction(table.getId(), firstActing);
+        }
+
         return true;
     }
 
@@ -152,6 +186,15 @@ public class GameFlowService {
      * @return true if state was advanced (next acting or street/hand ended)
      */
     public boolean afterPlayerAction(String tableId, int seatIndexWhoActed) {
+        long start = System.nanoTime();
+        try {
+            return advanceAfterAction(tableId, seatIndexWhoActed);
+        } finally {
+            gameMetrics.recordStage(GameMetrics.Stage.FLOW, System.nanoTime() - start);
+        }
+    }
+
+    private boolean advanceAfterAction(String tableId, int seatIndexWhoActed) {
         Optional<Table> opt = tableManager.getTable(tableId);
         if (opt.isEmpty()) return false;
         Table table = opt.get();
@@ -170,8 +213,12 @@ public class GameFlowService {
             // 한 바퀴 끝: '현재' 액션 가능한 플레이어 중 첫 번째로 돌아왔는지로 판단 (폴드한 사람 제외)
             int firstActiveThisRound = table.findFirstActingSeatThisStreet();
             boolean roundComplete = (next == firstActiveThisRound);
-            if (roundComplete && allHaveMatchedOrAllIn(table)) {
+            // 남은 한 명만 베팅할 수 있고 이미 맞춰 놨으면 (예: BB 옵션) 더 받을 액션이 없음
+            if ((roundComplete && allHaveMatchedOrAllIn(table)) || isAllInRunout(table)) {
                 advanceStreetOrShowdown(table);
+            } else {
+                // 다음 플레이어가 선액션을 걸어 뒀으면 왕복 없이 바로 실행
+                preActionService.executeIfRegistered(table, next);
             }
             return true;
         }
@@ -217,9 +264,18 @@ public class GameFlowService {
             runShowdown(table);
             return;
         }
+        // 더 이상 베팅할 사람이 없으면 남은 스트릿을 한 번에
+        if (isAllInRunout(table)) {
+            runOutAllIn(table);
+            return;
+        }
+
+        StreetAdvanceEvent event = new StreetAdvanceEvent();
+        event.begin();
 
-        // 스트릿 진행: 커뮤니티 카드 추가, 베팅 초기화
+        // 스트릿 진행: 커뮤니티 카드 추가, 베팅·선액션 초기화
         state.clearBetsThisStreet();
+        state.clearPreActions();
         for (Seat seat : table.getSeats()) {
             if (!seat.isEmpty()) seat.getPlayer().clearBetThisStreet();
         }
@@ -251,9 +307,138 @@ public class GameFlowService {
 
         state.setFirstActingSeatIndexThisStreet(firstActing >= 0 ? firstActing : order.get(0));
         state.setActingSeatIndex(firstActing >= 0 ? firstActing : order.get(0));
+
+        if (event.shouldCommit()) {
+            event.tableId = table.getId();
+            event.fromPhase = phase.name();
+            event.phase = state.getPhase().name();
+            event.participantCount = (int) table.countActiveInHand();
+            event.commit();
+        }
     }
 
     private void runShowdown(Table table) {
+        GamePhase phase = table.getHandState().getPhase();
+        ShowdownEvent event = new ShowdownEvent();
+        event.begin();
+        int participantCount = resolveShowdown(table);
+        if (event.shouldCommit()) {
+            event.tableId = table.getId();
+            event.phase = phase.name();
+            event.participantCount = participantCount;
+            event.commit();
+        }
+    }
+
+    /** @return 쇼다운 참가자 수 (폴드 제외) */
+    private int resolveShowdown(Table table) {
+        List<ParticipantHand> participants = showdownParticipants(table);
+
+        if (participants.isEmpty()) return 0;
+        if (participants.size() == 1) {
+            table.getSeat(participants.get(0).getSeatIndex()).getPlayer()
+                    .addToStack(table.getHandState().getPot());
+            endHand(table);
+            return 1;
+        }
+
+        // 쇼다운: 모든 참여자 패 공개 후 브로드캐스트
+        table.getHandState().setPhase(GamePhase.SHOWDOWN);
+        tableBroadcastService.broadcastShowdown(table);
+
+        List<SeatHandResult> results = winnerResolver.evaluateWinners(participants, table.getHandState().getCommunityCards());
+        payWinners(table, results, table.getHandState().getPot());
+
+        endHand(table);
+        return participants.size();
+    }
+
+    /**
+     * 폴드하지 않은 참가자가 2명 이상이고, 그중 아직 베팅할 수 있는(올인 아닌) 사람이 1명 이하인지.
+     * 이 상태에서는 남은 스트릿에 더 이상 액션이 없음.
+     */
+    private boolean isAllInRunout(Table table) {
+        if (table.countActiveInHand() < 2) return false;
+        int canBet = 0;
+        for (ParticipantHand p : showdownParticipants(table)) {
+            if (!table.getSeat(p.getSeatIndex()).getPlayer().isAllIn()) canBet++;
+        }
+        return canBet <= 1 && allHaveMatchedOrAllIn(table);
+    }
+
+    /** 올인 런아웃: 남은 스트릿을 한 번에 딜링 (run-it-times 만큼 보드를 깔고 팟을 나눔), 정산 후 결과 한 번 전송. */
+    private void runOutAllIn(Table table) {
+        GamePhase phase = table.getHandState().getPhase();
+        ShowdownEvent event = new ShowdownEvent();
+        event.begin();
+        int participantCount = resolveRunout(table);
+        if (event.shouldCommit()) {
+            event.tableId = table.getId();
+            event.phase = phase.name();
+            event.participantCount = participantCount;
+            event.commit();
+        }
+    }
+
+    private int resolveRunout(Table table) {
+        HandState state = table.getHandState();
+        List<ParticipantHand> participants = showdownParticipants(table);
+        List<Card> known = new ArrayList<>(state.getCommunityCards());
+        int missing = 5 - known.size();
+
+        // 보드마다 같은 덱에서 서로 다른 카드를 받음. 덱이 모자라면 가능한 만큼만.
+        var deck = table.getDeck();
+        int runs = Math.max(1, Math.min(runItTimes, 4));
+        if (deck == null || deck.remaining() < missing * runs) runs = 1;
+        List<List<Card>> boards = new ArrayList<>(runs);
+        for (int r = 0; r < runs; r++) {
+            List<Card> board = new ArrayList<>(known);
+            if (deck != null) board.addAll(deck.deal(missing));
+            boards.add(board);
+        }
+        for (Card card : boards.get(0).subList(known.size(), boards.get(0).size())) {
+            state.addCommunityCard(card);
+        }
+        state.setPhase(GamePhase.SHOWDOWN);
+
+        // 보드별 평가는 서로 독립이라 병렬로
+        List<List<SeatHandResult>> results = runs == 1
+                ? List.of(winnerResolver.evaluateWinners(participants, boards.get(0)))
+                : boards.parallelStream()
+                        .map(board -> winnerResolver.evaluateWinners(participants, board))
+                        .collect(Collectors.toList());
+
+        // 팟을 보드 수로 나누고 나머지는 첫 보드에
+        BigDecimal pot = state.getPot();
+        BigDecimal perBoard = pot.divide(BigDecimal.valueOf(runs), 0, RoundingMode.DOWN);
+        List<AllInRunout.Board> boardResults = new ArrayList<>(runs);
+        for (int r = 0; r < runs; r++) {
+            BigDecimal boardPot = r == 0 ? pot.subtract(perBoard.multiply(BigDecimal.valueOf(runs - 1))) : perBoard;
+            payWinners(table, results.get(r), boardPot);
+            boardResults.add(AllInRunout.Board.builder()
+                    .communityCards(boards.get(r).stream().map(Card::toString).collect(Collectors.toList()))
+                    .pot(boardPot)
+                    .winnerSeatIndices(results.get(r).stream()
+                            .filter(SeatHandResult::isWinner)
+                            .map(SeatHandResult::getSeatIndex)
+                            .collect(Collectors.toList()))
+                    .handRanks(results.get(r).stream().collect(Collectors.toMap(
+                            SeatHandResult::getSeatIndex, res -> res.getHandEvaluation().getHandRank().name())))
+                    .build());
+        }
+        state.setPot(BigDecimal.ZERO);
+
+        tableBroadcastService.broadcastRunout(table, AllInRunout.builder()
+                .knownCardCount(known.size())
+                .boards(boardResults)
+                .build());
+
+        endHand(table);
+        return participants.size();
+    }
+
+    /** 이번 핸드 참가자 중 폴드하지 않은 플레이어 (쇼다운 대상). */
+    private List<ParticipantHand> showdownParticipants(Table table) {
         Set<String> playerIdsInHand = table.getHandState().getPlayerIdsInHand();
         List<ParticipantHand> participants = new ArrayList<>();
         for (Seat seat : table.getSeats()) {
@@ -268,40 +453,20 @@ public class GameFlowService {
                     .holeCards(p.getHoleCards())
                     .build());
         }
+        return participants;
+    }
 
-        if (participants.isEmpty()) return;
-        if (participants.size() == 1) {
-            table.getSeat(participants.get(0).getSeatIndex()).getPlayer()
-                    .addToStack(table.getHandState().getPot());
-            table.getHandState().setPot(BigDecimal.ZERO);
-            table.getHandState().setPhase(GamePhase.WAITING);
-            table.getHandState().setSeatIndicesInHand(Set.of());
-            table.getHandState().setPlayerIdsInHand(Set.of());
-            table.setDeck(null);
-            removeBustedPlayers(table);
-            return;
-        }
-
-        // 쇼다운: 모든 참여자 패 공개 후 브로드캐스트
-        table.getHandState().setPhase(GamePhase.SHOWDOWN);
-        TableSnapshot showdownSnapshot = tableSnapshotService.toSnapshotWithShowdownCards(table);
-        if (showdownSnapshot != null) {
-            messagingTemplate.convertAndSend("/topic/table/" + table.getId(),
-                    ActionResult.builder().payload(Map.of("tableState", showdownSnapshot)).build());
-        }
-
-        List<SeatHandResult> results = winnerResolver.evaluateWinners(participants, table.getHandState().getCommunityCards());
-        BigDecimal pot = table.getHandState().getPot();
+    /** rank 1 플레이어끼리 amount 를 나눠 지급. 나누고 남은 칩은 첫 승자에게. */
+    private void payWinners(Table table, List<SeatHandResult> results, BigDecimal amount) {
         long winnerCount = results.stream().filter(SeatHandResult::isWinner).count();
         if (winnerCount == 0) winnerCount = 1;
-        BigDecimal share = pot.divide(BigDecimal.valueOf(winnerCount), 0, RoundingMode.DOWN);
-        BigDecimal remainder = pot.subtract(share.multiply(BigDecimal.valueOf(winnerCount)));
+        BigDecimal share = amount.divide(BigDecimal.valueOf(winnerCount), 0, RoundingMode.DOWN);
+        BigDecimal remainder = amount.subtract(share.multiply(BigDecimal.valueOf(winnerCount)));
 
         int paid = 0;
         for (SeatHandResult r : results) {
             if (r.getRank() != 1) continue;
-            Table t = table;
-            Seat s = t.getSeat(r.getSeatIndex());
+            Seat s = table.getSeat(r.getSeatIndex());
             if (s != null && !s.isEmpty()) {
                 s.getPlayer().addToStack(share);
                 paid++;
@@ -310,13 +475,18 @@ public class GameFlowService {
         if (remainder.signum() > 0 && paid > 0) {
             table.getSeat(results.get(0).getSeatIndex()).getPlayer().addToStack(remainder);
         }
+    }
 
+    /** 핸드 종료: 팟·참가자·덱 정리 후 WAITING 으로, HandCompletedEvent 발행 후 스택 0 플레이어 제거. */
+    private void endHand(Table table) {
         table.getHandState().setPot(BigDecimal.ZERO);
         table.getHandState().setPhase(GamePhase.WAITING);
         table.getHandState().setSeatIndicesInHand(Set.of());
         table.getHandState().setPlayerIdsInHand(Set.of());
         table.setDeck(null);
 
+        // 리스너가 파산 플레이어도 볼 수 있도록 제거 전에 발행
+        eventPublisher.publishEvent(new HandCompletedEvent(table));
         removeBustedPlayers(table);
     }
 
@@ -332,13 +502,7 @@ public class GameFlowService {
             p.addToStack(table.getHandState().getPot());
             break;
         }
-        table.getHandState().setPot(BigDecimal.ZERO);
-        table.getHandState().setPhase(GamePhase.WAITING);
-        table.getHandState().setSeatIndicesInHand(Set.of());
-        table.getHandState().setPlayerIdsInHand(Set.of());
-        table.setDeck(null);
-
-        removeBustedPlayers(table);
+        endHand(table);
     }
 
     private void removeBustedPlayers(Table table) {
@@ -348,6 +512,7 @@ public class GameFlowService {
             if (player.getStack().signum() <= 0) {
                 seat.setPlayer(null);
                 seat.clearTotalBetThisHand();
+                eventPublisher.publishEvent(new PlayerBustedEvent(table, seat.getSeatIndex(), player));
             }
         }
     }
@@ -0,0 +1,12 @@
+package com.holdup.server.service;
+
+import com.holdup.server.table.Table;
+
+/**
+ * 핸드 정산 직후 (WAITING 전환, 파산 플레이어 제거 전) 동기 발행되는 이벤트.
+ * 리스너는 게임 처리 스레드에서 바로 호출되므로 가볍게 유지.
+ *
+ * @param table 핸드가 끝난 테이블
+ */
+public record HandCompletedEvent(Table table) {
+}
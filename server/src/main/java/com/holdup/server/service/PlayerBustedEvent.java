@@ -0,0 +1,14 @@
+package com.holdup.server.service;
+
+import com.holdup.server.player.Player;
+import com.holdup.server.table.Table;
+
+/**
+ * 스택 0 플레이어를 시트에서 제거한 직후 동기 발행되는 이벤트 (removeBustedPlayers).
+ *
+ * @param table     테이블
+ * @param seatIndex 비워진 시트
+ * @param player    제거된 플레이어
+ */
+public record PlayerBustedEvent(Table table, int seatIndex, Player player) {
+}
@@ -0,0 +1,115 @@
+package com.holdup.server.service;
+
+import com.holdup.server.action.ActionDispatcher;
+import com.holdup.server.action.GameActionType;
+import com.holdup.server.action.dto.ActionResult;
+import com.holdup.server.action.dto.PlayerActionRequest;
+import com.holdup.server.gamestate.HandState;
+import com.holdup.server.gamestate.PreAction;
+import com.holdup.server.player.Player;
+import com.holdup.server.table.Seat;
+import com.holdup.server.table.Table;
+import com.holdup.server.table.TableListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 선액션 실행. 턴이 선액션을 등록한 시트로 넘어오면 클라이언트 왕복 없이 바로 해당 액션을 디스패치.
+ * 실행 결과는 테이블별로 모아 두었다가, 원래 액션의 브로드캐스트에 함께 실어 보냄 (payload.preActions).
+ *
+ * <p>ActionDispatcher → 핸들러 → GameFlowService → 이 서비스로 이어지는 순환이 있어 디스패처는 지연 조회.</p>
+ * <p>삭제된 테이블(패스트 폴드·토너먼트)의 남은 결과는 TableListener 로 버림.</p>
+ */
+@Service
+public class PreActionService implements TableListener {
+
+    private final ObjectProvider<ActionDispatcher> actionDispatcher;
+    /**
+     * 테이블 ID → 아직 브로드캐스트되지 않은 선액션 실행 결과 (실행 순서).
+     * 연쇄 실행 중에는 안쪽 결과가 먼저 채워지므로 실행 시작 시점에 자리를 잡아 두고 나중에 채움.
+     */
+    private final Map<String, Deque<AtomicReference<ActionResult>>> executedByTable = new ConcurrentHashMap<>();
+
+    public PreActionService(ObjectProvider<ActionDispatcher> actionDispatcher, TableManager tableManager) {
+        this.actionDispatcher = actionDispatcher;
+        tableManager.addTableListener(this);
+    }
+
+    @Override
+    public void onTableChanged(Table table) {
+    }
+
+    @Override
+    public void onTableRemoved(Table table) {
+        executedByTable.remove(table.getId());
+    }
+
+    /**
+     * 해당 시트에 유효한 선액션이 있으면 실행.
+     * 실행된 액션의 핸들러가 다시 afterPlayerAction 을 호출하므로, 연속된 선액션은 한 번에 처리됨.
+     *
+     * @return 선액션을 실행했으면 true
+     */
+    public boolean executeIfRegistered(Table table, int seatIndex) {
+        HandState state = table.getHandState();
+        PreAction preAction = state.takePreAction(seatIndex);
+        if (preAction == null) return false;
+        Seat seat = table.getSeat(seatIndex);
+        if (seat == null || seat.isEmpty() || !seat.getPlayer().getId().equals(preAction.playerId())) return false;
+
+        GameActionType type = resolve(preAction, state.getCurrentBet(), seat.getPlayer());
+        if (type == null) return false;
+
+        // 재귀 실행 시에도 결과가 실행 순서대로 쌓이도록 자리를 먼저 잡아 둠
+        AtomicReference<ActionResult> slot = new AtomicReference<>();
+        executedByTable.compute(table.getId(), (id, slots) -> {
+            Deque<AtomicReference<ActionResult>> q = slots != null ? slots : new ArrayDeque<>();
+            q.addLast(slot);
+            return q;
+        });
+        slot.set(actionDispatcher.getObject().dispatch(PlayerActionRequest.builder()
+                .actionType(type)
+                .tableId(table.getId())
+                .build(), preAction.playerId()));
+        return true;
+    }
+
+    /**
+     * 브로드캐스트 직전에 호출. 쌓인 선액션 실행 결과를 꺼내고 비움.
+     */
+    public List<ActionResult> drainExecuted(String tableId) {
+        List<ActionResult> drained = new ArrayList<>();
+        // 다른 스레드에서 아직 실행 중인(결과가 비어 있는) 자리부터는 남겨 둠
+        executedByTable.computeIfPresent(tableId, (id, slots) -> {
+            while (!slots.isEmpty() && slots.peekFirst().get() != null) {
+                drained.add(slots.pollFirst().get());
+            }
+            return slots.isEmpty() ? null : slots;
+        });
+        return drained;
+    }
+
+    /** 현재 상황에서 선액션이 실제로 보낼 액션. 무효면 null. */
+    private static GameActionType resolve(PreAction preAction, BigDecimal currentBet, Player player) {
+        if (player.isFolded() || player.isAllIn()) return null;
+        BigDecimal toCall = currentBet.subtract(player.getCurrentBetThisStreet());
+        boolean free = toCall.signum() <= 0;
+        return switch (preAction.type()) {
+            case CHECK_FOLD -> free ? GameActionType.CHECK : GameActionType.FOLD;
+            case CHECK -> free ? GameActionType.CHECK : null;
+            case CALL -> !free && currentBet.compareTo(preAction.betAtRegister()) == 0 ? GameActionType.CALL : null;
+            case CALL_ANY -> free ? GameActionType.CHECK : GameActionType.CALL;
+            case FOLD -> GameActionType.FOLD;
+            case NONE -> null;
+        };
+    }
+}
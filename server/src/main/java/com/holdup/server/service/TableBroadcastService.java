@@ -0,0 +1,230 @@
+package com.holdup.server.service;
+
+import com.holdup.server.action.GameActionType;
+import com.holdup.server.action.LegalActionCalculator;
+import com.holdup.server.action.dto.ActionResult;
+import com.holdup.server.action.dto.AllInRunout;
+import com.holdup.server.action.dto.LegalActions;
+import com.holdup.server.action.dto.TableSnapshot;
+import com.holdup.server.codec.WireCodecs;
+import com.holdup.server.metrics.BroadcastFanOutEvent;
+import com.holdup.server.gamestate.PreAction;
+import com.holdup.server.metrics.GameMetrics;
+import com.holdup.server.table.Seat;
+import com.holdup.server.table.Table;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 액션 결과·테이블 상태 브로드캐스트.
+ * 테이블 구독자에게는 /topic/table/{tableId}, 착석 플레이어에게는 본인 홀카드가 포함된 스냅샷을 /user/queue/table-state 로 전송.
+ * 현재 턴 플레이어의 메시지에는 합법 액션(payload.legalActions)도 포함.
+ * 선액션 등록 결과는 본인에게만 /user/queue/pre-action 으로 보내고, 실행된 선액션은 payload.preActions 로 함께 전송.
+ * 플레이어별 스냅샷과 쇼다운 스냅샷은 상태 메시지로 표시(x-holdup-conflate)해 느린 연결에는 최신 것만 보냄.
+ * 액션 이벤트는 /topic/table/{tableId} 로 빠짐없이 전달.
+ * 테이블 메시지는 binary 코덱 연결에는 같은 내용을 바이너리로 보냄 (WireCodecs).
+ */
+@Service
+public class TableBroadcastService {
+
+    private final TableManager tableManager;
+    private final TableSnapshotService tableSnapshotService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final GameMetrics gameMetrics;
+    private final PreActionService preActionService;
+    private final WireCodecs wireCodecs;
+    /** 테이블 ID → 그 테이블의 다음 액션 결과 브로드캐스트 뒤에 실행할 작업. */
+    private final Map<String, Runnable> afterBroadcast = new ConcurrentHashMap<>();
+
+    public TableBroadcastService(TableManager tableManager, TableSnapshotService tableSnapshotService,
+                                 SimpMessagingTemplate messagingTemplate, GameMetrics gameMetrics,
+                                 PreActionService preActionService, WireCodecs wireCodecs) {
+        this.tableManager = tableManager;
+        this.tableSnapshotService = tableSnapshotService;
+        this.messagingTemplate = messagingTemplate;
+        this.gameMetrics = gameMetrics;
+        this.preActionService = preActionService;
+        this.wireCodecs = wireCodecs;
+    }
+
+    /**
+     * 액션 결과 전송. tableId가 있으면 해당 테이블 구독자·착석자에게만, 없으면 /topic/actions 로 전송.
+     */
+    public void broadcast(ActionResult result) {
+        String tableId = result.getTableId();
+        Optional<Table> table = tableId != null && !tableId.isBlank() ? tableManager.getTable(tableId) : Optional.empty();
+        if (table.isEmpty()) {
+            if (tableId == null || tableId.isBlank()) {
+                long sendStart = System.nanoTime();
+                messagingTemplate.convertAndSend("/topic/actions", result);
+                gameMetrics.recordStage(GameMetrics.Stage.SEND, System.nanoTime() - sendStart);
+            }
+            return;
+        }
+        try {
+            broadcastAction(table.get(), result);
+        } finally {
+            if (!afterBroadcast.isEmpty()) {
+                Runnable task = afterBroadcast.remove(tableId);
+                if (task != null) task.run();
+            }
+        }
+    }
+
+    /**
+     * 해당 테이블의 다음 broadcast 가 끝난 뒤 같은 스레드에서 실행.
+     * 핸드를 끝낸 액션의 결과를 보낸 다음에 테이블을 지울 때 사용 (FastFoldPool). 먼저 지우면 그 결과가 안 나감.
+     */
+    public void afterBroadcast(String tableId, Runnable task) {
+        afterBroadcast.put(tableId, task);
+    }
+
+    private void broadcastAction(Table table, ActionResult result) {
+        List<ActionResult> preActions = preActionService.drainExecuted(table.getId());
+        if (result.getActionType() == GameActionType.PRE_ACTION) {
+            // 선액션 등록은 상대에게 보이면 안 되므로 본인에게만
+            messagingTemplate.convertAndSendToUser(result.getPlayerId(), "/queue/pre-action", result);
+            if (preActions.isEmpty()) return;
+            // 이미 본인 턴이라 바로 실행된 경우: 실행된 액션을 대표 결과로 브로드캐스트
+            result = preActions.get(0);
+            preActions = preActions.subList(1, preActions.size());
+        }
+        if (!preActions.isEmpty()) {
+            Map<String, Object> payload = result.getPayload() != null ? new HashMap<>(result.getPayload()) : new HashMap<>();
+            payload.put("preActions", preActions);
+            result.setPayload(payload);
+        }
+        broadcastToTable(table, result);
+    }
+
+    /**
+     * 쇼다운 시 모든 참여 플레이어의 홀카드를 공개한 스냅샷을 테이블 구독자에게 전송.
+     */
+    public void broadcastShowdown(Table table) {
+        BroadcastFanOutEvent event = new BroadcastFanOutEvent();
+        event.begin();
+        long snapshotStart = System.nanoTime();
+        TableSnapshot showdownSnapshot = tableSnapshotService.toSnapshotWithShowdownCards(table);
+        long sendStart = System.nanoTime();
+        gameMetrics.recordStage(GameMetrics.Stage.SNAPSHOT, sendStart - snapshotStart);
+        if (showdownSnapshot == null) return;
+        ActionResult showdown = ActionResult.builder().payload(Map.of("tableState", showdownSnapshot)).build();
+        messagingTemplate.convertAndSend("/topic/table/" + table.getId(), showdown,
+                wireCodecs.headers(null, showdown, "table/" + table.getId()));
+        gameMetrics.recordStage(GameMetrics.Stage.SEND, System.nanoTime() - sendStart);
+        if (event.shouldCommit()) {
+            commitFanOut(event, table, 0);
+        }
+    }
+
+    /**
+     * 올인 런아웃 결과를 한 번에 전송: 모든 참여자 홀카드 공개 스냅샷 + 보드별 결과 (payload.runout).
+     * 스트릿마다 스냅샷을 보내는 대신 이 메시지 하나로 대체.
+     */
+    public void broadcastRunout(Table table, AllInRunout runout) {
+        BroadcastFanOutEvent event = new BroadcastFanOutEvent();
+        event.begin();
+        long snapshotStart = System.nanoTime();
+        TableSnapshot showdownSnapshot = tableSnapshotService.toSnapshotWithShowdownCards(table);
+        long sendStart = System.nanoTime();
+        gameMetrics.recordStage(GameMetrics.Stage.SNAPSHOT, sendStart - snapshotStart);
+        if (showdownSnapshot == null) return;
+        ActionResult result = ActionResult.builder()
+                .success(true)
+                .tableId(table.getId())
+                .payload(Map.of("tableState", showdownSnapshot, "runout", runout))
+                .build();
+        messagingTemplate.convertAndSend("/topic/table/" + table.getId(), result, wireCodecs.headers(null, result, null));
+        gameMetrics.recordStage(GameMetrics.Stage.SEND, System.nanoTime() - sendStart);
+        if (event.shouldCommit()) {
+            commitFanOut(event, table, 0);
+        }
+    }
+
+    private void broadcastToTable(Table table, ActionResult result) {
+        BroadcastFanOutEvent event = new BroadcastFanOutEvent();
+        event.begin();
+        int recipients = 0;
+        long snapshotNanos = 0;
+        long sendNanos = 0;
+
+        long t0 = System.nanoTime();
+        TableSnapshot snapshot = tableSnapshotService.toSnapshot(table, null);
+        Map<String, Object> payload = result.getPayload() != null ? new HashMap<>(result.getPayload()) : new HashMap<>();
+        payload.put("tableState", snapshot);
+        result.setPayload(payload);
+        long t1 = System.nanoTime();
+        messagingTemplate.convertAndSend("/topic/table/" + table.getId(), result, wireCodecs.headers(null, result, null));
+        long t2 = System.nanoTime();
+        snapshotNanos += t1 - t0;
+        sendNanos += t2 - t1;
+
+        // 턴당 한 번 계산해 현재 턴 플레이어에게만 전달
+        LegalActions legalActions = LegalActionCalculator.forActingSeat(table).orElse(null);
+        int actingSeatIndex = legalActions != null ? legalActions.getSeatIndex() : -1;
+
+        // 각 플레이어에게 본인 홀카드가 포함된 스냅샷 전송 (/user/queue/table-state)
+        String stateKey = "table-state/" + table.getId();
+        for (Seat seat : table.getSeats()) {
+            if (seat.isEmpty()) continue;
+            long s0 = System.nanoTime();
+            String pid = seat.getPlayer().getId();
+            TableSnapshot mySnapshot = tableSnapshotService.toSnapshot(table, pid);
+            Map<String, Object> myPayload = new HashMap<>(payload);
+            myPayload.put("tableState", mySnapshot);
+            if (seat.getSeatIndex() == actingSeatIndex) myPayload.put("legalActions", legalActions);
+            PreAction preAction = table.getHandState().getPreAction(seat.getSeatIndex());
+            if (preAction != null && pid.equals(preAction.playerId())) myPayload.put("preAction", preAction.type());
+            ActionResult myResult = ActionResult.builder()
+                    .success(result.isSuccess())
+                    .message(result.getMessage())
+                    .rejectReason(result.getRejectReason())
+                    .actionType(result.getActionType())
+                    .playerId(result.getPlayerId())
+                    .tableId(result.getTableId())
+                    .seatIndex(result.getSeatIndex())
+                    .amount(result.getAmount())
+                    .payload(myPayload)
+                    .build();
+            long s1 = System.nanoTime();
+            sendTableState(pid, myResult, stateKey);
+            long s2 = System.nanoTime();
+            snapshotNanos += s1 - s0;
+            sendNanos += s2 - s1;
+            recipients++;
+        }
+
+        gameMetrics.recordStage(GameMetrics.Stage.SNAPSHOT, snapshotNanos);
+        gameMetrics.recordStage(GameMetrics.Stage.SEND, sendNanos);
+        if (event.shouldCommit()) {
+            commitFanOut(event, table, recipients);
+        }
+    }
+
+    /** 본인 스냅샷. 연결이 모두 binary 면 JSON 변환 없이 바이너리만. */
+    private void sendTableState(String playerId, ActionResult result, String conflateKey) {
+        Message<byte[]> binary = wireCodecs.binaryMessage(playerId, result, conflateKey);
+        if (binary != null) {
+            messagingTemplate.send(messagingTemplate.getUserDestinationPrefix() + playerId.replace("/", "%2F")
+                    + "/queue/table-state", binary);
+        } else {
+            messagingTemplate.convertAndSendToUser(playerId, "/queue/table-state", result,
+                    wireCodecs.headers(playerId, result, conflateKey));
+        }
+    }
+
+    private static void commitFanOut(BroadcastFanOutEvent event, Table table, int recipients) {
+        event.tableId = table.getId();
+        event.phase = table.getHandState().getPhase().name();
+        event.participantCount = table.getHandState().getPlayerIdsInHand().size();
+        event.recipientCount = recipients;
+        event.commit();
+    }
+}
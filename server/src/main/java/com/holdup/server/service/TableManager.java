@@ -1,24 +1,61 @@
 package com.holdup.server.service;
 
 import com.holdup.server.table.Table;
+import com.holdup.server.table.TableFormat;
+import com.holdup.server.table.TableListener;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * 테이블 생성·조회. 액션 핸들러에서 tableId로 테이블을 가져올 때 사용.
+ * 생성·삭제와 각 테이블의 착석 수·블라인드 변경을 등록된 TableListener 에 전달.
  */
 public class TableManager {
 
     private final Map<String, Table> tables = new ConcurrentHashMap<>();
+    private final List<TableListener> listeners = new CopyOnWriteArrayList<>();
+    private final TableListener dispatcher = new TableListener() {
+        @Override
+        public void onTableChanged(Table table) {
+            for (TableListener l : listeners) l.onTableChanged(table);
+        }
+
+        @Override
+        public void onTableRemoved(Table table) {
+            for (TableListener l : listeners) l.onTableRemoved(table);
+        }
+    };
+
+    public void addTableListener(TableListener listener) {
+        listeners.add(listener);
+    }
 
     public Table createTable(String tableId, int maxSeats) {
-        return tables.computeIfAbsent(tableId, id -> new Table(id, maxSeats));
+        return tables.computeIfAbsent(tableId, id -> register(new Table(id, maxSeats)));
     }
 
     public Table createTable(String tableId, String name, int maxSeats) {
-        return tables.computeIfAbsent(tableId, id -> new Table(id, name, maxSeats));
+        return tables.computeIfAbsent(tableId, id -> register(new Table(id, name, maxSeats)));
+    }
+
+    public Table createTable(String tableId, String name, int maxSeats, TableFormat format) {
+        return tables.computeIfAbsent(tableId, id -> register(new Table(id, name, maxSeats, format)));
+    }
+
+    /** 전체 테이블 (로비 인덱스 초기화 등 드문 용도). */
+    public Collection<Table> getTables() {
+        return tables.values();
+    }
+
+    private Table register(Table table) {
+        table.setListener(dispatcher);
+        dispatcher.onTableChanged(table);
+        return table;
     }
 
     public Optional<Table> getTable(String tableId) {
@@ -26,7 +63,11 @@ public class TableManager {
     }
 
     public void removeTable(String tableId) {
-        tables.remove(tableId);
+        Table removed = tables.remove(tableId);
+        if (removed != null) {
+            removed.setListener(null);
+            dispatcher.onTableRemoved(removed);
+        }
     }
 
     public boolean exists(String tableId) {
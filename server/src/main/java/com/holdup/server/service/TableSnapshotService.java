@@ -102,6 +102,7 @@ public class TableSnapshotService {
                 .stack(p.getStack() != null ? p.getStack() : BigDecimal.ZERO)
                 .folded(p.isFolded())
                 .allIn(p.isAllIn())
+                .sittingOut(p.isSittingOut())
                 .currentBetThisStreet(p.getCurrentBetThisStreet() != null ? p.getCurrentBetThisStreet() : BigDecimal.ZERO)
                 .holeCards(holeCards)
                 .build();
@@ -0,0 +1,206 @@
+package com.holdup.server.session;
+
+import com.holdup.server.action.ActionDispatcher;
+import com.holdup.server.action.GameActionType;
+import com.holdup.server.action.LegalActionCalculator;
+import com.holdup.server.action.dto.ActionResult;
+import com.holdup.server.action.dto.PlayerActionRequest;
+import com.holdup.server.gamestate.GamePhase;
+import com.holdup.server.gamestate.HandState;
+import com.holdup.server.service.TableBroadcastService;
+import com.holdup.server.service.TableManager;
+import com.holdup.server.session.dto.SessionInfo;
+import com.holdup.server.table.Table;
+import com.holdup.server.table.TableFormat;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플레이어별 연결 추적과 끊긴 자리 처리.
+ *
+ * <ul>
+ *   <li>플레이어의 마지막 연결이 끊기면 앉은 CASH 테이블에서 자리 비움(SIT_OUT)으로 바꿔 새 핸드에 딜되지 않게 함</li>
+ *   <li>끊긴 채로 차례가 오면 auto-action-delay-ms 뒤 TIMEOUT (체크 가능하면 체크, 아니면 폴드).
+ *       토너먼트 테이블은 자리를 유지한 채 계속 자동 액션하므로 핸드가 멈추지 않음</li>
+ *   <li>grace-ms 안에 재접속 토큰으로 다시 연결하면 같은 플레이어 ID 로 돌아오고 자동 자리 비움을 해제(READY).
+ *       넘으면 CASH 자리는 핸드에 참가 중이 아닐 때 비우고(LEAVE_TABLE) 토큰 폐기</li>
+ *   <li>모든 자동 처리는 사람과 같이 ActionDispatcher 로 보내고 결과를 브로드캐스트</li>
+ * </ul>
+ */
+@Component
+public class PlayerSessions {
+
+    /** 끊긴 플레이어 상태. tableIds 는 끊길 때 앉아 있던 테이블 (토너먼트 이동 시 다시 찾음). */
+    private record Disconnected(long since, Set<String> tableIds, Set<String> autoSatOut) {
+    }
+
+    private final TableManager tableManager;
+    private final ActionDispatcher actionDispatcher;
+    private final TableBroadcastService tableBroadcastService;
+    private final ResumeTokens resumeTokens;
+    private final long graceNanos;
+    private final long autoActionNanos;
+    private final Counter resumedCounter;
+    private final Counter expiredCounter;
+
+    /** 플레이어 ID → 열린 연결 수. 탭 여러 개·재접속 직후 이전 연결이 아직 안 닫힌 경우를 구분. */
+    private final Map<String, Integer> connections = new ConcurrentHashMap<>();
+    private final Map<String, Disconnected> disconnected = new ConcurrentHashMap<>();
+
+    public PlayerSessions(TableManager tableManager, ActionDispatcher actionDispatcher,
+                          TableBroadcastService tableBroadcastService, ResumeTokens resumeTokens, MeterRegistry registry,
+                          @Value("${holdup.session.grace-ms:60000}") long graceMs,
+                          @Value("${holdup.session.auto-action-delay-ms:5000}") long autoActionDelayMs) {
+        this.tableManager = tableManager;
+        this.actionDispatcher = actionDispatcher;
+        this.tableBroadcastService = tableBroadcastService;
+        this.resumeTokens = resumeTokens;
+        this.graceNanos = TimeUnit.MILLISECONDS.toNanos(graceMs);
+        this.autoActionNanos = TimeUnit.MILLISECONDS.toNanos(autoActionDelayMs);
+        this.resumedCounter = Counter.builder("holdup.session.resumed")
+                .description("유예 시간 안에 재접속해 자리로 돌아온 수")
+                .register(registry);
+        this.expiredCounter = Counter.builder("holdup.session.expired")
+                .description("유예 시간이 지나 비운 CASH 자리 수")
+                .register(registry);
+        Gauge.builder("holdup.session.disconnected", disconnected, Map::size)
+                .description("연결이 끊긴 채 자리를 유지 중인 플레이어 수")
+                .register(registry);
+    }
+
+    /**
+     * /app/session 구독 응답. 재접속 토큰을 (없으면) 발급.
+     *
+     * @param account JWT 로 인증된 연결 (playerId 가 계정 아이디)
+     */
+    public SessionInfo describe(String playerId, boolean account) {
+        return SessionInfo.builder()
+                .playerId(playerId)
+                .resumeToken(resumeTokens.issue(playerId, account))
+                .tableIds(seatedTables(playerId).stream().map(Table::getId).toList())
+                .build();
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        if (event.getUser() == null) return;
+        String playerId = event.getUser().getName();
+        connections.merge(playerId, 1, Integer::sum);
+        Disconnected d = disconnected.remove(playerId);
+        if (d == null) return;
+        resumedCounter.increment();
+        for (String tableId : d.autoSatOut()) {
+            tableManager.getTable(tableId).ifPresent(table -> {
+                if (table.getSeatIndexByPlayerId(playerId) >= 0) act(table, playerId, GameActionType.READY);
+            });
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        if (event.getUser() == null) return;
+        String playerId = event.getUser().getName();
+        Integer remaining = connections.computeIfPresent(playerId, (id, n) -> n > 1 ? n - 1 : null);
+        if (remaining != null) return;
+
+        List<Table> seated = seatedTables(playerId);
+        if (seated.isEmpty()) {
+            resumeTokens.revoke(playerId);
+            return;
+        }
+        Set<String> tableIds = ConcurrentHashMap.newKeySet();
+        Set<String> autoSatOut = new HashSet<>();
+        for (Table table : seated) {
+            tableIds.add(table.getId());
+            int seatIndex = table.getSeatIndexByPlayerId(playerId);
+            if (table.getFormat() == TableFormat.CASH && !table.getSeat(seatIndex).getPlayer().isSittingOut()) {
+                act(table, playerId, GameActionType.SIT_OUT);
+                autoSatOut.add(table.getId());
+            }
+        }
+        disconnected.put(playerId, new Disconnected(System.nanoTime(), tableIds, autoSatOut));
+    }
+
+    @Scheduled(fixedDelayString = "${holdup.session.tick-ms:500}")
+    public void tick() {
+        if (disconnected.isEmpty()) return;
+        long now = System.nanoTime();
+        disconnected.forEach((playerId, d) -> {
+            long away = now - d.since();
+            List<Table> tables = tablesOf(playerId, d);
+            for (Table table : tables) {
+                if (away >= autoActionNanos) autoAct(table, playerId);
+                if (away >= graceNanos && table.getFormat() == TableFormat.CASH && !inHand(table, playerId)) {
+                    act(table, playerId, GameActionType.LEAVE_TABLE);
+                    d.tableIds().remove(table.getId());
+                    expiredCounter.increment();
+                }
+            }
+            if (d.tableIds().isEmpty()) {
+                disconnected.remove(playerId, d);
+                resumeTokens.revoke(playerId);
+            }
+        });
+    }
+
+    /** 끊길 때 앉아 있던 테이블. 어디에도 없으면 (토너먼트 이동 등) 전체에서 다시 찾음. */
+    private List<Table> tablesOf(String playerId, Disconnected d) {
+        List<Table> tables = new ArrayList<>();
+        for (String tableId : d.tableIds()) {
+            tableManager.getTable(tableId)
+                    .filter(table -> table.getSeatIndexByPlayerId(playerId) >= 0)
+                    .ifPresentOrElse(tables::add, () -> d.tableIds().remove(tableId));
+        }
+        if (tables.isEmpty()) {
+            tables = seatedTables(playerId);
+            tables.forEach(table -> d.tableIds().add(table.getId()));
+        }
+        return tables;
+    }
+
+    /** 끊긴 플레이어 차례면 TIMEOUT. */
+    private void autoAct(Table table, String playerId) {
+        LegalActionCalculator.forActingSeat(table).ifPresent(legal -> {
+            if (playerId.equals(table.getSeat(legal.getSeatIndex()).getPlayer().getId())) {
+                act(table, playerId, GameActionType.TIMEOUT);
+            }
+        });
+    }
+
+    private static boolean inHand(Table table, String playerId) {
+        HandState state = table.getHandState();
+        return state.getPhase() != GamePhase.WAITING && state.getPlayerIdsInHand().contains(playerId);
+    }
+
+    private void act(Table table, String playerId, GameActionType type) {
+        ActionResult result = actionDispatcher.dispatch(PlayerActionRequest.builder()
+                .actionType(type)
+                .tableId(table.getId())
+                .build(), playerId);
+        tableBroadcastService.broadcast(result);
+    }
+
+    /** 연결·해제 때만 호출 (전체 테이블 순회). */
+    private List<Table> seatedTables(String playerId) {
+        List<Table> seated = new ArrayList<>();
+        for (Table table : tableManager.getTables()) {
+            if (table.getSeatIndexByPlayerId(playerId) >= 0) seated.add(table);
+        }
+        return seated;
+    }
+}
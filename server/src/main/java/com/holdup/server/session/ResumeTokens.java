@@ -0,0 +1,56 @@
+package com.holdup.server.session;
+
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 재접속 토큰 ↔ 플레이어 ID. 핸드셰이크에서 토큰이 맞으면 새 UUID 대신 이전 플레이어 ID 를 Principal 로 부여.
+ * 토큰은 플레이어당 하나이며, 되살릴 자리가 없어지면(유예 만료·퇴장) 폐기.
+ * 로그인 계정의 토큰은 잔액을 쓸 수 있으므로 CONNECT 에 유효한 JWT 가 함께 와야 하고 (StompAuthChannelInterceptor),
+ * 로그아웃·계정 토큰 전체 폐기 때 같이 폐기.
+ */
+@Component
+public class ResumeTokens {
+
+    /** 핸드셰이크 세션 속성: 로그인 계정의 재접속 토큰으로 연결함. */
+    public static final String ACCOUNT_RESUME_ATTRIBUTE = "holdup.accountResume";
+
+    private static final int TOKEN_BYTES = 24;
+
+    /** 토큰의 주인. account 면 로그인 계정 아이디. */
+    public record Resume(String playerId, boolean account) {
+    }
+
+    private final SecureRandom random = new SecureRandom();
+    private final Map<String, Resume> playerByToken = new ConcurrentHashMap<>();
+    private final Map<String, String> tokenByPlayer = new ConcurrentHashMap<>();
+
+    /**
+     * 플레이어의 토큰 (없으면 새로 발급).
+     *
+     * @param account playerId 가 로그인 계정 아이디인지
+     */
+    public String issue(String playerId, boolean account) {
+        return tokenByPlayer.computeIfAbsent(playerId, id -> {
+            byte[] bytes = new byte[TOKEN_BYTES];
+            random.nextBytes(bytes);
+            String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+            playerByToken.put(token, new Resume(id, account));
+            return token;
+        });
+    }
+
+    /** @return 토큰의 주인, 모르는 토큰이면 null */
+    public Resume resolve(String token) {
+        return token == null || token.isEmpty() ? null : playerByToken.get(token);
+    }
+
+    public void revoke(String playerId) {
+        String token = tokenByPlayer.remove(playerId);
+        if (token != null) playerByToken.remove(token);
+    }
+}
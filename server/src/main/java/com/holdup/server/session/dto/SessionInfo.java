@@ -0,0 +1,20 @@
+package com.holdup.server.session.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 서버 → 클라이언트 (/app/session 구독 응답): 이 연결의 플레이어 ID 와 재접속 토큰.
+ * 재접속 시 /ws?resume={resumeToken} 으로 연결하면 같은 플레이어 ID·자리로 돌아옴.
+ */
+@Value
+@Builder
+public class SessionInfo {
+
+    String playerId;
+    String resumeToken;
+    /** 현재 앉아 있는 테이블 (재접속 직후 다시 구독할 /topic/table/{tableId}). */
+    List<String> tableIds;
+}
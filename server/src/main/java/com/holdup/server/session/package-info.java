@@ -0,0 +1,12 @@
+/**
+ * 연결 끊김 처리와 재접속.
+ *
+ * <h2>디렉토리 구조</h2>
+ * <ul>
+ *   <li><b>PlayerSessions</b> - 플레이어별 연결 수 추적. 마지막 연결이 끊기면 CASH 자리는 자리 비움, 차례가 오면 자동 체크/폴드,
+ *       유예 시간이 지나면 자리 정리. 재접속하면 자리 비움 해제.</li>
+ *   <li><b>ResumeTokens</b> - 재접속 토큰 ↔ 플레이어 ID. UniqueUserHandshakeHandler 가 /ws?resume=토큰 을 보고 이전 ID 를 부여.</li>
+ *   <li><b>dto/</b> - SessionInfo (/app/session 구독 응답: 플레이어 ID, 재접속 토큰, 앉은 테이블)</li>
+ * </ul>
+ */
+package com.holdup.server.session;
@@ -10,12 +10,19 @@ import java.math.BigDecimal;
 public class Seat {
 
     private final int seatIndex;
+    /** 착석 수 변경을 알릴 테이블 (단독 생성 시 null). */
+    private final Table table;
     private Player player;
     /** 이 핸드에서 이 시트에 걸린 총 베팅 (사이드팟 계산용). */
     private BigDecimal totalBetThisHand;
 
     public Seat(int seatIndex) {
+        this(seatIndex, null);
+    }
+
+    Seat(int seatIndex, Table table) {
         this.seatIndex = seatIndex;
+        this.table = table;
         this.totalBetThisHand = BigDecimal.ZERO;
     }
 
@@ -28,10 +35,14 @@ public class Seat {
     }
 
     public void setPlayer(Player player) {
+        boolean wasOccupied = this.player != null;
         this.player = player;
         if (player != null) {
             player.setSeatIndex(seatIndex);
         }
+        if (table != null && wasOccupied != (player != null)) {
+            table.onOccupancyChanged(player != null);
+        }
     }
 
     public boolean isEmpty() {
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 홀덤 테이블. 시트, 현재 핸드 상태, 덱, 블라인드 설정.
@@ -18,6 +19,7 @@ public class Table {
 
     private final String id;
     private final String name;
+    private final TableFormat format;
     private final List<Seat> seats;
     private final HandState handState;
     private Deck deck;
@@ -26,25 +28,26 @@ public class Table {
     private int bigBlindSeatIndex;
     private BigDecimal smallBlindAmount;
     private BigDecimal bigBlindAmount;
+    /** 착석 수 (Seat.setPlayer 에서 갱신). 매번 시트를 세지 않도록 유지. */
+    private final AtomicInteger occupiedSeatCount = new AtomicInteger();
+    /** 착석 수·블라인드 변경 알림 대상 (TableManager 가 설정). */
+    private volatile TableListener listener;
 
     public Table(String id, int maxSeats) {
-        this.id = id;
-        this.name = "Table-" + id;
-        this.seats = new ArrayList<>();
-        for (int i = 0; i < maxSeats; i++) {
-            seats.add(new Seat(i));
-        }
-        this.handState = new HandState();
-        this.smallBlindAmount = BigDecimal.ONE;
-        this.bigBlindAmount = BigDecimal.valueOf(2);
+        this(id, null, maxSeats);
     }
 
     public Table(String id, String name, int maxSeats) {
+        this(id, name, maxSeats, TableFormat.CASH);
+    }
+
+    public Table(String id, String name, int maxSeats, TableFormat format) {
         this.id = id;
         this.name = name != null ? name : "Table-" + id;
+        this.format = format != null ? format : TableFormat.CASH;
         this.seats = new ArrayList<>();
         for (int i = 0; i < maxSeats; i++) {
-            seats.add(new Seat(i));
+            seats.add(new Seat(i, this));
         }
         this.handState = new HandState();
         this.smallBlindAmount = BigDecimal.ONE;
@@ -59,6 +62,10 @@ public class Table {
         return name;
     }
 
+    public TableFormat getFormat() {
+        return format;
+    }
+
     public List<Seat> getSeats() {
         return Collections.unmodifiableList(seats);
     }
@@ -74,7 +81,26 @@ public class Table {
 
     /** 착석 중인 플레이어 수. */
     public long countOccupiedSeats() {
-        return seats.stream().filter(s -> !s.isEmpty()).count();
+        return occupiedSeatCount.get();
+    }
+
+    public void setListener(TableListener listener) {
+        this.listener = listener;
+    }
+
+    /** Seat.setPlayer 에서 빈 자리 ↔ 착석 전환 시 호출. */
+    void onOccupancyChanged(boolean occupied) {
+        if (occupied) {
+            occupiedSeatCount.incrementAndGet();
+        } else {
+            occupiedSeatCount.decrementAndGet();
+        }
+        fireChanged();
+    }
+
+    private void fireChanged() {
+        TableListener l = listener;
+        if (l != null) l.onTableChanged(this);
     }
 
     public HandState getHandState() {
@@ -119,6 +145,7 @@ public class Table {
 
     public void setSmallBlindAmount(BigDecimal smallBlindAmount) {
         this.smallBlindAmount = smallBlindAmount != null ? smallBlindAmount : BigDecimal.ZERO;
+        fireChanged();
     }
 
     public BigDecimal getBigBlindAmount() {
@@ -127,6 +154,7 @@ public class Table {
 
     public void setBigBlindAmount(BigDecimal bigBlindAmount) {
         this.bigBlindAmount = bigBlindAmount != null ? bigBlindAmount : BigDecimal.ZERO;
+        fireChanged();
     }
 
     /** 현재 커뮤니티 카드 (편의). */
@@ -0,0 +1,13 @@
+package com.holdup.server.table;
+
+/**
+ * 테이블 게임 방식.
+ */
+public enum TableFormat {
+    /** 일반 캐시 게임. 로비에 노출되고 JOIN_TABLE·빠른 입장으로 착석. */
+    CASH,
+    /** 패스트 폴드. 풀에서 한 핸드만 위해 만들어지고, 폴드한 플레이어는 바로 풀로 돌아감. 로비에 노출 안 됨. */
+    FAST_FOLD,
+    /** 토너먼트. 블라인드는 토너먼트 시계를 따르고, 착석·이동은 토너먼트가 관리. 로비에 노출 안 됨. */
+    TOURNAMENT,
+}
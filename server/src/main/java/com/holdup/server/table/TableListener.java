@@ -0,0 +1,15 @@
+package com.holdup.server.table;
+
+/**
+ * 테이블 목록에 영향을 주는 변경 알림 (착석 수·블라인드 변경, 생성·삭제).
+ * 게임 처리 스레드에서 바로 호출되므로 구현은 가볍게 유지.
+ */
+public interface TableListener {
+
+    /** 테이블 생성 또는 착석 수·블라인드 변경. */
+    void onTableChanged(Table table);
+
+    /** 테이블 삭제. */
+    default void onTableRemoved(Table table) {
+    }
+}
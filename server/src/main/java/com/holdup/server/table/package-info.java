@@ -5,7 +5,9 @@
  * <ul>
  *   <li><b>Seat</b> - seatIndex, player, totalBetThisHand. 빈 자리면 player null.</li>
  *   <li><b>Table</b> - id, name, seats, handState, deck, dealer/sb/bb 시트 인덱스,
- *       smallBlindAmount, bigBlindAmount. 한 게임 테이블의 전체 상태.</li>
+ *       smallBlindAmount, bigBlindAmount. 한 게임 테이블의 전체 상태. 착석 수는 시트 변경 시 갱신.</li>
+ *   <li><b>TableFormat</b> - 게임 방식 (CASH, FAST_FOLD, TOURNAMENT). 생성 시 고정.</li>
+ *   <li><b>TableListener</b> - 착석 수·블라인드 변경, 생성·삭제 알림 (로비 인덱스 갱신용).</li>
  * </ul>
  *
  * <p>player, gamestate, card, deck 패키지를 사용합니다.</p>
@@ -0,0 +1,13 @@
+package com.holdup.server.tournament;
+
+import java.math.BigDecimal;
+
+/**
+ * 블라인드 레벨 한 단계.
+ *
+ * @param level      1부터
+ * @param smallBlind 스몰 블라인드
+ * @param bigBlind   빅 블라인드
+ */
+public record BlindLevel(int level, BigDecimal smallBlind, BigDecimal bigBlind) {
+}
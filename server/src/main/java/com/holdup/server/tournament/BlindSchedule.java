@@ -0,0 +1,59 @@
+package com.holdup.server.tournament;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 토너먼트 공용 블라인드 시계. 시작 시각과 레벨 길이만으로 현재 레벨을 계산하므로
+ * 레벨이 바뀔 때 테이블마다 알릴 필요 없이 각 테이블이 핸드 시작 시점에 읽어 감.
+ */
+public final class BlindSchedule {
+
+    /** 시작 빅 블라인드 대비 배수. 마지막 레벨 이후로는 그대로 유지. */
+    private static final double[] MULTIPLIERS = {
+            1, 1.5, 2, 3, 4, 5, 6, 8, 10, 12, 15, 20, 25, 30, 40, 50, 60, 80, 100, 120, 150, 200,
+    };
+
+    private final List<BlindLevel> levels;
+    private final long levelDurationMs;
+
+    public BlindSchedule(BigDecimal startingBigBlind, long levelDurationMs) {
+        List<BlindLevel> list = new ArrayList<>(MULTIPLIERS.length);
+        for (int i = 0; i < MULTIPLIERS.length; i++) {
+            BigDecimal bb = startingBigBlind.multiply(BigDecimal.valueOf(MULTIPLIERS[i]))
+                    .setScale(0, RoundingMode.HALF_UP);
+            BigDecimal sb = bb.divide(BigDecimal.valueOf(2), 0, RoundingMode.DOWN);
+            list.add(new BlindLevel(i + 1, sb.max(BigDecimal.ONE), bb.max(BigDecimal.valueOf(2))));
+        }
+        this.levels = Collections.unmodifiableList(list);
+        this.levelDurationMs = Math.max(1, levelDurationMs);
+    }
+
+    /** 시작 후 elapsedMs 시점의 레벨. */
+    public BlindLevel levelAt(long elapsedMs) {
+        return levels.get(indexAt(elapsedMs));
+    }
+
+    /** 다음 레벨까지 남은 시간 (마지막 레벨이면 -1). */
+    public long millisToNextLevel(long elapsedMs) {
+        int index = indexAt(elapsedMs);
+        if (index == levels.size() - 1) return -1;
+        return (index + 1) * levelDurationMs - Math.max(0, elapsedMs);
+    }
+
+    public long getLevelDurationMs() {
+        return levelDurationMs;
+    }
+
+    public List<BlindLevel> getLevels() {
+        return levels;
+    }
+
+    private int indexAt(long elapsedMs) {
+        long index = Math.max(0, elapsedMs) / levelDurationMs;
+        return (int) Math.min(index, levels.size() - 1);
+    }
+}
@@ -0,0 +1,239 @@
+package com.holdup.server.tournament;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ICM (Independent Chip Model, Malmuth-Harville) 상금 기대값.
+ * 남은 플레이어 중 다음 순위를 차지할 확률이 스택에 비례한다고 보고, 상금 순위별 확률로 기대 상금을 계산.
+ *
+ * <ul>
+ *   <li>정확 계산 (인원 ≤ exact-max-players): 이미 상위 순위를 차지한 플레이어 집합(비트마스크)별 확률을 한 번씩만 계산하는
+ *       부분집합 DP. 순서를 나열하면 n! 이지만 집합 기준으로 합치면 O(2^n · n), 9명이면 512 · 9.
+ *       상금 순위가 k 개면 크기 k 미만 집합만 전개</li>
+ *   <li>몬테카를로 (그보다 많을 때): 각 플레이어에 Exp(stack) 도착 시간을 뽑아 빠른 순으로 순위를 정하면
+ *       위 모델과 같은 분포. 상금 순위 k 개만 크기 k 최대 힙으로 골라냄 (표본당 O(n + k log k)).
+ *       표본 수는 이 비용 기준 작업량 상한 안에서 정함</li>
+ *   <li>같은 스택·상금 구조 재계산은 LRU 캐시에서 바로 반환 (파이널 테이블은 핸드마다 다시 조회함)</li>
+ * </ul>
+ */
+@Component
+public class IcmCalculator {
+
+    public enum Method {
+        EXACT,
+        MONTE_CARLO,
+    }
+
+    /** 계산 결과. equities[i] 는 stacks[i] 플레이어의 기대 상금. */
+    public record Result(double[] equities, Method method, int samples) {
+    }
+
+    /** 입력 배열 복사본을 키로 사용. */
+    private record Key(long[] stacks, double[] payouts) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key k && Arrays.equals(stacks, k.stacks) && Arrays.equals(payouts, k.payouts);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(stacks) + Arrays.hashCode(payouts);
+        }
+    }
+
+    /** 입력 인원 상한. */
+    public static final int MAX_PLAYERS = 10_000;
+    /** 상금 순위 수 상한. */
+    public static final int MAX_PAID_PLACES = 1_000;
+
+    private static final int MAX_EXACT_PLAYERS = 20;
+    private static final int CACHE_SIZE = 256;
+    private static final int MIN_SAMPLES = 1000;
+    /** 몬테카를로 1회 계산의 (표본 수 × 표본당 비용) 상한. 표본당 비용은 인원 + 상금 순위 정렬 (k log k). */
+    private static final long MONTE_CARLO_WORK = 5_000_000L;
+
+    private final int exactMaxPlayers;
+    private final int monteCarloSamples;
+    private final Timer exactTimer;
+    private final Timer monteCarloTimer;
+
+    private final Map<Key, Result> cache = new LinkedHashMap<>(CACHE_SIZE * 2, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Result> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    public IcmCalculator(MeterRegistry registry,
+                         @Value("${holdup.icm.exact-max-players:16}") int exactMaxPlayers,
+                         @Value("${holdup.icm.monte-carlo-samples:200000}") int monteCarloSamples) {
+        this.exactMaxPlayers = Math.max(1, Math.min(exactMaxPlayers, MAX_EXACT_PLAYERS));
+        this.monteCarloSamples = Math.max(MIN_SAMPLES, monteCarloSamples);
+        this.exactTimer = Timer.builder("holdup.icm.compute")
+                .description("ICM 계산 시간 (캐시 미스만)")
+                .tag("method", "exact")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.monteCarloTimer = Timer.builder("holdup.icm.compute")
+                .description("ICM 계산 시간 (캐시 미스만)")
+                .tag("method", "monte_carlo")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * @param stacks  플레이어별 칩 (모두 양수)
+     * @param payouts 1위부터 순위별 상금 (음수 불가, 최대 {@value #MAX_PAID_PLACES} 순위). 인원보다 많은 순위는 무시
+     * @throws IllegalArgumentException 입력이 비었거나 범위를 벗어남
+     */
+    public Result compute(long[] stacks, double[] payouts) {
+        if (stacks == null || stacks.length == 0) throw new IllegalArgumentException("stacks must not be empty");
+        if (stacks.length > MAX_PLAYERS) throw new IllegalArgumentException("at most " + MAX_PLAYERS + " players");
+        if (payouts == null || payouts.length == 0) throw new IllegalArgumentException("payouts must not be empty");
+        if (payouts.length > MAX_PAID_PLACES) throw new IllegalArgumentException("at most " + MAX_PAID_PLACES + " paid places");
+        long total = 0;
+        for (long s : stacks) {
+            if (s <= 0) throw new IllegalArgumentException("stacks must be positive");
+            total = Math.addExact(total, s);
+        }
+        for (double p : payouts) {
+            if (!(p >= 0) || Double.isInfinite(p)) throw new IllegalArgumentException("payouts must be non-negative");
+        }
+
+        Key key = new Key(stacks.clone(), Arrays.copyOf(payouts, Math.min(payouts.length, stacks.length)));
+        synchronized (cache) {
+            Result cached = cache.get(key);
+            if (cached != null) return cached;
+        }
+        Result result;
+        if (stacks.length <= exactMaxPlayers) {
+            result = new Result(exactTimer.record(() -> exact(key.stacks(), key.payouts())), Method.EXACT, 0);
+        } else {
+            // 표본당 비용(인원 + 상금 순위 정렬)으로 전체 작업량 상한 안에서 표본 수 조정
+            int paid = key.payouts().length;
+            long costPerSample = stacks.length + (long) paid * (64 - Long.numberOfLeadingZeros(paid));
+            int samples = (int) Math.max(MIN_SAMPLES, Math.min(monteCarloSamples, MONTE_CARLO_WORK / costPerSample));
+            result = new Result(monteCarloTimer.record(() -> monteCarlo(key.stacks(), key.payouts(), samples)),
+                    Method.MONTE_CARLO, samples);
+        }
+        synchronized (cache) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * 부분집합 DP. prob[mask] = mask 의 플레이어들이 (어떤 순서로든) 상위 |mask| 순위를 차지할 확률.
+     * mask 에서 남은 플레이어 i 가 다음 순위를 차지할 확률은 stack[i] / (total - sum[mask]).
+     * mask | bit > mask 이므로 오름차순으로 한 번 훑으면 앞으로만 전파됨.
+     */
+    static double[] exact(long[] stacks, double[] payouts) {
+        int n = stacks.length;
+        int paid = Math.min(payouts.length, n);
+        int full = 1 << n;
+        long total = 0;
+        for (long s : stacks) total += s;
+
+        long[] sum = new long[full];
+        double[] prob = new double[full];
+        double[] equities = new double[n];
+        prob[0] = 1.0;
+        for (int mask = 0; mask < full; mask++) {
+            if (mask != 0) {
+                int low = Integer.numberOfTrailingZeros(mask);
+                sum[mask] = sum[mask & (mask - 1)] + stacks[low];
+            }
+            double p = prob[mask];
+            int place = Integer.bitCount(mask);
+            if (p == 0.0 || place >= paid) continue;
+            double payout = payouts[place];
+            double remaining = total - sum[mask];
+            for (int rest = ~mask & (full - 1); rest != 0; rest &= rest - 1) {
+                int i = Integer.numberOfTrailingZeros(rest);
+                double q = p * (stacks[i] / remaining);
+                equities[i] += q * payout;
+                prob[mask | (1 << i)] += q;
+            }
+        }
+        return equities;
+    }
+
+    /**
+     * 지수 경주 표본: key = Exp(1) / stack 이 작을수록 높은 순위. 상금 순위 수만큼의 최소값을 최대 힙으로 유지하고
+     * (대부분의 key 는 힙의 최대값보다 커서 비교 한 번으로 끝남), 표본 끝에 힙 정렬로 순위를 매김.
+     */
+    static double[] monteCarlo(long[] stacks, double[] payouts, int samples) {
+        int n = stacks.length;
+        int paid = Math.min(payouts.length, n);
+        double[] inverse = new double[n];
+        for (int i = 0; i < n; i++) inverse[i] = 1.0 / stacks[i];
+
+        SplittableRandom random = new SplittableRandom(ThreadLocalRandom.current().nextLong());
+        double[] heapKey = new double[paid];
+        int[] heapIndex = new int[paid];
+        double[] equities = new double[n];
+        for (int s = 0; s < samples; s++) {
+            int size = 0;
+            for (int i = 0; i < n; i++) {
+                double key = -Math.log(1.0 - random.nextDouble()) * inverse[i];
+                if (size < paid) {
+                    // 빈 자리에 넣고 위로
+                    int pos = size++;
+                    while (pos > 0) {
+                        int parent = (pos - 1) >>> 1;
+                        if (heapKey[parent] >= key) break;
+                        heapKey[pos] = heapKey[parent];
+                        heapIndex[pos] = heapIndex[parent];
+                        pos = parent;
+                    }
+                    heapKey[pos] = key;
+                    heapIndex[pos] = i;
+                } else if (key < heapKey[0]) {
+                    siftDown(heapKey, heapIndex, paid, key, i);
+                }
+            }
+            // 힙 정렬: 최대값을 뒤로 보내면 앞에서부터 오름차순 (= 1위부터)
+            for (int end = paid - 1; end > 0; end--) {
+                double key = heapKey[end];
+                int index = heapIndex[end];
+                heapKey[end] = heapKey[0];
+                heapIndex[end] = heapIndex[0];
+                siftDown(heapKey, heapIndex, end, key, index);
+            }
+            for (int place = 0; place < paid; place++) {
+                equities[heapIndex[place]] += payouts[place];
+            }
+        }
+        for (int i = 0; i < n; i++) equities[i] /= samples;
+        return equities;
+    }
+
+    /** 루트를 (key, index) 로 바꾸고 크기 size 인 최대 힙을 아래로 정리. */
+    private static void siftDown(double[] heapKey, int[] heapIndex, int size, double key, int index) {
+        int pos = 0;
+        while (true) {
+            int child = 2 * pos + 1;
+            if (child >= size) break;
+            if (child + 1 < size && heapKey[child + 1] > heapKey[child]) child++;
+            if (heapKey[child] <= key) break;
+            heapKey[pos] = heapKey[child];
+            heapIndex[pos] = heapIndex[child];
+            pos = child;
+        }
+        heapKey[pos] = key;
+        heapIndex[pos] = index;
+    }
+
+    public int getExactMaxPlayers() {
+        return exactMaxPlayers;
+    }
+}
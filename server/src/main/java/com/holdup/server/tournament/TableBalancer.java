@@ -0,0 +1,78 @@
+package com.holdup.server.tournament;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 토너먼트 테이블별 인원 인덱스. 인원 수 → 테이블 집합으로 버킷을 유지해
+ * 가장 적은/많은 테이블을 전체 테이블을 훑지 않고 찾음 (버킷 수는 정원 이하).
+ *
+ * <p>스레드 안전하지 않음. Tournament 락 안에서만 사용.</p>
+ */
+final class TableBalancer {
+
+    private final Map<String, Integer> counts = new HashMap<>();
+    private final TreeMap<Integer, Set<String>> byCount = new TreeMap<>();
+
+    void add(String tableId, int count) {
+        counts.put(tableId, count);
+        byCount.computeIfAbsent(count, c -> new LinkedHashSet<>()).add(tableId);
+    }
+
+    void remove(String tableId) {
+        Integer count = counts.remove(tableId);
+        if (count != null) unbucket(tableId, count);
+    }
+
+    /** 인원 증감. 없는 테이블이면 무시. */
+    void adjust(String tableId, int delta) {
+        Integer count = counts.get(tableId);
+        if (count == null) return;
+        unbucket(tableId, count);
+        add(tableId, count + delta);
+    }
+
+    /** 인원 수. 없는 테이블이면 -1. */
+    int count(String tableId) {
+        return counts.getOrDefault(tableId, -1);
+    }
+
+    int tableCount() {
+        return counts.size();
+    }
+
+    boolean contains(String tableId) {
+        return counts.containsKey(tableId);
+    }
+
+    /** excluding 을 뺀 테이블 중 인원이 가장 적은 테이블. 없으면 null. */
+    String smallest(String excluding) {
+        for (Set<String> bucket : byCount.values()) {
+            for (String tableId : bucket) {
+                if (!tableId.equals(excluding)) return tableId;
+            }
+        }
+        return null;
+    }
+
+    /** excluding 을 뺀 테이블 중 가장 적은 인원. 없으면 -1. */
+    int smallestCount(String excluding) {
+        String tableId = smallest(excluding);
+        return tableId != null ? counts.get(tableId) : -1;
+    }
+
+    /** 아무 테이블 하나 (마지막 테이블 찾기용). */
+    String any() {
+        return counts.isEmpty() ? null : counts.keySet().iterator().next();
+    }
+
+    private void unbucket(String tableId, int count) {
+        Set<String> bucket = byCount.get(count);
+        if (bucket == null) return;
+        bucket.remove(tableId);
+        if (bucket.isEmpty()) byCount.remove(count);
+    }
+}
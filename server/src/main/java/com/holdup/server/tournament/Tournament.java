@@ -0,0 +1,116 @@
+package com.holdup.server.tournament;
+
+import com.holdup.server.player.Player;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 토너먼트 한 개의 상태. 가변 필드는 모두 this 락 안에서만 읽고 씀 (TournamentDirector).
+ */
+public class Tournament {
+
+    public enum Status {
+        REGISTERING,
+        RUNNING,
+        FINISHED,
+    }
+
+    /** 참가자. place 0 이면 아직 생존. */
+    static final class Entrant {
+        final String playerId;
+        final String nickname;
+        Player player;
+        String tableId;
+        int place;
+
+        Entrant(String playerId, String nickname) {
+            this.playerId = playerId;
+            this.nickname = nickname;
+        }
+    }
+
+    private final String id;
+    private final String name;
+    /** 만든 사용자 (계정 아이디). 이 사용자만 시작할 수 있음. */
+    private final String createdBy;
+    private final int tableSize;
+    private final int maxEntrants;
+    private final BigDecimal startingStack;
+    private final BlindSchedule schedule;
+    /** 1위부터 순위별 상금. 비어 있으면 ICM 계산 불가. */
+    private final List<BigDecimal> payouts;
+
+    private volatile Status status = Status.REGISTERING;
+    final Map<String, Entrant> entrants = new LinkedHashMap<>();
+    final TableBalancer balancer = new TableBalancer();
+    /** 핸드가 끝나 다음 핸드를 기다리는 테이블 → idle 시작 시각 (ms). 이 테이블에서만 플레이어를 옮길 수 있음. */
+    final Map<String, Long> idleTables = new LinkedHashMap<>();
+    int remaining;
+    int tableSeq;
+    long startedAtMillis;
+    long finishedAtMillis;
+
+    Tournament(String id, String name, String createdBy, int tableSize, int maxEntrants, BigDecimal startingStack,
+               BlindSchedule schedule, List<BigDecimal> payouts) {
+        this.id = id;
+        this.name = name;
+        this.createdBy = createdBy;
+        this.tableSize = tableSize;
+        this.maxEntrants = maxEntrants;
+        this.startingStack = startingStack;
+        this.schedule = schedule;
+        this.payouts = List.copyOf(payouts);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    public int getTableSize() {
+        return tableSize;
+    }
+
+    public int getMaxEntrants() {
+        return maxEntrants;
+    }
+
+    public BigDecimal getStartingStack() {
+        return startingStack;
+    }
+
+    public BlindSchedule getSchedule() {
+        return schedule;
+    }
+
+    public List<BigDecimal> getPayouts() {
+        return payouts;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    void setStatus(Status status) {
+        this.status = status;
+    }
+
+    /** 현재 블라인드 레벨 (시작 전이면 1레벨). */
+    BlindLevel currentLevel(long nowMillis) {
+        return schedule.levelAt(status == Status.REGISTERING ? 0 : nowMillis - startedAtMillis);
+    }
+
+    String nextTableId() {
+        return "t-" + id + "-" + (++tableSeq);
+    }
+}
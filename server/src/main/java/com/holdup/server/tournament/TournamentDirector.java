@@ -0,0 +1,558 @@
+package com.holdup.server.tournament;
+
+import com.holdup.server.action.GameActionType;
+import com.holdup.server.action.dto.ActionResult;
+import com.holdup.server.gamestate.GamePhase;
+import com.holdup.server.player.Player;
+import com.holdup.server.service.GameFlowService;
+import com.holdup.server.service.HandCompletedEvent;
+import com.holdup.server.service.PlayerBustedEvent;
+import com.holdup.server.service.TableBroadcastService;
+import com.holdup.server.service.TableManager;
+import com.holdup.server.table.Seat;
+import com.holdup.server.table.Table;
+import com.holdup.server.table.TableFormat;
+import com.holdup.server.tournament.dto.CreateTournamentRequest;
+import com.holdup.server.tournament.dto.IcmRequest;
+import com.holdup.server.tournament.dto.IcmResponse;
+import com.holdup.server.tournament.dto.TournamentSummary;
+import com.holdup.server.tournament.dto.TournamentUpdate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 멀티 테이블 토너먼트 진행: 등록, 시작 시 좌석 배정, 공용 블라인드 시계, 탈락 처리, 테이블 밸런싱·정리.
+ *
+ * <ul>
+ *   <li>탈락: removeBustedPlayers → PlayerBustedEvent 로 순위 기록, 해당 테이블 인원만 갱신</li>
+ *   <li>핸드 종료: HandCompletedEvent 로 그 테이블을 idle 로 표시. tick 에서 idle 테이블만 처리
+ *       (핸드 중인 테이블에서는 플레이어를 빼지 않음)</li>
+ *   <li>밸런싱·정리: idle 테이블 하나를 기준으로, TableBalancer 의 인원 버킷에서 가장 적은 테이블을 찾아
+ *       옮기므로 이동에 관련된 테이블만 건드림 (전체 테이블을 다시 훑지 않음).
+ *       옮겨 간 플레이어는 대상 테이블이 핸드 중이면 다음 핸드부터 참여</li>
+ *   <li>블라인드: BlindSchedule 이 시작 시각 기준으로 현재 레벨을 계산하고, 각 테이블은 핸드 시작 직전에 적용</li>
+ *   <li>시작은 만든 사용자만. 끝난 토너먼트는 finished-retention-ms 동안 결과 조회용으로 남겼다가 삭제</li>
+ * </ul>
+ */
+@Component
+public class TournamentDirector {
+
+    public static final String USER_DESTINATION = "/queue/tournament";
+
+    private static final int DEFAULT_TABLE_SIZE = 9;
+    private static final int DEFAULT_MAX_ENTRANTS = 10_000;
+    private static final BigDecimal DEFAULT_STARTING_STACK = BigDecimal.valueOf(10_000);
+    private static final BigDecimal DEFAULT_STARTING_BIG_BLIND = BigDecimal.valueOf(100);
+    private static final int DEFAULT_LEVEL_DURATION_SEC = 600;
+
+    /** 락 밖에서 보낼 알림. */
+    private record Notice(String playerId, TournamentUpdate update) {
+    }
+
+    private final TableManager tableManager;
+    private final GameFlowService gameFlowService;
+    private final TableBroadcastService tableBroadcastService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final IcmCalculator icmCalculator;
+
+    private final Map<String, Tournament> tournaments = new ConcurrentHashMap<>();
+    /** 테이블 ID → 토너먼트 (탈락·핸드 종료 이벤트 라우팅). */
+    private final Map<String, Tournament> byTable = new ConcurrentHashMap<>();
+    /** 핸드 종료 후 다음 핸드까지 최소 간격. */
+    private final long handIntervalMs;
+    /** 끝난 토너먼트를 목록·결과 조회용으로 남겨 두는 시간. */
+    private final long finishedRetentionMs;
+
+    public TournamentDirector(TableManager tableManager, GameFlowService gameFlowService,
+                              TableBroadcastService tableBroadcastService, SimpMessagingTemplate messagingTemplate,
+                              IcmCalculator icmCalculator,
+                              @Value("${holdup.tournament.hand-interval-ms:500}") long handIntervalMs,
+                              @Value("${holdup.tournament.finished-retention-ms:3600000}") long finishedRetentionMs) {
+        this.tableManager = tableManager;
+        this.gameFlowService = gameFlowService;
+        this.tableBroadcastService = tableBroadcastService;
+        this.messagingTemplate = messagingTemplate;
+        this.icmCalculator = icmCalculator;
+        this.handIntervalMs = Math.max(0, handIntervalMs);
+        this.finishedRetentionMs = Math.max(0, finishedRetentionMs);
+    }
+
+    /**
+     * 토너먼트 생성 (등록 상태).
+     *
+     * @param createdBy 만든 사용자. 시작 권한을 가짐
+     * @throws IllegalArgumentException 설정 값이 범위를 벗어남
+     */
+    public Tournament create(CreateTournamentRequest request, String createdBy) {
+        int tableSize = request.getTableSize() != null ? request.getTableSize() : DEFAULT_TABLE_SIZE;
+        int maxEntrants = request.getMaxEntrants() != null ? request.getMaxEntrants() : DEFAULT_MAX_ENTRANTS;
+        BigDecimal stack = request.getStartingStack() != null ? request.getStartingStack() : DEFAULT_STARTING_STACK;
+        BigDecimal bigBlind = request.getStartingBigBlind() != null ? request.getStartingBigBlind() : DEFAULT_STARTING_BIG_BLIND;
+        int levelSec = request.getLevelDurationSec() != null ? request.getLevelDurationSec() : DEFAULT_LEVEL_DURATION_SEC;
+        if (tableSize < 2 || tableSize > 9) throw new IllegalArgumentException("tableSize must be between 2 and 9");
+        if (maxEntrants < 2) throw new IllegalArgumentException("maxEntrants must be at least 2");
+        if (stack.signum() <= 0 || bigBlind.signum() <= 0) throw new IllegalArgumentException("stack and blinds must be positive");
+        if (levelSec <= 0) throw new IllegalArgumentException("levelDurationSec must be positive");
+        List<BigDecimal> payouts = request.getPayouts() != null ? request.getPayouts() : List.of();
+        if (payouts.stream().anyMatch(p -> p == null || p.signum() < 0)) {
+            throw new IllegalArgumentException("payouts must be non-negative");
+        }
+        if (payouts.size() > IcmCalculator.MAX_PAID_PLACES) {
+            throw new IllegalArgumentException("at most " + IcmCalculator.MAX_PAID_PLACES + " paid places");
+        }
+
+        String id = UUID.randomUUID().toString().substring(0, 8);
+        String name = request.getName() != null && !request.getName().isBlank() ? request.getName().trim() : "Tournament " + id;
+        Tournament tournament = new Tournament(id, name, createdBy, tableSize, maxEntrants, stack,
+                new BlindSchedule(bigBlind, levelSec * 1000L), payouts);
+        tournaments.put(id, tournament);
+        return tournament;
+    }
+
+    public Optional<Tournament> get(String tournamentId) {
+        return Optional.ofNullable(tournaments.get(tournamentId));
+    }
+
+    public Collection<Tournament> list() {
+        return tournaments.values();
+    }
+
+    public void register(String tournamentId, String playerId, String nickname) {
+        Tournament t = tournaments.get(tournamentId);
+        String failure;
+        if (t == null) {
+            failure = "Tournament not found";
+        } else {
+            synchronized (t) {
+                if (t.getStatus() != Tournament.Status.REGISTERING) {
+                    failure = "Registration closed";
+                } else if (t.entrants.containsKey(playerId)) {
+                    failure = "Already registered";
+                } else if (t.entrants.size() >= t.getMaxEntrants()) {
+                    failure = "Tournament full";
+                } else {
+                    t.entrants.put(playerId, new Tournament.Entrant(playerId,
+                            nickname != null && !nickname.isBlank() ? nickname : null));
+                    failure = null;
+                }
+            }
+        }
+        notify(playerId, TournamentUpdate.builder()
+                .tournamentId(tournamentId)
+                .status(failure == null ? TournamentUpdate.Status.REGISTERED : TournamentUpdate.Status.FAILED)
+                .message(failure)
+                .build());
+    }
+
+    public void unregister(String tournamentId, String playerId) {
+        Tournament t = tournaments.get(tournamentId);
+        if (t == null) return;
+        boolean removed;
+        synchronized (t) {
+            removed = t.getStatus() == Tournament.Status.REGISTERING && t.entrants.remove(playerId) != null;
+        }
+        if (removed) {
+            notify(playerId, TournamentUpdate.builder()
+                    .tournamentId(tournamentId)
+                    .status(TournamentUpdate.Status.UNREGISTERED)
+                    .build());
+        }
+    }
+
+    /**
+     * 등록 마감 후 시작. 참가자를 섞어 테이블 수가 최소가 되도록, 테이블 간 인원 차이가 1 이하가 되도록 배정.
+     * 첫 핸드는 다음 tick 에서 시작.
+     *
+     * @param requestedBy 시작을 요청한 사용자
+     * @throws SecurityException     만든 사용자가 아님
+     * @throws IllegalStateException 이미 시작했거나 참가자가 2명 미만
+     */
+    public Tournament start(String tournamentId, String requestedBy) {
+        Tournament t = tournaments.get(tournamentId);
+        if (t == null) throw new IllegalArgumentException("Tournament not found");
+        if (!t.getCreatedBy().equals(requestedBy)) throw new SecurityException("Only the creator can start this tournament");
+        List<Notice> notices = new ArrayList<>();
+        synchronized (t) {
+            if (t.getStatus() != Tournament.Status.REGISTERING) throw new IllegalStateException("Tournament already started");
+            if (t.entrants.size() < 2) throw new IllegalStateException("At least 2 entrants required");
+
+            List<Tournament.Entrant> entrants = new ArrayList<>(t.entrants.values());
+            Collections.shuffle(entrants, ThreadLocalRandom.current());
+            int tableCount = (entrants.size() + t.getTableSize() - 1) / t.getTableSize();
+            BlindLevel level = t.currentLevel(System.currentTimeMillis());
+            List<Table> tables = new ArrayList<>(tableCount);
+            for (int k = 0; k < tableCount; k++) {
+                String tableId = t.nextTableId();
+                Table table = tableManager.createTable(tableId, t.getName() + " #" + (k + 1),
+                        t.getTableSize(), TableFormat.TOURNAMENT);
+                table.setSmallBlindAmount(level.smallBlind());
+                table.setBigBlindAmount(level.bigBlind());
+                byTable.put(tableId, t);
+                tables.add(table);
+            }
+            // 라운드 로빈 배정: 테이블 간 인원 차이 1 이하
+            for (int i = 0; i < entrants.size(); i++) {
+                Tournament.Entrant entrant = entrants.get(i);
+                Table table = tables.get(i % tableCount);
+                int seatIndex = i / tableCount;
+                entrant.player = new Player(entrant.playerId, entrant.nickname, t.getStartingStack());
+                entrant.tableId = table.getId();
+                table.getSeat(seatIndex).setPlayer(entrant.player);
+                notices.add(new Notice(entrant.playerId, TournamentUpdate.builder()
+                        .tournamentId(t.getId())
+                        .status(TournamentUpdate.Status.SEATED)
+                        .tableId(table.getId())
+                        .seatIndex(seatIndex)
+                        .build()));
+            }
+            for (Table table : tables) {
+                t.balancer.add(table.getId(), (int) table.countOccupiedSeats());
+                t.idleTables.put(table.getId(), 0L);
+            }
+            t.remaining = entrants.size();
+            t.startedAtMillis = System.currentTimeMillis();
+            t.setStatus(Tournament.Status.RUNNING);
+        }
+        send(notices);
+        return t;
+    }
+
+    /** 탈락: 남은 인원 기준으로 순위 기록, 해당 테이블 인원만 갱신. */
+    @EventListener
+    public void onPlayerBusted(PlayerBustedEvent event) {
+        Tournament t = byTable.get(event.table().getId());
+        if (t == null) return;
+        int place;
+        synchronized (t) {
+            Tournament.Entrant entrant = t.entrants.get(event.player().getId());
+            if (entrant == null || entrant.place != 0) return;
+            place = t.remaining--;
+            entrant.place = place;
+            entrant.tableId = null;
+            t.balancer.adjust(event.table().getId(), -1);
+        }
+        notify(event.player().getId(), TournamentUpdate.builder()
+                .tournamentId(t.getId())
+                .status(TournamentUpdate.Status.BUSTED)
+                .place(place)
+                .build());
+    }
+
+    /**
+     * 핸드 종료: hand-interval-ms 뒤 tick 에서 밸런싱 후 새 핸드 시작.
+     * 이 이벤트 뒤에도 핸드를 끝낸 스레드가 파산 플레이어 제거·결과 전송을 하므로 바로 건드리지 않음.
+     */
+    @EventListener
+    public void onHandCompleted(HandCompletedEvent event) {
+        Tournament t = byTable.get(event.table().getId());
+        if (t == null) return;
+        synchronized (t) {
+            t.idleTables.put(event.table().getId(), System.currentTimeMillis());
+        }
+    }
+
+    /** hand-interval-ms 넘게 idle 인 테이블만 처리: 밸런싱·정리 → 현재 레벨 블라인드 적용 → 핸드 시작. */
+    @Scheduled(fixedDelayString = "${holdup.tournament.tick-ms:200}")
+    public void tick() {
+        long now = System.currentTimeMillis();
+        for (Tournament t : tournaments.values()) {
+            if (t.getStatus() == Tournament.Status.FINISHED) {
+                if (now - t.finishedAtMillis > finishedRetentionMs) tournaments.remove(t.getId());
+                continue;
+            }
+            if (t.getStatus() != Tournament.Status.RUNNING) continue;
+            List<Notice> notices = new ArrayList<>();
+            List<String> started = new ArrayList<>();
+            synchronized (t) {
+                if (t.idleTables.isEmpty()) continue;
+                long readyBefore = System.currentTimeMillis() - handIntervalMs;
+                for (String tableId : readyTables(t, readyBefore)) {
+                    Optional<Table> table = tableManager.getTable(tableId);
+                    if (table.isEmpty() || !t.balancer.contains(tableId)) {
+                        t.idleTables.remove(tableId);
+                        continue;
+                    }
+                    rebalance(t, table.get(), notices);
+                }
+                if (t.remaining <= 1) {
+                    finish(t, notices);
+                } else {
+                    BlindLevel level = t.currentLevel(System.currentTimeMillis());
+                    for (String tableId : readyTables(t, readyBefore)) {
+                        Table table = tableManager.getTable(tableId).orElse(null);
+                        if (table == null || table.countOccupiedSeats() < 2) continue;
+                        if (table.getPhase() != GamePhase.WAITING) {
+                            t.idleTables.remove(tableId);
+                            continue;
+                        }
+                        table.setSmallBlindAmount(level.smallBlind());
+                        table.setBigBlindAmount(level.bigBlind());
+                        // 블라인드만으로 전원 올인이면 핸드가 startNewHand 안에서 끝나 다시 idle 로 들어오므로 먼저 뺌
+                        Long idleSince = t.idleTables.remove(tableId);
+                        if (gameFlowService.startNewHand(tableId)) {
+                            started.add(tableId);
+                        } else {
+                            t.idleTables.put(tableId, idleSince);
+                        }
+                    }
+                }
+            }
+            send(notices);
+            for (String tableId : started) {
+                tableBroadcastService.broadcast(ActionResult.builder()
+                        .success(true)
+                        .actionType(GameActionType.START_HAND)
+                        .tableId(tableId)
+                        .build());
+            }
+        }
+    }
+
+    private static List<String> readyTables(Tournament t, long readyBefore) {
+        List<String> ready = new ArrayList<>();
+        t.idleTables.forEach((tableId, since) -> {
+            if (since <= readyBefore) ready.add(tableId);
+        });
+        return ready;
+    }
+
+    /**
+     * idle 테이블 하나 기준 밸런싱. 이 테이블과 플레이어를 받는 테이블만 건드림.
+     * <ol>
+     *   <li>남은 인원이 테이블 하나 적게 써도 들어가고 이 테이블이 가장 작으면 테이블 정리 (전원 이동 후 삭제)</li>
+     *   <li>가장 작은 테이블보다 2명 이상 많으면 차이가 1 이하가 될 때까지 다음 빅 블라인드 차례 플레이어부터 이동</li>
+     * </ol>
+     * 반대로 이 테이블이 작은 쪽이면 큰 테이블의 핸드가 끝날 때 그쪽에서 옮겨 옴.
+     * 옮기지 못한 플레이어가 있으면 이번 tick 은 중단 (테이블은 남은 플레이어와 함께 유지, 다음 idle 때 다시 시도).
+     */
+    private void rebalance(Tournament t, Table table, List<Notice> notices) {
+        String tableId = table.getId();
+        TableBalancer balancer = t.balancer;
+        int tables = balancer.tableCount();
+        if (tables > 1 && t.remaining <= (tables - 1) * t.getTableSize()
+                && balancer.count(tableId) <= balancer.smallestCount(tableId)) {
+            for (Seat seat : table.getSeats()) {
+                if (!seat.isEmpty() && !move(t, table, seat, balancer.smallest(tableId), notices)) return;
+            }
+            balancer.remove(tableId);
+            t.idleTables.remove(tableId);
+            byTable.remove(tableId);
+            tableManager.removeTable(tableId);
+            return;
+        }
+        while (true) {
+            String target = balancer.smallest(tableId);
+            if (target == null || balancer.count(tableId) - balancer.count(target) < 2) return;
+            Seat seat = nextBigBlindSeat(table);
+            if (seat == null || !move(t, table, seat, target, notices)) return;
+        }
+    }
+
+    /** 다음 핸드에서 빅 블라인드를 낼 플레이어의 시트 (이동 대상 우선순위). */
+    private static Seat nextBigBlindSeat(Table table) {
+        List<Integer> order = table.getOccupiedSeatIndicesInOrder(table.getDealerSeatIndex() + 1);
+        if (order.isEmpty()) return null;
+        return table.getSeat(order.get(Math.min(2, order.size() - 1)));
+    }
+
+    /**
+     * 플레이어 한 명을 대상 테이블의 빈 자리로 옮김.
+     *
+     * @return 옮겼으면 true. 대상 테이블이 없거나 빈 자리가 없으면 아무것도 바꾸지 않고 false
+     */
+    private boolean move(Tournament t, Table from, Seat seat, String targetId, List<Notice> notices) {
+        Table target = tableManager.getTable(targetId).orElse(null);
+        if (target == null) return false;
+        int targetSeat = -1;
+        for (Seat s : target.getSeats()) {
+            if (s.isEmpty()) {
+                targetSeat = s.getSeatIndex();
+                break;
+            }
+        }
+        if (targetSeat < 0) return false;
+        Player player = seat.getPlayer();
+        seat.setPlayer(null);
+        // 대상 테이블이 핸드 중이면 다음 핸드부터 참여 (이전 핸드 상태는 비움)
+        player.resetForNewHand();
+        target.getSeat(targetSeat).setPlayer(player);
+        t.balancer.adjust(from.getId(), -1);
+        t.balancer.adjust(targetId, 1);
+        Tournament.Entrant entrant = t.entrants.get(player.getId());
+        if (entrant != null) entrant.tableId = targetId;
+        notices.add(new Notice(player.getId(), TournamentUpdate.builder()
+                .tournamentId(t.getId())
+                .status(TournamentUpdate.Status.MOVED)
+                .tableId(targetId)
+                .seatIndex(targetSeat)
+                .build()));
+        return true;
+    }
+
+    private void finish(Tournament t, List<Notice> notices) {
+        for (Tournament.Entrant entrant : t.entrants.values()) {
+            if (entrant.place != 0) continue;
+            entrant.place = 1;
+            entrant.tableId = null;
+            notices.add(new Notice(entrant.playerId, TournamentUpdate.builder()
+                    .tournamentId(t.getId())
+                    .status(TournamentUpdate.Status.WON)
+                    .place(1)
+                    .build()));
+        }
+        t.remaining = 0;
+        for (String tableId : new ArrayList<>(t.idleTables.keySet())) {
+            t.balancer.remove(tableId);
+            byTable.remove(tableId);
+            tableManager.removeTable(tableId);
+        }
+        t.idleTables.clear();
+        t.finishedAtMillis = System.currentTimeMillis();
+        t.setStatus(Tournament.Status.FINISHED);
+    }
+
+    /** 목록·상세 응답. withStandings 면 순위표 포함 (생존자는 스택 순, 탈락자는 순위 순). */
+    public TournamentSummary summarize(Tournament t, boolean withStandings) {
+        synchronized (t) {
+            long now = System.currentTimeMillis();
+            List<TournamentSummary.Standing> standings = null;
+            if (withStandings) {
+                standings = new ArrayList<>(t.entrants.size());
+                for (Tournament.Entrant e : t.entrants.values()) {
+                    standings.add(TournamentSummary.Standing.builder()
+                            .nickname(e.nickname)
+                            .place(e.place)
+                            .stack(e.player != null ? e.player.getStack() : t.getStartingStack())
+                            .tableId(e.tableId)
+                            .build());
+                }
+                standings.sort(Comparator
+                        .comparing((TournamentSummary.Standing s) -> s.getPlace() == 0 ? 0 : 1)
+                        .thenComparing(TournamentSummary.Standing::getStack, Comparator.reverseOrder())
+                        .thenComparingInt(TournamentSummary.Standing::getPlace));
+            }
+            return TournamentSummary.builder()
+                    .id(t.getId())
+                    .name(t.getName())
+                    .status(t.getStatus())
+                    .tableSize(t.getTableSize())
+                    .maxEntrants(t.getMaxEntrants())
+                    .entrants(t.entrants.size())
+                    .remaining(t.getStatus() == Tournament.Status.REGISTERING ? t.entrants.size() : t.remaining)
+                    .tables(t.balancer.tableCount())
+                    .startingStack(t.getStartingStack())
+                    .payouts(t.getPayouts())
+                    .level(t.currentLevel(now))
+                    .millisToNextLevel(t.getStatus() == Tournament.Status.RUNNING
+                            ? t.getSchedule().millisToNextLevel(now - t.startedAtMillis) : -1)
+                    .standings(standings)
+                    .build();
+        }
+    }
+
+    /**
+     * 임의 스택·상금 구조의 ICM.
+     *
+     * @throws IllegalArgumentException 입력이 비었거나 범위를 벗어남
+     */
+    public IcmResponse icm(IcmRequest request) {
+        if (request.getStacks() == null || request.getPayouts() == null) {
+            throw new IllegalArgumentException("stacks and payouts are required");
+        }
+        // 배열을 만들기 전에 크기부터 확인
+        if (request.getStacks().size() > IcmCalculator.MAX_PLAYERS) {
+            throw new IllegalArgumentException("at most " + IcmCalculator.MAX_PLAYERS + " players");
+        }
+        if (request.getPayouts().size() > IcmCalculator.MAX_PAID_PLACES) {
+            throw new IllegalArgumentException("at most " + IcmCalculator.MAX_PAID_PLACES + " paid places");
+        }
+        long[] stacks = new long[request.getStacks().size()];
+        for (int i = 0; i < stacks.length; i++) {
+            Long stack = request.getStacks().get(i);
+            if (stack == null) throw new IllegalArgumentException("stacks must be positive");
+            stacks[i] = stack;
+        }
+        return toIcmResponse(stacks, null, toDoubles(request.getPayouts()));
+    }
+
+    /**
+     * 진행 중인 토너먼트 생존자의 ICM. 남은 인원이 n 이면 상금 구조의 1~n 위만 사용.
+     * 핸드 중이면 이번 핸드에 건 칩까지 스택에 포함.
+     *
+     * @throws IllegalStateException 진행 중이 아니거나 상금 구조가 없음
+     */
+    public IcmResponse icm(Tournament t) {
+        if (t.getPayouts().isEmpty()) throw new IllegalStateException("Tournament has no payout structure");
+        List<String> nicknames = new ArrayList<>();
+        List<Long> stacks = new ArrayList<>();
+        synchronized (t) {
+            if (t.getStatus() != Tournament.Status.RUNNING) throw new IllegalStateException("Tournament is not running");
+            for (Tournament.Entrant e : t.entrants.values()) {
+                if (e.place != 0 || e.player == null) continue;
+                BigDecimal chips = e.player.getStack();
+                Table table = e.tableId != null ? tableManager.getTable(e.tableId).orElse(null) : null;
+                int seatIndex = table != null ? table.getSeatIndexByPlayerId(e.playerId) : -1;
+                if (seatIndex >= 0) chips = chips.add(table.getSeat(seatIndex).getTotalBetThisHand());
+                if (chips.signum() <= 0) continue;
+                nicknames.add(e.nickname);
+                stacks.add(chips.longValue());
+            }
+        }
+        long[] stackArray = stacks.stream().mapToLong(Long::longValue).toArray();
+        return toIcmResponse(stackArray, nicknames, toDoubles(t.getPayouts()));
+    }
+
+    private IcmResponse toIcmResponse(long[] stacks, List<String> nicknames, double[] payouts) {
+        IcmCalculator.Result result = icmCalculator.compute(stacks, payouts);
+        List<IcmResponse.Entry> players = new ArrayList<>(stacks.length);
+        for (int i = 0; i < stacks.length; i++) {
+            players.add(IcmResponse.Entry.builder()
+                    .nickname(nicknames != null ? nicknames.get(i) : null)
+                    .stack(stacks[i])
+                    .equity(BigDecimal.valueOf(result.equities()[i]).setScale(2, RoundingMode.HALF_UP))
+                    .build());
+        }
+        if (nicknames != null) players.sort(Comparator.comparingLong(IcmResponse.Entry::getStack).reversed());
+        return IcmResponse.builder()
+                .method(result.method())
+                .samples(result.samples())
+                .players(players)
+                .build();
+    }
+
+    private static double[] toDoubles(List<BigDecimal> values) {
+        double[] out = new double[values.size()];
+        for (int i = 0; i < out.length; i++) {
+            BigDecimal v = values.get(i);
+            if (v == null) throw new IllegalArgumentException("payouts must be non-negative");
+            out[i] = v.doubleValue();
+        }
+        return out;
+    }
+
+    private void send(List<Notice> notices) {
+        for (Notice n : notices) {
+            notify(n.playerId(), n.update());
+        }
+    }
+
+    private void notify(String playerId, TournamentUpdate update) {
+        messagingTemplate.convertAndSendToUser(playerId, USER_DESTINATION, update);
+    }
+}
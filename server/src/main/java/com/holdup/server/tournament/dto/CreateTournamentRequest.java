@@ -0,0 +1,39 @@
+package com.holdup.server.tournament.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 토너먼트 생성 요청 (POST /api/tournaments). null 필드는 기본값.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateTournamentRequest {
+
+    private String name;
+
+    /** 테이블 정원 (2~9). 기본 9. */
+    private Integer tableSize;
+
+    /** 최대 참가 인원. 기본 10000. */
+    private Integer maxEntrants;
+
+    /** 시작 칩. 기본 10000. */
+    private BigDecimal startingStack;
+
+    /** 1레벨 빅 블라인드. 기본 100. */
+    private BigDecimal startingBigBlind;
+
+    /** 레벨 길이 (초). 기본 600. */
+    private Integer levelDurationSec;
+
+    /** 1위부터 순위별 상금. 없으면 ICM 조회 불가. */
+    private List<BigDecimal> payouts;
+}
@@ -0,0 +1,25 @@
+package com.holdup.server.tournament.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * ICM 계산 요청 (POST /api/tournaments/icm).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IcmRequest {
+
+    /** 플레이어별 칩 (양의 정수). */
+    private List<Long> stacks;
+
+    /** 1위부터 순위별 상금. */
+    private List<BigDecimal> payouts;
+}
@@ -0,0 +1,31 @@
+package com.holdup.server.tournament.dto;
+
+import com.holdup.server.tournament.IcmCalculator;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * ICM 계산 결과. players 는 요청 순서 (토너먼트 조회면 스택 순).
+ */
+@Value
+@Builder
+public class IcmResponse {
+
+    @Value
+    @Builder
+    public static class Entry {
+        /** 토너먼트 조회에서만 채움. */
+        String nickname;
+        long stack;
+        /** 기대 상금 (소수 둘째 자리). */
+        BigDecimal equity;
+    }
+
+    IcmCalculator.Method method;
+    /** 몬테카를로 표본 수. 정확 계산이면 0. */
+    int samples;
+    List<Entry> players;
+}
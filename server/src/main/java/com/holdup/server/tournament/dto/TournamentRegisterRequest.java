@@ -0,0 +1,21 @@
+package com.holdup.server.tournament.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 클라이언트 → 서버: 토너먼트 참가 등록·취소 (/app/tournament/register, /app/tournament/unregister).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TournamentRegisterRequest {
+
+    private String tournamentId;
+
+    /** 표시할 닉네임. */
+    private String nickname;
+}
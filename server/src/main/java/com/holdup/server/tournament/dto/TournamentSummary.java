@@ -0,0 +1,42 @@
+package com.holdup.server.tournament.dto;
+
+import com.holdup.server.tournament.BlindLevel;
+import com.holdup.server.tournament.Tournament;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 토너먼트 목록·상세 응답. standings 는 상세 조회에서만 채움.
+ */
+@Value
+@Builder
+public class TournamentSummary {
+
+    /** 순위표 한 줄. place 0 이면 생존 (stack 순). */
+    @Value
+    @Builder
+    public static class Standing {
+        String nickname;
+        int place;
+        BigDecimal stack;
+        String tableId;
+    }
+
+    String id;
+    String name;
+    Tournament.Status status;
+    int tableSize;
+    int maxEntrants;
+    int entrants;
+    int remaining;
+    int tables;
+    BigDecimal startingStack;
+    List<BigDecimal> payouts;
+    BlindLevel level;
+    /** 다음 레벨까지 남은 시간 (ms). 진행 중이 아니거나 마지막 레벨이면 -1. */
+    long millisToNextLevel;
+    List<Standing> standings;
+}
@@ -0,0 +1,33 @@
+package com.holdup.server.tournament.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 서버 → 참가자: 토너먼트 상태 (/user/queue/tournament).
+ */
+@Value
+@Builder
+public class TournamentUpdate {
+
+    public enum Status {
+        REGISTERED,
+        UNREGISTERED,
+        /** 시작 시 첫 배정 (tableId, seatIndex). */
+        SEATED,
+        /** 테이블 밸런싱·테이블 정리로 이동 (tableId, seatIndex). */
+        MOVED,
+        /** 탈락 (place). */
+        BUSTED,
+        /** 우승. */
+        WON,
+        FAILED,
+    }
+
+    String tournamentId;
+    Status status;
+    String tableId;
+    Integer seatIndex;
+    Integer place;
+    String message;
+}
@@ -0,0 +1,18 @@
+/**
+ * 멀티 테이블 토너먼트 (MTT).
+ *
+ * <h2>디렉토리 구조</h2>
+ * <ul>
+ *   <li><b>TournamentDirector</b> - 생성·등록·시작, 탈락 순위 기록, tick 마다 idle 테이블의 밸런싱·정리와 핸드 시작.</li>
+ *   <li><b>Tournament</b> - 토너먼트 한 개의 상태 (참가자, 남은 인원, 테이블 인원 인덱스, idle 테이블).</li>
+ *   <li><b>TableBalancer</b> - 테이블 ID → 인원, 인원 → 테이블 버킷. 가장 작은 테이블 조회가 O(log 테이블 수).</li>
+ *   <li><b>IcmCalculator</b> - ICM 기대 상금. 적은 인원은 부분집합 DP 로 정확히, 많으면 몬테카를로. 결과 LRU 캐시.</li>
+ *   <li><b>BlindSchedule / BlindLevel</b> - 시작 시각 기준 공용 블라인드 시계. 레벨은 핸드 시작 직전에 테이블에 적용.</li>
+ *   <li><b>dto/</b> - CreateTournamentRequest, TournamentRegisterRequest, TournamentSummary(REST 응답), IcmRequest/IcmResponse,
+ *       TournamentUpdate(/user/queue/tournament 알림)</li>
+ * </ul>
+ *
+ * <p>토너먼트 테이블은 TableFormat.TOURNAMENT 로 만들어 로비에 나오지 않고 직접 입장·자리 이동할 수 없습니다.
+ * 플레이어 이동은 핸드가 끝난 테이블에서만 일어나므로 진행 중인 핸드의 시트는 건드리지 않습니다.</p>
+ */
+package com.holdup.server.tournament;